@@ -12,10 +12,20 @@ public final class S3Protocol {
     registry.add(com.jjemson.s3.S3Protocol.CheckoutRequest.coRequest);
     registry.add(com.jjemson.s3.S3Protocol.CheckoutResponse.coResponse);
     registry.add(com.jjemson.s3.S3Protocol.CheckinRequest.ciRequest);
+    registry.add(com.jjemson.s3.S3Protocol.CheckinBegin.ciBegin);
+    registry.add(com.jjemson.s3.S3Protocol.FileChunk.chunk);
+    registry.add(com.jjemson.s3.S3Protocol.TransferEnd.transferEnd);
     registry.add(com.jjemson.s3.S3Protocol.CheckinResponse.ciResponse);
+    registry.add(com.jjemson.s3.S3Protocol.CheckinProbe.ciProbe);
+    registry.add(com.jjemson.s3.S3Protocol.CheckinProbeResponse.ciProbeResponse);
     registry.add(com.jjemson.s3.S3Protocol.DelegationRequest.dRequest);
+    registry.add(com.jjemson.s3.S3Protocol.DelegationResponse.dResponse);
     registry.add(com.jjemson.s3.S3Protocol.DeleteRequest.delRequest);
     registry.add(com.jjemson.s3.S3Protocol.DeleteResponse.delResponse);
+    registry.add(com.jjemson.s3.S3Protocol.BatchCheckoutRequest.batchCoRequest);
+    registry.add(com.jjemson.s3.S3Protocol.BatchCheckinRequest.batchCiRequest);
+    registry.add(com.jjemson.s3.S3Protocol.BatchDeleteRequest.batchDelRequest);
+    registry.add(com.jjemson.s3.S3Protocol.BatchItemResponse.batchItem);
   }
 
   public static void registerAllExtensions(
@@ -144,6 +154,27 @@ public final class S3Protocol {
      * <code>required .com.jjemson.s3.S3Message.MessageType type = 1;</code>
      */
     com.jjemson.s3.S3Protocol.S3Message.MessageType getType();
+
+    /**
+     * <pre>
+     * Set by clients that pipeline requests.  Every message of a request carries the same ID, and the server
+     * copies it onto the response messages, which may arrive out of order with those of other requests.
+     * Requests without an ID are handled one at a time, in order.
+     * </pre>
+     *
+     * <code>optional int64 request_id = 2;</code>
+     */
+    boolean hasRequestId();
+    /**
+     * <pre>
+     * Set by clients that pipeline requests.  Every message of a request carries the same ID, and the server
+     * copies it onto the response messages, which may arrive out of order with those of other requests.
+     * Requests without an ID are handled one at a time, in order.
+     * </pre>
+     *
+     * <code>optional int64 request_id = 2;</code>
+     */
+    long getRequestId();
   }
   /**
    * Protobuf type {@code com.jjemson.s3.S3Message}
@@ -159,6 +190,7 @@ public final class S3Protocol {
     }
     private S3Message() {
       type_ = 1;
+      requestId_ = 0L;
     }
 
     @java.lang.Override
@@ -200,6 +232,11 @@ public final class S3Protocol {
               }
               break;
             }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              requestId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -257,6 +294,10 @@ public final class S3Protocol {
        * <code>DelegationRequest = 7;</code>
        */
       DelegationRequest(7),
+      /**
+       * <code>DelegationResponse = 8;</code>
+       */
+      DelegationResponse(8),
       /**
        * <code>DeleteRequest = 9;</code>
        */
@@ -269,6 +310,54 @@ public final class S3Protocol {
        * <code>CloseRequest = 11;</code>
        */
       CloseRequest(11),
+      /**
+       * <code>CheckinBegin = 12;</code>
+       */
+      CheckinBegin(12),
+      /**
+       * <code>FileChunk = 13;</code>
+       */
+      FileChunk(13),
+      /**
+       * <code>TransferEnd = 14;</code>
+       */
+      TransferEnd(14),
+      /**
+       * <code>CheckinProbe = 15;</code>
+       */
+      CheckinProbe(15),
+      /**
+       * <code>CheckinProbeResponse = 16;</code>
+       */
+      CheckinProbeResponse(16),
+      /**
+       * <pre>
+       * Checks that a session is alive; answered with a Pong carrying the same request ID.
+       * </pre>
+       *
+       * <code>Ping = 17;</code>
+       */
+      Ping(17),
+      /**
+       * <code>Pong = 18;</code>
+       */
+      Pong(18),
+      /**
+       * <code>BatchCheckoutRequest = 19;</code>
+       */
+      BatchCheckoutRequest(19),
+      /**
+       * <code>BatchCheckinRequest = 20;</code>
+       */
+      BatchCheckinRequest(20),
+      /**
+       * <code>BatchDeleteRequest = 21;</code>
+       */
+      BatchDeleteRequest(21),
+      /**
+       * <code>BatchItemResponse = 22;</code>
+       */
+      BatchItemResponse(22),
       ;
 
       /**
@@ -299,6 +388,10 @@ public final class S3Protocol {
        * <code>DelegationRequest = 7;</code>
        */
       public static final int DelegationRequest_VALUE = 7;
+      /**
+       * <code>DelegationResponse = 8;</code>
+       */
+      public static final int DelegationResponse_VALUE = 8;
       /**
        * <code>DeleteRequest = 9;</code>
        */
@@ -311,6 +404,54 @@ public final class S3Protocol {
        * <code>CloseRequest = 11;</code>
        */
       public static final int CloseRequest_VALUE = 11;
+      /**
+       * <code>CheckinBegin = 12;</code>
+       */
+      public static final int CheckinBegin_VALUE = 12;
+      /**
+       * <code>FileChunk = 13;</code>
+       */
+      public static final int FileChunk_VALUE = 13;
+      /**
+       * <code>TransferEnd = 14;</code>
+       */
+      public static final int TransferEnd_VALUE = 14;
+      /**
+       * <code>CheckinProbe = 15;</code>
+       */
+      public static final int CheckinProbe_VALUE = 15;
+      /**
+       * <code>CheckinProbeResponse = 16;</code>
+       */
+      public static final int CheckinProbeResponse_VALUE = 16;
+      /**
+       * <pre>
+       * Checks that a session is alive; answered with a Pong carrying the same request ID.
+       * </pre>
+       *
+       * <code>Ping = 17;</code>
+       */
+      public static final int Ping_VALUE = 17;
+      /**
+       * <code>Pong = 18;</code>
+       */
+      public static final int Pong_VALUE = 18;
+      /**
+       * <code>BatchCheckoutRequest = 19;</code>
+       */
+      public static final int BatchCheckoutRequest_VALUE = 19;
+      /**
+       * <code>BatchCheckinRequest = 20;</code>
+       */
+      public static final int BatchCheckinRequest_VALUE = 20;
+      /**
+       * <code>BatchDeleteRequest = 21;</code>
+       */
+      public static final int BatchDeleteRequest_VALUE = 21;
+      /**
+       * <code>BatchItemResponse = 22;</code>
+       */
+      public static final int BatchItemResponse_VALUE = 22;
 
 
       public final int getNumber() {
@@ -334,9 +475,21 @@ public final class S3Protocol {
           case 5: return LoginRequest;
           case 6: return LoginResponse;
           case 7: return DelegationRequest;
+          case 8: return DelegationResponse;
           case 9: return DeleteRequest;
           case 10: return DeleteResponse;
           case 11: return CloseRequest;
+          case 12: return CheckinBegin;
+          case 13: return FileChunk;
+          case 14: return TransferEnd;
+          case 15: return CheckinProbe;
+          case 16: return CheckinProbeResponse;
+          case 17: return Ping;
+          case 18: return Pong;
+          case 19: return BatchCheckoutRequest;
+          case 20: return BatchCheckinRequest;
+          case 21: return BatchDeleteRequest;
+          case 22: return BatchItemResponse;
           default: return null;
         }
       }
@@ -403,6 +556,33 @@ public final class S3Protocol {
       return result == null ? com.jjemson.s3.S3Protocol.S3Message.MessageType.CheckinRequest : result;
     }
 
+    public static final int REQUEST_ID_FIELD_NUMBER = 2;
+    private long requestId_;
+    /**
+     * <pre>
+     * Set by clients that pipeline requests.  Every message of a request carries the same ID, and the server
+     * copies it onto the response messages, which may arrive out of order with those of other requests.
+     * Requests without an ID are handled one at a time, in order.
+     * </pre>
+     *
+     * <code>optional int64 request_id = 2;</code>
+     */
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <pre>
+     * Set by clients that pipeline requests.  Every message of a request carries the same ID, and the server
+     * copies it onto the response messages, which may arrive out of order with those of other requests.
+     * Requests without an ID are handled one at a time, in order.
+     * </pre>
+     *
+     * <code>optional int64 request_id = 2;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -429,6 +609,9 @@ public final class S3Protocol {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeEnum(1, type_);
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, requestId_);
+      }
       extensionWriter.writeUntil(536870912, output);
       unknownFields.writeTo(output);
     }
@@ -442,6 +625,10 @@ public final class S3Protocol {
         size += com.google.protobuf.CodedOutputStream
           .computeEnumSize(1, type_);
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, requestId_);
+      }
       size += extensionsSerializedSize();
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -464,6 +651,11 @@ public final class S3Protocol {
       if (hasType()) {
         result = result && type_ == other.type_;
       }
+      result = result && (hasRequestId() == other.hasRequestId());
+      if (hasRequestId()) {
+        result = result && (getRequestId()
+            == other.getRequestId());
+      }
       result = result && unknownFields.equals(other.unknownFields);
       result = result &&
           getExtensionFields().equals(other.getExtensionFields());
@@ -481,6 +673,11 @@ public final class S3Protocol {
         hash = (37 * hash) + TYPE_FIELD_NUMBER;
         hash = (53 * hash) + type_;
       }
+      if (hasRequestId()) {
+        hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getRequestId());
+      }
       hash = hashFields(hash, getExtensionFields());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
@@ -603,6 +800,8 @@ public final class S3Protocol {
         super.clear();
         type_ = 1;
         bitField0_ = (bitField0_ & ~0x00000001);
+        requestId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -631,6 +830,10 @@ public final class S3Protocol {
           to_bitField0_ |= 0x00000001;
         }
         result.type_ = type_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.requestId_ = requestId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -699,6 +902,9 @@ public final class S3Protocol {
         if (other.hasType()) {
           setType(other.getType());
         }
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
+        }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -769,6 +975,62 @@ public final class S3Protocol {
         onChanged();
         return this;
       }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       * Set by clients that pipeline requests.  Every message of a request carries the same ID, and the server
+       * copies it onto the response messages, which may arrive out of order with those of other requests.
+       * Requests without an ID are handled one at a time, in order.
+       * </pre>
+       *
+       * <code>optional int64 request_id = 2;</code>
+       */
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <pre>
+       * Set by clients that pipeline requests.  Every message of a request carries the same ID, and the server
+       * copies it onto the response messages, which may arrive out of order with those of other requests.
+       * Requests without an ID are handled one at a time, in order.
+       * </pre>
+       *
+       * <code>optional int64 request_id = 2;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       * Set by clients that pipeline requests.  Every message of a request carries the same ID, and the server
+       * copies it onto the response messages, which may arrive out of order with those of other requests.
+       * Requests without an ID are handled one at a time, in order.
+       * </pre>
+       *
+       * <code>optional int64 request_id = 2;</code>
+       */
+      public Builder setRequestId(long value) {
+        bitField0_ |= 0x00000002;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Set by clients that pipeline requests.  Every message of a request carries the same ID, and the server
+       * copies it onto the response messages, which may arrive out of order with those of other requests.
+       * Requests without an ID are handled one at a time, in order.
+       * </pre>
+       *
+       * <code>optional int64 request_id = 2;</code>
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFields(unknownFields);
@@ -823,25 +1085,50 @@ public final class S3Protocol {
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required string user = 1;</code>
+     * <pre>
+     * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+     * sent here must be that one.
+     * </pre>
+     *
+     * <code>optional string user = 1;</code>
      */
     boolean hasUser();
     /**
-     * <code>required string user = 1;</code>
+     * <pre>
+     * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+     * sent here must be that one.
+     * </pre>
+     *
+     * <code>optional string user = 1;</code>
      */
     java.lang.String getUser();
     /**
-     * <code>required string user = 1;</code>
+     * <pre>
+     * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+     * sent here must be that one.
+     * </pre>
+     *
+     * <code>optional string user = 1;</code>
      */
     com.google.protobuf.ByteString
         getUserBytes();
 
     /**
-     * <code>required bytes clientCert = 2;</code>
+     * <pre>
+     * The client is authenticated by its TLS certificate.  A certificate sent here must be that one, and
+     * asks the server to send its own certificate back.
+     * </pre>
+     *
+     * <code>optional bytes clientCert = 2;</code>
      */
     boolean hasClientCert();
     /**
-     * <code>required bytes clientCert = 2;</code>
+     * <pre>
+     * The client is authenticated by its TLS certificate.  A certificate sent here must be that one, and
+     * asks the server to send its own certificate back.
+     * </pre>
+     *
+     * <code>optional bytes clientCert = 2;</code>
      */
     com.google.protobuf.ByteString getClientCert();
   }
@@ -928,13 +1215,23 @@ public final class S3Protocol {
     public static final int USER_FIELD_NUMBER = 1;
     private volatile java.lang.Object user_;
     /**
-     * <code>required string user = 1;</code>
+     * <pre>
+     * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+     * sent here must be that one.
+     * </pre>
+     *
+     * <code>optional string user = 1;</code>
      */
     public boolean hasUser() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required string user = 1;</code>
+     * <pre>
+     * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+     * sent here must be that one.
+     * </pre>
+     *
+     * <code>optional string user = 1;</code>
      */
     public java.lang.String getUser() {
       java.lang.Object ref = user_;
@@ -951,7 +1248,12 @@ public final class S3Protocol {
       }
     }
     /**
-     * <code>required string user = 1;</code>
+     * <pre>
+     * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+     * sent here must be that one.
+     * </pre>
+     *
+     * <code>optional string user = 1;</code>
      */
     public com.google.protobuf.ByteString
         getUserBytes() {
@@ -970,13 +1272,23 @@ public final class S3Protocol {
     public static final int CLIENTCERT_FIELD_NUMBER = 2;
     private com.google.protobuf.ByteString clientCert_;
     /**
-     * <code>required bytes clientCert = 2;</code>
+     * <pre>
+     * The client is authenticated by its TLS certificate.  A certificate sent here must be that one, and
+     * asks the server to send its own certificate back.
+     * </pre>
+     *
+     * <code>optional bytes clientCert = 2;</code>
      */
     public boolean hasClientCert() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>required bytes clientCert = 2;</code>
+     * <pre>
+     * The client is authenticated by its TLS certificate.  A certificate sent here must be that one, and
+     * asks the server to send its own certificate back.
+     * </pre>
+     *
+     * <code>optional bytes clientCert = 2;</code>
      */
     public com.google.protobuf.ByteString getClientCert() {
       return clientCert_;
@@ -988,14 +1300,6 @@ public final class S3Protocol {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasUser()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasClientCert()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -1279,12 +1583,6 @@ public final class S3Protocol {
       }
 
       public final boolean isInitialized() {
-        if (!hasUser()) {
-          return false;
-        }
-        if (!hasClientCert()) {
-          return false;
-        }
         return true;
       }
 
@@ -1309,13 +1607,23 @@ public final class S3Protocol {
 
       private java.lang.Object user_ = "";
       /**
-       * <code>required string user = 1;</code>
+       * <pre>
+       * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+       * sent here must be that one.
+       * </pre>
+       *
+       * <code>optional string user = 1;</code>
        */
       public boolean hasUser() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required string user = 1;</code>
+       * <pre>
+       * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+       * sent here must be that one.
+       * </pre>
+       *
+       * <code>optional string user = 1;</code>
        */
       public java.lang.String getUser() {
         java.lang.Object ref = user_;
@@ -1332,7 +1640,12 @@ public final class S3Protocol {
         }
       }
       /**
-       * <code>required string user = 1;</code>
+       * <pre>
+       * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+       * sent here must be that one.
+       * </pre>
+       *
+       * <code>optional string user = 1;</code>
        */
       public com.google.protobuf.ByteString
           getUserBytes() {
@@ -1348,7 +1661,12 @@ public final class S3Protocol {
         }
       }
       /**
-       * <code>required string user = 1;</code>
+       * <pre>
+       * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+       * sent here must be that one.
+       * </pre>
+       *
+       * <code>optional string user = 1;</code>
        */
       public Builder setUser(
           java.lang.String value) {
@@ -1361,7 +1679,12 @@ public final class S3Protocol {
         return this;
       }
       /**
-       * <code>required string user = 1;</code>
+       * <pre>
+       * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+       * sent here must be that one.
+       * </pre>
+       *
+       * <code>optional string user = 1;</code>
        */
       public Builder clearUser() {
         bitField0_ = (bitField0_ & ~0x00000001);
@@ -1370,7 +1693,12 @@ public final class S3Protocol {
         return this;
       }
       /**
-       * <code>required string user = 1;</code>
+       * <pre>
+       * The user is the one the client's TLS certificate is registered to, as certs/&lt;user&gt;/&lt;user&gt;.crt.  A name
+       * sent here must be that one.
+       * </pre>
+       *
+       * <code>optional string user = 1;</code>
        */
       public Builder setUserBytes(
           com.google.protobuf.ByteString value) {
@@ -1385,19 +1713,34 @@ public final class S3Protocol {
 
       private com.google.protobuf.ByteString clientCert_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>required bytes clientCert = 2;</code>
+       * <pre>
+       * The client is authenticated by its TLS certificate.  A certificate sent here must be that one, and
+       * asks the server to send its own certificate back.
+       * </pre>
+       *
+       * <code>optional bytes clientCert = 2;</code>
        */
       public boolean hasClientCert() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>required bytes clientCert = 2;</code>
+       * <pre>
+       * The client is authenticated by its TLS certificate.  A certificate sent here must be that one, and
+       * asks the server to send its own certificate back.
+       * </pre>
+       *
+       * <code>optional bytes clientCert = 2;</code>
        */
       public com.google.protobuf.ByteString getClientCert() {
         return clientCert_;
       }
       /**
-       * <code>required bytes clientCert = 2;</code>
+       * <pre>
+       * The client is authenticated by its TLS certificate.  A certificate sent here must be that one, and
+       * asks the server to send its own certificate back.
+       * </pre>
+       *
+       * <code>optional bytes clientCert = 2;</code>
        */
       public Builder setClientCert(com.google.protobuf.ByteString value) {
         if (value == null) {
@@ -1409,7 +1752,12 @@ public final class S3Protocol {
         return this;
       }
       /**
-       * <code>required bytes clientCert = 2;</code>
+       * <pre>
+       * The client is authenticated by its TLS certificate.  A certificate sent here must be that one, and
+       * asks the server to send its own certificate back.
+       * </pre>
+       *
+       * <code>optional bytes clientCert = 2;</code>
        */
       public Builder clearClientCert() {
         bitField0_ = (bitField0_ & ~0x00000002);
@@ -1484,11 +1832,11 @@ public final class S3Protocol {
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required bytes serverCert = 1;</code>
+     * <code>optional bytes serverCert = 1;</code>
      */
     boolean hasServerCert();
     /**
-     * <code>required bytes serverCert = 1;</code>
+     * <code>optional bytes serverCert = 1;</code>
      */
     com.google.protobuf.ByteString getServerCert();
   }
@@ -1568,13 +1916,13 @@ public final class S3Protocol {
     public static final int SERVERCERT_FIELD_NUMBER = 1;
     private com.google.protobuf.ByteString serverCert_;
     /**
-     * <code>required bytes serverCert = 1;</code>
+     * <code>optional bytes serverCert = 1;</code>
      */
     public boolean hasServerCert() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required bytes serverCert = 1;</code>
+     * <code>optional bytes serverCert = 1;</code>
      */
     public com.google.protobuf.ByteString getServerCert() {
       return serverCert_;
@@ -1586,10 +1934,6 @@ public final class S3Protocol {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasServerCert()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -1847,9 +2191,6 @@ public final class S3Protocol {
       }
 
       public final boolean isInitialized() {
-        if (!hasServerCert()) {
-          return false;
-        }
         return true;
       }
 
@@ -1874,19 +2215,19 @@ public final class S3Protocol {
 
       private com.google.protobuf.ByteString serverCert_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>required bytes serverCert = 1;</code>
+       * <code>optional bytes serverCert = 1;</code>
        */
       public boolean hasServerCert() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required bytes serverCert = 1;</code>
+       * <code>optional bytes serverCert = 1;</code>
        */
       public com.google.protobuf.ByteString getServerCert() {
         return serverCert_;
       }
       /**
-       * <code>required bytes serverCert = 1;</code>
+       * <code>optional bytes serverCert = 1;</code>
        */
       public Builder setServerCert(com.google.protobuf.ByteString value) {
         if (value == null) {
@@ -1898,7 +2239,7 @@ public final class S3Protocol {
         return this;
       }
       /**
-       * <code>required bytes serverCert = 1;</code>
+       * <code>optional bytes serverCert = 1;</code>
        */
       public Builder clearServerCert() {
         bitField0_ = (bitField0_ & ~0x00000001);
@@ -1999,6 +2340,15 @@ public final class S3Protocol {
      */
     com.google.protobuf.ByteString
         getOwnerBytes();
+
+    /**
+     * <code>optional bool chunked = 3;</code>
+     */
+    boolean hasChunked();
+    /**
+     * <code>optional bool chunked = 3;</code>
+     */
+    boolean getChunked();
   }
   /**
    * Protobuf type {@code com.jjemson.s3.CheckoutRequest}
@@ -2014,6 +2364,7 @@ public final class S3Protocol {
     private CheckoutRequest() {
       documentId_ = "";
       owner_ = "";
+      chunked_ = false;
     }
 
     @java.lang.Override
@@ -2056,6 +2407,11 @@ public final class S3Protocol {
               owner_ = bs;
               break;
             }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              chunked_ = input.readBool();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2165,6 +2521,21 @@ public final class S3Protocol {
       }
     }
 
+    public static final int CHUNKED_FIELD_NUMBER = 3;
+    private boolean chunked_;
+    /**
+     * <code>optional bool chunked = 3;</code>
+     */
+    public boolean hasChunked() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional bool chunked = 3;</code>
+     */
+    public boolean getChunked() {
+      return chunked_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -2187,6 +2558,9 @@ public final class S3Protocol {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, owner_);
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(3, chunked_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -2201,6 +2575,10 @@ public final class S3Protocol {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, owner_);
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, chunked_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2228,6 +2606,11 @@ public final class S3Protocol {
         result = result && getOwner()
             .equals(other.getOwner());
       }
+      result = result && (hasChunked() == other.hasChunked());
+      if (hasChunked()) {
+        result = result && (getChunked()
+            == other.getChunked());
+      }
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -2247,6 +2630,11 @@ public final class S3Protocol {
         hash = (37 * hash) + OWNER_FIELD_NUMBER;
         hash = (53 * hash) + getOwner().hashCode();
       }
+      if (hasChunked()) {
+        hash = (37 * hash) + CHUNKED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getChunked());
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2369,6 +2757,8 @@ public final class S3Protocol {
         bitField0_ = (bitField0_ & ~0x00000001);
         owner_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
+        chunked_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -2401,6 +2791,10 @@ public final class S3Protocol {
           to_bitField0_ |= 0x00000002;
         }
         result.owner_ = owner_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.chunked_ = chunked_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2453,6 +2847,9 @@ public final class S3Protocol {
           owner_ = other.owner_;
           onChanged();
         }
+        if (other.hasChunked()) {
+          setChunked(other.getChunked());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -2635,6 +3032,38 @@ public final class S3Protocol {
         onChanged();
         return this;
       }
+
+      private boolean chunked_ ;
+      /**
+       * <code>optional bool chunked = 3;</code>
+       */
+      public boolean hasChunked() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional bool chunked = 3;</code>
+       */
+      public boolean getChunked() {
+        return chunked_;
+      }
+      /**
+       * <code>optional bool chunked = 3;</code>
+       */
+      public Builder setChunked(boolean value) {
+        bitField0_ |= 0x00000004;
+        chunked_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool chunked = 3;</code>
+       */
+      public Builder clearChunked() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        chunked_ = false;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFields(unknownFields);
@@ -2727,6 +3156,15 @@ public final class S3Protocol {
      * <code>optional bytes file_data = 3;</code>
      */
     com.google.protobuf.ByteString getFileData();
+
+    /**
+     * <code>optional int64 length = 4;</code>
+     */
+    boolean hasLength();
+    /**
+     * <code>optional int64 length = 4;</code>
+     */
+    long getLength();
   }
   /**
    * Protobuf type {@code com.jjemson.s3.CheckoutResponse}
@@ -2743,6 +3181,7 @@ public final class S3Protocol {
       success_ = false;
       security_ = 0;
       fileData_ = com.google.protobuf.ByteString.EMPTY;
+      length_ = 0L;
     }
 
     @java.lang.Override
@@ -2794,6 +3233,11 @@ public final class S3Protocol {
               fileData_ = input.readBytes();
               break;
             }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              length_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2865,6 +3309,21 @@ public final class S3Protocol {
       return fileData_;
     }
 
+    public static final int LENGTH_FIELD_NUMBER = 4;
+    private long length_;
+    /**
+     * <code>optional int64 length = 4;</code>
+     */
+    public boolean hasLength() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 length = 4;</code>
+     */
+    public long getLength() {
+      return length_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -2890,6 +3349,9 @@ public final class S3Protocol {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeBytes(3, fileData_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, length_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -2910,6 +3372,10 @@ public final class S3Protocol {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(3, fileData_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, length_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2941,6 +3407,11 @@ public final class S3Protocol {
         result = result && getFileData()
             .equals(other.getFileData());
       }
+      result = result && (hasLength() == other.hasLength());
+      if (hasLength()) {
+        result = result && (getLength()
+            == other.getLength());
+      }
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -2965,6 +3436,11 @@ public final class S3Protocol {
         hash = (37 * hash) + FILE_DATA_FIELD_NUMBER;
         hash = (53 * hash) + getFileData().hashCode();
       }
+      if (hasLength()) {
+        hash = (37 * hash) + LENGTH_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getLength());
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -3089,6 +3565,8 @@ public final class S3Protocol {
         bitField0_ = (bitField0_ & ~0x00000002);
         fileData_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000004);
+        length_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -3125,6 +3603,10 @@ public final class S3Protocol {
           to_bitField0_ |= 0x00000004;
         }
         result.fileData_ = fileData_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.length_ = length_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -3176,6 +3658,9 @@ public final class S3Protocol {
         if (other.hasFileData()) {
           setFileData(other.getFileData());
         }
+        if (other.hasLength()) {
+          setLength(other.getLength());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -3309,6 +3794,38 @@ public final class S3Protocol {
         onChanged();
         return this;
       }
+
+      private long length_ ;
+      /**
+       * <code>optional int64 length = 4;</code>
+       */
+      public boolean hasLength() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 length = 4;</code>
+       */
+      public long getLength() {
+        return length_;
+      }
+      /**
+       * <code>optional int64 length = 4;</code>
+       */
+      public Builder setLength(long value) {
+        bitField0_ |= 0x00000008;
+        length_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 length = 4;</code>
+       */
+      public Builder clearLength() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        length_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFields(unknownFields);
@@ -4136,47 +4653,62 @@ public final class S3Protocol {
           com.jjemson.s3.S3Protocol.CheckinRequest.getDefaultInstance());
   }
 
-  public interface CheckinResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.CheckinResponse)
+  public interface CheckinBeginOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.CheckinBegin)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required bool success = 1;</code>
+     * <code>required string document_id = 1;</code>
      */
-    boolean hasSuccess();
+    boolean hasDocumentId();
     /**
-     * <code>required bool success = 1;</code>
+     * <code>required string document_id = 1;</code>
      */
-    boolean getSuccess();
+    java.lang.String getDocumentId();
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getDocumentIdBytes();
 
     /**
-     * <code>optional string reason = 2;</code>
+     * <code>required .com.jjemson.s3.Security security = 2;</code>
      */
-    boolean hasReason();
+    boolean hasSecurity();
     /**
-     * <code>optional string reason = 2;</code>
+     * <code>required .com.jjemson.s3.Security security = 2;</code>
      */
-    java.lang.String getReason();
+    com.jjemson.s3.S3Protocol.Security getSecurity();
+
     /**
-     * <code>optional string reason = 2;</code>
+     * <code>optional int64 length = 3;</code>
      */
-    com.google.protobuf.ByteString
-        getReasonBytes();
+    boolean hasLength();
+    /**
+     * <code>optional int64 length = 3;</code>
+     */
+    long getLength();
   }
   /**
-   * Protobuf type {@code com.jjemson.s3.CheckinResponse}
+   * <pre>
+   * Chunked checkin: CheckinBegin, then FileChunk messages, then TransferEnd.
+   * Chunked checkout: CheckoutResponse, then FileChunk messages, then TransferEnd.
+   * </pre>
+   *
+   * Protobuf type {@code com.jjemson.s3.CheckinBegin}
    */
-  public  static final class CheckinResponse extends
+  public  static final class CheckinBegin extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:com.jjemson.s3.CheckinResponse)
-      CheckinResponseOrBuilder {
-    // Use CheckinResponse.newBuilder() to construct.
-    private CheckinResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.CheckinBegin)
+      CheckinBeginOrBuilder {
+    // Use CheckinBegin.newBuilder() to construct.
+    private CheckinBegin(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private CheckinResponse() {
-      success_ = false;
-      reason_ = "";
+    private CheckinBegin() {
+      documentId_ = "";
+      security_ = 0;
+      length_ = 0L;
     }
 
     @java.lang.Override
@@ -4184,7 +4716,7 @@ public final class S3Protocol {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private CheckinResponse(
+    private CheckinBegin(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4207,15 +4739,26 @@ public final class S3Protocol {
               }
               break;
             }
-            case 8: {
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              success_ = input.readBool();
+              documentId_ = bs;
               break;
             }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              reason_ = bs;
+            case 16: {
+              int rawValue = input.readEnum();
+              com.jjemson.s3.S3Protocol.Security value = com.jjemson.s3.S3Protocol.Security.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(2, rawValue);
+              } else {
+                bitField0_ |= 0x00000002;
+                security_ = rawValue;
+              }
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              length_ = input.readInt64();
               break;
             }
           }
@@ -4232,45 +4775,30 @@ public final class S3Protocol {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinResponse_descriptor;
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinBegin_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinResponse_fieldAccessorTable
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinBegin_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.jjemson.s3.S3Protocol.CheckinResponse.class, com.jjemson.s3.S3Protocol.CheckinResponse.Builder.class);
+              com.jjemson.s3.S3Protocol.CheckinBegin.class, com.jjemson.s3.S3Protocol.CheckinBegin.Builder.class);
     }
 
     private int bitField0_;
-    public static final int SUCCESS_FIELD_NUMBER = 1;
-    private boolean success_;
+    public static final int DOCUMENT_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object documentId_;
     /**
-     * <code>required bool success = 1;</code>
+     * <code>required string document_id = 1;</code>
      */
-    public boolean hasSuccess() {
+    public boolean hasDocumentId() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required bool success = 1;</code>
-     */
-    public boolean getSuccess() {
-      return success_;
-    }
-
-    public static final int REASON_FIELD_NUMBER = 2;
-    private volatile java.lang.Object reason_;
-    /**
-     * <code>optional string reason = 2;</code>
-     */
-    public boolean hasReason() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>optional string reason = 2;</code>
+     * <code>required string document_id = 1;</code>
      */
-    public java.lang.String getReason() {
-      java.lang.Object ref = reason_;
+    public java.lang.String getDocumentId() {
+      java.lang.Object ref = documentId_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -4278,35 +4806,70 @@ public final class S3Protocol {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          reason_ = s;
+          documentId_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>optional string reason = 2;</code>
+     * <code>required string document_id = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getReasonBytes() {
-      java.lang.Object ref = reason_;
+        getDocumentIdBytes() {
+      java.lang.Object ref = documentId_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        reason_ = b;
+        documentId_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
+    public static final int SECURITY_FIELD_NUMBER = 2;
+    private int security_;
+    /**
+     * <code>required .com.jjemson.s3.Security security = 2;</code>
+     */
+    public boolean hasSecurity() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required .com.jjemson.s3.Security security = 2;</code>
+     */
+    public com.jjemson.s3.S3Protocol.Security getSecurity() {
+      com.jjemson.s3.S3Protocol.Security result = com.jjemson.s3.S3Protocol.Security.valueOf(security_);
+      return result == null ? com.jjemson.s3.S3Protocol.Security.NONE : result;
+    }
+
+    public static final int LENGTH_FIELD_NUMBER = 3;
+    private long length_;
+    /**
+     * <code>optional int64 length = 3;</code>
+     */
+    public boolean hasLength() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 length = 3;</code>
+     */
+    public long getLength() {
+      return length_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasSuccess()) {
+      if (!hasDocumentId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSecurity()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -4317,10 +4880,13 @@ public final class S3Protocol {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBool(1, success_);
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, documentId_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, reason_);
+        output.writeEnum(2, security_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, length_);
       }
       unknownFields.writeTo(output);
     }
@@ -4331,11 +4897,15 @@ public final class S3Protocol {
 
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, success_);
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, documentId_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, reason_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, security_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, length_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -4348,21 +4918,25 @@ public final class S3Protocol {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.jjemson.s3.S3Protocol.CheckinResponse)) {
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.CheckinBegin)) {
         return super.equals(obj);
       }
-      com.jjemson.s3.S3Protocol.CheckinResponse other = (com.jjemson.s3.S3Protocol.CheckinResponse) obj;
+      com.jjemson.s3.S3Protocol.CheckinBegin other = (com.jjemson.s3.S3Protocol.CheckinBegin) obj;
 
       boolean result = true;
-      result = result && (hasSuccess() == other.hasSuccess());
-      if (hasSuccess()) {
-        result = result && (getSuccess()
-            == other.getSuccess());
+      result = result && (hasDocumentId() == other.hasDocumentId());
+      if (hasDocumentId()) {
+        result = result && getDocumentId()
+            .equals(other.getDocumentId());
       }
-      result = result && (hasReason() == other.hasReason());
-      if (hasReason()) {
-        result = result && getReason()
-            .equals(other.getReason());
+      result = result && (hasSecurity() == other.hasSecurity());
+      if (hasSecurity()) {
+        result = result && security_ == other.security_;
+      }
+      result = result && (hasLength() == other.hasLength());
+      if (hasLength()) {
+        result = result && (getLength()
+            == other.getLength());
       }
       result = result && unknownFields.equals(other.unknownFields);
       return result;
@@ -4375,72 +4949,76 @@ public final class S3Protocol {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptorForType().hashCode();
-      if (hasSuccess()) {
-        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-            getSuccess());
+      if (hasDocumentId()) {
+        hash = (37 * hash) + DOCUMENT_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getDocumentId().hashCode();
       }
-      if (hasReason()) {
-        hash = (37 * hash) + REASON_FIELD_NUMBER;
-        hash = (53 * hash) + getReason().hashCode();
+      if (hasSecurity()) {
+        hash = (37 * hash) + SECURITY_FIELD_NUMBER;
+        hash = (53 * hash) + security_;
+      }
+      if (hasLength()) {
+        hash = (37 * hash) + LENGTH_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getLength());
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.CheckinBegin parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.CheckinBegin parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(byte[] data)
+    public static com.jjemson.s3.S3Protocol.CheckinBegin parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.CheckinBegin parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(java.io.InputStream input)
+    public static com.jjemson.s3.S3Protocol.CheckinBegin parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.CheckinBegin parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.CheckinResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.jjemson.s3.S3Protocol.CheckinBegin parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.CheckinResponse parseDelimitedFrom(
+    public static com.jjemson.s3.S3Protocol.CheckinBegin parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.CheckinBegin parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.CheckinBegin parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4452,7 +5030,7 @@ public final class S3Protocol {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.jjemson.s3.S3Protocol.CheckinResponse prototype) {
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.CheckinBegin prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -4467,25 +5045,30 @@ public final class S3Protocol {
       return builder;
     }
     /**
-     * Protobuf type {@code com.jjemson.s3.CheckinResponse}
+     * <pre>
+     * Chunked checkin: CheckinBegin, then FileChunk messages, then TransferEnd.
+     * Chunked checkout: CheckoutResponse, then FileChunk messages, then TransferEnd.
+     * </pre>
+     *
+     * Protobuf type {@code com.jjemson.s3.CheckinBegin}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.CheckinResponse)
-        com.jjemson.s3.S3Protocol.CheckinResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.CheckinBegin)
+        com.jjemson.s3.S3Protocol.CheckinBeginOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinResponse_descriptor;
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinBegin_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinResponse_fieldAccessorTable
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinBegin_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.jjemson.s3.S3Protocol.CheckinResponse.class, com.jjemson.s3.S3Protocol.CheckinResponse.Builder.class);
+                com.jjemson.s3.S3Protocol.CheckinBegin.class, com.jjemson.s3.S3Protocol.CheckinBegin.Builder.class);
       }
 
-      // Construct using com.jjemson.s3.S3Protocol.CheckinResponse.newBuilder()
+      // Construct using com.jjemson.s3.S3Protocol.CheckinBegin.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4502,42 +5085,48 @@ public final class S3Protocol {
       }
       public Builder clear() {
         super.clear();
-        success_ = false;
+        documentId_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        reason_ = "";
+        security_ = 0;
         bitField0_ = (bitField0_ & ~0x00000002);
+        length_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinResponse_descriptor;
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinBegin_descriptor;
       }
 
-      public com.jjemson.s3.S3Protocol.CheckinResponse getDefaultInstanceForType() {
-        return com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance();
+      public com.jjemson.s3.S3Protocol.CheckinBegin getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.CheckinBegin.getDefaultInstance();
       }
 
-      public com.jjemson.s3.S3Protocol.CheckinResponse build() {
-        com.jjemson.s3.S3Protocol.CheckinResponse result = buildPartial();
+      public com.jjemson.s3.S3Protocol.CheckinBegin build() {
+        com.jjemson.s3.S3Protocol.CheckinBegin result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.jjemson.s3.S3Protocol.CheckinResponse buildPartial() {
-        com.jjemson.s3.S3Protocol.CheckinResponse result = new com.jjemson.s3.S3Protocol.CheckinResponse(this);
+      public com.jjemson.s3.S3Protocol.CheckinBegin buildPartial() {
+        com.jjemson.s3.S3Protocol.CheckinBegin result = new com.jjemson.s3.S3Protocol.CheckinBegin(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.success_ = success_;
+        result.documentId_ = documentId_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.reason_ = reason_;
+        result.security_ = security_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.length_ = length_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -4570,31 +5159,37 @@ public final class S3Protocol {
         return (Builder) super.addRepeatedField(field, value);
       }
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.jjemson.s3.S3Protocol.CheckinResponse) {
-          return mergeFrom((com.jjemson.s3.S3Protocol.CheckinResponse)other);
+        if (other instanceof com.jjemson.s3.S3Protocol.CheckinBegin) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.CheckinBegin)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.jjemson.s3.S3Protocol.CheckinResponse other) {
-        if (other == com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance()) return this;
-        if (other.hasSuccess()) {
-          setSuccess(other.getSuccess());
-        }
-        if (other.hasReason()) {
-          bitField0_ |= 0x00000002;
-          reason_ = other.reason_;
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.CheckinBegin other) {
+        if (other == com.jjemson.s3.S3Protocol.CheckinBegin.getDefaultInstance()) return this;
+        if (other.hasDocumentId()) {
+          bitField0_ |= 0x00000001;
+          documentId_ = other.documentId_;
           onChanged();
         }
+        if (other.hasSecurity()) {
+          setSecurity(other.getSecurity());
+        }
+        if (other.hasLength()) {
+          setLength(other.getLength());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasSuccess()) {
+        if (!hasDocumentId()) {
+          return false;
+        }
+        if (!hasSecurity()) {
           return false;
         }
         return true;
@@ -4604,11 +5199,11 @@ public final class S3Protocol {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.jjemson.s3.S3Protocol.CheckinResponse parsedMessage = null;
+        com.jjemson.s3.S3Protocol.CheckinBegin parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.jjemson.s3.S3Protocol.CheckinResponse) e.getUnfinishedMessage();
+          parsedMessage = (com.jjemson.s3.S3Protocol.CheckinBegin) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4619,56 +5214,24 @@ public final class S3Protocol {
       }
       private int bitField0_;
 
-      private boolean success_ ;
+      private java.lang.Object documentId_ = "";
       /**
-       * <code>required bool success = 1;</code>
+       * <code>required string document_id = 1;</code>
        */
-      public boolean hasSuccess() {
+      public boolean hasDocumentId() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required bool success = 1;</code>
-       */
-      public boolean getSuccess() {
-        return success_;
-      }
-      /**
-       * <code>required bool success = 1;</code>
-       */
-      public Builder setSuccess(boolean value) {
-        bitField0_ |= 0x00000001;
-        success_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required bool success = 1;</code>
-       */
-      public Builder clearSuccess() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        success_ = false;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object reason_ = "";
-      /**
-       * <code>optional string reason = 2;</code>
-       */
-      public boolean hasReason() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional string reason = 2;</code>
+       * <code>required string document_id = 1;</code>
        */
-      public java.lang.String getReason() {
-        java.lang.Object ref = reason_;
+      public java.lang.String getDocumentId() {
+        java.lang.Object ref = documentId_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            reason_ = s;
+            documentId_ = s;
           }
           return s;
         } else {
@@ -4676,53 +5239,121 @@ public final class S3Protocol {
         }
       }
       /**
-       * <code>optional string reason = 2;</code>
+       * <code>required string document_id = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getReasonBytes() {
-        java.lang.Object ref = reason_;
+          getDocumentIdBytes() {
+        java.lang.Object ref = documentId_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          reason_ = b;
+          documentId_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string reason = 2;</code>
+       * <code>required string document_id = 1;</code>
        */
-      public Builder setReason(
+      public Builder setDocumentId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        reason_ = value;
+  bitField0_ |= 0x00000001;
+        documentId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string reason = 2;</code>
+       * <code>required string document_id = 1;</code>
        */
-      public Builder clearReason() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        reason_ = getDefaultInstance().getReason();
+      public Builder clearDocumentId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        documentId_ = getDefaultInstance().getDocumentId();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string reason = 2;</code>
+       * <code>required string document_id = 1;</code>
        */
-      public Builder setReasonBytes(
+      public Builder setDocumentIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        reason_ = value;
+  bitField0_ |= 0x00000001;
+        documentId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int security_ = 0;
+      /**
+       * <code>required .com.jjemson.s3.Security security = 2;</code>
+       */
+      public boolean hasSecurity() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required .com.jjemson.s3.Security security = 2;</code>
+       */
+      public com.jjemson.s3.S3Protocol.Security getSecurity() {
+        com.jjemson.s3.S3Protocol.Security result = com.jjemson.s3.S3Protocol.Security.valueOf(security_);
+        return result == null ? com.jjemson.s3.S3Protocol.Security.NONE : result;
+      }
+      /**
+       * <code>required .com.jjemson.s3.Security security = 2;</code>
+       */
+      public Builder setSecurity(com.jjemson.s3.S3Protocol.Security value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        security_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .com.jjemson.s3.Security security = 2;</code>
+       */
+      public Builder clearSecurity() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        security_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long length_ ;
+      /**
+       * <code>optional int64 length = 3;</code>
+       */
+      public boolean hasLength() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 length = 3;</code>
+       */
+      public long getLength() {
+        return length_;
+      }
+      /**
+       * <code>optional int64 length = 3;</code>
+       */
+      public Builder setLength(long value) {
+        bitField0_ |= 0x00000004;
+        length_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 length = 3;</code>
+       */
+      public Builder clearLength() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        length_ = 0L;
         onChanged();
         return this;
       }
@@ -4737,123 +5368,93 @@ public final class S3Protocol {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.CheckinResponse)
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.CheckinBegin)
     }
 
-    // @@protoc_insertion_point(class_scope:com.jjemson.s3.CheckinResponse)
-    private static final com.jjemson.s3.S3Protocol.CheckinResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.CheckinBegin)
+    private static final com.jjemson.s3.S3Protocol.CheckinBegin DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.CheckinResponse();
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.CheckinBegin();
     }
 
-    public static com.jjemson.s3.S3Protocol.CheckinResponse getDefaultInstance() {
+    public static com.jjemson.s3.S3Protocol.CheckinBegin getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<CheckinResponse>
-        PARSER = new com.google.protobuf.AbstractParser<CheckinResponse>() {
-      public CheckinResponse parsePartialFrom(
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<CheckinBegin>
+        PARSER = new com.google.protobuf.AbstractParser<CheckinBegin>() {
+      public CheckinBegin parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new CheckinResponse(input, extensionRegistry);
+          return new CheckinBegin(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<CheckinResponse> parser() {
+    public static com.google.protobuf.Parser<CheckinBegin> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<CheckinResponse> getParserForType() {
+    public com.google.protobuf.Parser<CheckinBegin> getParserForType() {
       return PARSER;
     }
 
-    public com.jjemson.s3.S3Protocol.CheckinResponse getDefaultInstanceForType() {
+    public com.jjemson.s3.S3Protocol.CheckinBegin getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
-    public static final int CI_RESPONSE_FIELD_NUMBER = 1002;
+    public static final int CI_BEGIN_FIELD_NUMBER = 1012;
     /**
      * <code>extend .com.jjemson.s3.S3Message { ... }</code>
      */
     public static final
       com.google.protobuf.GeneratedMessage.GeneratedExtension<
         com.jjemson.s3.S3Protocol.S3Message,
-        com.jjemson.s3.S3Protocol.CheckinResponse> ciResponse = com.google.protobuf.GeneratedMessage
+        com.jjemson.s3.S3Protocol.CheckinBegin> ciBegin = com.google.protobuf.GeneratedMessage
             .newMessageScopedGeneratedExtension(
-          com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance(),
+          com.jjemson.s3.S3Protocol.CheckinBegin.getDefaultInstance(),
           0,
-          com.jjemson.s3.S3Protocol.CheckinResponse.class,
-          com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance());
+          com.jjemson.s3.S3Protocol.CheckinBegin.class,
+          com.jjemson.s3.S3Protocol.CheckinBegin.getDefaultInstance());
   }
 
-  public interface DelegationRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.DelegationRequest)
+  public interface FileChunkOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.FileChunk)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required string document_id = 1;</code>
-     */
-    boolean hasDocumentId();
-    /**
-     * <code>required string document_id = 1;</code>
-     */
-    java.lang.String getDocumentId();
-    /**
-     * <code>required string document_id = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getDocumentIdBytes();
-
-    /**
-     * <code>required string client_user = 2;</code>
-     */
-    boolean hasClientUser();
-    /**
-     * <code>required string client_user = 2;</code>
-     */
-    java.lang.String getClientUser();
-    /**
-     * <code>required string client_user = 2;</code>
-     */
-    com.google.protobuf.ByteString
-        getClientUserBytes();
-
-    /**
-     * <code>required int32 duration = 3;</code>
+     * <code>required int32 sequence = 1;</code>
      */
-    boolean hasDuration();
+    boolean hasSequence();
     /**
-     * <code>required int32 duration = 3;</code>
+     * <code>required int32 sequence = 1;</code>
      */
-    int getDuration();
+    int getSequence();
 
     /**
-     * <code>required bool propagate = 4;</code>
+     * <code>required bytes data = 2;</code>
      */
-    boolean hasPropagate();
+    boolean hasData();
     /**
-     * <code>required bool propagate = 4;</code>
+     * <code>required bytes data = 2;</code>
      */
-    boolean getPropagate();
+    com.google.protobuf.ByteString getData();
   }
   /**
-   * Protobuf type {@code com.jjemson.s3.DelegationRequest}
+   * Protobuf type {@code com.jjemson.s3.FileChunk}
    */
-  public  static final class DelegationRequest extends
+  public  static final class FileChunk extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:com.jjemson.s3.DelegationRequest)
-      DelegationRequestOrBuilder {
-    // Use DelegationRequest.newBuilder() to construct.
-    private DelegationRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.FileChunk)
+      FileChunkOrBuilder {
+    // Use FileChunk.newBuilder() to construct.
+    private FileChunk(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private DelegationRequest() {
-      documentId_ = "";
-      clientUser_ = "";
-      duration_ = 0;
-      propagate_ = false;
+    private FileChunk() {
+      sequence_ = 0;
+      data_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -4861,7 +5462,7 @@ public final class S3Protocol {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private DelegationRequest(
+    private FileChunk(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4884,26 +5485,14 @@ public final class S3Protocol {
               }
               break;
             }
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 8: {
               bitField0_ |= 0x00000001;
-              documentId_ = bs;
+              sequence_ = input.readInt32();
               break;
             }
             case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000002;
-              clientUser_ = bs;
-              break;
-            }
-            case 24: {
-              bitField0_ |= 0x00000004;
-              duration_ = input.readInt32();
-              break;
-            }
-            case 32: {
-              bitField0_ |= 0x00000008;
-              propagate_ = input.readBool();
+              data_ = input.readBytes();
               break;
             }
           }
@@ -4920,129 +5509,45 @@ public final class S3Protocol {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationRequest_descriptor;
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_FileChunk_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationRequest_fieldAccessorTable
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_FileChunk_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.jjemson.s3.S3Protocol.DelegationRequest.class, com.jjemson.s3.S3Protocol.DelegationRequest.Builder.class);
+              com.jjemson.s3.S3Protocol.FileChunk.class, com.jjemson.s3.S3Protocol.FileChunk.Builder.class);
     }
 
     private int bitField0_;
-    public static final int DOCUMENT_ID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object documentId_;
+    public static final int SEQUENCE_FIELD_NUMBER = 1;
+    private int sequence_;
     /**
-     * <code>required string document_id = 1;</code>
+     * <code>required int32 sequence = 1;</code>
      */
-    public boolean hasDocumentId() {
+    public boolean hasSequence() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required string document_id = 1;</code>
-     */
-    public java.lang.String getDocumentId() {
-      java.lang.Object ref = documentId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          documentId_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>required string document_id = 1;</code>
+     * <code>required int32 sequence = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getDocumentIdBytes() {
-      java.lang.Object ref = documentId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        documentId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getSequence() {
+      return sequence_;
     }
 
-    public static final int CLIENT_USER_FIELD_NUMBER = 2;
-    private volatile java.lang.Object clientUser_;
+    public static final int DATA_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString data_;
     /**
-     * <code>required string client_user = 2;</code>
+     * <code>required bytes data = 2;</code>
      */
-    public boolean hasClientUser() {
+    public boolean hasData() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>required string client_user = 2;</code>
-     */
-    public java.lang.String getClientUser() {
-      java.lang.Object ref = clientUser_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          clientUser_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>required string client_user = 2;</code>
-     */
-    public com.google.protobuf.ByteString
-        getClientUserBytes() {
-      java.lang.Object ref = clientUser_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        clientUser_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int DURATION_FIELD_NUMBER = 3;
-    private int duration_;
-    /**
-     * <code>required int32 duration = 3;</code>
-     */
-    public boolean hasDuration() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>required int32 duration = 3;</code>
-     */
-    public int getDuration() {
-      return duration_;
-    }
-
-    public static final int PROPAGATE_FIELD_NUMBER = 4;
-    private boolean propagate_;
-    /**
-     * <code>required bool propagate = 4;</code>
-     */
-    public boolean hasPropagate() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
-    }
-    /**
-     * <code>required bool propagate = 4;</code>
+     * <code>required bytes data = 2;</code>
      */
-    public boolean getPropagate() {
-      return propagate_;
+    public com.google.protobuf.ByteString getData() {
+      return data_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5051,19 +5556,11 @@ public final class S3Protocol {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasDocumentId()) {
+      if (!hasSequence()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasClientUser()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasDuration()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasPropagate()) {
+      if (!hasData()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -5074,16 +5571,10 @@ public final class S3Protocol {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, documentId_);
+        output.writeInt32(1, sequence_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, clientUser_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeInt32(3, duration_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeBool(4, propagate_);
+        output.writeBytes(2, data_);
       }
       unknownFields.writeTo(output);
     }
@@ -5094,18 +5585,12 @@ public final class S3Protocol {
 
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, documentId_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, clientUser_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(3, duration_);
+          .computeInt32Size(1, sequence_);
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(4, propagate_);
+          .computeBytesSize(2, data_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -5118,31 +5603,21 @@ public final class S3Protocol {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.jjemson.s3.S3Protocol.DelegationRequest)) {
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.FileChunk)) {
         return super.equals(obj);
       }
-      com.jjemson.s3.S3Protocol.DelegationRequest other = (com.jjemson.s3.S3Protocol.DelegationRequest) obj;
+      com.jjemson.s3.S3Protocol.FileChunk other = (com.jjemson.s3.S3Protocol.FileChunk) obj;
 
       boolean result = true;
-      result = result && (hasDocumentId() == other.hasDocumentId());
-      if (hasDocumentId()) {
-        result = result && getDocumentId()
-            .equals(other.getDocumentId());
-      }
-      result = result && (hasClientUser() == other.hasClientUser());
-      if (hasClientUser()) {
-        result = result && getClientUser()
-            .equals(other.getClientUser());
-      }
-      result = result && (hasDuration() == other.hasDuration());
-      if (hasDuration()) {
-        result = result && (getDuration()
-            == other.getDuration());
+      result = result && (hasSequence() == other.hasSequence());
+      if (hasSequence()) {
+        result = result && (getSequence()
+            == other.getSequence());
       }
-      result = result && (hasPropagate() == other.hasPropagate());
-      if (hasPropagate()) {
-        result = result && (getPropagate()
-            == other.getPropagate());
+      result = result && (hasData() == other.hasData());
+      if (hasData()) {
+        result = result && getData()
+            .equals(other.getData());
       }
       result = result && unknownFields.equals(other.unknownFields);
       return result;
@@ -5155,80 +5630,7201 @@ public final class S3Protocol {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptorForType().hashCode();
-      if (hasDocumentId()) {
-        hash = (37 * hash) + DOCUMENT_ID_FIELD_NUMBER;
-        hash = (53 * hash) + getDocumentId().hashCode();
+      if (hasSequence()) {
+        hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+        hash = (53 * hash) + getSequence();
       }
-      if (hasClientUser()) {
-        hash = (37 * hash) + CLIENT_USER_FIELD_NUMBER;
-        hash = (53 * hash) + getClientUser().hashCode();
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
       }
-      if (hasDuration()) {
-        hash = (37 * hash) + DURATION_FIELD_NUMBER;
-        hash = (53 * hash) + getDuration();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.S3Protocol.FileChunk parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.FileChunk parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.FileChunk parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.FileChunk parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.FileChunk parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.FileChunk parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.FileChunk parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.FileChunk parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.FileChunk parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.FileChunk parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.FileChunk prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.jjemson.s3.FileChunk}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.FileChunk)
+        com.jjemson.s3.S3Protocol.FileChunkOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_FileChunk_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_FileChunk_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.S3Protocol.FileChunk.class, com.jjemson.s3.S3Protocol.FileChunk.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.S3Protocol.FileChunk.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        sequence_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        data_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_FileChunk_descriptor;
+      }
+
+      public com.jjemson.s3.S3Protocol.FileChunk getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.FileChunk.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.S3Protocol.FileChunk build() {
+        com.jjemson.s3.S3Protocol.FileChunk result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.S3Protocol.FileChunk buildPartial() {
+        com.jjemson.s3.S3Protocol.FileChunk result = new com.jjemson.s3.S3Protocol.FileChunk(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sequence_ = sequence_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.data_ = data_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.S3Protocol.FileChunk) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.FileChunk)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.FileChunk other) {
+        if (other == com.jjemson.s3.S3Protocol.FileChunk.getDefaultInstance()) return this;
+        if (other.hasSequence()) {
+          setSequence(other.getSequence());
+        }
+        if (other.hasData()) {
+          setData(other.getData());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSequence()) {
+          return false;
+        }
+        if (!hasData()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.S3Protocol.FileChunk parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.S3Protocol.FileChunk) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int sequence_ ;
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public boolean hasSequence() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public int getSequence() {
+        return sequence_;
+      }
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public Builder setSequence(int value) {
+        bitField0_ |= 0x00000001;
+        sequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 sequence = 1;</code>
+       */
+      public Builder clearSequence() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sequence_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes data = 2;</code>
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bytes data = 2;</code>
+       */
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>required bytes data = 2;</code>
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.FileChunk)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.FileChunk)
+    private static final com.jjemson.s3.S3Protocol.FileChunk DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.FileChunk();
+    }
+
+    public static com.jjemson.s3.S3Protocol.FileChunk getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<FileChunk>
+        PARSER = new com.google.protobuf.AbstractParser<FileChunk>() {
+      public FileChunk parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new FileChunk(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<FileChunk> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FileChunk> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.S3Protocol.FileChunk getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+    public static final int CHUNK_FIELD_NUMBER = 1013;
+    /**
+     * <code>extend .com.jjemson.s3.S3Message { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        com.jjemson.s3.S3Protocol.S3Message,
+        com.jjemson.s3.S3Protocol.FileChunk> chunk = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          com.jjemson.s3.S3Protocol.FileChunk.getDefaultInstance(),
+          0,
+          com.jjemson.s3.S3Protocol.FileChunk.class,
+          com.jjemson.s3.S3Protocol.FileChunk.getDefaultInstance());
+  }
+
+  public interface TransferEndOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.TransferEnd)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 chunk_count = 1;</code>
+     */
+    boolean hasChunkCount();
+    /**
+     * <code>required int32 chunk_count = 1;</code>
+     */
+    int getChunkCount();
+
+    /**
+     * <code>optional bool success = 2 [default = true];</code>
+     */
+    boolean hasSuccess();
+    /**
+     * <code>optional bool success = 2 [default = true];</code>
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>optional string reason = 3;</code>
+     */
+    boolean hasReason();
+    /**
+     * <code>optional string reason = 3;</code>
+     */
+    java.lang.String getReason();
+    /**
+     * <code>optional string reason = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getReasonBytes();
+  }
+  /**
+   * Protobuf type {@code com.jjemson.s3.TransferEnd}
+   */
+  public  static final class TransferEnd extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.TransferEnd)
+      TransferEndOrBuilder {
+    // Use TransferEnd.newBuilder() to construct.
+    private TransferEnd(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TransferEnd() {
+      chunkCount_ = 0;
+      success_ = true;
+      reason_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TransferEnd(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              chunkCount_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              success_ = input.readBool();
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              reason_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_TransferEnd_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_TransferEnd_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.S3Protocol.TransferEnd.class, com.jjemson.s3.S3Protocol.TransferEnd.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CHUNK_COUNT_FIELD_NUMBER = 1;
+    private int chunkCount_;
+    /**
+     * <code>required int32 chunk_count = 1;</code>
+     */
+    public boolean hasChunkCount() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int32 chunk_count = 1;</code>
+     */
+    public int getChunkCount() {
+      return chunkCount_;
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 2;
+    private boolean success_;
+    /**
+     * <code>optional bool success = 2 [default = true];</code>
+     */
+    public boolean hasSuccess() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bool success = 2 [default = true];</code>
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int REASON_FIELD_NUMBER = 3;
+    private volatile java.lang.Object reason_;
+    /**
+     * <code>optional string reason = 3;</code>
+     */
+    public boolean hasReason() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string reason = 3;</code>
+     */
+    public java.lang.String getReason() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          reason_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string reason = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getReasonBytes() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        reason_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasChunkCount()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, chunkCount_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, success_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, reason_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, chunkCount_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, success_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, reason_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.TransferEnd)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.S3Protocol.TransferEnd other = (com.jjemson.s3.S3Protocol.TransferEnd) obj;
+
+      boolean result = true;
+      result = result && (hasChunkCount() == other.hasChunkCount());
+      if (hasChunkCount()) {
+        result = result && (getChunkCount()
+            == other.getChunkCount());
+      }
+      result = result && (hasSuccess() == other.hasSuccess());
+      if (hasSuccess()) {
+        result = result && (getSuccess()
+            == other.getSuccess());
+      }
+      result = result && (hasReason() == other.hasReason());
+      if (hasReason()) {
+        result = result && getReason()
+            .equals(other.getReason());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasChunkCount()) {
+        hash = (37 * hash) + CHUNK_COUNT_FIELD_NUMBER;
+        hash = (53 * hash) + getChunkCount();
+      }
+      if (hasSuccess()) {
+        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSuccess());
+      }
+      if (hasReason()) {
+        hash = (37 * hash) + REASON_FIELD_NUMBER;
+        hash = (53 * hash) + getReason().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.S3Protocol.TransferEnd parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.TransferEnd parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.TransferEnd parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.TransferEnd parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.TransferEnd parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.TransferEnd parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.TransferEnd parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.TransferEnd parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.TransferEnd parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.TransferEnd parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.TransferEnd prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.jjemson.s3.TransferEnd}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.TransferEnd)
+        com.jjemson.s3.S3Protocol.TransferEndOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_TransferEnd_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_TransferEnd_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.S3Protocol.TransferEnd.class, com.jjemson.s3.S3Protocol.TransferEnd.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.S3Protocol.TransferEnd.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        chunkCount_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        success_ = true;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        reason_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_TransferEnd_descriptor;
+      }
+
+      public com.jjemson.s3.S3Protocol.TransferEnd getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.TransferEnd.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.S3Protocol.TransferEnd build() {
+        com.jjemson.s3.S3Protocol.TransferEnd result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.S3Protocol.TransferEnd buildPartial() {
+        com.jjemson.s3.S3Protocol.TransferEnd result = new com.jjemson.s3.S3Protocol.TransferEnd(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.chunkCount_ = chunkCount_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.success_ = success_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.reason_ = reason_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.S3Protocol.TransferEnd) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.TransferEnd)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.TransferEnd other) {
+        if (other == com.jjemson.s3.S3Protocol.TransferEnd.getDefaultInstance()) return this;
+        if (other.hasChunkCount()) {
+          setChunkCount(other.getChunkCount());
+        }
+        if (other.hasSuccess()) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.hasReason()) {
+          bitField0_ |= 0x00000004;
+          reason_ = other.reason_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasChunkCount()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.S3Protocol.TransferEnd parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.S3Protocol.TransferEnd) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int chunkCount_ ;
+      /**
+       * <code>required int32 chunk_count = 1;</code>
+       */
+      public boolean hasChunkCount() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int32 chunk_count = 1;</code>
+       */
+      public int getChunkCount() {
+        return chunkCount_;
+      }
+      /**
+       * <code>required int32 chunk_count = 1;</code>
+       */
+      public Builder setChunkCount(int value) {
+        bitField0_ |= 0x00000001;
+        chunkCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 chunk_count = 1;</code>
+       */
+      public Builder clearChunkCount() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        chunkCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean success_ = true;
+      /**
+       * <code>optional bool success = 2 [default = true];</code>
+       */
+      public boolean hasSuccess() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bool success = 2 [default = true];</code>
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>optional bool success = 2 [default = true];</code>
+       */
+      public Builder setSuccess(boolean value) {
+        bitField0_ |= 0x00000002;
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool success = 2 [default = true];</code>
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        success_ = true;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object reason_ = "";
+      /**
+       * <code>optional string reason = 3;</code>
+       */
+      public boolean hasReason() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string reason = 3;</code>
+       */
+      public java.lang.String getReason() {
+        java.lang.Object ref = reason_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            reason_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string reason = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getReasonBytes() {
+        java.lang.Object ref = reason_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reason_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string reason = 3;</code>
+       */
+      public Builder setReason(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        reason_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reason = 3;</code>
+       */
+      public Builder clearReason() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        reason_ = getDefaultInstance().getReason();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reason = 3;</code>
+       */
+      public Builder setReasonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        reason_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.TransferEnd)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.TransferEnd)
+    private static final com.jjemson.s3.S3Protocol.TransferEnd DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.TransferEnd();
+    }
+
+    public static com.jjemson.s3.S3Protocol.TransferEnd getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<TransferEnd>
+        PARSER = new com.google.protobuf.AbstractParser<TransferEnd>() {
+      public TransferEnd parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new TransferEnd(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TransferEnd> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TransferEnd> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.S3Protocol.TransferEnd getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+    public static final int TRANSFER_END_FIELD_NUMBER = 1014;
+    /**
+     * <code>extend .com.jjemson.s3.S3Message { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        com.jjemson.s3.S3Protocol.S3Message,
+        com.jjemson.s3.S3Protocol.TransferEnd> transferEnd = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          com.jjemson.s3.S3Protocol.TransferEnd.getDefaultInstance(),
+          0,
+          com.jjemson.s3.S3Protocol.TransferEnd.class,
+          com.jjemson.s3.S3Protocol.TransferEnd.getDefaultInstance());
+  }
+
+  public interface CheckinResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.CheckinResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    boolean hasSuccess();
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    boolean hasReason();
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    java.lang.String getReason();
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getReasonBytes();
+  }
+  /**
+   * Protobuf type {@code com.jjemson.s3.CheckinResponse}
+   */
+  public  static final class CheckinResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.CheckinResponse)
+      CheckinResponseOrBuilder {
+    // Use CheckinResponse.newBuilder() to construct.
+    private CheckinResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CheckinResponse() {
+      success_ = false;
+      reason_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CheckinResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              success_ = input.readBool();
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              reason_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.S3Protocol.CheckinResponse.class, com.jjemson.s3.S3Protocol.CheckinResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SUCCESS_FIELD_NUMBER = 1;
+    private boolean success_;
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    public boolean hasSuccess() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int REASON_FIELD_NUMBER = 2;
+    private volatile java.lang.Object reason_;
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    public boolean hasReason() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    public java.lang.String getReason() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          reason_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getReasonBytes() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        reason_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSuccess()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(1, success_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, reason_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, success_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, reason_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.CheckinResponse)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.S3Protocol.CheckinResponse other = (com.jjemson.s3.S3Protocol.CheckinResponse) obj;
+
+      boolean result = true;
+      result = result && (hasSuccess() == other.hasSuccess());
+      if (hasSuccess()) {
+        result = result && (getSuccess()
+            == other.getSuccess());
+      }
+      result = result && (hasReason() == other.hasReason());
+      if (hasReason()) {
+        result = result && getReason()
+            .equals(other.getReason());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasSuccess()) {
+        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSuccess());
+      }
+      if (hasReason()) {
+        hash = (37 * hash) + REASON_FIELD_NUMBER;
+        hash = (53 * hash) + getReason().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.CheckinResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.jjemson.s3.CheckinResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.CheckinResponse)
+        com.jjemson.s3.S3Protocol.CheckinResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.S3Protocol.CheckinResponse.class, com.jjemson.s3.S3Protocol.CheckinResponse.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.S3Protocol.CheckinResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        success_ = false;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        reason_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinResponse_descriptor;
+      }
+
+      public com.jjemson.s3.S3Protocol.CheckinResponse getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.S3Protocol.CheckinResponse build() {
+        com.jjemson.s3.S3Protocol.CheckinResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.S3Protocol.CheckinResponse buildPartial() {
+        com.jjemson.s3.S3Protocol.CheckinResponse result = new com.jjemson.s3.S3Protocol.CheckinResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.success_ = success_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.reason_ = reason_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.S3Protocol.CheckinResponse) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.CheckinResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.CheckinResponse other) {
+        if (other == com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance()) return this;
+        if (other.hasSuccess()) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.hasReason()) {
+          bitField0_ |= 0x00000002;
+          reason_ = other.reason_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSuccess()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.S3Protocol.CheckinResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.S3Protocol.CheckinResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean success_ ;
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public boolean hasSuccess() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public Builder setSuccess(boolean value) {
+        bitField0_ |= 0x00000001;
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object reason_ = "";
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public boolean hasReason() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public java.lang.String getReason() {
+        java.lang.Object ref = reason_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            reason_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getReasonBytes() {
+        java.lang.Object ref = reason_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reason_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public Builder setReason(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        reason_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public Builder clearReason() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        reason_ = getDefaultInstance().getReason();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public Builder setReasonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        reason_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.CheckinResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.CheckinResponse)
+    private static final com.jjemson.s3.S3Protocol.CheckinResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.CheckinResponse();
+    }
+
+    public static com.jjemson.s3.S3Protocol.CheckinResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<CheckinResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CheckinResponse>() {
+      public CheckinResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new CheckinResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CheckinResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CheckinResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.S3Protocol.CheckinResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+    public static final int CI_RESPONSE_FIELD_NUMBER = 1002;
+    /**
+     * <code>extend .com.jjemson.s3.S3Message { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        com.jjemson.s3.S3Protocol.S3Message,
+        com.jjemson.s3.S3Protocol.CheckinResponse> ciResponse = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance(),
+          0,
+          com.jjemson.s3.S3Protocol.CheckinResponse.class,
+          com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance());
+  }
+
+  public interface CheckinProbeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.CheckinProbe)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    boolean hasDocumentId();
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    java.lang.String getDocumentId();
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getDocumentIdBytes();
+
+    /**
+     * <code>required .com.jjemson.s3.Security security = 2;</code>
+     */
+    boolean hasSecurity();
+    /**
+     * <code>required .com.jjemson.s3.Security security = 2;</code>
+     */
+    com.jjemson.s3.S3Protocol.Security getSecurity();
+
+    /**
+     * <code>required bytes sha256 = 3;</code>
+     */
+    boolean hasSha256();
+    /**
+     * <code>required bytes sha256 = 3;</code>
+     */
+    com.google.protobuf.ByteString getSha256();
+  }
+  /**
+   * <pre>
+   * Sent before a checkin with the SHA-256 of the client's plaintext.  If the owner's current generation has the
+   * same security and content, the server answers unchanged and the upload is skipped.
+   * </pre>
+   *
+   * Protobuf type {@code com.jjemson.s3.CheckinProbe}
+   */
+  public  static final class CheckinProbe extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.CheckinProbe)
+      CheckinProbeOrBuilder {
+    // Use CheckinProbe.newBuilder() to construct.
+    private CheckinProbe(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CheckinProbe() {
+      documentId_ = "";
+      security_ = 0;
+      sha256_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CheckinProbe(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              documentId_ = bs;
+              break;
+            }
+            case 16: {
+              int rawValue = input.readEnum();
+              com.jjemson.s3.S3Protocol.Security value = com.jjemson.s3.S3Protocol.Security.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(2, rawValue);
+              } else {
+                bitField0_ |= 0x00000002;
+                security_ = rawValue;
+              }
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              sha256_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinProbe_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinProbe_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.S3Protocol.CheckinProbe.class, com.jjemson.s3.S3Protocol.CheckinProbe.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int DOCUMENT_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object documentId_;
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    public boolean hasDocumentId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    public java.lang.String getDocumentId() {
+      java.lang.Object ref = documentId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          documentId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDocumentIdBytes() {
+      java.lang.Object ref = documentId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        documentId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SECURITY_FIELD_NUMBER = 2;
+    private int security_;
+    /**
+     * <code>required .com.jjemson.s3.Security security = 2;</code>
+     */
+    public boolean hasSecurity() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required .com.jjemson.s3.Security security = 2;</code>
+     */
+    public com.jjemson.s3.S3Protocol.Security getSecurity() {
+      com.jjemson.s3.S3Protocol.Security result = com.jjemson.s3.S3Protocol.Security.valueOf(security_);
+      return result == null ? com.jjemson.s3.S3Protocol.Security.NONE : result;
+    }
+
+    public static final int SHA256_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString sha256_;
+    /**
+     * <code>required bytes sha256 = 3;</code>
+     */
+    public boolean hasSha256() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required bytes sha256 = 3;</code>
+     */
+    public com.google.protobuf.ByteString getSha256() {
+      return sha256_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasDocumentId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSecurity()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSha256()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, documentId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeEnum(2, security_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, sha256_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, documentId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, security_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, sha256_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.CheckinProbe)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.S3Protocol.CheckinProbe other = (com.jjemson.s3.S3Protocol.CheckinProbe) obj;
+
+      boolean result = true;
+      result = result && (hasDocumentId() == other.hasDocumentId());
+      if (hasDocumentId()) {
+        result = result && getDocumentId()
+            .equals(other.getDocumentId());
+      }
+      result = result && (hasSecurity() == other.hasSecurity());
+      if (hasSecurity()) {
+        result = result && security_ == other.security_;
+      }
+      result = result && (hasSha256() == other.hasSha256());
+      if (hasSha256()) {
+        result = result && getSha256()
+            .equals(other.getSha256());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasDocumentId()) {
+        hash = (37 * hash) + DOCUMENT_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getDocumentId().hashCode();
+      }
+      if (hasSecurity()) {
+        hash = (37 * hash) + SECURITY_FIELD_NUMBER;
+        hash = (53 * hash) + security_;
+      }
+      if (hasSha256()) {
+        hash = (37 * hash) + SHA256_FIELD_NUMBER;
+        hash = (53 * hash) + getSha256().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.S3Protocol.CheckinProbe parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbe parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbe parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbe parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbe parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbe parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbe parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbe parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbe parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbe parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.CheckinProbe prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Sent before a checkin with the SHA-256 of the client's plaintext.  If the owner's current generation has the
+     * same security and content, the server answers unchanged and the upload is skipped.
+     * </pre>
+     *
+     * Protobuf type {@code com.jjemson.s3.CheckinProbe}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.CheckinProbe)
+        com.jjemson.s3.S3Protocol.CheckinProbeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinProbe_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinProbe_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.S3Protocol.CheckinProbe.class, com.jjemson.s3.S3Protocol.CheckinProbe.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.S3Protocol.CheckinProbe.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        documentId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        security_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sha256_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinProbe_descriptor;
+      }
+
+      public com.jjemson.s3.S3Protocol.CheckinProbe getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.CheckinProbe.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.S3Protocol.CheckinProbe build() {
+        com.jjemson.s3.S3Protocol.CheckinProbe result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.S3Protocol.CheckinProbe buildPartial() {
+        com.jjemson.s3.S3Protocol.CheckinProbe result = new com.jjemson.s3.S3Protocol.CheckinProbe(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.documentId_ = documentId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.security_ = security_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.sha256_ = sha256_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.S3Protocol.CheckinProbe) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.CheckinProbe)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.CheckinProbe other) {
+        if (other == com.jjemson.s3.S3Protocol.CheckinProbe.getDefaultInstance()) return this;
+        if (other.hasDocumentId()) {
+          bitField0_ |= 0x00000001;
+          documentId_ = other.documentId_;
+          onChanged();
+        }
+        if (other.hasSecurity()) {
+          setSecurity(other.getSecurity());
+        }
+        if (other.hasSha256()) {
+          setSha256(other.getSha256());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasDocumentId()) {
+          return false;
+        }
+        if (!hasSecurity()) {
+          return false;
+        }
+        if (!hasSha256()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.S3Protocol.CheckinProbe parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.S3Protocol.CheckinProbe) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object documentId_ = "";
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public boolean hasDocumentId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public java.lang.String getDocumentId() {
+        java.lang.Object ref = documentId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            documentId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDocumentIdBytes() {
+        java.lang.Object ref = documentId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          documentId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public Builder setDocumentId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        documentId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public Builder clearDocumentId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        documentId_ = getDefaultInstance().getDocumentId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public Builder setDocumentIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        documentId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int security_ = 0;
+      /**
+       * <code>required .com.jjemson.s3.Security security = 2;</code>
+       */
+      public boolean hasSecurity() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required .com.jjemson.s3.Security security = 2;</code>
+       */
+      public com.jjemson.s3.S3Protocol.Security getSecurity() {
+        com.jjemson.s3.S3Protocol.Security result = com.jjemson.s3.S3Protocol.Security.valueOf(security_);
+        return result == null ? com.jjemson.s3.S3Protocol.Security.NONE : result;
+      }
+      /**
+       * <code>required .com.jjemson.s3.Security security = 2;</code>
+       */
+      public Builder setSecurity(com.jjemson.s3.S3Protocol.Security value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        security_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .com.jjemson.s3.Security security = 2;</code>
+       */
+      public Builder clearSecurity() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        security_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString sha256_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes sha256 = 3;</code>
+       */
+      public boolean hasSha256() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required bytes sha256 = 3;</code>
+       */
+      public com.google.protobuf.ByteString getSha256() {
+        return sha256_;
+      }
+      /**
+       * <code>required bytes sha256 = 3;</code>
+       */
+      public Builder setSha256(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        sha256_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes sha256 = 3;</code>
+       */
+      public Builder clearSha256() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        sha256_ = getDefaultInstance().getSha256();
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.CheckinProbe)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.CheckinProbe)
+    private static final com.jjemson.s3.S3Protocol.CheckinProbe DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.CheckinProbe();
+    }
+
+    public static com.jjemson.s3.S3Protocol.CheckinProbe getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<CheckinProbe>
+        PARSER = new com.google.protobuf.AbstractParser<CheckinProbe>() {
+      public CheckinProbe parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new CheckinProbe(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CheckinProbe> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CheckinProbe> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.S3Protocol.CheckinProbe getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+    public static final int CI_PROBE_FIELD_NUMBER = 1015;
+    /**
+     * <code>extend .com.jjemson.s3.S3Message { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        com.jjemson.s3.S3Protocol.S3Message,
+        com.jjemson.s3.S3Protocol.CheckinProbe> ciProbe = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          com.jjemson.s3.S3Protocol.CheckinProbe.getDefaultInstance(),
+          0,
+          com.jjemson.s3.S3Protocol.CheckinProbe.class,
+          com.jjemson.s3.S3Protocol.CheckinProbe.getDefaultInstance());
+  }
+
+  public interface CheckinProbeResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.CheckinProbeResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required bool unchanged = 1;</code>
+     */
+    boolean hasUnchanged();
+    /**
+     * <code>required bool unchanged = 1;</code>
+     */
+    boolean getUnchanged();
+  }
+  /**
+   * Protobuf type {@code com.jjemson.s3.CheckinProbeResponse}
+   */
+  public  static final class CheckinProbeResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.CheckinProbeResponse)
+      CheckinProbeResponseOrBuilder {
+    // Use CheckinProbeResponse.newBuilder() to construct.
+    private CheckinProbeResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CheckinProbeResponse() {
+      unchanged_ = false;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CheckinProbeResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              unchanged_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinProbeResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinProbeResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.S3Protocol.CheckinProbeResponse.class, com.jjemson.s3.S3Protocol.CheckinProbeResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int UNCHANGED_FIELD_NUMBER = 1;
+    private boolean unchanged_;
+    /**
+     * <code>required bool unchanged = 1;</code>
+     */
+    public boolean hasUnchanged() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required bool unchanged = 1;</code>
+     */
+    public boolean getUnchanged() {
+      return unchanged_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasUnchanged()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(1, unchanged_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, unchanged_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.CheckinProbeResponse)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.S3Protocol.CheckinProbeResponse other = (com.jjemson.s3.S3Protocol.CheckinProbeResponse) obj;
+
+      boolean result = true;
+      result = result && (hasUnchanged() == other.hasUnchanged());
+      if (hasUnchanged()) {
+        result = result && (getUnchanged()
+            == other.getUnchanged());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasUnchanged()) {
+        hash = (37 * hash) + UNCHANGED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getUnchanged());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.S3Protocol.CheckinProbeResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbeResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbeResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbeResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbeResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbeResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbeResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbeResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbeResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.CheckinProbeResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.CheckinProbeResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.jjemson.s3.CheckinProbeResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.CheckinProbeResponse)
+        com.jjemson.s3.S3Protocol.CheckinProbeResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinProbeResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinProbeResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.S3Protocol.CheckinProbeResponse.class, com.jjemson.s3.S3Protocol.CheckinProbeResponse.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.S3Protocol.CheckinProbeResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        unchanged_ = false;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_CheckinProbeResponse_descriptor;
+      }
+
+      public com.jjemson.s3.S3Protocol.CheckinProbeResponse getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.CheckinProbeResponse.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.S3Protocol.CheckinProbeResponse build() {
+        com.jjemson.s3.S3Protocol.CheckinProbeResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.S3Protocol.CheckinProbeResponse buildPartial() {
+        com.jjemson.s3.S3Protocol.CheckinProbeResponse result = new com.jjemson.s3.S3Protocol.CheckinProbeResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.unchanged_ = unchanged_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.S3Protocol.CheckinProbeResponse) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.CheckinProbeResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.CheckinProbeResponse other) {
+        if (other == com.jjemson.s3.S3Protocol.CheckinProbeResponse.getDefaultInstance()) return this;
+        if (other.hasUnchanged()) {
+          setUnchanged(other.getUnchanged());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasUnchanged()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.S3Protocol.CheckinProbeResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.S3Protocol.CheckinProbeResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean unchanged_ ;
+      /**
+       * <code>required bool unchanged = 1;</code>
+       */
+      public boolean hasUnchanged() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required bool unchanged = 1;</code>
+       */
+      public boolean getUnchanged() {
+        return unchanged_;
+      }
+      /**
+       * <code>required bool unchanged = 1;</code>
+       */
+      public Builder setUnchanged(boolean value) {
+        bitField0_ |= 0x00000001;
+        unchanged_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool unchanged = 1;</code>
+       */
+      public Builder clearUnchanged() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        unchanged_ = false;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.CheckinProbeResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.CheckinProbeResponse)
+    private static final com.jjemson.s3.S3Protocol.CheckinProbeResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.CheckinProbeResponse();
+    }
+
+    public static com.jjemson.s3.S3Protocol.CheckinProbeResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<CheckinProbeResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CheckinProbeResponse>() {
+      public CheckinProbeResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new CheckinProbeResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CheckinProbeResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CheckinProbeResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.S3Protocol.CheckinProbeResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+    public static final int CI_PROBE_RESPONSE_FIELD_NUMBER = 1016;
+    /**
+     * <code>extend .com.jjemson.s3.S3Message { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        com.jjemson.s3.S3Protocol.S3Message,
+        com.jjemson.s3.S3Protocol.CheckinProbeResponse> ciProbeResponse = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          com.jjemson.s3.S3Protocol.CheckinProbeResponse.getDefaultInstance(),
+          0,
+          com.jjemson.s3.S3Protocol.CheckinProbeResponse.class,
+          com.jjemson.s3.S3Protocol.CheckinProbeResponse.getDefaultInstance());
+  }
+
+  public interface DelegationRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.DelegationRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    boolean hasDocumentId();
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    java.lang.String getDocumentId();
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getDocumentIdBytes();
+
+    /**
+     * <code>required string client_user = 2;</code>
+     */
+    boolean hasClientUser();
+    /**
+     * <code>required string client_user = 2;</code>
+     */
+    java.lang.String getClientUser();
+    /**
+     * <code>required string client_user = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getClientUserBytes();
+
+    /**
+     * <code>required int32 duration = 3;</code>
+     */
+    boolean hasDuration();
+    /**
+     * <code>required int32 duration = 3;</code>
+     */
+    int getDuration();
+
+    /**
+     * <code>required bool propagate = 4;</code>
+     */
+    boolean hasPropagate();
+    /**
+     * <code>required bool propagate = 4;</code>
+     */
+    boolean getPropagate();
+
+    /**
+     * <code>optional string document_owner = 5;</code>
+     */
+    boolean hasDocumentOwner();
+    /**
+     * <code>optional string document_owner = 5;</code>
+     */
+    java.lang.String getDocumentOwner();
+    /**
+     * <code>optional string document_owner = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getDocumentOwnerBytes();
+  }
+  /**
+   * Protobuf type {@code com.jjemson.s3.DelegationRequest}
+   */
+  public  static final class DelegationRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.DelegationRequest)
+      DelegationRequestOrBuilder {
+    // Use DelegationRequest.newBuilder() to construct.
+    private DelegationRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DelegationRequest() {
+      documentId_ = "";
+      clientUser_ = "";
+      duration_ = 0;
+      propagate_ = false;
+      documentOwner_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DelegationRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              documentId_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              clientUser_ = bs;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              duration_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              propagate_ = input.readBool();
+              break;
+            }
+            case 42: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              documentOwner_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.S3Protocol.DelegationRequest.class, com.jjemson.s3.S3Protocol.DelegationRequest.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int DOCUMENT_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object documentId_;
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    public boolean hasDocumentId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    public java.lang.String getDocumentId() {
+      java.lang.Object ref = documentId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          documentId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDocumentIdBytes() {
+      java.lang.Object ref = documentId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        documentId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CLIENT_USER_FIELD_NUMBER = 2;
+    private volatile java.lang.Object clientUser_;
+    /**
+     * <code>required string client_user = 2;</code>
+     */
+    public boolean hasClientUser() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string client_user = 2;</code>
+     */
+    public java.lang.String getClientUser() {
+      java.lang.Object ref = clientUser_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          clientUser_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string client_user = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getClientUserBytes() {
+      java.lang.Object ref = clientUser_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        clientUser_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DURATION_FIELD_NUMBER = 3;
+    private int duration_;
+    /**
+     * <code>required int32 duration = 3;</code>
+     */
+    public boolean hasDuration() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required int32 duration = 3;</code>
+     */
+    public int getDuration() {
+      return duration_;
+    }
+
+    public static final int PROPAGATE_FIELD_NUMBER = 4;
+    private boolean propagate_;
+    /**
+     * <code>required bool propagate = 4;</code>
+     */
+    public boolean hasPropagate() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required bool propagate = 4;</code>
+     */
+    public boolean getPropagate() {
+      return propagate_;
+    }
+
+    public static final int DOCUMENT_OWNER_FIELD_NUMBER = 5;
+    private volatile java.lang.Object documentOwner_;
+    /**
+     * <code>optional string document_owner = 5;</code>
+     */
+    public boolean hasDocumentOwner() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string document_owner = 5;</code>
+     */
+    public java.lang.String getDocumentOwner() {
+      java.lang.Object ref = documentOwner_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          documentOwner_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string document_owner = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDocumentOwnerBytes() {
+      java.lang.Object ref = documentOwner_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        documentOwner_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasDocumentId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasClientUser()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasDuration()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPropagate()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, documentId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, clientUser_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, duration_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBool(4, propagate_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, documentOwner_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, documentId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, clientUser_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, duration_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, propagate_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, documentOwner_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.DelegationRequest)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.S3Protocol.DelegationRequest other = (com.jjemson.s3.S3Protocol.DelegationRequest) obj;
+
+      boolean result = true;
+      result = result && (hasDocumentId() == other.hasDocumentId());
+      if (hasDocumentId()) {
+        result = result && getDocumentId()
+            .equals(other.getDocumentId());
+      }
+      result = result && (hasClientUser() == other.hasClientUser());
+      if (hasClientUser()) {
+        result = result && getClientUser()
+            .equals(other.getClientUser());
+      }
+      result = result && (hasDuration() == other.hasDuration());
+      if (hasDuration()) {
+        result = result && (getDuration()
+            == other.getDuration());
+      }
+      result = result && (hasPropagate() == other.hasPropagate());
+      if (hasPropagate()) {
+        result = result && (getPropagate()
+            == other.getPropagate());
+      }
+      result = result && (hasDocumentOwner() == other.hasDocumentOwner());
+      if (hasDocumentOwner()) {
+        result = result && getDocumentOwner()
+            .equals(other.getDocumentOwner());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasDocumentId()) {
+        hash = (37 * hash) + DOCUMENT_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getDocumentId().hashCode();
+      }
+      if (hasClientUser()) {
+        hash = (37 * hash) + CLIENT_USER_FIELD_NUMBER;
+        hash = (53 * hash) + getClientUser().hashCode();
+      }
+      if (hasDuration()) {
+        hash = (37 * hash) + DURATION_FIELD_NUMBER;
+        hash = (53 * hash) + getDuration();
+      }
+      if (hasPropagate()) {
+        hash = (37 * hash) + PROPAGATE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getPropagate());
+      }
+      if (hasDocumentOwner()) {
+        hash = (37 * hash) + DOCUMENT_OWNER_FIELD_NUMBER;
+        hash = (53 * hash) + getDocumentOwner().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.DelegationRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.jjemson.s3.DelegationRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.DelegationRequest)
+        com.jjemson.s3.S3Protocol.DelegationRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.S3Protocol.DelegationRequest.class, com.jjemson.s3.S3Protocol.DelegationRequest.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.S3Protocol.DelegationRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        documentId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        clientUser_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        duration_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        propagate_ = false;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        documentOwner_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationRequest_descriptor;
+      }
+
+      public com.jjemson.s3.S3Protocol.DelegationRequest getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.DelegationRequest.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.S3Protocol.DelegationRequest build() {
+        com.jjemson.s3.S3Protocol.DelegationRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.S3Protocol.DelegationRequest buildPartial() {
+        com.jjemson.s3.S3Protocol.DelegationRequest result = new com.jjemson.s3.S3Protocol.DelegationRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.documentId_ = documentId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.clientUser_ = clientUser_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.duration_ = duration_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.propagate_ = propagate_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.documentOwner_ = documentOwner_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.S3Protocol.DelegationRequest) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.DelegationRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.DelegationRequest other) {
+        if (other == com.jjemson.s3.S3Protocol.DelegationRequest.getDefaultInstance()) return this;
+        if (other.hasDocumentId()) {
+          bitField0_ |= 0x00000001;
+          documentId_ = other.documentId_;
+          onChanged();
+        }
+        if (other.hasClientUser()) {
+          bitField0_ |= 0x00000002;
+          clientUser_ = other.clientUser_;
+          onChanged();
+        }
+        if (other.hasDuration()) {
+          setDuration(other.getDuration());
+        }
+        if (other.hasPropagate()) {
+          setPropagate(other.getPropagate());
+        }
+        if (other.hasDocumentOwner()) {
+          bitField0_ |= 0x00000010;
+          documentOwner_ = other.documentOwner_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasDocumentId()) {
+          return false;
+        }
+        if (!hasClientUser()) {
+          return false;
+        }
+        if (!hasDuration()) {
+          return false;
+        }
+        if (!hasPropagate()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.S3Protocol.DelegationRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.S3Protocol.DelegationRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object documentId_ = "";
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public boolean hasDocumentId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public java.lang.String getDocumentId() {
+        java.lang.Object ref = documentId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            documentId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDocumentIdBytes() {
+        java.lang.Object ref = documentId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          documentId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public Builder setDocumentId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        documentId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public Builder clearDocumentId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        documentId_ = getDefaultInstance().getDocumentId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public Builder setDocumentIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        documentId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object clientUser_ = "";
+      /**
+       * <code>required string client_user = 2;</code>
+       */
+      public boolean hasClientUser() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string client_user = 2;</code>
+       */
+      public java.lang.String getClientUser() {
+        java.lang.Object ref = clientUser_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            clientUser_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string client_user = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getClientUserBytes() {
+        java.lang.Object ref = clientUser_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          clientUser_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string client_user = 2;</code>
+       */
+      public Builder setClientUser(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        clientUser_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string client_user = 2;</code>
+       */
+      public Builder clearClientUser() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        clientUser_ = getDefaultInstance().getClientUser();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string client_user = 2;</code>
+       */
+      public Builder setClientUserBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        clientUser_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int duration_ ;
+      /**
+       * <code>required int32 duration = 3;</code>
+       */
+      public boolean hasDuration() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required int32 duration = 3;</code>
+       */
+      public int getDuration() {
+        return duration_;
+      }
+      /**
+       * <code>required int32 duration = 3;</code>
+       */
+      public Builder setDuration(int value) {
+        bitField0_ |= 0x00000004;
+        duration_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 duration = 3;</code>
+       */
+      public Builder clearDuration() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        duration_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean propagate_ ;
+      /**
+       * <code>required bool propagate = 4;</code>
+       */
+      public boolean hasPropagate() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required bool propagate = 4;</code>
+       */
+      public boolean getPropagate() {
+        return propagate_;
+      }
+      /**
+       * <code>required bool propagate = 4;</code>
+       */
+      public Builder setPropagate(boolean value) {
+        bitField0_ |= 0x00000008;
+        propagate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool propagate = 4;</code>
+       */
+      public Builder clearPropagate() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        propagate_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object documentOwner_ = "";
+      /**
+       * <code>optional string document_owner = 5;</code>
+       */
+      public boolean hasDocumentOwner() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string document_owner = 5;</code>
+       */
+      public java.lang.String getDocumentOwner() {
+        java.lang.Object ref = documentOwner_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            documentOwner_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string document_owner = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDocumentOwnerBytes() {
+        java.lang.Object ref = documentOwner_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          documentOwner_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string document_owner = 5;</code>
+       */
+      public Builder setDocumentOwner(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        documentOwner_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string document_owner = 5;</code>
+       */
+      public Builder clearDocumentOwner() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        documentOwner_ = getDefaultInstance().getDocumentOwner();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string document_owner = 5;</code>
+       */
+      public Builder setDocumentOwnerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        documentOwner_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.DelegationRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.DelegationRequest)
+    private static final com.jjemson.s3.S3Protocol.DelegationRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.DelegationRequest();
+    }
+
+    public static com.jjemson.s3.S3Protocol.DelegationRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<DelegationRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DelegationRequest>() {
+      public DelegationRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new DelegationRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DelegationRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DelegationRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.S3Protocol.DelegationRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+    public static final int D_REQUEST_FIELD_NUMBER = 1007;
+    /**
+     * <code>extend .com.jjemson.s3.S3Message { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        com.jjemson.s3.S3Protocol.S3Message,
+        com.jjemson.s3.S3Protocol.DelegationRequest> dRequest = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          com.jjemson.s3.S3Protocol.DelegationRequest.getDefaultInstance(),
+          0,
+          com.jjemson.s3.S3Protocol.DelegationRequest.class,
+          com.jjemson.s3.S3Protocol.DelegationRequest.getDefaultInstance());
+  }
+
+  public interface DelegationResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.DelegationResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    boolean hasSuccess();
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    boolean hasReason();
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    java.lang.String getReason();
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getReasonBytes();
+  }
+  /**
+   * Protobuf type {@code com.jjemson.s3.DelegationResponse}
+   */
+  public  static final class DelegationResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.DelegationResponse)
+      DelegationResponseOrBuilder {
+    // Use DelegationResponse.newBuilder() to construct.
+    private DelegationResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DelegationResponse() {
+      success_ = false;
+      reason_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DelegationResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              success_ = input.readBool();
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              reason_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.S3Protocol.DelegationResponse.class, com.jjemson.s3.S3Protocol.DelegationResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SUCCESS_FIELD_NUMBER = 1;
+    private boolean success_;
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    public boolean hasSuccess() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int REASON_FIELD_NUMBER = 2;
+    private volatile java.lang.Object reason_;
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    public boolean hasReason() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    public java.lang.String getReason() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          reason_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getReasonBytes() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        reason_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSuccess()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(1, success_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, reason_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, success_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, reason_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.DelegationResponse)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.S3Protocol.DelegationResponse other = (com.jjemson.s3.S3Protocol.DelegationResponse) obj;
+
+      boolean result = true;
+      result = result && (hasSuccess() == other.hasSuccess());
+      if (hasSuccess()) {
+        result = result && (getSuccess()
+            == other.getSuccess());
+      }
+      result = result && (hasReason() == other.hasReason());
+      if (hasReason()) {
+        result = result && getReason()
+            .equals(other.getReason());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasSuccess()) {
+        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSuccess());
+      }
+      if (hasReason()) {
+        hash = (37 * hash) + REASON_FIELD_NUMBER;
+        hash = (53 * hash) + getReason().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.S3Protocol.DelegationResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DelegationResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.DelegationResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.jjemson.s3.DelegationResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.DelegationResponse)
+        com.jjemson.s3.S3Protocol.DelegationResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.S3Protocol.DelegationResponse.class, com.jjemson.s3.S3Protocol.DelegationResponse.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.S3Protocol.DelegationResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        success_ = false;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        reason_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationResponse_descriptor;
+      }
+
+      public com.jjemson.s3.S3Protocol.DelegationResponse getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.DelegationResponse.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.S3Protocol.DelegationResponse build() {
+        com.jjemson.s3.S3Protocol.DelegationResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.S3Protocol.DelegationResponse buildPartial() {
+        com.jjemson.s3.S3Protocol.DelegationResponse result = new com.jjemson.s3.S3Protocol.DelegationResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.success_ = success_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.reason_ = reason_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.S3Protocol.DelegationResponse) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.DelegationResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.DelegationResponse other) {
+        if (other == com.jjemson.s3.S3Protocol.DelegationResponse.getDefaultInstance()) return this;
+        if (other.hasSuccess()) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.hasReason()) {
+          bitField0_ |= 0x00000002;
+          reason_ = other.reason_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSuccess()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.S3Protocol.DelegationResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.S3Protocol.DelegationResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean success_ ;
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public boolean hasSuccess() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public Builder setSuccess(boolean value) {
+        bitField0_ |= 0x00000001;
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object reason_ = "";
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public boolean hasReason() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public java.lang.String getReason() {
+        java.lang.Object ref = reason_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            reason_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getReasonBytes() {
+        java.lang.Object ref = reason_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reason_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public Builder setReason(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        reason_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public Builder clearReason() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        reason_ = getDefaultInstance().getReason();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public Builder setReasonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        reason_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.DelegationResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.DelegationResponse)
+    private static final com.jjemson.s3.S3Protocol.DelegationResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.DelegationResponse();
+    }
+
+    public static com.jjemson.s3.S3Protocol.DelegationResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<DelegationResponse>
+        PARSER = new com.google.protobuf.AbstractParser<DelegationResponse>() {
+      public DelegationResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new DelegationResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DelegationResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DelegationResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.S3Protocol.DelegationResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+    public static final int D_RESPONSE_FIELD_NUMBER = 1008;
+    /**
+     * <code>extend .com.jjemson.s3.S3Message { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        com.jjemson.s3.S3Protocol.S3Message,
+        com.jjemson.s3.S3Protocol.DelegationResponse> dResponse = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          com.jjemson.s3.S3Protocol.DelegationResponse.getDefaultInstance(),
+          0,
+          com.jjemson.s3.S3Protocol.DelegationResponse.class,
+          com.jjemson.s3.S3Protocol.DelegationResponse.getDefaultInstance());
+  }
+
+  public interface DeleteRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.DeleteRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    boolean hasDocumentId();
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    java.lang.String getDocumentId();
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getDocumentIdBytes();
+
+    /**
+     * <code>optional string document_owner = 2;</code>
+     */
+    boolean hasDocumentOwner();
+    /**
+     * <code>optional string document_owner = 2;</code>
+     */
+    java.lang.String getDocumentOwner();
+    /**
+     * <code>optional string document_owner = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getDocumentOwnerBytes();
+  }
+  /**
+   * Protobuf type {@code com.jjemson.s3.DeleteRequest}
+   */
+  public  static final class DeleteRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.DeleteRequest)
+      DeleteRequestOrBuilder {
+    // Use DeleteRequest.newBuilder() to construct.
+    private DeleteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteRequest() {
+      documentId_ = "";
+      documentOwner_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DeleteRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              documentId_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              documentOwner_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.S3Protocol.DeleteRequest.class, com.jjemson.s3.S3Protocol.DeleteRequest.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int DOCUMENT_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object documentId_;
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    public boolean hasDocumentId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    public java.lang.String getDocumentId() {
+      java.lang.Object ref = documentId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          documentId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string document_id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDocumentIdBytes() {
+      java.lang.Object ref = documentId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        documentId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DOCUMENT_OWNER_FIELD_NUMBER = 2;
+    private volatile java.lang.Object documentOwner_;
+    /**
+     * <code>optional string document_owner = 2;</code>
+     */
+    public boolean hasDocumentOwner() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string document_owner = 2;</code>
+     */
+    public java.lang.String getDocumentOwner() {
+      java.lang.Object ref = documentOwner_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          documentOwner_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string document_owner = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDocumentOwnerBytes() {
+      java.lang.Object ref = documentOwner_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        documentOwner_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasDocumentId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, documentId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, documentOwner_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, documentId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, documentOwner_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.DeleteRequest)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.S3Protocol.DeleteRequest other = (com.jjemson.s3.S3Protocol.DeleteRequest) obj;
+
+      boolean result = true;
+      result = result && (hasDocumentId() == other.hasDocumentId());
+      if (hasDocumentId()) {
+        result = result && getDocumentId()
+            .equals(other.getDocumentId());
+      }
+      result = result && (hasDocumentOwner() == other.hasDocumentOwner());
+      if (hasDocumentOwner()) {
+        result = result && getDocumentOwner()
+            .equals(other.getDocumentOwner());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasDocumentId()) {
+        hash = (37 * hash) + DOCUMENT_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getDocumentId().hashCode();
+      }
+      if (hasDocumentOwner()) {
+        hash = (37 * hash) + DOCUMENT_OWNER_FIELD_NUMBER;
+        hash = (53 * hash) + getDocumentOwner().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.DeleteRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.jjemson.s3.DeleteRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.DeleteRequest)
+        com.jjemson.s3.S3Protocol.DeleteRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.S3Protocol.DeleteRequest.class, com.jjemson.s3.S3Protocol.DeleteRequest.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.S3Protocol.DeleteRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        documentId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        documentOwner_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteRequest_descriptor;
+      }
+
+      public com.jjemson.s3.S3Protocol.DeleteRequest getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.DeleteRequest.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.S3Protocol.DeleteRequest build() {
+        com.jjemson.s3.S3Protocol.DeleteRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.S3Protocol.DeleteRequest buildPartial() {
+        com.jjemson.s3.S3Protocol.DeleteRequest result = new com.jjemson.s3.S3Protocol.DeleteRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.documentId_ = documentId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.documentOwner_ = documentOwner_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.S3Protocol.DeleteRequest) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.DeleteRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.DeleteRequest other) {
+        if (other == com.jjemson.s3.S3Protocol.DeleteRequest.getDefaultInstance()) return this;
+        if (other.hasDocumentId()) {
+          bitField0_ |= 0x00000001;
+          documentId_ = other.documentId_;
+          onChanged();
+        }
+        if (other.hasDocumentOwner()) {
+          bitField0_ |= 0x00000002;
+          documentOwner_ = other.documentOwner_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasDocumentId()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.S3Protocol.DeleteRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.S3Protocol.DeleteRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object documentId_ = "";
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public boolean hasDocumentId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public java.lang.String getDocumentId() {
+        java.lang.Object ref = documentId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            documentId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDocumentIdBytes() {
+        java.lang.Object ref = documentId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          documentId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public Builder setDocumentId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        documentId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public Builder clearDocumentId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        documentId_ = getDefaultInstance().getDocumentId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string document_id = 1;</code>
+       */
+      public Builder setDocumentIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        documentId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object documentOwner_ = "";
+      /**
+       * <code>optional string document_owner = 2;</code>
+       */
+      public boolean hasDocumentOwner() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string document_owner = 2;</code>
+       */
+      public java.lang.String getDocumentOwner() {
+        java.lang.Object ref = documentOwner_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            documentOwner_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string document_owner = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDocumentOwnerBytes() {
+        java.lang.Object ref = documentOwner_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          documentOwner_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string document_owner = 2;</code>
+       */
+      public Builder setDocumentOwner(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        documentOwner_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string document_owner = 2;</code>
+       */
+      public Builder clearDocumentOwner() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        documentOwner_ = getDefaultInstance().getDocumentOwner();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string document_owner = 2;</code>
+       */
+      public Builder setDocumentOwnerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        documentOwner_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.DeleteRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.DeleteRequest)
+    private static final com.jjemson.s3.S3Protocol.DeleteRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.DeleteRequest();
+    }
+
+    public static com.jjemson.s3.S3Protocol.DeleteRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<DeleteRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteRequest>() {
+      public DeleteRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new DeleteRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.S3Protocol.DeleteRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+    public static final int DEL_REQUEST_FIELD_NUMBER = 1009;
+    /**
+     * <code>extend .com.jjemson.s3.S3Message { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        com.jjemson.s3.S3Protocol.S3Message,
+        com.jjemson.s3.S3Protocol.DeleteRequest> delRequest = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          com.jjemson.s3.S3Protocol.DeleteRequest.getDefaultInstance(),
+          0,
+          com.jjemson.s3.S3Protocol.DeleteRequest.class,
+          com.jjemson.s3.S3Protocol.DeleteRequest.getDefaultInstance());
+  }
+
+  public interface DeleteResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.DeleteResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    boolean hasSuccess();
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    boolean hasReason();
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    java.lang.String getReason();
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getReasonBytes();
+  }
+  /**
+   * Protobuf type {@code com.jjemson.s3.DeleteResponse}
+   */
+  public  static final class DeleteResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.DeleteResponse)
+      DeleteResponseOrBuilder {
+    // Use DeleteResponse.newBuilder() to construct.
+    private DeleteResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteResponse() {
+      success_ = false;
+      reason_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DeleteResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              success_ = input.readBool();
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              reason_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.S3Protocol.DeleteResponse.class, com.jjemson.s3.S3Protocol.DeleteResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SUCCESS_FIELD_NUMBER = 1;
+    private boolean success_;
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    public boolean hasSuccess() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required bool success = 1;</code>
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int REASON_FIELD_NUMBER = 2;
+    private volatile java.lang.Object reason_;
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    public boolean hasReason() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    public java.lang.String getReason() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          reason_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string reason = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getReasonBytes() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        reason_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSuccess()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(1, success_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, reason_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, success_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, reason_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.DeleteResponse)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.S3Protocol.DeleteResponse other = (com.jjemson.s3.S3Protocol.DeleteResponse) obj;
+
+      boolean result = true;
+      result = result && (hasSuccess() == other.hasSuccess());
+      if (hasSuccess()) {
+        result = result && (getSuccess()
+            == other.getSuccess());
+      }
+      result = result && (hasReason() == other.hasReason());
+      if (hasReason()) {
+        result = result && getReason()
+            .equals(other.getReason());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasSuccess()) {
+        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSuccess());
+      }
+      if (hasReason()) {
+        hash = (37 * hash) + REASON_FIELD_NUMBER;
+        hash = (53 * hash) + getReason().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.DeleteResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.jjemson.s3.DeleteResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.DeleteResponse)
+        com.jjemson.s3.S3Protocol.DeleteResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.S3Protocol.DeleteResponse.class, com.jjemson.s3.S3Protocol.DeleteResponse.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.S3Protocol.DeleteResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        success_ = false;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        reason_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteResponse_descriptor;
+      }
+
+      public com.jjemson.s3.S3Protocol.DeleteResponse getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.S3Protocol.DeleteResponse build() {
+        com.jjemson.s3.S3Protocol.DeleteResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.S3Protocol.DeleteResponse buildPartial() {
+        com.jjemson.s3.S3Protocol.DeleteResponse result = new com.jjemson.s3.S3Protocol.DeleteResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.success_ = success_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.reason_ = reason_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.S3Protocol.DeleteResponse) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.DeleteResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.DeleteResponse other) {
+        if (other == com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance()) return this;
+        if (other.hasSuccess()) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.hasReason()) {
+          bitField0_ |= 0x00000002;
+          reason_ = other.reason_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSuccess()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.S3Protocol.DeleteResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.S3Protocol.DeleteResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean success_ ;
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public boolean hasSuccess() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public Builder setSuccess(boolean value) {
+        bitField0_ |= 0x00000001;
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool success = 1;</code>
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object reason_ = "";
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public boolean hasReason() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public java.lang.String getReason() {
+        java.lang.Object ref = reason_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            reason_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getReasonBytes() {
+        java.lang.Object ref = reason_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reason_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public Builder setReason(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        reason_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public Builder clearReason() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        reason_ = getDefaultInstance().getReason();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       */
+      public Builder setReasonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        reason_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.DeleteResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.DeleteResponse)
+    private static final com.jjemson.s3.S3Protocol.DeleteResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.DeleteResponse();
+    }
+
+    public static com.jjemson.s3.S3Protocol.DeleteResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<DeleteResponse>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteResponse>() {
+      public DeleteResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new DeleteResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.S3Protocol.DeleteResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+    public static final int DEL_RESPONSE_FIELD_NUMBER = 1010;
+    /**
+     * <code>extend .com.jjemson.s3.S3Message { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        com.jjemson.s3.S3Protocol.S3Message,
+        com.jjemson.s3.S3Protocol.DeleteResponse> delResponse = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance(),
+          0,
+          com.jjemson.s3.S3Protocol.DeleteResponse.class,
+          com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance());
+  }
+
+  public interface BatchCheckoutRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.BatchCheckoutRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+     */
+    java.util.List<com.jjemson.s3.S3Protocol.CheckoutRequest> 
+        getItemsList();
+    /**
+     * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+     */
+    com.jjemson.s3.S3Protocol.CheckoutRequest getItems(int index);
+    /**
+     * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+     */
+    int getItemsCount();
+    /**
+     * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+     */
+    java.util.List<? extends com.jjemson.s3.S3Protocol.CheckoutRequestOrBuilder> 
+        getItemsOrBuilderList();
+    /**
+     * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+     */
+    com.jjemson.s3.S3Protocol.CheckoutRequestOrBuilder getItemsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Batches of small documents, sent as one request.  The server handles the items in parallel, except that
+   * items on the same document are handled in the order given, and answers each with a BatchItemResponse as
+   * soon as it is done.  A TransferEnd whose chunk_count is the number of item responses ends the batch.
+   * Checkouts in a batch are never chunked.
+   * </pre>
+   *
+   * Protobuf type {@code com.jjemson.s3.BatchCheckoutRequest}
+   */
+  public  static final class BatchCheckoutRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.BatchCheckoutRequest)
+      BatchCheckoutRequestOrBuilder {
+    // Use BatchCheckoutRequest.newBuilder() to construct.
+    private BatchCheckoutRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchCheckoutRequest() {
+      items_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchCheckoutRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                items_ = new java.util.ArrayList<com.jjemson.s3.S3Protocol.CheckoutRequest>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              items_.add(
+                  input.readMessage(com.jjemson.s3.S3Protocol.CheckoutRequest.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          items_ = java.util.Collections.unmodifiableList(items_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchCheckoutRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchCheckoutRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.S3Protocol.BatchCheckoutRequest.class, com.jjemson.s3.S3Protocol.BatchCheckoutRequest.Builder.class);
+    }
+
+    public static final int ITEMS_FIELD_NUMBER = 1;
+    private java.util.List<com.jjemson.s3.S3Protocol.CheckoutRequest> items_;
+    /**
+     * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+     */
+    public java.util.List<com.jjemson.s3.S3Protocol.CheckoutRequest> getItemsList() {
+      return items_;
+    }
+    /**
+     * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+     */
+    public java.util.List<? extends com.jjemson.s3.S3Protocol.CheckoutRequestOrBuilder> 
+        getItemsOrBuilderList() {
+      return items_;
+    }
+    /**
+     * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+     */
+    public int getItemsCount() {
+      return items_.size();
+    }
+    /**
+     * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+     */
+    public com.jjemson.s3.S3Protocol.CheckoutRequest getItems(int index) {
+      return items_.get(index);
+    }
+    /**
+     * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+     */
+    public com.jjemson.s3.S3Protocol.CheckoutRequestOrBuilder getItemsOrBuilder(
+        int index) {
+      return items_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getItemsCount(); i++) {
+        if (!getItems(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < items_.size(); i++) {
+        output.writeMessage(1, items_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < items_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, items_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.BatchCheckoutRequest)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.S3Protocol.BatchCheckoutRequest other = (com.jjemson.s3.S3Protocol.BatchCheckoutRequest) obj;
+
+      boolean result = true;
+      result = result && getItemsList()
+          .equals(other.getItemsList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (getItemsCount() > 0) {
+        hash = (37 * hash) + ITEMS_FIELD_NUMBER;
+        hash = (53 * hash) + getItemsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.S3Protocol.BatchCheckoutRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.BatchCheckoutRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.BatchCheckoutRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.S3Protocol.BatchCheckoutRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.BatchCheckoutRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.BatchCheckoutRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.BatchCheckoutRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.BatchCheckoutRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.S3Protocol.BatchCheckoutRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.S3Protocol.BatchCheckoutRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.BatchCheckoutRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Batches of small documents, sent as one request.  The server handles the items in parallel, except that
+     * items on the same document are handled in the order given, and answers each with a BatchItemResponse as
+     * soon as it is done.  A TransferEnd whose chunk_count is the number of item responses ends the batch.
+     * Checkouts in a batch are never chunked.
+     * </pre>
+     *
+     * Protobuf type {@code com.jjemson.s3.BatchCheckoutRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.BatchCheckoutRequest)
+        com.jjemson.s3.S3Protocol.BatchCheckoutRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchCheckoutRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchCheckoutRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.S3Protocol.BatchCheckoutRequest.class, com.jjemson.s3.S3Protocol.BatchCheckoutRequest.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.S3Protocol.BatchCheckoutRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getItemsFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (itemsBuilder_ == null) {
+          items_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          itemsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchCheckoutRequest_descriptor;
+      }
+
+      public com.jjemson.s3.S3Protocol.BatchCheckoutRequest getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.BatchCheckoutRequest.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.S3Protocol.BatchCheckoutRequest build() {
+        com.jjemson.s3.S3Protocol.BatchCheckoutRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.S3Protocol.BatchCheckoutRequest buildPartial() {
+        com.jjemson.s3.S3Protocol.BatchCheckoutRequest result = new com.jjemson.s3.S3Protocol.BatchCheckoutRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (itemsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            items_ = java.util.Collections.unmodifiableList(items_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.items_ = items_;
+        } else {
+          result.items_ = itemsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.S3Protocol.BatchCheckoutRequest) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.BatchCheckoutRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.BatchCheckoutRequest other) {
+        if (other == com.jjemson.s3.S3Protocol.BatchCheckoutRequest.getDefaultInstance()) return this;
+        if (itemsBuilder_ == null) {
+          if (!other.items_.isEmpty()) {
+            if (items_.isEmpty()) {
+              items_ = other.items_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureItemsIsMutable();
+              items_.addAll(other.items_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.items_.isEmpty()) {
+            if (itemsBuilder_.isEmpty()) {
+              itemsBuilder_.dispose();
+              itemsBuilder_ = null;
+              items_ = other.items_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              itemsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getItemsFieldBuilder() : null;
+            } else {
+              itemsBuilder_.addAllMessages(other.items_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getItemsCount(); i++) {
+          if (!getItems(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.S3Protocol.BatchCheckoutRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.S3Protocol.BatchCheckoutRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.jjemson.s3.S3Protocol.CheckoutRequest> items_ =
+        java.util.Collections.emptyList();
+      private void ensureItemsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          items_ = new java.util.ArrayList<com.jjemson.s3.S3Protocol.CheckoutRequest>(items_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.CheckoutRequest, com.jjemson.s3.S3Protocol.CheckoutRequest.Builder, com.jjemson.s3.S3Protocol.CheckoutRequestOrBuilder> itemsBuilder_;
+
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public java.util.List<com.jjemson.s3.S3Protocol.CheckoutRequest> getItemsList() {
+        if (itemsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(items_);
+        } else {
+          return itemsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public int getItemsCount() {
+        if (itemsBuilder_ == null) {
+          return items_.size();
+        } else {
+          return itemsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public com.jjemson.s3.S3Protocol.CheckoutRequest getItems(int index) {
+        if (itemsBuilder_ == null) {
+          return items_.get(index);
+        } else {
+          return itemsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public Builder setItems(
+          int index, com.jjemson.s3.S3Protocol.CheckoutRequest value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemsIsMutable();
+          items_.set(index, value);
+          onChanged();
+        } else {
+          itemsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public Builder setItems(
+          int index, com.jjemson.s3.S3Protocol.CheckoutRequest.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          itemsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public Builder addItems(com.jjemson.s3.S3Protocol.CheckoutRequest value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemsIsMutable();
+          items_.add(value);
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public Builder addItems(
+          int index, com.jjemson.s3.S3Protocol.CheckoutRequest value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemsIsMutable();
+          items_.add(index, value);
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public Builder addItems(
+          com.jjemson.s3.S3Protocol.CheckoutRequest.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.add(builderForValue.build());
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public Builder addItems(
+          int index, com.jjemson.s3.S3Protocol.CheckoutRequest.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public Builder addAllItems(
+          java.lang.Iterable<? extends com.jjemson.s3.S3Protocol.CheckoutRequest> values) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, items_);
+          onChanged();
+        } else {
+          itemsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public Builder clearItems() {
+        if (itemsBuilder_ == null) {
+          items_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          itemsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public Builder removeItems(int index) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.remove(index);
+          onChanged();
+        } else {
+          itemsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public com.jjemson.s3.S3Protocol.CheckoutRequest.Builder getItemsBuilder(
+          int index) {
+        return getItemsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public com.jjemson.s3.S3Protocol.CheckoutRequestOrBuilder getItemsOrBuilder(
+          int index) {
+        if (itemsBuilder_ == null) {
+          return items_.get(index);  } else {
+          return itemsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public java.util.List<? extends com.jjemson.s3.S3Protocol.CheckoutRequestOrBuilder> 
+           getItemsOrBuilderList() {
+        if (itemsBuilder_ != null) {
+          return itemsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(items_);
+        }
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public com.jjemson.s3.S3Protocol.CheckoutRequest.Builder addItemsBuilder() {
+        return getItemsFieldBuilder().addBuilder(
+            com.jjemson.s3.S3Protocol.CheckoutRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public com.jjemson.s3.S3Protocol.CheckoutRequest.Builder addItemsBuilder(
+          int index) {
+        return getItemsFieldBuilder().addBuilder(
+            index, com.jjemson.s3.S3Protocol.CheckoutRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.CheckoutRequest items = 1;</code>
+       */
+      public java.util.List<com.jjemson.s3.S3Protocol.CheckoutRequest.Builder> 
+           getItemsBuilderList() {
+        return getItemsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.CheckoutRequest, com.jjemson.s3.S3Protocol.CheckoutRequest.Builder, com.jjemson.s3.S3Protocol.CheckoutRequestOrBuilder> 
+          getItemsFieldBuilder() {
+        if (itemsBuilder_ == null) {
+          itemsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.jjemson.s3.S3Protocol.CheckoutRequest, com.jjemson.s3.S3Protocol.CheckoutRequest.Builder, com.jjemson.s3.S3Protocol.CheckoutRequestOrBuilder>(
+                  items_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          items_ = null;
+        }
+        return itemsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.BatchCheckoutRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.BatchCheckoutRequest)
+    private static final com.jjemson.s3.S3Protocol.BatchCheckoutRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.BatchCheckoutRequest();
+    }
+
+    public static com.jjemson.s3.S3Protocol.BatchCheckoutRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<BatchCheckoutRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchCheckoutRequest>() {
+      public BatchCheckoutRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new BatchCheckoutRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchCheckoutRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchCheckoutRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.S3Protocol.BatchCheckoutRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+    public static final int BATCH_CO_REQUEST_FIELD_NUMBER = 1019;
+    /**
+     * <code>extend .com.jjemson.s3.S3Message { ... }</code>
+     */
+    public static final
+      com.google.protobuf.GeneratedMessage.GeneratedExtension<
+        com.jjemson.s3.S3Protocol.S3Message,
+        com.jjemson.s3.S3Protocol.BatchCheckoutRequest> batchCoRequest = com.google.protobuf.GeneratedMessage
+            .newMessageScopedGeneratedExtension(
+          com.jjemson.s3.S3Protocol.BatchCheckoutRequest.getDefaultInstance(),
+          0,
+          com.jjemson.s3.S3Protocol.BatchCheckoutRequest.class,
+          com.jjemson.s3.S3Protocol.BatchCheckoutRequest.getDefaultInstance());
+  }
+
+  public interface BatchCheckinRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.BatchCheckinRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
+     */
+    java.util.List<com.jjemson.s3.S3Protocol.CheckinRequest> 
+        getItemsList();
+    /**
+     * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
+     */
+    com.jjemson.s3.S3Protocol.CheckinRequest getItems(int index);
+    /**
+     * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
+     */
+    int getItemsCount();
+    /**
+     * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
+     */
+    java.util.List<? extends com.jjemson.s3.S3Protocol.CheckinRequestOrBuilder> 
+        getItemsOrBuilderList();
+    /**
+     * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
+     */
+    com.jjemson.s3.S3Protocol.CheckinRequestOrBuilder getItemsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code com.jjemson.s3.BatchCheckinRequest}
+   */
+  public  static final class BatchCheckinRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.BatchCheckinRequest)
+      BatchCheckinRequestOrBuilder {
+    // Use BatchCheckinRequest.newBuilder() to construct.
+    private BatchCheckinRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchCheckinRequest() {
+      items_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchCheckinRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                items_ = new java.util.ArrayList<com.jjemson.s3.S3Protocol.CheckinRequest>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              items_.add(
+                  input.readMessage(com.jjemson.s3.S3Protocol.CheckinRequest.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          items_ = java.util.Collections.unmodifiableList(items_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchCheckinRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchCheckinRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.S3Protocol.BatchCheckinRequest.class, com.jjemson.s3.S3Protocol.BatchCheckinRequest.Builder.class);
+    }
+
+    public static final int ITEMS_FIELD_NUMBER = 1;
+    private java.util.List<com.jjemson.s3.S3Protocol.CheckinRequest> items_;
+    /**
+     * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
+     */
+    public java.util.List<com.jjemson.s3.S3Protocol.CheckinRequest> getItemsList() {
+      return items_;
+    }
+    /**
+     * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
+     */
+    public java.util.List<? extends com.jjemson.s3.S3Protocol.CheckinRequestOrBuilder> 
+        getItemsOrBuilderList() {
+      return items_;
+    }
+    /**
+     * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
+     */
+    public int getItemsCount() {
+      return items_.size();
+    }
+    /**
+     * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
+     */
+    public com.jjemson.s3.S3Protocol.CheckinRequest getItems(int index) {
+      return items_.get(index);
+    }
+    /**
+     * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
+     */
+    public com.jjemson.s3.S3Protocol.CheckinRequestOrBuilder getItemsOrBuilder(
+        int index) {
+      return items_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getItemsCount(); i++) {
+        if (!getItems(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < items_.size(); i++) {
+        output.writeMessage(1, items_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < items_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, items_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.BatchCheckinRequest)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.S3Protocol.BatchCheckinRequest other = (com.jjemson.s3.S3Protocol.BatchCheckinRequest) obj;
+
+      boolean result = true;
+      result = result && getItemsList()
+          .equals(other.getItemsList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
       }
-      if (hasPropagate()) {
-        hash = (37 * hash) + PROPAGATE_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-            getPropagate());
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (getItemsCount() > 0) {
+        hash = (37 * hash) + ITEMS_FIELD_NUMBER;
+        hash = (53 * hash) + getItemsList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchCheckinRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchCheckinRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(byte[] data)
+    public static com.jjemson.s3.S3Protocol.BatchCheckinRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchCheckinRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(java.io.InputStream input)
+    public static com.jjemson.s3.S3Protocol.BatchCheckinRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchCheckinRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DelegationRequest parseDelimitedFrom(java.io.InputStream input)
+    public static com.jjemson.s3.S3Protocol.BatchCheckinRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.DelegationRequest parseDelimitedFrom(
+    public static com.jjemson.s3.S3Protocol.BatchCheckinRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchCheckinRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.DelegationRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchCheckinRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5240,7 +12836,7 @@ public final class S3Protocol {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.jjemson.s3.S3Protocol.DelegationRequest prototype) {
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.BatchCheckinRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -5255,25 +12851,25 @@ public final class S3Protocol {
       return builder;
     }
     /**
-     * Protobuf type {@code com.jjemson.s3.DelegationRequest}
+     * Protobuf type {@code com.jjemson.s3.BatchCheckinRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.DelegationRequest)
-        com.jjemson.s3.S3Protocol.DelegationRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.BatchCheckinRequest)
+        com.jjemson.s3.S3Protocol.BatchCheckinRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationRequest_descriptor;
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchCheckinRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationRequest_fieldAccessorTable
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchCheckinRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.jjemson.s3.S3Protocol.DelegationRequest.class, com.jjemson.s3.S3Protocol.DelegationRequest.Builder.class);
+                com.jjemson.s3.S3Protocol.BatchCheckinRequest.class, com.jjemson.s3.S3Protocol.BatchCheckinRequest.Builder.class);
       }
 
-      // Construct using com.jjemson.s3.S3Protocol.DelegationRequest.newBuilder()
+      // Construct using com.jjemson.s3.S3Protocol.BatchCheckinRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5286,59 +12882,49 @@ public final class S3Protocol {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getItemsFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        documentId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        clientUser_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
-        duration_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000004);
-        propagate_ = false;
-        bitField0_ = (bitField0_ & ~0x00000008);
+        if (itemsBuilder_ == null) {
+          items_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          itemsBuilder_.clear();
+        }
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DelegationRequest_descriptor;
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchCheckinRequest_descriptor;
       }
 
-      public com.jjemson.s3.S3Protocol.DelegationRequest getDefaultInstanceForType() {
-        return com.jjemson.s3.S3Protocol.DelegationRequest.getDefaultInstance();
+      public com.jjemson.s3.S3Protocol.BatchCheckinRequest getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.BatchCheckinRequest.getDefaultInstance();
       }
 
-      public com.jjemson.s3.S3Protocol.DelegationRequest build() {
-        com.jjemson.s3.S3Protocol.DelegationRequest result = buildPartial();
+      public com.jjemson.s3.S3Protocol.BatchCheckinRequest build() {
+        com.jjemson.s3.S3Protocol.BatchCheckinRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.jjemson.s3.S3Protocol.DelegationRequest buildPartial() {
-        com.jjemson.s3.S3Protocol.DelegationRequest result = new com.jjemson.s3.S3Protocol.DelegationRequest(this);
+      public com.jjemson.s3.S3Protocol.BatchCheckinRequest buildPartial() {
+        com.jjemson.s3.S3Protocol.BatchCheckinRequest result = new com.jjemson.s3.S3Protocol.BatchCheckinRequest(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.documentId_ = documentId_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.clientUser_ = clientUser_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.duration_ = duration_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
+        if (itemsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            items_ = java.util.Collections.unmodifiableList(items_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.items_ = items_;
+        } else {
+          result.items_ = itemsBuilder_.build();
         }
-        result.propagate_ = propagate_;
-        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -5370,31 +12956,41 @@ public final class S3Protocol {
         return (Builder) super.addRepeatedField(field, value);
       }
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.jjemson.s3.S3Protocol.DelegationRequest) {
-          return mergeFrom((com.jjemson.s3.S3Protocol.DelegationRequest)other);
+        if (other instanceof com.jjemson.s3.S3Protocol.BatchCheckinRequest) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.BatchCheckinRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.jjemson.s3.S3Protocol.DelegationRequest other) {
-        if (other == com.jjemson.s3.S3Protocol.DelegationRequest.getDefaultInstance()) return this;
-        if (other.hasDocumentId()) {
-          bitField0_ |= 0x00000001;
-          documentId_ = other.documentId_;
-          onChanged();
-        }
-        if (other.hasClientUser()) {
-          bitField0_ |= 0x00000002;
-          clientUser_ = other.clientUser_;
-          onChanged();
-        }
-        if (other.hasDuration()) {
-          setDuration(other.getDuration());
-        }
-        if (other.hasPropagate()) {
-          setPropagate(other.getPropagate());
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.BatchCheckinRequest other) {
+        if (other == com.jjemson.s3.S3Protocol.BatchCheckinRequest.getDefaultInstance()) return this;
+        if (itemsBuilder_ == null) {
+          if (!other.items_.isEmpty()) {
+            if (items_.isEmpty()) {
+              items_ = other.items_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureItemsIsMutable();
+              items_.addAll(other.items_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.items_.isEmpty()) {
+            if (itemsBuilder_.isEmpty()) {
+              itemsBuilder_.dispose();
+              itemsBuilder_ = null;
+              items_ = other.items_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              itemsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getItemsFieldBuilder() : null;
+            } else {
+              itemsBuilder_.addAllMessages(other.items_);
+            }
+          }
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -5402,17 +12998,10 @@ public final class S3Protocol {
       }
 
       public final boolean isInitialized() {
-        if (!hasDocumentId()) {
-          return false;
-        }
-        if (!hasClientUser()) {
-          return false;
-        }
-        if (!hasDuration()) {
-          return false;
-        }
-        if (!hasPropagate()) {
-          return false;
+        for (int i = 0; i < getItemsCount(); i++) {
+          if (!getItems(i).isInitialized()) {
+            return false;
+          }
         }
         return true;
       }
@@ -5421,11 +13010,11 @@ public final class S3Protocol {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.jjemson.s3.S3Protocol.DelegationRequest parsedMessage = null;
+        com.jjemson.s3.S3Protocol.BatchCheckinRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.jjemson.s3.S3Protocol.DelegationRequest) e.getUnfinishedMessage();
+          parsedMessage = (com.jjemson.s3.S3Protocol.BatchCheckinRequest) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -5436,220 +13025,244 @@ public final class S3Protocol {
       }
       private int bitField0_;
 
-      private java.lang.Object documentId_ = "";
-      /**
-       * <code>required string document_id = 1;</code>
-       */
-      public boolean hasDocumentId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      private java.util.List<com.jjemson.s3.S3Protocol.CheckinRequest> items_ =
+        java.util.Collections.emptyList();
+      private void ensureItemsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          items_ = new java.util.ArrayList<com.jjemson.s3.S3Protocol.CheckinRequest>(items_);
+          bitField0_ |= 0x00000001;
+         }
       }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.CheckinRequest, com.jjemson.s3.S3Protocol.CheckinRequest.Builder, com.jjemson.s3.S3Protocol.CheckinRequestOrBuilder> itemsBuilder_;
+
       /**
-       * <code>required string document_id = 1;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public java.lang.String getDocumentId() {
-        java.lang.Object ref = documentId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            documentId_ = s;
-          }
-          return s;
+      public java.util.List<com.jjemson.s3.S3Protocol.CheckinRequest> getItemsList() {
+        if (itemsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(items_);
         } else {
-          return (java.lang.String) ref;
+          return itemsBuilder_.getMessageList();
         }
       }
       /**
-       * <code>required string document_id = 1;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getDocumentIdBytes() {
-        java.lang.Object ref = documentId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          documentId_ = b;
-          return b;
+      public int getItemsCount() {
+        if (itemsBuilder_ == null) {
+          return items_.size();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return itemsBuilder_.getCount();
         }
       }
       /**
-       * <code>required string document_id = 1;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public Builder setDocumentId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        documentId_ = value;
-        onChanged();
-        return this;
+      public com.jjemson.s3.S3Protocol.CheckinRequest getItems(int index) {
+        if (itemsBuilder_ == null) {
+          return items_.get(index);
+        } else {
+          return itemsBuilder_.getMessage(index);
+        }
       }
       /**
-       * <code>required string document_id = 1;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public Builder clearDocumentId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        documentId_ = getDefaultInstance().getDocumentId();
-        onChanged();
+      public Builder setItems(
+          int index, com.jjemson.s3.S3Protocol.CheckinRequest value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemsIsMutable();
+          items_.set(index, value);
+          onChanged();
+        } else {
+          itemsBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>required string document_id = 1;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public Builder setDocumentIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        documentId_ = value;
-        onChanged();
+      public Builder setItems(
+          int index, com.jjemson.s3.S3Protocol.CheckinRequest.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          itemsBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
-
-      private java.lang.Object clientUser_ = "";
-      /**
-       * <code>required string client_user = 2;</code>
-       */
-      public boolean hasClientUser() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
       /**
-       * <code>required string client_user = 2;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public java.lang.String getClientUser() {
-        java.lang.Object ref = clientUser_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            clientUser_ = s;
+      public Builder addItems(com.jjemson.s3.S3Protocol.CheckinRequest value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          return s;
+          ensureItemsIsMutable();
+          items_.add(value);
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          itemsBuilder_.addMessage(value);
         }
+        return this;
       }
       /**
-       * <code>required string client_user = 2;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getClientUserBytes() {
-        java.lang.Object ref = clientUser_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          clientUser_ = b;
-          return b;
+      public Builder addItems(
+          int index, com.jjemson.s3.S3Protocol.CheckinRequest value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemsIsMutable();
+          items_.add(index, value);
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          itemsBuilder_.addMessage(index, value);
         }
+        return this;
       }
       /**
-       * <code>required string client_user = 2;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public Builder setClientUser(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        clientUser_ = value;
-        onChanged();
+      public Builder addItems(
+          com.jjemson.s3.S3Protocol.CheckinRequest.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.add(builderForValue.build());
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>required string client_user = 2;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public Builder clearClientUser() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        clientUser_ = getDefaultInstance().getClientUser();
-        onChanged();
+      public Builder addItems(
+          int index, com.jjemson.s3.S3Protocol.CheckinRequest.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>required string client_user = 2;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public Builder setClientUserBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        clientUser_ = value;
-        onChanged();
+      public Builder addAllItems(
+          java.lang.Iterable<? extends com.jjemson.s3.S3Protocol.CheckinRequest> values) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, items_);
+          onChanged();
+        } else {
+          itemsBuilder_.addAllMessages(values);
+        }
         return this;
       }
-
-      private int duration_ ;
       /**
-       * <code>required int32 duration = 3;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public boolean hasDuration() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public Builder clearItems() {
+        if (itemsBuilder_ == null) {
+          items_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          itemsBuilder_.clear();
+        }
+        return this;
       }
       /**
-       * <code>required int32 duration = 3;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public int getDuration() {
-        return duration_;
+      public Builder removeItems(int index) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.remove(index);
+          onChanged();
+        } else {
+          itemsBuilder_.remove(index);
+        }
+        return this;
       }
       /**
-       * <code>required int32 duration = 3;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public Builder setDuration(int value) {
-        bitField0_ |= 0x00000004;
-        duration_ = value;
-        onChanged();
-        return this;
+      public com.jjemson.s3.S3Protocol.CheckinRequest.Builder getItemsBuilder(
+          int index) {
+        return getItemsFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>required int32 duration = 3;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public Builder clearDuration() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        duration_ = 0;
-        onChanged();
-        return this;
+      public com.jjemson.s3.S3Protocol.CheckinRequestOrBuilder getItemsOrBuilder(
+          int index) {
+        if (itemsBuilder_ == null) {
+          return items_.get(index);  } else {
+          return itemsBuilder_.getMessageOrBuilder(index);
+        }
       }
-
-      private boolean propagate_ ;
       /**
-       * <code>required bool propagate = 4;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public boolean hasPropagate() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public java.util.List<? extends com.jjemson.s3.S3Protocol.CheckinRequestOrBuilder> 
+           getItemsOrBuilderList() {
+        if (itemsBuilder_ != null) {
+          return itemsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(items_);
+        }
       }
       /**
-       * <code>required bool propagate = 4;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public boolean getPropagate() {
-        return propagate_;
+      public com.jjemson.s3.S3Protocol.CheckinRequest.Builder addItemsBuilder() {
+        return getItemsFieldBuilder().addBuilder(
+            com.jjemson.s3.S3Protocol.CheckinRequest.getDefaultInstance());
       }
       /**
-       * <code>required bool propagate = 4;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public Builder setPropagate(boolean value) {
-        bitField0_ |= 0x00000008;
-        propagate_ = value;
-        onChanged();
-        return this;
+      public com.jjemson.s3.S3Protocol.CheckinRequest.Builder addItemsBuilder(
+          int index) {
+        return getItemsFieldBuilder().addBuilder(
+            index, com.jjemson.s3.S3Protocol.CheckinRequest.getDefaultInstance());
       }
       /**
-       * <code>required bool propagate = 4;</code>
+       * <code>repeated .com.jjemson.s3.CheckinRequest items = 1;</code>
        */
-      public Builder clearPropagate() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        propagate_ = false;
-        onChanged();
-        return this;
+      public java.util.List<com.jjemson.s3.S3Protocol.CheckinRequest.Builder> 
+           getItemsBuilderList() {
+        return getItemsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.CheckinRequest, com.jjemson.s3.S3Protocol.CheckinRequest.Builder, com.jjemson.s3.S3Protocol.CheckinRequestOrBuilder> 
+          getItemsFieldBuilder() {
+        if (itemsBuilder_ == null) {
+          itemsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.jjemson.s3.S3Protocol.CheckinRequest, com.jjemson.s3.S3Protocol.CheckinRequest.Builder, com.jjemson.s3.S3Protocol.CheckinRequestOrBuilder>(
+                  items_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          items_ = null;
+        }
+        return itemsBuilder_;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -5662,103 +13275,98 @@ public final class S3Protocol {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.DelegationRequest)
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.BatchCheckinRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:com.jjemson.s3.DelegationRequest)
-    private static final com.jjemson.s3.S3Protocol.DelegationRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.BatchCheckinRequest)
+    private static final com.jjemson.s3.S3Protocol.BatchCheckinRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.DelegationRequest();
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.BatchCheckinRequest();
     }
 
-    public static com.jjemson.s3.S3Protocol.DelegationRequest getDefaultInstance() {
+    public static com.jjemson.s3.S3Protocol.BatchCheckinRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<DelegationRequest>
-        PARSER = new com.google.protobuf.AbstractParser<DelegationRequest>() {
-      public DelegationRequest parsePartialFrom(
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<BatchCheckinRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchCheckinRequest>() {
+      public BatchCheckinRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new DelegationRequest(input, extensionRegistry);
+          return new BatchCheckinRequest(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DelegationRequest> parser() {
+    public static com.google.protobuf.Parser<BatchCheckinRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DelegationRequest> getParserForType() {
+    public com.google.protobuf.Parser<BatchCheckinRequest> getParserForType() {
       return PARSER;
     }
 
-    public com.jjemson.s3.S3Protocol.DelegationRequest getDefaultInstanceForType() {
+    public com.jjemson.s3.S3Protocol.BatchCheckinRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
-    public static final int D_REQUEST_FIELD_NUMBER = 1007;
+    public static final int BATCH_CI_REQUEST_FIELD_NUMBER = 1020;
     /**
      * <code>extend .com.jjemson.s3.S3Message { ... }</code>
      */
     public static final
       com.google.protobuf.GeneratedMessage.GeneratedExtension<
         com.jjemson.s3.S3Protocol.S3Message,
-        com.jjemson.s3.S3Protocol.DelegationRequest> dRequest = com.google.protobuf.GeneratedMessage
+        com.jjemson.s3.S3Protocol.BatchCheckinRequest> batchCiRequest = com.google.protobuf.GeneratedMessage
             .newMessageScopedGeneratedExtension(
-          com.jjemson.s3.S3Protocol.DelegationRequest.getDefaultInstance(),
+          com.jjemson.s3.S3Protocol.BatchCheckinRequest.getDefaultInstance(),
           0,
-          com.jjemson.s3.S3Protocol.DelegationRequest.class,
-          com.jjemson.s3.S3Protocol.DelegationRequest.getDefaultInstance());
+          com.jjemson.s3.S3Protocol.BatchCheckinRequest.class,
+          com.jjemson.s3.S3Protocol.BatchCheckinRequest.getDefaultInstance());
   }
 
-  public interface DeleteRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.DeleteRequest)
+  public interface BatchDeleteRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.BatchDeleteRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required string document_id = 1;</code>
-     */
-    boolean hasDocumentId();
-    /**
-     * <code>required string document_id = 1;</code>
+     * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
      */
-    java.lang.String getDocumentId();
+    java.util.List<com.jjemson.s3.S3Protocol.DeleteRequest> 
+        getItemsList();
     /**
-     * <code>required string document_id = 1;</code>
+     * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getDocumentIdBytes();
-
+    com.jjemson.s3.S3Protocol.DeleteRequest getItems(int index);
     /**
-     * <code>optional string document_owner = 2;</code>
+     * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
      */
-    boolean hasDocumentOwner();
+    int getItemsCount();
     /**
-     * <code>optional string document_owner = 2;</code>
+     * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
      */
-    java.lang.String getDocumentOwner();
+    java.util.List<? extends com.jjemson.s3.S3Protocol.DeleteRequestOrBuilder> 
+        getItemsOrBuilderList();
     /**
-     * <code>optional string document_owner = 2;</code>
+     * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getDocumentOwnerBytes();
+    com.jjemson.s3.S3Protocol.DeleteRequestOrBuilder getItemsOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code com.jjemson.s3.DeleteRequest}
+   * Protobuf type {@code com.jjemson.s3.BatchDeleteRequest}
    */
-  public  static final class DeleteRequest extends
+  public  static final class BatchDeleteRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:com.jjemson.s3.DeleteRequest)
-      DeleteRequestOrBuilder {
-    // Use DeleteRequest.newBuilder() to construct.
-    private DeleteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.BatchDeleteRequest)
+      BatchDeleteRequestOrBuilder {
+    // Use BatchDeleteRequest.newBuilder() to construct.
+    private BatchDeleteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private DeleteRequest() {
-      documentId_ = "";
-      documentOwner_ = "";
+    private BatchDeleteRequest() {
+      items_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -5766,7 +13374,7 @@ public final class S3Protocol {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private DeleteRequest(
+    private BatchDeleteRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5790,15 +13398,12 @@ public final class S3Protocol {
               break;
             }
             case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              documentId_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              documentOwner_ = bs;
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                items_ = new java.util.ArrayList<com.jjemson.s3.S3Protocol.DeleteRequest>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              items_.add(
+                  input.readMessage(com.jjemson.s3.S3Protocol.DeleteRequest.PARSER, extensionRegistry));
               break;
             }
           }
@@ -5809,105 +13414,58 @@ public final class S3Protocol {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          items_ = java.util.Collections.unmodifiableList(items_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteRequest_descriptor;
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchDeleteRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteRequest_fieldAccessorTable
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchDeleteRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.jjemson.s3.S3Protocol.DeleteRequest.class, com.jjemson.s3.S3Protocol.DeleteRequest.Builder.class);
+              com.jjemson.s3.S3Protocol.BatchDeleteRequest.class, com.jjemson.s3.S3Protocol.BatchDeleteRequest.Builder.class);
     }
 
-    private int bitField0_;
-    public static final int DOCUMENT_ID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object documentId_;
-    /**
-     * <code>required string document_id = 1;</code>
-     */
-    public boolean hasDocumentId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
+    public static final int ITEMS_FIELD_NUMBER = 1;
+    private java.util.List<com.jjemson.s3.S3Protocol.DeleteRequest> items_;
     /**
-     * <code>required string document_id = 1;</code>
+     * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
      */
-    public java.lang.String getDocumentId() {
-      java.lang.Object ref = documentId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          documentId_ = s;
-        }
-        return s;
-      }
+    public java.util.List<com.jjemson.s3.S3Protocol.DeleteRequest> getItemsList() {
+      return items_;
     }
     /**
-     * <code>required string document_id = 1;</code>
+     * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getDocumentIdBytes() {
-      java.lang.Object ref = documentId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        documentId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public java.util.List<? extends com.jjemson.s3.S3Protocol.DeleteRequestOrBuilder> 
+        getItemsOrBuilderList() {
+      return items_;
     }
-
-    public static final int DOCUMENT_OWNER_FIELD_NUMBER = 2;
-    private volatile java.lang.Object documentOwner_;
     /**
-     * <code>optional string document_owner = 2;</code>
+     * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
      */
-    public boolean hasDocumentOwner() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public int getItemsCount() {
+      return items_.size();
     }
     /**
-     * <code>optional string document_owner = 2;</code>
+     * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
      */
-    public java.lang.String getDocumentOwner() {
-      java.lang.Object ref = documentOwner_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          documentOwner_ = s;
-        }
-        return s;
-      }
+    public com.jjemson.s3.S3Protocol.DeleteRequest getItems(int index) {
+      return items_.get(index);
     }
     /**
-     * <code>optional string document_owner = 2;</code>
+     * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getDocumentOwnerBytes() {
-      java.lang.Object ref = documentOwner_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        documentOwner_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.jjemson.s3.S3Protocol.DeleteRequestOrBuilder getItemsOrBuilder(
+        int index) {
+      return items_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5916,9 +13474,11 @@ public final class S3Protocol {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasDocumentId()) {
-        memoizedIsInitialized = 0;
-        return false;
+      for (int i = 0; i < getItemsCount(); i++) {
+        if (!getItems(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
       memoizedIsInitialized = 1;
       return true;
@@ -5926,11 +13486,8 @@ public final class S3Protocol {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, documentId_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, documentOwner_);
+      for (int i = 0; i < items_.size(); i++) {
+        output.writeMessage(1, items_.get(i));
       }
       unknownFields.writeTo(output);
     }
@@ -5940,11 +13497,9 @@ public final class S3Protocol {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, documentId_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, documentOwner_);
+      for (int i = 0; i < items_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, items_.get(i));
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -5957,22 +13512,14 @@ public final class S3Protocol {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.jjemson.s3.S3Protocol.DeleteRequest)) {
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.BatchDeleteRequest)) {
         return super.equals(obj);
       }
-      com.jjemson.s3.S3Protocol.DeleteRequest other = (com.jjemson.s3.S3Protocol.DeleteRequest) obj;
+      com.jjemson.s3.S3Protocol.BatchDeleteRequest other = (com.jjemson.s3.S3Protocol.BatchDeleteRequest) obj;
 
       boolean result = true;
-      result = result && (hasDocumentId() == other.hasDocumentId());
-      if (hasDocumentId()) {
-        result = result && getDocumentId()
-            .equals(other.getDocumentId());
-      }
-      result = result && (hasDocumentOwner() == other.hasDocumentOwner());
-      if (hasDocumentOwner()) {
-        result = result && getDocumentOwner()
-            .equals(other.getDocumentOwner());
-      }
+      result = result && getItemsList()
+          .equals(other.getItemsList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -5984,71 +13531,67 @@ public final class S3Protocol {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptorForType().hashCode();
-      if (hasDocumentId()) {
-        hash = (37 * hash) + DOCUMENT_ID_FIELD_NUMBER;
-        hash = (53 * hash) + getDocumentId().hashCode();
-      }
-      if (hasDocumentOwner()) {
-        hash = (37 * hash) + DOCUMENT_OWNER_FIELD_NUMBER;
-        hash = (53 * hash) + getDocumentOwner().hashCode();
+      if (getItemsCount() > 0) {
+        hash = (37 * hash) + ITEMS_FIELD_NUMBER;
+        hash = (53 * hash) + getItemsList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchDeleteRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchDeleteRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(byte[] data)
+    public static com.jjemson.s3.S3Protocol.BatchDeleteRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchDeleteRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(java.io.InputStream input)
+    public static com.jjemson.s3.S3Protocol.BatchDeleteRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchDeleteRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteRequest parseDelimitedFrom(java.io.InputStream input)
+    public static com.jjemson.s3.S3Protocol.BatchDeleteRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteRequest parseDelimitedFrom(
+    public static com.jjemson.s3.S3Protocol.BatchDeleteRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchDeleteRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteRequest parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchDeleteRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6060,7 +13603,7 @@ public final class S3Protocol {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.jjemson.s3.S3Protocol.DeleteRequest prototype) {
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.BatchDeleteRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -6075,25 +13618,25 @@ public final class S3Protocol {
       return builder;
     }
     /**
-     * Protobuf type {@code com.jjemson.s3.DeleteRequest}
+     * Protobuf type {@code com.jjemson.s3.BatchDeleteRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.DeleteRequest)
-        com.jjemson.s3.S3Protocol.DeleteRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.BatchDeleteRequest)
+        com.jjemson.s3.S3Protocol.BatchDeleteRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteRequest_descriptor;
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchDeleteRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteRequest_fieldAccessorTable
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchDeleteRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.jjemson.s3.S3Protocol.DeleteRequest.class, com.jjemson.s3.S3Protocol.DeleteRequest.Builder.class);
+                com.jjemson.s3.S3Protocol.BatchDeleteRequest.class, com.jjemson.s3.S3Protocol.BatchDeleteRequest.Builder.class);
       }
 
-      // Construct using com.jjemson.s3.S3Protocol.DeleteRequest.newBuilder()
+      // Construct using com.jjemson.s3.S3Protocol.BatchDeleteRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6106,47 +13649,49 @@ public final class S3Protocol {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getItemsFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        documentId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        documentOwner_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
+        if (itemsBuilder_ == null) {
+          items_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          itemsBuilder_.clear();
+        }
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteRequest_descriptor;
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchDeleteRequest_descriptor;
       }
 
-      public com.jjemson.s3.S3Protocol.DeleteRequest getDefaultInstanceForType() {
-        return com.jjemson.s3.S3Protocol.DeleteRequest.getDefaultInstance();
+      public com.jjemson.s3.S3Protocol.BatchDeleteRequest getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.BatchDeleteRequest.getDefaultInstance();
       }
 
-      public com.jjemson.s3.S3Protocol.DeleteRequest build() {
-        com.jjemson.s3.S3Protocol.DeleteRequest result = buildPartial();
+      public com.jjemson.s3.S3Protocol.BatchDeleteRequest build() {
+        com.jjemson.s3.S3Protocol.BatchDeleteRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.jjemson.s3.S3Protocol.DeleteRequest buildPartial() {
-        com.jjemson.s3.S3Protocol.DeleteRequest result = new com.jjemson.s3.S3Protocol.DeleteRequest(this);
+      public com.jjemson.s3.S3Protocol.BatchDeleteRequest buildPartial() {
+        com.jjemson.s3.S3Protocol.BatchDeleteRequest result = new com.jjemson.s3.S3Protocol.BatchDeleteRequest(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.documentId_ = documentId_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+        if (itemsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            items_ = java.util.Collections.unmodifiableList(items_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.items_ = items_;
+        } else {
+          result.items_ = itemsBuilder_.build();
         }
-        result.documentOwner_ = documentOwner_;
-        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -6178,25 +13723,41 @@ public final class S3Protocol {
         return (Builder) super.addRepeatedField(field, value);
       }
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.jjemson.s3.S3Protocol.DeleteRequest) {
-          return mergeFrom((com.jjemson.s3.S3Protocol.DeleteRequest)other);
+        if (other instanceof com.jjemson.s3.S3Protocol.BatchDeleteRequest) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.BatchDeleteRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.jjemson.s3.S3Protocol.DeleteRequest other) {
-        if (other == com.jjemson.s3.S3Protocol.DeleteRequest.getDefaultInstance()) return this;
-        if (other.hasDocumentId()) {
-          bitField0_ |= 0x00000001;
-          documentId_ = other.documentId_;
-          onChanged();
-        }
-        if (other.hasDocumentOwner()) {
-          bitField0_ |= 0x00000002;
-          documentOwner_ = other.documentOwner_;
-          onChanged();
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.BatchDeleteRequest other) {
+        if (other == com.jjemson.s3.S3Protocol.BatchDeleteRequest.getDefaultInstance()) return this;
+        if (itemsBuilder_ == null) {
+          if (!other.items_.isEmpty()) {
+            if (items_.isEmpty()) {
+              items_ = other.items_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureItemsIsMutable();
+              items_.addAll(other.items_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.items_.isEmpty()) {
+            if (itemsBuilder_.isEmpty()) {
+              itemsBuilder_.dispose();
+              itemsBuilder_ = null;
+              items_ = other.items_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              itemsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getItemsFieldBuilder() : null;
+            } else {
+              itemsBuilder_.addAllMessages(other.items_);
+            }
+          }
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -6204,8 +13765,10 @@ public final class S3Protocol {
       }
 
       public final boolean isInitialized() {
-        if (!hasDocumentId()) {
-          return false;
+        for (int i = 0; i < getItemsCount(); i++) {
+          if (!getItems(i).isInitialized()) {
+            return false;
+          }
         }
         return true;
       }
@@ -6214,11 +13777,11 @@ public final class S3Protocol {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.jjemson.s3.S3Protocol.DeleteRequest parsedMessage = null;
+        com.jjemson.s3.S3Protocol.BatchDeleteRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.jjemson.s3.S3Protocol.DeleteRequest) e.getUnfinishedMessage();
+          parsedMessage = (com.jjemson.s3.S3Protocol.BatchDeleteRequest) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -6229,157 +13792,245 @@ public final class S3Protocol {
       }
       private int bitField0_;
 
-      private java.lang.Object documentId_ = "";
+      private java.util.List<com.jjemson.s3.S3Protocol.DeleteRequest> items_ =
+        java.util.Collections.emptyList();
+      private void ensureItemsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          items_ = new java.util.ArrayList<com.jjemson.s3.S3Protocol.DeleteRequest>(items_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.DeleteRequest, com.jjemson.s3.S3Protocol.DeleteRequest.Builder, com.jjemson.s3.S3Protocol.DeleteRequestOrBuilder> itemsBuilder_;
+
       /**
-       * <code>required string document_id = 1;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public boolean hasDocumentId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<com.jjemson.s3.S3Protocol.DeleteRequest> getItemsList() {
+        if (itemsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(items_);
+        } else {
+          return itemsBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>required string document_id = 1;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public java.lang.String getDocumentId() {
-        java.lang.Object ref = documentId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            documentId_ = s;
-          }
-          return s;
+      public int getItemsCount() {
+        if (itemsBuilder_ == null) {
+          return items_.size();
         } else {
-          return (java.lang.String) ref;
+          return itemsBuilder_.getCount();
         }
       }
       /**
-       * <code>required string document_id = 1;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getDocumentIdBytes() {
-        java.lang.Object ref = documentId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          documentId_ = b;
-          return b;
+      public com.jjemson.s3.S3Protocol.DeleteRequest getItems(int index) {
+        if (itemsBuilder_ == null) {
+          return items_.get(index);
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return itemsBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>required string document_id = 1;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public Builder setDocumentId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        documentId_ = value;
-        onChanged();
+      public Builder setItems(
+          int index, com.jjemson.s3.S3Protocol.DeleteRequest value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemsIsMutable();
+          items_.set(index, value);
+          onChanged();
+        } else {
+          itemsBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>required string document_id = 1;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public Builder clearDocumentId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        documentId_ = getDefaultInstance().getDocumentId();
-        onChanged();
+      public Builder setItems(
+          int index, com.jjemson.s3.S3Protocol.DeleteRequest.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          itemsBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>required string document_id = 1;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public Builder setDocumentIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        documentId_ = value;
-        onChanged();
+      public Builder addItems(com.jjemson.s3.S3Protocol.DeleteRequest value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemsIsMutable();
+          items_.add(value);
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(value);
+        }
         return this;
       }
-
-      private java.lang.Object documentOwner_ = "";
       /**
-       * <code>optional string document_owner = 2;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public boolean hasDocumentOwner() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public Builder addItems(
+          int index, com.jjemson.s3.S3Protocol.DeleteRequest value) {
+        if (itemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureItemsIsMutable();
+          items_.add(index, value);
+          onChanged();
+        } else {
+          itemsBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>optional string document_owner = 2;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public java.lang.String getDocumentOwner() {
-        java.lang.Object ref = documentOwner_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            documentOwner_ = s;
-          }
-          return s;
+      public Builder addItems(
+          com.jjemson.s3.S3Protocol.DeleteRequest.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.add(builderForValue.build());
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          itemsBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional string document_owner = 2;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getDocumentOwnerBytes() {
-        java.lang.Object ref = documentOwner_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          documentOwner_ = b;
-          return b;
+      public Builder addItems(
+          int index, com.jjemson.s3.S3Protocol.DeleteRequest.Builder builderForValue) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          itemsBuilder_.addMessage(index, builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional string document_owner = 2;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public Builder setDocumentOwner(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        documentOwner_ = value;
-        onChanged();
+      public Builder addAllItems(
+          java.lang.Iterable<? extends com.jjemson.s3.S3Protocol.DeleteRequest> values) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, items_);
+          onChanged();
+        } else {
+          itemsBuilder_.addAllMessages(values);
+        }
         return this;
       }
       /**
-       * <code>optional string document_owner = 2;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public Builder clearDocumentOwner() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        documentOwner_ = getDefaultInstance().getDocumentOwner();
-        onChanged();
+      public Builder clearItems() {
+        if (itemsBuilder_ == null) {
+          items_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          itemsBuilder_.clear();
+        }
         return this;
       }
       /**
-       * <code>optional string document_owner = 2;</code>
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
        */
-      public Builder setDocumentOwnerBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        documentOwner_ = value;
-        onChanged();
+      public Builder removeItems(int index) {
+        if (itemsBuilder_ == null) {
+          ensureItemsIsMutable();
+          items_.remove(index);
+          onChanged();
+        } else {
+          itemsBuilder_.remove(index);
+        }
         return this;
       }
+      /**
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
+       */
+      public com.jjemson.s3.S3Protocol.DeleteRequest.Builder getItemsBuilder(
+          int index) {
+        return getItemsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
+       */
+      public com.jjemson.s3.S3Protocol.DeleteRequestOrBuilder getItemsOrBuilder(
+          int index) {
+        if (itemsBuilder_ == null) {
+          return items_.get(index);  } else {
+          return itemsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
+       */
+      public java.util.List<? extends com.jjemson.s3.S3Protocol.DeleteRequestOrBuilder> 
+           getItemsOrBuilderList() {
+        if (itemsBuilder_ != null) {
+          return itemsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(items_);
+        }
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
+       */
+      public com.jjemson.s3.S3Protocol.DeleteRequest.Builder addItemsBuilder() {
+        return getItemsFieldBuilder().addBuilder(
+            com.jjemson.s3.S3Protocol.DeleteRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
+       */
+      public com.jjemson.s3.S3Protocol.DeleteRequest.Builder addItemsBuilder(
+          int index) {
+        return getItemsFieldBuilder().addBuilder(
+            index, com.jjemson.s3.S3Protocol.DeleteRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.jjemson.s3.DeleteRequest items = 1;</code>
+       */
+      public java.util.List<com.jjemson.s3.S3Protocol.DeleteRequest.Builder> 
+           getItemsBuilderList() {
+        return getItemsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.DeleteRequest, com.jjemson.s3.S3Protocol.DeleteRequest.Builder, com.jjemson.s3.S3Protocol.DeleteRequestOrBuilder> 
+          getItemsFieldBuilder() {
+        if (itemsBuilder_ == null) {
+          itemsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.jjemson.s3.S3Protocol.DeleteRequest, com.jjemson.s3.S3Protocol.DeleteRequest.Builder, com.jjemson.s3.S3Protocol.DeleteRequestOrBuilder>(
+                  items_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          items_ = null;
+        }
+        return itemsBuilder_;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFields(unknownFields);
@@ -6391,98 +14042,126 @@ public final class S3Protocol {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.DeleteRequest)
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.BatchDeleteRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:com.jjemson.s3.DeleteRequest)
-    private static final com.jjemson.s3.S3Protocol.DeleteRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.BatchDeleteRequest)
+    private static final com.jjemson.s3.S3Protocol.BatchDeleteRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.DeleteRequest();
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.BatchDeleteRequest();
     }
 
-    public static com.jjemson.s3.S3Protocol.DeleteRequest getDefaultInstance() {
+    public static com.jjemson.s3.S3Protocol.BatchDeleteRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<DeleteRequest>
-        PARSER = new com.google.protobuf.AbstractParser<DeleteRequest>() {
-      public DeleteRequest parsePartialFrom(
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<BatchDeleteRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchDeleteRequest>() {
+      public BatchDeleteRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new DeleteRequest(input, extensionRegistry);
+          return new BatchDeleteRequest(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DeleteRequest> parser() {
+    public static com.google.protobuf.Parser<BatchDeleteRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DeleteRequest> getParserForType() {
+    public com.google.protobuf.Parser<BatchDeleteRequest> getParserForType() {
       return PARSER;
     }
 
-    public com.jjemson.s3.S3Protocol.DeleteRequest getDefaultInstanceForType() {
+    public com.jjemson.s3.S3Protocol.BatchDeleteRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
-    public static final int DEL_REQUEST_FIELD_NUMBER = 1009;
+    public static final int BATCH_DEL_REQUEST_FIELD_NUMBER = 1021;
     /**
      * <code>extend .com.jjemson.s3.S3Message { ... }</code>
      */
     public static final
       com.google.protobuf.GeneratedMessage.GeneratedExtension<
         com.jjemson.s3.S3Protocol.S3Message,
-        com.jjemson.s3.S3Protocol.DeleteRequest> delRequest = com.google.protobuf.GeneratedMessage
+        com.jjemson.s3.S3Protocol.BatchDeleteRequest> batchDelRequest = com.google.protobuf.GeneratedMessage
             .newMessageScopedGeneratedExtension(
-          com.jjemson.s3.S3Protocol.DeleteRequest.getDefaultInstance(),
+          com.jjemson.s3.S3Protocol.BatchDeleteRequest.getDefaultInstance(),
           0,
-          com.jjemson.s3.S3Protocol.DeleteRequest.class,
-          com.jjemson.s3.S3Protocol.DeleteRequest.getDefaultInstance());
+          com.jjemson.s3.S3Protocol.BatchDeleteRequest.class,
+          com.jjemson.s3.S3Protocol.BatchDeleteRequest.getDefaultInstance());
   }
 
-  public interface DeleteResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.DeleteResponse)
+  public interface BatchItemResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.BatchItemResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required bool success = 1;</code>
+     * <code>required int32 index = 1;</code>
      */
-    boolean hasSuccess();
+    boolean hasIndex();
     /**
-     * <code>required bool success = 1;</code>
+     * <code>required int32 index = 1;</code>
      */
-    boolean getSuccess();
+    int getIndex();
 
     /**
-     * <code>optional string reason = 2;</code>
+     * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
      */
-    boolean hasReason();
+    boolean hasCheckout();
     /**
-     * <code>optional string reason = 2;</code>
+     * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
      */
-    java.lang.String getReason();
+    com.jjemson.s3.S3Protocol.CheckoutResponse getCheckout();
     /**
-     * <code>optional string reason = 2;</code>
+     * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getReasonBytes();
+    com.jjemson.s3.S3Protocol.CheckoutResponseOrBuilder getCheckoutOrBuilder();
+
+    /**
+     * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
+     */
+    boolean hasCheckin();
+    /**
+     * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
+     */
+    com.jjemson.s3.S3Protocol.CheckinResponse getCheckin();
+    /**
+     * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
+     */
+    com.jjemson.s3.S3Protocol.CheckinResponseOrBuilder getCheckinOrBuilder();
+
+    /**
+     * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
+     */
+    boolean hasDelete();
+    /**
+     * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
+     */
+    com.jjemson.s3.S3Protocol.DeleteResponse getDelete();
+    /**
+     * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
+     */
+    com.jjemson.s3.S3Protocol.DeleteResponseOrBuilder getDeleteOrBuilder();
   }
   /**
-   * Protobuf type {@code com.jjemson.s3.DeleteResponse}
+   * <pre>
+   * The result of one item of a batch, by its index in the request.
+   * </pre>
+   *
+   * Protobuf type {@code com.jjemson.s3.BatchItemResponse}
    */
-  public  static final class DeleteResponse extends
+  public  static final class BatchItemResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:com.jjemson.s3.DeleteResponse)
-      DeleteResponseOrBuilder {
-    // Use DeleteResponse.newBuilder() to construct.
-    private DeleteResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.BatchItemResponse)
+      BatchItemResponseOrBuilder {
+    // Use BatchItemResponse.newBuilder() to construct.
+    private BatchItemResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private DeleteResponse() {
-      success_ = false;
-      reason_ = "";
+    private BatchItemResponse() {
+      index_ = 0;
     }
 
     @java.lang.Override
@@ -6490,7 +14169,7 @@ public final class S3Protocol {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private DeleteResponse(
+    private BatchItemResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6515,13 +14194,46 @@ public final class S3Protocol {
             }
             case 8: {
               bitField0_ |= 0x00000001;
-              success_ = input.readBool();
+              index_ = input.readInt32();
               break;
             }
             case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+              com.jjemson.s3.S3Protocol.CheckoutResponse.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = checkout_.toBuilder();
+              }
+              checkout_ = input.readMessage(com.jjemson.s3.S3Protocol.CheckoutResponse.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(checkout_);
+                checkout_ = subBuilder.buildPartial();
+              }
               bitField0_ |= 0x00000002;
-              reason_ = bs;
+              break;
+            }
+            case 26: {
+              com.jjemson.s3.S3Protocol.CheckinResponse.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = checkin_.toBuilder();
+              }
+              checkin_ = input.readMessage(com.jjemson.s3.S3Protocol.CheckinResponse.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(checkin_);
+                checkin_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            case 34: {
+              com.jjemson.s3.S3Protocol.DeleteResponse.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = delete_.toBuilder();
+              }
+              delete_ = input.readMessage(com.jjemson.s3.S3Protocol.DeleteResponse.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(delete_);
+                delete_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
               break;
             }
           }
@@ -6536,74 +14248,95 @@ public final class S3Protocol {
         makeExtensionsImmutable();
       }
     }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteResponse_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchItemResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchItemResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.S3Protocol.BatchItemResponse.class, com.jjemson.s3.S3Protocol.BatchItemResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int INDEX_FIELD_NUMBER = 1;
+    private int index_;
+    /**
+     * <code>required int32 index = 1;</code>
+     */
+    public boolean hasIndex() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int32 index = 1;</code>
+     */
+    public int getIndex() {
+      return index_;
+    }
+
+    public static final int CHECKOUT_FIELD_NUMBER = 2;
+    private com.jjemson.s3.S3Protocol.CheckoutResponse checkout_;
+    /**
+     * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+     */
+    public boolean hasCheckout() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+     */
+    public com.jjemson.s3.S3Protocol.CheckoutResponse getCheckout() {
+      return checkout_ == null ? com.jjemson.s3.S3Protocol.CheckoutResponse.getDefaultInstance() : checkout_;
+    }
+    /**
+     * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+     */
+    public com.jjemson.s3.S3Protocol.CheckoutResponseOrBuilder getCheckoutOrBuilder() {
+      return checkout_ == null ? com.jjemson.s3.S3Protocol.CheckoutResponse.getDefaultInstance() : checkout_;
     }
 
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteResponse_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.jjemson.s3.S3Protocol.DeleteResponse.class, com.jjemson.s3.S3Protocol.DeleteResponse.Builder.class);
+    public static final int CHECKIN_FIELD_NUMBER = 3;
+    private com.jjemson.s3.S3Protocol.CheckinResponse checkin_;
+    /**
+     * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
+     */
+    public boolean hasCheckin() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
-
-    private int bitField0_;
-    public static final int SUCCESS_FIELD_NUMBER = 1;
-    private boolean success_;
     /**
-     * <code>required bool success = 1;</code>
+     * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
      */
-    public boolean hasSuccess() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+    public com.jjemson.s3.S3Protocol.CheckinResponse getCheckin() {
+      return checkin_ == null ? com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance() : checkin_;
     }
     /**
-     * <code>required bool success = 1;</code>
+     * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
      */
-    public boolean getSuccess() {
-      return success_;
+    public com.jjemson.s3.S3Protocol.CheckinResponseOrBuilder getCheckinOrBuilder() {
+      return checkin_ == null ? com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance() : checkin_;
     }
 
-    public static final int REASON_FIELD_NUMBER = 2;
-    private volatile java.lang.Object reason_;
+    public static final int DELETE_FIELD_NUMBER = 4;
+    private com.jjemson.s3.S3Protocol.DeleteResponse delete_;
     /**
-     * <code>optional string reason = 2;</code>
+     * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
      */
-    public boolean hasReason() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasDelete() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
     }
     /**
-     * <code>optional string reason = 2;</code>
+     * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
      */
-    public java.lang.String getReason() {
-      java.lang.Object ref = reason_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          reason_ = s;
-        }
-        return s;
-      }
+    public com.jjemson.s3.S3Protocol.DeleteResponse getDelete() {
+      return delete_ == null ? com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance() : delete_;
     }
     /**
-     * <code>optional string reason = 2;</code>
+     * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
      */
-    public com.google.protobuf.ByteString
-        getReasonBytes() {
-      java.lang.Object ref = reason_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        reason_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.jjemson.s3.S3Protocol.DeleteResponseOrBuilder getDeleteOrBuilder() {
+      return delete_ == null ? com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance() : delete_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -6612,10 +14345,28 @@ public final class S3Protocol {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasSuccess()) {
+      if (!hasIndex()) {
         memoizedIsInitialized = 0;
         return false;
       }
+      if (hasCheckout()) {
+        if (!getCheckout().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasCheckin()) {
+        if (!getCheckin().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasDelete()) {
+        if (!getDelete().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -6623,10 +14374,16 @@ public final class S3Protocol {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBool(1, success_);
+        output.writeInt32(1, index_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, reason_);
+        output.writeMessage(2, getCheckout());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, getCheckin());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, getDelete());
       }
       unknownFields.writeTo(output);
     }
@@ -6638,10 +14395,19 @@ public final class S3Protocol {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, success_);
+          .computeInt32Size(1, index_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, reason_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getCheckout());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getCheckin());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getDelete());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -6654,21 +14420,31 @@ public final class S3Protocol {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.jjemson.s3.S3Protocol.DeleteResponse)) {
+      if (!(obj instanceof com.jjemson.s3.S3Protocol.BatchItemResponse)) {
         return super.equals(obj);
       }
-      com.jjemson.s3.S3Protocol.DeleteResponse other = (com.jjemson.s3.S3Protocol.DeleteResponse) obj;
+      com.jjemson.s3.S3Protocol.BatchItemResponse other = (com.jjemson.s3.S3Protocol.BatchItemResponse) obj;
 
       boolean result = true;
-      result = result && (hasSuccess() == other.hasSuccess());
-      if (hasSuccess()) {
-        result = result && (getSuccess()
-            == other.getSuccess());
-      }
-      result = result && (hasReason() == other.hasReason());
-      if (hasReason()) {
-        result = result && getReason()
-            .equals(other.getReason());
+      result = result && (hasIndex() == other.hasIndex());
+      if (hasIndex()) {
+        result = result && (getIndex()
+            == other.getIndex());
+      }
+      result = result && (hasCheckout() == other.hasCheckout());
+      if (hasCheckout()) {
+        result = result && getCheckout()
+            .equals(other.getCheckout());
+      }
+      result = result && (hasCheckin() == other.hasCheckin());
+      if (hasCheckin()) {
+        result = result && getCheckin()
+            .equals(other.getCheckin());
+      }
+      result = result && (hasDelete() == other.hasDelete());
+      if (hasDelete()) {
+        result = result && getDelete()
+            .equals(other.getDelete());
       }
       result = result && unknownFields.equals(other.unknownFields);
       return result;
@@ -6681,72 +14457,79 @@ public final class S3Protocol {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptorForType().hashCode();
-      if (hasSuccess()) {
-        hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-            getSuccess());
+      if (hasIndex()) {
+        hash = (37 * hash) + INDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getIndex();
       }
-      if (hasReason()) {
-        hash = (37 * hash) + REASON_FIELD_NUMBER;
-        hash = (53 * hash) + getReason().hashCode();
+      if (hasCheckout()) {
+        hash = (37 * hash) + CHECKOUT_FIELD_NUMBER;
+        hash = (53 * hash) + getCheckout().hashCode();
+      }
+      if (hasCheckin()) {
+        hash = (37 * hash) + CHECKIN_FIELD_NUMBER;
+        hash = (53 * hash) + getCheckin().hashCode();
+      }
+      if (hasDelete()) {
+        hash = (37 * hash) + DELETE_FIELD_NUMBER;
+        hash = (53 * hash) + getDelete().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchItemResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchItemResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(byte[] data)
+    public static com.jjemson.s3.S3Protocol.BatchItemResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchItemResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(java.io.InputStream input)
+    public static com.jjemson.s3.S3Protocol.BatchItemResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchItemResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.jjemson.s3.S3Protocol.BatchItemResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteResponse parseDelimitedFrom(
+    public static com.jjemson.s3.S3Protocol.BatchItemResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchItemResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.jjemson.s3.S3Protocol.DeleteResponse parseFrom(
+    public static com.jjemson.s3.S3Protocol.BatchItemResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6758,7 +14541,7 @@ public final class S3Protocol {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.jjemson.s3.S3Protocol.DeleteResponse prototype) {
+    public static Builder newBuilder(com.jjemson.s3.S3Protocol.BatchItemResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -6773,25 +14556,29 @@ public final class S3Protocol {
       return builder;
     }
     /**
-     * Protobuf type {@code com.jjemson.s3.DeleteResponse}
+     * <pre>
+     * The result of one item of a batch, by its index in the request.
+     * </pre>
+     *
+     * Protobuf type {@code com.jjemson.s3.BatchItemResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.DeleteResponse)
-        com.jjemson.s3.S3Protocol.DeleteResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.BatchItemResponse)
+        com.jjemson.s3.S3Protocol.BatchItemResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteResponse_descriptor;
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchItemResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteResponse_fieldAccessorTable
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchItemResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.jjemson.s3.S3Protocol.DeleteResponse.class, com.jjemson.s3.S3Protocol.DeleteResponse.Builder.class);
+                com.jjemson.s3.S3Protocol.BatchItemResponse.class, com.jjemson.s3.S3Protocol.BatchItemResponse.Builder.class);
       }
 
-      // Construct using com.jjemson.s3.S3Protocol.DeleteResponse.newBuilder()
+      // Construct using com.jjemson.s3.S3Protocol.BatchItemResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6804,46 +14591,85 @@ public final class S3Protocol {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getCheckoutFieldBuilder();
+          getCheckinFieldBuilder();
+          getDeleteFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        success_ = false;
+        index_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        reason_ = "";
+        if (checkoutBuilder_ == null) {
+          checkout_ = null;
+        } else {
+          checkoutBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000002);
+        if (checkinBuilder_ == null) {
+          checkin_ = null;
+        } else {
+          checkinBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (deleteBuilder_ == null) {
+          delete_ = null;
+        } else {
+          deleteBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_DeleteResponse_descriptor;
+        return com.jjemson.s3.S3Protocol.internal_static_com_jjemson_s3_BatchItemResponse_descriptor;
       }
 
-      public com.jjemson.s3.S3Protocol.DeleteResponse getDefaultInstanceForType() {
-        return com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance();
+      public com.jjemson.s3.S3Protocol.BatchItemResponse getDefaultInstanceForType() {
+        return com.jjemson.s3.S3Protocol.BatchItemResponse.getDefaultInstance();
       }
 
-      public com.jjemson.s3.S3Protocol.DeleteResponse build() {
-        com.jjemson.s3.S3Protocol.DeleteResponse result = buildPartial();
+      public com.jjemson.s3.S3Protocol.BatchItemResponse build() {
+        com.jjemson.s3.S3Protocol.BatchItemResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.jjemson.s3.S3Protocol.DeleteResponse buildPartial() {
-        com.jjemson.s3.S3Protocol.DeleteResponse result = new com.jjemson.s3.S3Protocol.DeleteResponse(this);
+      public com.jjemson.s3.S3Protocol.BatchItemResponse buildPartial() {
+        com.jjemson.s3.S3Protocol.BatchItemResponse result = new com.jjemson.s3.S3Protocol.BatchItemResponse(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.success_ = success_;
+        result.index_ = index_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.reason_ = reason_;
+        if (checkoutBuilder_ == null) {
+          result.checkout_ = checkout_;
+        } else {
+          result.checkout_ = checkoutBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (checkinBuilder_ == null) {
+          result.checkin_ = checkin_;
+        } else {
+          result.checkin_ = checkinBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (deleteBuilder_ == null) {
+          result.delete_ = delete_;
+        } else {
+          result.delete_ = deleteBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -6870,167 +14696,464 @@ public final class S3Protocol {
           int index, Object value) {
         return (Builder) super.setRepeatedField(field, index, value);
       }
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return (Builder) super.addRepeatedField(field, value);
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.S3Protocol.BatchItemResponse) {
+          return mergeFrom((com.jjemson.s3.S3Protocol.BatchItemResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.S3Protocol.BatchItemResponse other) {
+        if (other == com.jjemson.s3.S3Protocol.BatchItemResponse.getDefaultInstance()) return this;
+        if (other.hasIndex()) {
+          setIndex(other.getIndex());
+        }
+        if (other.hasCheckout()) {
+          mergeCheckout(other.getCheckout());
+        }
+        if (other.hasCheckin()) {
+          mergeCheckin(other.getCheckin());
+        }
+        if (other.hasDelete()) {
+          mergeDelete(other.getDelete());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasIndex()) {
+          return false;
+        }
+        if (hasCheckout()) {
+          if (!getCheckout().isInitialized()) {
+            return false;
+          }
+        }
+        if (hasCheckin()) {
+          if (!getCheckin().isInitialized()) {
+            return false;
+          }
+        }
+        if (hasDelete()) {
+          if (!getDelete().isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.S3Protocol.BatchItemResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.S3Protocol.BatchItemResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int index_ ;
+      /**
+       * <code>required int32 index = 1;</code>
+       */
+      public boolean hasIndex() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int32 index = 1;</code>
+       */
+      public int getIndex() {
+        return index_;
+      }
+      /**
+       * <code>required int32 index = 1;</code>
+       */
+      public Builder setIndex(int value) {
+        bitField0_ |= 0x00000001;
+        index_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 index = 1;</code>
+       */
+      public Builder clearIndex() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        index_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.jjemson.s3.S3Protocol.CheckoutResponse checkout_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.CheckoutResponse, com.jjemson.s3.S3Protocol.CheckoutResponse.Builder, com.jjemson.s3.S3Protocol.CheckoutResponseOrBuilder> checkoutBuilder_;
+      /**
+       * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+       */
+      public boolean hasCheckout() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+       */
+      public com.jjemson.s3.S3Protocol.CheckoutResponse getCheckout() {
+        if (checkoutBuilder_ == null) {
+          return checkout_ == null ? com.jjemson.s3.S3Protocol.CheckoutResponse.getDefaultInstance() : checkout_;
+        } else {
+          return checkoutBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+       */
+      public Builder setCheckout(com.jjemson.s3.S3Protocol.CheckoutResponse value) {
+        if (checkoutBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          checkout_ = value;
+          onChanged();
+        } else {
+          checkoutBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+       */
+      public Builder setCheckout(
+          com.jjemson.s3.S3Protocol.CheckoutResponse.Builder builderForValue) {
+        if (checkoutBuilder_ == null) {
+          checkout_ = builderForValue.build();
+          onChanged();
+        } else {
+          checkoutBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+       */
+      public Builder mergeCheckout(com.jjemson.s3.S3Protocol.CheckoutResponse value) {
+        if (checkoutBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              checkout_ != null &&
+              checkout_ != com.jjemson.s3.S3Protocol.CheckoutResponse.getDefaultInstance()) {
+            checkout_ =
+              com.jjemson.s3.S3Protocol.CheckoutResponse.newBuilder(checkout_).mergeFrom(value).buildPartial();
+          } else {
+            checkout_ = value;
+          }
+          onChanged();
+        } else {
+          checkoutBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+       */
+      public Builder clearCheckout() {
+        if (checkoutBuilder_ == null) {
+          checkout_ = null;
+          onChanged();
+        } else {
+          checkoutBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
       }
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.jjemson.s3.S3Protocol.DeleteResponse) {
-          return mergeFrom((com.jjemson.s3.S3Protocol.DeleteResponse)other);
+      /**
+       * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+       */
+      public com.jjemson.s3.S3Protocol.CheckoutResponse.Builder getCheckoutBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getCheckoutFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+       */
+      public com.jjemson.s3.S3Protocol.CheckoutResponseOrBuilder getCheckoutOrBuilder() {
+        if (checkoutBuilder_ != null) {
+          return checkoutBuilder_.getMessageOrBuilder();
         } else {
-          super.mergeFrom(other);
-          return this;
+          return checkout_ == null ?
+              com.jjemson.s3.S3Protocol.CheckoutResponse.getDefaultInstance() : checkout_;
+        }
+      }
+      /**
+       * <code>optional .com.jjemson.s3.CheckoutResponse checkout = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.CheckoutResponse, com.jjemson.s3.S3Protocol.CheckoutResponse.Builder, com.jjemson.s3.S3Protocol.CheckoutResponseOrBuilder> 
+          getCheckoutFieldBuilder() {
+        if (checkoutBuilder_ == null) {
+          checkoutBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.jjemson.s3.S3Protocol.CheckoutResponse, com.jjemson.s3.S3Protocol.CheckoutResponse.Builder, com.jjemson.s3.S3Protocol.CheckoutResponseOrBuilder>(
+                  getCheckout(),
+                  getParentForChildren(),
+                  isClean());
+          checkout_ = null;
         }
+        return checkoutBuilder_;
       }
 
-      public Builder mergeFrom(com.jjemson.s3.S3Protocol.DeleteResponse other) {
-        if (other == com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance()) return this;
-        if (other.hasSuccess()) {
-          setSuccess(other.getSuccess());
+      private com.jjemson.s3.S3Protocol.CheckinResponse checkin_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.CheckinResponse, com.jjemson.s3.S3Protocol.CheckinResponse.Builder, com.jjemson.s3.S3Protocol.CheckinResponseOrBuilder> checkinBuilder_;
+      /**
+       * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
+       */
+      public boolean hasCheckin() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
+       */
+      public com.jjemson.s3.S3Protocol.CheckinResponse getCheckin() {
+        if (checkinBuilder_ == null) {
+          return checkin_ == null ? com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance() : checkin_;
+        } else {
+          return checkinBuilder_.getMessage();
         }
-        if (other.hasReason()) {
-          bitField0_ |= 0x00000002;
-          reason_ = other.reason_;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
+       */
+      public Builder setCheckin(com.jjemson.s3.S3Protocol.CheckinResponse value) {
+        if (checkinBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          checkin_ = value;
           onChanged();
+        } else {
+          checkinBuilder_.setMessage(value);
         }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
+        bitField0_ |= 0x00000004;
         return this;
       }
-
-      public final boolean isInitialized() {
-        if (!hasSuccess()) {
-          return false;
+      /**
+       * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
+       */
+      public Builder setCheckin(
+          com.jjemson.s3.S3Protocol.CheckinResponse.Builder builderForValue) {
+        if (checkinBuilder_ == null) {
+          checkin_ = builderForValue.build();
+          onChanged();
+        } else {
+          checkinBuilder_.setMessage(builderForValue.build());
         }
-        return true;
+        bitField0_ |= 0x00000004;
+        return this;
       }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.jjemson.s3.S3Protocol.DeleteResponse parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.jjemson.s3.S3Protocol.DeleteResponse) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
+      /**
+       * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
+       */
+      public Builder mergeCheckin(com.jjemson.s3.S3Protocol.CheckinResponse value) {
+        if (checkinBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              checkin_ != null &&
+              checkin_ != com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance()) {
+            checkin_ =
+              com.jjemson.s3.S3Protocol.CheckinResponse.newBuilder(checkin_).mergeFrom(value).buildPartial();
+          } else {
+            checkin_ = value;
           }
+          onChanged();
+        } else {
+          checkinBuilder_.mergeFrom(value);
         }
+        bitField0_ |= 0x00000004;
         return this;
       }
-      private int bitField0_;
-
-      private boolean success_ ;
       /**
-       * <code>required bool success = 1;</code>
+       * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
        */
-      public boolean hasSuccess() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public Builder clearCheckin() {
+        if (checkinBuilder_ == null) {
+          checkin_ = null;
+          onChanged();
+        } else {
+          checkinBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
       }
       /**
-       * <code>required bool success = 1;</code>
+       * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
        */
-      public boolean getSuccess() {
-        return success_;
+      public com.jjemson.s3.S3Protocol.CheckinResponse.Builder getCheckinBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getCheckinFieldBuilder().getBuilder();
       }
       /**
-       * <code>required bool success = 1;</code>
+       * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
        */
-      public Builder setSuccess(boolean value) {
-        bitField0_ |= 0x00000001;
-        success_ = value;
-        onChanged();
-        return this;
+      public com.jjemson.s3.S3Protocol.CheckinResponseOrBuilder getCheckinOrBuilder() {
+        if (checkinBuilder_ != null) {
+          return checkinBuilder_.getMessageOrBuilder();
+        } else {
+          return checkin_ == null ?
+              com.jjemson.s3.S3Protocol.CheckinResponse.getDefaultInstance() : checkin_;
+        }
       }
       /**
-       * <code>required bool success = 1;</code>
+       * <code>optional .com.jjemson.s3.CheckinResponse checkin = 3;</code>
        */
-      public Builder clearSuccess() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        success_ = false;
-        onChanged();
-        return this;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.CheckinResponse, com.jjemson.s3.S3Protocol.CheckinResponse.Builder, com.jjemson.s3.S3Protocol.CheckinResponseOrBuilder> 
+          getCheckinFieldBuilder() {
+        if (checkinBuilder_ == null) {
+          checkinBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.jjemson.s3.S3Protocol.CheckinResponse, com.jjemson.s3.S3Protocol.CheckinResponse.Builder, com.jjemson.s3.S3Protocol.CheckinResponseOrBuilder>(
+                  getCheckin(),
+                  getParentForChildren(),
+                  isClean());
+          checkin_ = null;
+        }
+        return checkinBuilder_;
       }
 
-      private java.lang.Object reason_ = "";
+      private com.jjemson.s3.S3Protocol.DeleteResponse delete_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.DeleteResponse, com.jjemson.s3.S3Protocol.DeleteResponse.Builder, com.jjemson.s3.S3Protocol.DeleteResponseOrBuilder> deleteBuilder_;
       /**
-       * <code>optional string reason = 2;</code>
+       * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
        */
-      public boolean hasReason() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasDelete() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>optional string reason = 2;</code>
+       * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
        */
-      public java.lang.String getReason() {
-        java.lang.Object ref = reason_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            reason_ = s;
+      public com.jjemson.s3.S3Protocol.DeleteResponse getDelete() {
+        if (deleteBuilder_ == null) {
+          return delete_ == null ? com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance() : delete_;
+        } else {
+          return deleteBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
+       */
+      public Builder setDelete(com.jjemson.s3.S3Protocol.DeleteResponse value) {
+        if (deleteBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          return s;
+          delete_ = value;
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          deleteBuilder_.setMessage(value);
         }
+        bitField0_ |= 0x00000008;
+        return this;
       }
       /**
-       * <code>optional string reason = 2;</code>
+       * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
        */
-      public com.google.protobuf.ByteString
-          getReasonBytes() {
-        java.lang.Object ref = reason_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          reason_ = b;
-          return b;
+      public Builder setDelete(
+          com.jjemson.s3.S3Protocol.DeleteResponse.Builder builderForValue) {
+        if (deleteBuilder_ == null) {
+          delete_ = builderForValue.build();
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          deleteBuilder_.setMessage(builderForValue.build());
         }
+        bitField0_ |= 0x00000008;
+        return this;
       }
       /**
-       * <code>optional string reason = 2;</code>
+       * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
        */
-      public Builder setReason(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        reason_ = value;
-        onChanged();
+      public Builder mergeDelete(com.jjemson.s3.S3Protocol.DeleteResponse value) {
+        if (deleteBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              delete_ != null &&
+              delete_ != com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance()) {
+            delete_ =
+              com.jjemson.s3.S3Protocol.DeleteResponse.newBuilder(delete_).mergeFrom(value).buildPartial();
+          } else {
+            delete_ = value;
+          }
+          onChanged();
+        } else {
+          deleteBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
         return this;
       }
       /**
-       * <code>optional string reason = 2;</code>
+       * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
        */
-      public Builder clearReason() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        reason_ = getDefaultInstance().getReason();
-        onChanged();
+      public Builder clearDelete() {
+        if (deleteBuilder_ == null) {
+          delete_ = null;
+          onChanged();
+        } else {
+          deleteBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
       /**
-       * <code>optional string reason = 2;</code>
+       * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
        */
-      public Builder setReasonBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        reason_ = value;
+      public com.jjemson.s3.S3Protocol.DeleteResponse.Builder getDeleteBuilder() {
+        bitField0_ |= 0x00000008;
         onChanged();
-        return this;
+        return getDeleteFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
+       */
+      public com.jjemson.s3.S3Protocol.DeleteResponseOrBuilder getDeleteOrBuilder() {
+        if (deleteBuilder_ != null) {
+          return deleteBuilder_.getMessageOrBuilder();
+        } else {
+          return delete_ == null ?
+              com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance() : delete_;
+        }
+      }
+      /**
+       * <code>optional .com.jjemson.s3.DeleteResponse delete = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jjemson.s3.S3Protocol.DeleteResponse, com.jjemson.s3.S3Protocol.DeleteResponse.Builder, com.jjemson.s3.S3Protocol.DeleteResponseOrBuilder> 
+          getDeleteFieldBuilder() {
+        if (deleteBuilder_ == null) {
+          deleteBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.jjemson.s3.S3Protocol.DeleteResponse, com.jjemson.s3.S3Protocol.DeleteResponse.Builder, com.jjemson.s3.S3Protocol.DeleteResponseOrBuilder>(
+                  getDelete(),
+                  getParentForChildren(),
+                  isClean());
+          delete_ = null;
+        }
+        return deleteBuilder_;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -7043,55 +15166,55 @@ public final class S3Protocol {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.DeleteResponse)
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.BatchItemResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:com.jjemson.s3.DeleteResponse)
-    private static final com.jjemson.s3.S3Protocol.DeleteResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.BatchItemResponse)
+    private static final com.jjemson.s3.S3Protocol.BatchItemResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.DeleteResponse();
+      DEFAULT_INSTANCE = new com.jjemson.s3.S3Protocol.BatchItemResponse();
     }
 
-    public static com.jjemson.s3.S3Protocol.DeleteResponse getDefaultInstance() {
+    public static com.jjemson.s3.S3Protocol.BatchItemResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<DeleteResponse>
-        PARSER = new com.google.protobuf.AbstractParser<DeleteResponse>() {
-      public DeleteResponse parsePartialFrom(
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<BatchItemResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchItemResponse>() {
+      public BatchItemResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new DeleteResponse(input, extensionRegistry);
+          return new BatchItemResponse(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DeleteResponse> parser() {
+    public static com.google.protobuf.Parser<BatchItemResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DeleteResponse> getParserForType() {
+    public com.google.protobuf.Parser<BatchItemResponse> getParserForType() {
       return PARSER;
     }
 
-    public com.jjemson.s3.S3Protocol.DeleteResponse getDefaultInstanceForType() {
+    public com.jjemson.s3.S3Protocol.BatchItemResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
-    public static final int DEL_RESPONSE_FIELD_NUMBER = 1010;
+    public static final int BATCH_ITEM_FIELD_NUMBER = 1022;
     /**
      * <code>extend .com.jjemson.s3.S3Message { ... }</code>
      */
     public static final
       com.google.protobuf.GeneratedMessage.GeneratedExtension<
         com.jjemson.s3.S3Protocol.S3Message,
-        com.jjemson.s3.S3Protocol.DeleteResponse> delResponse = com.google.protobuf.GeneratedMessage
+        com.jjemson.s3.S3Protocol.BatchItemResponse> batchItem = com.google.protobuf.GeneratedMessage
             .newMessageScopedGeneratedExtension(
-          com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance(),
+          com.jjemson.s3.S3Protocol.BatchItemResponse.getDefaultInstance(),
           0,
-          com.jjemson.s3.S3Protocol.DeleteResponse.class,
-          com.jjemson.s3.S3Protocol.DeleteResponse.getDefaultInstance());
+          com.jjemson.s3.S3Protocol.BatchItemResponse.class,
+          com.jjemson.s3.S3Protocol.BatchItemResponse.getDefaultInstance());
   }
 
   private static final com.google.protobuf.Descriptors.Descriptor
@@ -7124,16 +15247,46 @@ public final class S3Protocol {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_jjemson_s3_CheckinRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_CheckinBegin_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_CheckinBegin_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_FileChunk_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_FileChunk_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_TransferEnd_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_TransferEnd_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_jjemson_s3_CheckinResponse_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_jjemson_s3_CheckinResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_CheckinProbe_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_CheckinProbe_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_CheckinProbeResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_CheckinProbeResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_jjemson_s3_DelegationRequest_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_jjemson_s3_DelegationRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_DelegationResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_DelegationResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_jjemson_s3_DeleteRequest_descriptor;
   private static final 
@@ -7144,6 +15297,26 @@ public final class S3Protocol {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_jjemson_s3_DeleteResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_BatchCheckoutRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_BatchCheckoutRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_BatchCheckinRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_BatchCheckinRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_BatchDeleteRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_BatchDeleteRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_BatchItemResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_BatchItemResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -7153,50 +15326,99 @@ public final class S3Protocol {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\010s3.proto\022\016com.jjemson.s3\"\244\002\n\tS3Message" +
+      "\n\010s3.proto\022\016com.jjemson.s3\"\244\004\n\tS3Message" +
       "\0223\n\004type\030\001 \002(\0162%.com.jjemson.s3.S3Messag" +
-      "e.MessageType\"\326\001\n\013MessageType\022\022\n\016Checkin" +
-      "Request\020\001\022\023\n\017CheckinResponse\020\002\022\023\n\017Checko" +
-      "utRequest\020\003\022\024\n\020CheckoutResponse\020\004\022\020\n\014Log" +
-      "inRequest\020\005\022\021\n\rLoginResponse\020\006\022\025\n\021Delega" +
-      "tionRequest\020\007\022\021\n\rDeleteRequest\020\t\022\022\n\016Dele" +
-      "teResponse\020\n\022\020\n\014CloseRequest\020\013*\t\010\350\007\020\200\200\200\200" +
-      "\002\"y\n\014LoginRequest\022\014\n\004user\030\001 \002(\t\022\022\n\nclien" +
-      "tCert\030\002 \002(\0142G\n\005login\022\031.com.jjemson.s3.S3",
-      "Message\030\355\007 \001(\0132\034.com.jjemson.s3.LoginReq" +
-      "uest\"m\n\rLoginResponse\022\022\n\nserverCert\030\001 \002(" +
-      "\0142H\n\005login\022\031.com.jjemson.s3.S3Message\030\356\007" +
-      " \001(\0132\035.com.jjemson.s3.LoginResponse\"\206\001\n\017" +
-      "CheckoutRequest\022\023\n\013document_id\030\001 \002(\t\022\r\n\005" +
-      "owner\030\002 \001(\t2O\n\nco_request\022\031.com.jjemson." +
-      "s3.S3Message\030\353\007 \001(\0132\037.com.jjemson.s3.Che" +
-      "ckoutRequest\"\265\001\n\020CheckoutResponse\022\017\n\007suc" +
-      "cess\030\001 \002(\010\022*\n\010security\030\002 \001(\0162\030.com.jjems" +
-      "on.s3.Security\022\021\n\tfile_data\030\003 \001(\0142Q\n\013co_",
-      "response\022\031.com.jjemson.s3.S3Message\030\354\007 \001" +
-      "(\0132 .com.jjemson.s3.CheckoutResponse\"\264\001\n" +
-      "\016CheckinRequest\022\023\n\013document_id\030\001 \002(\t\022\021\n\t" +
-      "file_data\030\002 \002(\014\022*\n\010security\030\003 \002(\0162\030.com." +
-      "jjemson.s3.Security2N\n\nci_request\022\031.com." +
-      "jjemson.s3.S3Message\030\351\007 \001(\0132\036.com.jjemso" +
-      "n.s3.CheckinRequest\"\204\001\n\017CheckinResponse\022" +
-      "\017\n\007success\030\001 \002(\010\022\016\n\006reason\030\002 \001(\t2P\n\013ci_r" +
-      "esponse\022\031.com.jjemson.s3.S3Message\030\352\007 \001(" +
-      "\0132\037.com.jjemson.s3.CheckinResponse\"\264\001\n\021D",
-      "elegationRequest\022\023\n\013document_id\030\001 \002(\t\022\023\n" +
-      "\013client_user\030\002 \002(\t\022\020\n\010duration\030\003 \002(\005\022\021\n\t" +
-      "propagate\030\004 \002(\0102P\n\td_request\022\031.com.jjems" +
-      "on.s3.S3Message\030\357\007 \001(\0132!.com.jjemson.s3." +
-      "DelegationRequest\"\214\001\n\rDeleteRequest\022\023\n\013d" +
-      "ocument_id\030\001 \002(\t\022\026\n\016document_owner\030\002 \001(\t" +
-      "2N\n\013del_request\022\031.com.jjemson.s3.S3Messa" +
-      "ge\030\361\007 \001(\0132\035.com.jjemson.s3.DeleteRequest" +
-      "\"\203\001\n\016DeleteResponse\022\017\n\007success\030\001 \002(\010\022\016\n\006" +
-      "reason\030\002 \001(\t2P\n\014del_response\022\031.com.jjems",
-      "on.s3.S3Message\030\362\007 \001(\0132\036.com.jjemson.s3." +
-      "DeleteResponse*A\n\010Security\022\010\n\004NONE\020\000\022\023\n\017" +
-      "CONFIDENTIALITY\020\001\022\r\n\tINTEGRITY\020\002\022\007\n\003ALL\020" +
-      "\004B\034\n\016com.jjemson.s3B\nS3Protocol"
+      "e.MessageType\022\022\n\nrequest_id\030\002 \001(\003\"\302\003\n\013Me" +
+      "ssageType\022\022\n\016CheckinRequest\020\001\022\023\n\017Checkin" +
+      "Response\020\002\022\023\n\017CheckoutRequest\020\003\022\024\n\020Check" +
+      "outResponse\020\004\022\020\n\014LoginRequest\020\005\022\021\n\rLogin" +
+      "Response\020\006\022\025\n\021DelegationRequest\020\007\022\026\n\022Del" +
+      "egationResponse\020\010\022\021\n\rDeleteRequest\020\t\022\022\n\016" +
+      "DeleteResponse\020\n\022\020\n\014CloseRequest\020\013\022\020\n\014Ch" +
+      "eckinBegin\020\014\022\r\n\tFileChunk\020\r\022\017\n\013TransferE",
+      "nd\020\016\022\020\n\014CheckinProbe\020\017\022\030\n\024CheckinProbeRe" +
+      "sponse\020\020\022\010\n\004Ping\020\021\022\010\n\004Pong\020\022\022\030\n\024BatchChe" +
+      "ckoutRequest\020\023\022\027\n\023BatchCheckinRequest\020\024\022" +
+      "\026\n\022BatchDeleteRequest\020\025\022\025\n\021BatchItemResp" +
+      "onse\020\026*\t\010\350\007\020\200\200\200\200\002\"y\n\014LoginRequest\022\014\n\004use" +
+      "r\030\001 \001(\t\022\022\n\nclientCert\030\002 \001(\0142G\n\005login\022\031.c" +
+      "om.jjemson.s3.S3Message\030\355\007 \001(\0132\034.com.jje" +
+      "mson.s3.LoginRequest\"m\n\rLoginResponse\022\022\n" +
+      "\nserverCert\030\001 \001(\0142H\n\005login\022\031.com.jjemson" +
+      ".s3.S3Message\030\356\007 \001(\0132\035.com.jjemson.s3.Lo",
+      "ginResponse\"\227\001\n\017CheckoutRequest\022\023\n\013docum" +
+      "ent_id\030\001 \002(\t\022\r\n\005owner\030\002 \001(\t\022\017\n\007chunked\030\003" +
+      " \001(\0102O\n\nco_request\022\031.com.jjemson.s3.S3Me" +
+      "ssage\030\353\007 \001(\0132\037.com.jjemson.s3.CheckoutRe" +
+      "quest\"\305\001\n\020CheckoutResponse\022\017\n\007success\030\001 " +
+      "\002(\010\022*\n\010security\030\002 \001(\0162\030.com.jjemson.s3.S" +
+      "ecurity\022\021\n\tfile_data\030\003 \001(\014\022\016\n\006length\030\004 \001" +
+      "(\0032Q\n\013co_response\022\031.com.jjemson.s3.S3Mes" +
+      "sage\030\354\007 \001(\0132 .com.jjemson.s3.CheckoutRes" +
+      "ponse\"\264\001\n\016CheckinRequest\022\023\n\013document_id\030",
+      "\001 \002(\t\022\021\n\tfile_data\030\002 \002(\014\022*\n\010security\030\003 \002" +
+      "(\0162\030.com.jjemson.s3.Security2N\n\nci_reque" +
+      "st\022\031.com.jjemson.s3.S3Message\030\351\007 \001(\0132\036.c" +
+      "om.jjemson.s3.CheckinRequest\"\253\001\n\014Checkin" +
+      "Begin\022\023\n\013document_id\030\001 \002(\t\022*\n\010security\030\002" +
+      " \002(\0162\030.com.jjemson.s3.Security\022\016\n\006length" +
+      "\030\003 \001(\0032J\n\010ci_begin\022\031.com.jjemson.s3.S3Me" +
+      "ssage\030\364\007 \001(\0132\034.com.jjemson.s3.CheckinBeg" +
+      "in\"q\n\tFileChunk\022\020\n\010sequence\030\001 \002(\005\022\014\n\004dat" +
+      "a\030\002 \002(\0142D\n\005chunk\022\031.com.jjemson.s3.S3Mess",
+      "age\030\365\007 \001(\0132\031.com.jjemson.s3.FileChunk\"\230\001" +
+      "\n\013TransferEnd\022\023\n\013chunk_count\030\001 \002(\005\022\025\n\007su" +
+      "ccess\030\002 \001(\010:\004true\022\016\n\006reason\030\003 \001(\t2M\n\014tra" +
+      "nsfer_end\022\031.com.jjemson.s3.S3Message\030\366\007 " +
+      "\001(\0132\033.com.jjemson.s3.TransferEnd\"\204\001\n\017Che" +
+      "ckinResponse\022\017\n\007success\030\001 \002(\010\022\016\n\006reason\030" +
+      "\002 \001(\t2P\n\013ci_response\022\031.com.jjemson.s3.S3" +
+      "Message\030\352\007 \001(\0132\037.com.jjemson.s3.CheckinR" +
+      "esponse\"\253\001\n\014CheckinProbe\022\023\n\013document_id\030" +
+      "\001 \002(\t\022*\n\010security\030\002 \002(\0162\030.com.jjemson.s3",
+      ".Security\022\016\n\006sha256\030\003 \002(\0142J\n\010ci_probe\022\031." +
+      "com.jjemson.s3.S3Message\030\367\007 \001(\0132\034.com.jj" +
+      "emson.s3.CheckinProbe\"\206\001\n\024CheckinProbeRe" +
+      "sponse\022\021\n\tunchanged\030\001 \002(\0102[\n\021ci_probe_re" +
+      "sponse\022\031.com.jjemson.s3.S3Message\030\370\007 \001(\013" +
+      "2$.com.jjemson.s3.CheckinProbeResponse\"\314" +
+      "\001\n\021DelegationRequest\022\023\n\013document_id\030\001 \002(" +
+      "\t\022\023\n\013client_user\030\002 \002(\t\022\020\n\010duration\030\003 \002(\005" +
+      "\022\021\n\tpropagate\030\004 \002(\010\022\026\n\016document_owner\030\005 " +
+      "\001(\t2P\n\td_request\022\031.com.jjemson.s3.S3Mess",
+      "age\030\357\007 \001(\0132!.com.jjemson.s3.DelegationRe" +
+      "quest\"\211\001\n\022DelegationResponse\022\017\n\007success\030" +
+      "\001 \002(\010\022\016\n\006reason\030\002 \001(\t2R\n\nd_response\022\031.co" +
+      "m.jjemson.s3.S3Message\030\360\007 \001(\0132\".com.jjem" +
+      "son.s3.DelegationResponse\"\214\001\n\rDeleteRequ" +
+      "est\022\023\n\013document_id\030\001 \002(\t\022\026\n\016document_own" +
+      "er\030\002 \001(\t2N\n\013del_request\022\031.com.jjemson.s3" +
+      ".S3Message\030\361\007 \001(\0132\035.com.jjemson.s3.Delet" +
+      "eRequest\"\203\001\n\016DeleteResponse\022\017\n\007success\030\001" +
+      " \002(\010\022\016\n\006reason\030\002 \001(\t2P\n\014del_response\022\031.c",
+      "om.jjemson.s3.S3Message\030\362\007 \001(\0132\036.com.jje" +
+      "mson.s3.DeleteResponse\"\242\001\n\024BatchCheckout" +
+      "Request\022.\n\005items\030\001 \003(\0132\037.com.jjemson.s3." +
+      "CheckoutRequest2Z\n\020batch_co_request\022\031.co" +
+      "m.jjemson.s3.S3Message\030\373\007 \001(\0132$.com.jjem" +
+      "son.s3.BatchCheckoutRequest\"\237\001\n\023BatchChe" +
+      "ckinRequest\022-\n\005items\030\001 \003(\0132\036.com.jjemson" +
+      ".s3.CheckinRequest2Y\n\020batch_ci_request\022\031" +
+      ".com.jjemson.s3.S3Message\030\374\007 \001(\0132#.com.j" +
+      "jemson.s3.BatchCheckinRequest\"\235\001\n\022BatchD",
+      "eleteRequest\022,\n\005items\030\001 \003(\0132\035.com.jjemso" +
+      "n.s3.DeleteRequest2Y\n\021batch_del_request\022" +
+      "\031.com.jjemson.s3.S3Message\030\375\007 \001(\0132\".com." +
+      "jjemson.s3.BatchDeleteRequest\"\213\002\n\021BatchI" +
+      "temResponse\022\r\n\005index\030\001 \002(\005\0222\n\010checkout\030\002" +
+      " \001(\0132 .com.jjemson.s3.CheckoutResponse\0220" +
+      "\n\007checkin\030\003 \001(\0132\037.com.jjemson.s3.Checkin" +
+      "Response\022.\n\006delete\030\004 \001(\0132\036.com.jjemson.s" +
+      "3.DeleteResponse2Q\n\nbatch_item\022\031.com.jje" +
+      "mson.s3.S3Message\030\376\007 \001(\0132!.com.jjemson.s",
+      "3.BatchItemResponse*A\n\010Security\022\010\n\004NONE\020" +
+      "\000\022\023\n\017CONFIDENTIALITY\020\001\022\r\n\tINTEGRITY\020\002\022\007\n" +
+      "\003ALL\020\004B\034\n\016com.jjemson.s3B\nS3Protocol"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -7215,7 +15437,7 @@ public final class S3Protocol {
     internal_static_com_jjemson_s3_S3Message_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_jjemson_s3_S3Message_descriptor,
-        new java.lang.String[] { "Type", });
+        new java.lang.String[] { "Type", "RequestId", });
     internal_static_com_jjemson_s3_LoginRequest_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_com_jjemson_s3_LoginRequest_fieldAccessorTable = new
@@ -7233,43 +15455,103 @@ public final class S3Protocol {
     internal_static_com_jjemson_s3_CheckoutRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_jjemson_s3_CheckoutRequest_descriptor,
-        new java.lang.String[] { "DocumentId", "Owner", });
+        new java.lang.String[] { "DocumentId", "Owner", "Chunked", });
     internal_static_com_jjemson_s3_CheckoutResponse_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_com_jjemson_s3_CheckoutResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_jjemson_s3_CheckoutResponse_descriptor,
-        new java.lang.String[] { "Success", "Security", "FileData", });
+        new java.lang.String[] { "Success", "Security", "FileData", "Length", });
     internal_static_com_jjemson_s3_CheckinRequest_descriptor =
       getDescriptor().getMessageTypes().get(5);
     internal_static_com_jjemson_s3_CheckinRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_jjemson_s3_CheckinRequest_descriptor,
         new java.lang.String[] { "DocumentId", "FileData", "Security", });
-    internal_static_com_jjemson_s3_CheckinResponse_descriptor =
+    internal_static_com_jjemson_s3_CheckinBegin_descriptor =
       getDescriptor().getMessageTypes().get(6);
+    internal_static_com_jjemson_s3_CheckinBegin_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_CheckinBegin_descriptor,
+        new java.lang.String[] { "DocumentId", "Security", "Length", });
+    internal_static_com_jjemson_s3_FileChunk_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_com_jjemson_s3_FileChunk_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_FileChunk_descriptor,
+        new java.lang.String[] { "Sequence", "Data", });
+    internal_static_com_jjemson_s3_TransferEnd_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_com_jjemson_s3_TransferEnd_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_TransferEnd_descriptor,
+        new java.lang.String[] { "ChunkCount", "Success", "Reason", });
+    internal_static_com_jjemson_s3_CheckinResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
     internal_static_com_jjemson_s3_CheckinResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_jjemson_s3_CheckinResponse_descriptor,
         new java.lang.String[] { "Success", "Reason", });
+    internal_static_com_jjemson_s3_CheckinProbe_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_com_jjemson_s3_CheckinProbe_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_CheckinProbe_descriptor,
+        new java.lang.String[] { "DocumentId", "Security", "Sha256", });
+    internal_static_com_jjemson_s3_CheckinProbeResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_com_jjemson_s3_CheckinProbeResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_CheckinProbeResponse_descriptor,
+        new java.lang.String[] { "Unchanged", });
     internal_static_com_jjemson_s3_DelegationRequest_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_com_jjemson_s3_DelegationRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_jjemson_s3_DelegationRequest_descriptor,
-        new java.lang.String[] { "DocumentId", "ClientUser", "Duration", "Propagate", });
+        new java.lang.String[] { "DocumentId", "ClientUser", "Duration", "Propagate", "DocumentOwner", });
+    internal_static_com_jjemson_s3_DelegationResponse_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_com_jjemson_s3_DelegationResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_DelegationResponse_descriptor,
+        new java.lang.String[] { "Success", "Reason", });
     internal_static_com_jjemson_s3_DeleteRequest_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_com_jjemson_s3_DeleteRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_jjemson_s3_DeleteRequest_descriptor,
         new java.lang.String[] { "DocumentId", "DocumentOwner", });
     internal_static_com_jjemson_s3_DeleteResponse_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_com_jjemson_s3_DeleteResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_jjemson_s3_DeleteResponse_descriptor,
         new java.lang.String[] { "Success", "Reason", });
+    internal_static_com_jjemson_s3_BatchCheckoutRequest_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_com_jjemson_s3_BatchCheckoutRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_BatchCheckoutRequest_descriptor,
+        new java.lang.String[] { "Items", });
+    internal_static_com_jjemson_s3_BatchCheckinRequest_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_com_jjemson_s3_BatchCheckinRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_BatchCheckinRequest_descriptor,
+        new java.lang.String[] { "Items", });
+    internal_static_com_jjemson_s3_BatchDeleteRequest_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_com_jjemson_s3_BatchDeleteRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_BatchDeleteRequest_descriptor,
+        new java.lang.String[] { "Items", });
+    internal_static_com_jjemson_s3_BatchItemResponse_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_com_jjemson_s3_BatchItemResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_BatchItemResponse_descriptor,
+        new java.lang.String[] { "Index", "Checkout", "Checkin", "Delete", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -1,35 +1,69 @@
 package com.jjemson.s3;
 
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * S3Security
  *
+ * Key stores are parsed once and cached process-wide, along with the key pairs and certificates
+ * that have been decrypted or verified against the CA, and the SSLContext built from them.  A cached
+ * store is reloaded when its file changes on disk, or explicitly through {@link #invalidate(String)}.
+ *
+ * Sharing one SSLContext per identity is what makes TLS sessions resumable: sessions are cached per
+ * context, {@code s3.tls.sessionCacheSize} of them for {@code s3.tls.sessionTimeout} seconds, and a client
+ * reconnecting with the same context resumes its session instead of doing a full handshake.  On JVMs that
+ * support them, TLS 1.3 servers hand out stateless session tickets as well.
+ *
+ * A user is known by the name of the directory holding their certificate, {@code certs/<user>/<user>.crt},
+ * which is also the alias of the certificate in the user's key store.
+ *
  * @author Jonathan Jemson
  * @version 1.0
  */
 public class S3Security {
 
+    private static final ConcurrentHashMap<String, CachedKeyStore> keyStores = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Certificate, String> registeredUsers = new ConcurrentHashMap<>();
+
+    private static final int SESSION_CACHE_SIZE = Integer.getInteger("s3.tls.sessionCacheSize", 10000);
+    private static final int SESSION_TIMEOUT = Integer.getInteger("s3.tls.sessionTimeout", 3600);
+
     private static void printError(String s) {
         System.err.println("[Security] " + s);
     }
 
     public static Certificate getCertificate(String storeName, String storePassword, String username) throws IOException {
         try {
-            KeyStore ks = loadKeyStore(storeName, storePassword);
+            CachedKeyStore cached = loadCachedKeyStore(storeName, storePassword);
+            Certificate certificate = cached.certificates.get(username);
+            if (certificate != null) {
+                return certificate;
+            }
+            KeyStore ks = cached.keyStore;
             PrivateKey privateKey = (PrivateKey) ks.getKey(username, storePassword.toCharArray());
             if (privateKey == null) {
                 return null;
             }
-            Certificate certificate = ks.getCertificate(username);
-            if (!verifyWithCA(ks, certificate)) {
+            certificate = ks.getCertificate(username);
+            if (!verifyWithCA(cached, certificate)) {
                 return null;
             }
+            cached.certificates.put(username, certificate);
             return certificate;
         } catch (GeneralSecurityException gse) {
             printError("Security exception");
@@ -40,7 +74,12 @@ public class S3Security {
 
     public static KeyPair getKeyPair(String storeName, String storePassword, String username) throws IOException {
         try {
-            KeyStore ks = loadKeyStore(storeName, storePassword);
+            CachedKeyStore cached = loadCachedKeyStore(storeName, storePassword);
+            KeyPair keyPair = cached.keyPairs.get(username);
+            if (keyPair != null) {
+                return keyPair;
+            }
+            KeyStore ks = cached.keyStore;
             PrivateKey privateKey = (PrivateKey) ks.getKey(username, storePassword.toCharArray());
             if (privateKey == null) {
                 return null;
@@ -49,10 +88,12 @@ public class S3Security {
             if (certificate == null) {
                 return null;
             }
-            if (!verifyWithCA(ks, certificate)) {
+            if (!verifyWithCA(cached, certificate)) {
                 return null;
             }
-            return new KeyPair(certificate.getPublicKey(), privateKey);
+            keyPair = new KeyPair(certificate.getPublicKey(), privateKey);
+            cached.keyPairs.put(username, keyPair);
+            return keyPair;
         } catch (GeneralSecurityException gse) {
             printError("Security exception");
             gse.printStackTrace();
@@ -62,8 +103,7 @@ public class S3Security {
 
     public static boolean verifyCertificate(String storeName, String storePassword, Certificate c) throws IOException {
         try {
-            KeyStore ks = loadKeyStore(storeName, storePassword);
-            return verifyWithCA(ks, c);
+            return verifyWithCA(loadCachedKeyStore(storeName, storePassword), c);
         } catch (GeneralSecurityException gse) {
             printError("Security exception");
             gse.printStackTrace();
@@ -71,20 +111,103 @@ public class S3Security {
         }
     }
 
+    /**
+     * Returns the TLS context for the identity in the given store, trusting the certificates in the same
+     * store.  The context is built once and shared, along with its session caches.
+     */
+    public static SSLContext getSSLContext(String storeName, String storePassword)
+            throws IOException, GeneralSecurityException
+    {
+        CachedKeyStore cached = loadCachedKeyStore(storeName, storePassword);
+        SSLContext sslContext = cached.sslContext;
+        if (sslContext != null) {
+            return sslContext;
+        }
+        synchronized (cached) {
+            if (cached.sslContext == null) {
+                KeyManagerFactory kmf = KeyManagerFactory.getInstance("SunX509");
+                kmf.init(cached.keyStore, storePassword.toCharArray());
+                TrustManagerFactory tmf = TrustManagerFactory.getInstance("SunX509");
+                tmf.init(cached.keyStore);
+                sslContext = SSLContext.getInstance("TLS");
+                sslContext.init(kmf.getKeyManagers(), tmf.getTrustManagers(), null);
+                sslContext.getClientSessionContext().setSessionCacheSize(SESSION_CACHE_SIZE);
+                sslContext.getClientSessionContext().setSessionTimeout(SESSION_TIMEOUT);
+                sslContext.getServerSessionContext().setSessionCacheSize(SESSION_CACHE_SIZE);
+                sslContext.getServerSessionContext().setSessionTimeout(SESSION_TIMEOUT);
+                cached.sslContext = sslContext;
+            }
+            return cached.sslContext;
+        }
+    }
+
+    /**
+     * Returns the key store for the given store name.  The returned store is shared by every caller
+     * and must not be modified.
+     */
     public static KeyStore loadKeyStore(String storeName, String password)
             throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException
     {
-        java.io.FileInputStream fis = null;
-        KeyStore ks = KeyStore.getInstance(KeyStore.getDefaultType());
-        try {
-            fis = new java.io.FileInputStream("../certs/" + storeName + "/" + storeName + ".jks");
-            ks.load(fis, password.toCharArray());
-        } finally {
-            if (fis != null) {
-                fis.close();
+        return loadCachedKeyStore(storeName, password).keyStore;
+    }
+
+    /**
+     * Drops the cached key store, key pairs and verified certificates for the given store name.
+     * The next access reloads the store from disk.
+     */
+    public static void invalidate(String storeName) {
+        keyStores.remove(storeName);
+    }
+
+    public static void invalidateAll() {
+        keyStores.clear();
+        registeredUsers.clear();
+    }
+
+    private static File keyStoreFile(String storeName) {
+        return new File("../certs/" + storeName + "/" + storeName + ".jks");
+    }
+
+    private static CachedKeyStore loadCachedKeyStore(String storeName, String password)
+            throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException
+    {
+        File storeFile = keyStoreFile(storeName);
+        long lastModified = storeFile.lastModified();
+        long length = storeFile.length();
+        CachedKeyStore cached = keyStores.get(storeName);
+        if (cached != null && cached.matches(password, lastModified, length)) {
+            return cached;
+        }
+        synchronized (keyStores) {
+            cached = keyStores.get(storeName);
+            if (cached != null && cached.matches(password, lastModified, length)) {
+                return cached;
+            }
+            java.io.FileInputStream fis = null;
+            KeyStore ks = KeyStore.getInstance(KeyStore.getDefaultType());
+            try {
+                fis = new java.io.FileInputStream(storeFile);
+                ks.load(fis, password.toCharArray());
+            } finally {
+                if (fis != null) {
+                    fis.close();
+                }
             }
+            cached = new CachedKeyStore(ks, password, lastModified, length);
+            keyStores.put(storeName, cached);
+            return cached;
+        }
+    }
+
+    private static boolean verifyWithCA(CachedKeyStore cached, Certificate certificate) {
+        if (cached.verified.contains(certificate)) {
+            return true;
+        }
+        if (!verifyWithCA(cached.keyStore, certificate)) {
+            return false;
         }
-        return ks;
+        cached.verified.add(certificate);
+        return true;
     }
 
     private static boolean verifyWithCA(KeyStore keyStore,  Certificate certificate) {
@@ -117,4 +240,67 @@ public class S3Security {
         }
         return null;
     }
+
+    /**
+     * Returns the user whose certificate, {@code certs/<user>/<user>.crt}, is the given one, or null if no user
+     * is registered with it.  The certificates are read again whenever one is not found, so users added since
+     * are picked up.
+     */
+    public static String registeredUser(Certificate certificate) {
+        String user = registeredUsers.get(certificate);
+        if (user != null) {
+            return user;
+        }
+        synchronized (registeredUsers) {
+            user = registeredUsers.get(certificate);
+            if (user == null) {
+                loadRegisteredUsers();
+                user = registeredUsers.get(certificate);
+            }
+            return user;
+        }
+    }
+
+    private static void loadRegisteredUsers() {
+        Map<Certificate, String> users = new HashMap<>();
+        File[] directories = new File("../certs").listFiles(File::isDirectory);
+        if (directories != null) {
+            for (File directory : directories) {
+                File certificateFile = new File(directory, directory.getName() + ".crt");
+                if (!certificateFile.isFile()) {
+                    continue;
+                }
+                try (InputStream input = new FileInputStream(certificateFile)) {
+                    users.put(CertificateFactory.getInstance("X.509").generateCertificate(input), directory.getName());
+                } catch (IOException | CertificateException e) {
+                    printError("Could not read the certificate of " + directory.getName() + ".");
+                }
+            }
+        }
+        registeredUsers.clear();
+        registeredUsers.putAll(users);
+    }
+
+    private static class CachedKeyStore {
+        private final KeyStore keyStore;
+        private final String password;
+        private final long lastModified;
+        private final long length;
+
+        private final ConcurrentHashMap<String, KeyPair> keyPairs = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, Certificate> certificates = new ConcurrentHashMap<>();
+        private final Set<Certificate> verified = ConcurrentHashMap.newKeySet();
+        private volatile SSLContext sslContext;
+
+        CachedKeyStore(KeyStore keyStore, String password, long lastModified, long length) {
+            this.keyStore = keyStore;
+            this.password = password;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        boolean matches(String password, long lastModified, long length) {
+            return this.password.equals(password) && this.lastModified == lastModified && this.length == length;
+        }
+    }
 }
@@ -5,26 +5,33 @@ import com.google.protobuf.ExtensionRegistry;
 import com.jjemson.s3.S3Protocol.*;
 import com.jjemson.s3.S3Security;
 
-import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.SSLSocket;
 import java.io.*;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.security.GeneralSecurityException;
-import java.security.KeyStore;
-import java.security.PrivateKey;
-import java.security.cert.Certificate;
-import java.security.cert.CertificateEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
  * S3Client
  *
+ * Every request is tagged with a request ID and written as soon as it is made, so any number of them can be
+ * in flight over the one connection.  A reader thread takes the responses as they arrive, in whatever order
+ * the server finishes them, and completes the future of the request each belongs to.  Futures are completed
+ * on the client's worker threads, which also hash and upload checkins, so callbacks never hold up the
+ * reader.  The blocking methods wait for the future of the matching asynchronous one.
+ *
  * @author Jonathan Jemson
  * @version 1.0
  */
@@ -40,20 +47,42 @@ public class S3Client {
         registry.add(LoginResponse.login);
         registry.add(LoginRequest.login);
         registry.add(DelegationRequest.dRequest);
+        registry.add(DelegationResponse.dResponse);
         registry.add(DeleteRequest.delRequest);
         registry.add(DeleteResponse.delResponse);
+        registry.add(CheckinBegin.ciBegin);
+        registry.add(FileChunk.chunk);
+        registry.add(TransferEnd.transferEnd);
+        registry.add(CheckinProbe.ciProbe);
+        registry.add(CheckinProbeResponse.ciProbeResponse);
+        registry.add(BatchCheckoutRequest.batchCoRequest);
+        registry.add(BatchCheckinRequest.batchCiRequest);
+        registry.add(BatchDeleteRequest.batchDelRequest);
+        registry.add(BatchItemResponse.batchItem);
     }
 
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int LOGIN_TIMEOUT_MILLIS = Integer.getInteger("s3.client.loginTimeout", 10000);
+    private static final AtomicInteger clientCount = new AtomicInteger();
+
     private String hostname;
     private int port;
 
     private Socket socket;
     private OutputStream outputStream;
     private InputStream inputStream;
+    private final Object writeLock = new Object();
+
+    // Requests waiting for their response, by request ID.
+    private final Map<Long, ResponseHandler<?>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong nextRequestID = new AtomicLong(1);
+    private final ExecutorService workers;
 
     private Set<S3FileInfo> openFiles;
 
-    private boolean closed;
+    private Thread shutdownHook;
+    private volatile boolean connected;
+    private volatile boolean closed;
 
     private static void printInfo(String s) {
         System.out.println("[Client] " + s);
@@ -68,184 +97,528 @@ public class S3Client {
     public S3Client(String host, int port) {
         this.hostname = host;
         this.port = port;
-        this.openFiles = new HashSet<>();
+        this.openFiles = ConcurrentHashMap.newKeySet();
+        int client = clientCount.incrementAndGet();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "s3-client-" + client + "-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
         closed = true;
     }
 
-    public void connect(String username, Certificate myCert) {
+    /**
+     * Connects and logs in, exiting the JVM if that fails.
+     */
+    public void connect(String username) {
+        if (!tryConnect(username)) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Connects and logs in.  The TLS handshake authenticates the server and this user's certificate against
+     * the CA, and the server refuses the login unless the certificate is registered to this user.  The login
+     * response is waited for, at most {@code s3.client.loginTimeout} milliseconds.
+     *
+     * @return whether the client is now connected and logged in
+     */
+    public boolean tryConnect(String username) {
         try {
-            KeyStore keyStore = S3Security.loadKeyStore(username, "cs6238");
-            KeyManagerFactory kmf = KeyManagerFactory.getInstance("SunX509");
-            kmf.init(keyStore, "cs6238".toCharArray());
-            TrustManagerFactory tmf = TrustManagerFactory.getInstance("SunX509");
-            tmf.init(keyStore);
-            SSLContext sslContext = SSLContext.getInstance("TLS");
-            sslContext.init(kmf.getKeyManagers(), tmf.getTrustManagers(), null);
-            socket = sslContext.getSocketFactory().createSocket(hostname, port);
+            // Shared by every client of the user, so reconnecting resumes the TLS session.
+            SSLContext sslContext = S3Security.getSSLContext(username, "cs6238");
+            SSLSocket sslSocket = (SSLSocket) sslContext.getSocketFactory().createSocket(hostname, port);
+            socket = sslSocket;
+            sslSocket.startHandshake();
             inputStream = socket.getInputStream();
             outputStream = socket.getOutputStream();
 
             // Even if the user doesn't explicitly close, we will.
-            Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+            shutdownHook = new Thread(this::close);
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
 
             closed = false;
 
         } catch (IOException ioe) {
             printError("Could not connect to " + hostname + ":" + port + ".");
-            System.exit(1);
-            return;
+            return false;
         } catch (GeneralSecurityException gse) {
             gse.printStackTrace();
+            return false;
         }
 
-        // TODO Perform mutual authentication.
         try {
-            ByteString cert = ByteString.copyFrom(myCert.getEncoded());
-            LoginRequest login = LoginRequest.newBuilder().setUser(username).setClientCert(cert).build();
+            LoginRequest login = LoginRequest.newBuilder().setUser(username).build();
             S3Message msg = S3Message.newBuilder()
                     .setType(S3Message.MessageType.LoginRequest)
                     .setExtension(LoginRequest.login, login).build();
             msg.writeDelimitedTo(outputStream);
-            this.socket.getOutputStream().flush();
-
-            // TODO Receive server's authentication
+            outputStream.flush();
 
-            LoginResponse response = null;
-            while (response == null) {
-                S3Message mg = S3Message.parseDelimitedFrom(inputStream, registry);
-                response = mg.getExtension(LoginResponse.login);
+            socket.setSoTimeout(LOGIN_TIMEOUT_MILLIS);
+            S3Message response;
+            try {
+                response = S3Message.parseDelimitedFrom(inputStream, registry);
+            } catch (SocketTimeoutException ste) {
+                printError("The server did not answer the login of " + username + ".");
+                close();
+                return false;
+            } catch (IOException ioe) {
+                // A refused login closes the connection, which may surface as a TLS error.
+                response = null;
             }
-            Certificate server = S3Security.reconstructEncodedCertificate(response.getServerCert().toByteArray());
-            if (!S3Security.verifyCertificate(username, "cs6238", server)) {
-                printError("Could not verify certificate");
-                System.exit(1);
+            if (response == null || response.getType() != S3Message.MessageType.LoginResponse) {
+                printError("The server refused the login of " + username + ".");
+                close();
+                return false;
             }
+            socket.setSoTimeout(0);
         } catch (IOException ioe) {
             printError("Could not communicate with server");
             ioe.printStackTrace();
-            return;
-        } catch (CertificateEncodingException cee) {
-            cee.printStackTrace();
-            return;
+            close();
+            return false;
         }
 
+        connected = true;
+        Thread reader = new Thread(this::readResponses, "s3-client-reader-" + username);
+        reader.setDaemon(true);
+        reader.start();
+
         // TODO Encrypt the link
+        return true;
     }
 
-    public File checkout(String filename) {
-        return this.checkout(filename, null);
+    /**
+     * Returns whether the client is logged in and its connection has not been closed.
+     */
+    public boolean isConnected() {
+        return connected && !closed;
     }
 
-    public File checkout(String filename, String user) {
-        CheckoutRequest request = CheckoutRequest.newBuilder().setDocumentId(filename).build();
-        // Delegation.
-        if (user != null && !user.equals("")) {
-            request = CheckoutRequest.newBuilder().setDocumentId(filename).setOwner(user).build();
+    /**
+     * Checks that the server still answers on this connection.
+     *
+     * @return a future of true once the server has answered
+     */
+    public CompletableFuture<Boolean> pingAsync() {
+        return request(S3Message.newBuilder().setType(S3Message.MessageType.Ping),
+                resp -> resp.getType() == S3Message.MessageType.Pong);
+    }
+
+    /**
+     * Runs on the reader thread: hands each response message to the request it belongs to until the
+     * connection closes, then fails the requests still waiting.
+     */
+    private void readResponses() {
+        IOException failure = null;
+        try {
+            S3Message msg;
+            while ((msg = S3Message.parseDelimitedFrom(inputStream, registry)) != null) {
+                long requestID = msg.getRequestId();
+                ResponseHandler<?> handler = pending.get(requestID);
+                if (handler == null) {
+                    printError("Ignoring response to unknown request " + requestID);
+                    continue;
+                }
+                try {
+                    if (handler.accept(msg)) {
+                        pending.remove(requestID);
+                    }
+                } catch (IOException ioe) {
+                    pending.remove(requestID);
+                    handler.fail(ioe);
+                }
+            }
+        } catch (IOException ioe) {
+            failure = ioe;
         }
-        S3Message msg = S3Message.newBuilder().setType(S3Message.MessageType.CheckoutRequest).setExtension(CheckoutRequest.coRequest, request).build();
+        connected = false;
+        IOException cause = closed ? new IOException("Client closed")
+                : failure != null ? failure : new EOFException("Connection closed by server");
+        for (Long requestID : new ArrayList<>(pending.keySet())) {
+            ResponseHandler<?> handler = pending.remove(requestID);
+            if (handler != null) {
+                handler.fail(cause);
+            }
+        }
+        workers.shutdown();
+    }
+
+    /**
+     * Writes the first message of a request under a new request ID, and returns the future its response
+     * handler completes.
+     */
+    private <T> CompletableFuture<T> send(S3Message.Builder message, ResponseHandler<T> handler) {
+        long requestID = nextRequestID.getAndIncrement();
+        handler.requestID = requestID;
+        pending.put(requestID, handler);
         try {
-            msg.writeDelimitedTo(outputStream);
-            msg = null;
+            if (!connected || closed) {
+                throw new IOException("Not connected to " + hostname + ":" + port);
+            }
+            write(message.setRequestId(requestID));
         } catch (IOException ioe) {
+            pending.remove(requestID);
+            handler.fail(ioe);
+        }
+        return handler.future;
+    }
 
+    /**
+     * Writes one message whole, so the messages of concurrent requests do not corrupt one another.
+     */
+    private void write(S3Message.Builder message) throws IOException {
+        S3Message msg = message.build();
+        synchronized (writeLock) {
+            msg.writeDelimitedTo(outputStream);
         }
+    }
 
-        while (msg == null) {
-            try {
-                msg = S3Message.parseDelimitedFrom(inputStream, registry);
-            } catch (IOException ioe) {
+    private <T> CompletableFuture<T> request(S3Message.Builder message, ResponseParser<T> parser) {
+        return send(message, new ResponseHandler<T>() {
+            @Override
+            boolean accept(S3Message msg) {
+                printInfo("" + msg);
+                complete(parser.parse(msg));
+                return true;
             }
+        });
+    }
+
+    private void post(Runnable task) {
+        try {
+            workers.execute(task);
+        } catch (RejectedExecutionException ree) {
+            // The connection is gone; nothing is left for callbacks to hold up.
+            task.run();
         }
-        printInfo("Message:\n" + msg);
+    }
+
+    /**
+     * Waits for the result of an asynchronous request.
+     *
+     * @return the result, or {@code failed} if the request could not be completed
+     */
+    private static <T> T await(CompletableFuture<T> future, T failed) {
         try {
-            CheckoutResponse response = msg.getExtension(CheckoutResponse.coResponse);
-            if (!response.getSuccess()) {
-                return null;
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            printError("Request failed: " + cause);
+            return failed;
+        }
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable t) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(t);
+        return future;
+    }
+
+    public File checkout(String filename) {
+        return this.checkout(filename, null);
+    }
+
+    public File checkout(String filename, String user) {
+        return await(checkoutAsync(filename, user), null);
+    }
+
+    /**
+     * Checks out several documents of the same owner, all in flight at once.
+     *
+     * @return the files that were checked out, by document ID
+     */
+    public Map<String, File> checkout(Collection<String> filenames, String user) {
+        Map<String, CompletableFuture<File>> futures = new LinkedHashMap<>();
+        for (String filename : filenames) {
+            futures.computeIfAbsent(filename, f -> checkoutAsync(f, user));
+        }
+        Map<String, File> files = new HashMap<>();
+        futures.forEach((filename, future) -> {
+            File file = await(future, null);
+            if (file != null) {
+                files.put(filename, file);
             }
-            printInfo("Response:\n" + response);
-            File file = new File(filename);
-            FileOutputStream fileOutputStream = new FileOutputStream(file);
-            fileOutputStream.write(response.getFileData().toByteArray());
-            fileOutputStream.close();
-            openFiles.add(new S3FileInfo(file, response.getSecurity()));
-            return file;
-        } catch (IOException ioe) {
+        });
+        return files;
+    }
+
+    /**
+     * Checks out many small documents of the same owner in one batch request.  Each document is sent whole,
+     * so large documents are better checked out with {@link #checkout(Collection, String)}.
+     *
+     * @return the files that were checked out, by document ID
+     */
+    public Map<String, File> checkoutBatch(Collection<String> filenames, String user) {
+        return await(checkoutBatchAsync(filenames, user), Collections.<String, File>emptyMap());
+    }
+
+    public CompletableFuture<Map<String, File>> checkoutBatchAsync(Collection<String> filenames, String user) {
+        List<String> documents = new ArrayList<>(new LinkedHashSet<>(filenames));
+        BatchCheckoutRequest.Builder batch = BatchCheckoutRequest.newBuilder();
+        for (String filename : documents) {
+            CheckoutRequest.Builder item = CheckoutRequest.newBuilder().setDocumentId(filename);
+            if (user != null && !user.equals("")) {
+                item.setOwner(user);
+            }
+            batch.addItems(item);
         }
-        return null;
+        S3Message.Builder msg = S3Message.newBuilder()
+                .setType(S3Message.MessageType.BatchCheckoutRequest)
+                .setExtension(BatchCheckoutRequest.batchCoRequest, batch.build());
+        // The documents are written by the worker completing the batch, not by the reader thread.
+        return send(msg, new PendingBatch<>(documents, (filename, item) ->
+                item.getCheckout().getSuccess() ? item.getCheckout() : null))
+                .thenApply(responses -> {
+                    Map<String, File> files = new HashMap<>();
+                    responses.forEach((filename, response) -> {
+                        File file = saveCheckout(filename, response);
+                        if (file != null) {
+                            files.put(filename, file);
+                        }
+                    });
+                    return files;
+                });
+    }
+
+    public CompletableFuture<File> checkoutAsync(String filename) {
+        return checkoutAsync(filename, null);
+    }
+
+    /**
+     * Checks out a document, which is written to a file of the same name in the working directory.
+     *
+     * @return a future of the file, or of null if the server refused the checkout or the transfer failed
+     */
+    public CompletableFuture<File> checkoutAsync(String filename, String user) {
+        CheckoutRequest.Builder requestBuilder = CheckoutRequest.newBuilder().setDocumentId(filename).setChunked(true);
+        // Delegation.
+        if (user != null && !user.equals("")) {
+            requestBuilder.setOwner(user);
+        }
+        S3Message.Builder msg = S3Message.newBuilder()
+                .setType(S3Message.MessageType.CheckoutRequest)
+                .setExtension(CheckoutRequest.coRequest, requestBuilder.build());
+        return send(msg, new PendingCheckout(filename));
     }
 
     public boolean checkin(File file,  String filename, Security flag) {
+        return await(checkinAsync(file, filename, flag), false);
+    }
+
+    /**
+     * Checks in a file.  Its SHA-256 is sent first, and the upload is skipped if the server already has the
+     * same content with the same security.
+     *
+     * @return a future of whether the server has stored the file
+     */
+    public CompletableFuture<Boolean> checkinAsync(File file, String filename, Security flag) {
         if (!file.exists()) {
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
-        byte[] fileData;
-        ByteString fileString;
+        openFiles.remove(new S3FileInfo(file, Security.NONE));
+        CompletableFuture<byte[]> hash;
         try {
-            fileData = Files.readAllBytes(file.toPath());
-            fileString = ByteString.copyFrom(fileData);
-        } catch (IOException ioe) {
-            printError("Could not read file at " + file.getAbsolutePath());
-            ioe.printStackTrace();
-            return false;
+            hash = CompletableFuture.supplyAsync(() -> sha256(file), workers);
+        } catch (RejectedExecutionException ree) {
+            return failedFuture(new IOException("Client closed"));
         }
-        openFiles.remove(new S3FileInfo(file, Security.NONE));
-        CheckinRequest checkIn = CheckinRequest
-                .newBuilder()
+        return hash.thenCompose(sha256 -> sha256 == null ? CompletableFuture.completedFuture(false) : isUnchanged(filename, flag, sha256))
+                .thenComposeAsync(unchanged -> {
+                    if (unchanged) {
+                        printInfo(filename + " is unchanged on the server; not uploading.");
+                        return CompletableFuture.completedFuture(true);
+                    }
+                    return upload(file, filename, flag);
+                }, workers);
+    }
+
+    /**
+     * Checks in many small files with the same security in one batch request, by document ID.  The files are
+     * sent whole and without the unchanged-content probe of {@link #checkinAsync(File, String, Security)}.
+     *
+     * @return whether each document was stored, by document ID
+     */
+    public Map<String, Boolean> checkinBatch(Map<String, File> files, Security flag) {
+        return await(checkinBatchAsync(files, flag), Collections.<String, Boolean>emptyMap());
+    }
+
+    public CompletableFuture<Map<String, Boolean>> checkinBatchAsync(Map<String, File> files, Security flag) {
+        List<String> documents = new ArrayList<>();
+        List<String> unreadable = new ArrayList<>();
+        BatchCheckinRequest.Builder batch = BatchCheckinRequest.newBuilder();
+        for (Map.Entry<String, File> entry : files.entrySet()) {
+            File file = entry.getValue();
+            ByteString data;
+            try (InputStream fileStream = new FileInputStream(file)) {
+                data = ByteString.readFrom(fileStream, CHUNK_SIZE);
+            } catch (IOException ioe) {
+                printError("Could not read file at " + file.getAbsolutePath());
+                unreadable.add(entry.getKey());
+                continue;
+            }
+            openFiles.remove(new S3FileInfo(file, Security.NONE));
+            documents.add(entry.getKey());
+            batch.addItems(CheckinRequest.newBuilder().setDocumentId(entry.getKey()).setFileData(data).setSecurity(flag));
+        }
+        S3Message.Builder msg = S3Message.newBuilder()
+                .setType(S3Message.MessageType.BatchCheckinRequest)
+                .setExtension(BatchCheckinRequest.batchCiRequest, batch.build());
+        return send(msg, new PendingBatch<>(documents, (filename, item) -> item.getCheckin().getSuccess()))
+                .thenApply(results -> {
+                    for (String filename : unreadable) {
+                        results.put(filename, false);
+                    }
+                    return results;
+                });
+    }
+
+    /**
+     * Returns the SHA-256 of the file, or null if it cannot be read; the upload reports that.
+     */
+    private static byte[] sha256(File file) {
+        try (InputStream fileStream = new FileInputStream(file)) {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[CHUNK_SIZE];
+            for (int len; (len = fileStream.read(buffer)) != -1; ) {
+                sha256.update(buffer, 0, len);
+            }
+            return sha256.digest();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sends the SHA-256 of the file and returns whether the server already has the same content and security
+     * stored under the filename.
+     */
+    private CompletableFuture<Boolean> isUnchanged(String filename, Security flag, byte[] sha256) {
+        CheckinProbe probe = CheckinProbe.newBuilder()
                 .setDocumentId(filename)
                 .setSecurity(flag)
-                .setFileData(fileString)
+                .setSha256(ByteString.copyFrom(sha256))
                 .build();
-        S3Message message = S3Message
+        S3Message.Builder msg = S3Message.newBuilder()
+                .setType(S3Message.MessageType.CheckinProbe)
+                .setExtension(CheckinProbe.ciProbe, probe);
+        return request(msg, resp -> resp.getType() == S3Message.MessageType.CheckinProbeResponse
+                && resp.getExtension(CheckinProbeResponse.ciProbeResponse).getUnchanged());
+    }
+
+    /**
+     * Streams the file as a chunked checkin.  Runs on a worker thread.
+     */
+    private CompletableFuture<Boolean> upload(File file, String filename, Security flag) {
+        CheckinBegin begin = CheckinBegin
                 .newBuilder()
-                .setExtension(CheckinRequest.ciRequest, checkIn)
-                .setType(S3Message.MessageType.CheckinRequest)
+                .setDocumentId(filename)
+                .setSecurity(flag)
+                .setLength(file.length())
                 .build();
+        S3Message.Builder message = S3Message
+                .newBuilder()
+                .setExtension(CheckinBegin.ciBegin, begin)
+                .setType(S3Message.MessageType.CheckinBegin);
+        printInfo("Writing checkin to socket:\n" + message.build());
+        ResponseHandler<Boolean> handler = new ResponseHandler<Boolean>() {
+            @Override
+            boolean accept(S3Message resp) {
+                printInfo("" + resp);
+                complete(resp.getType() == S3Message.MessageType.CheckinResponse && resp.getExtension(CheckinResponse.ciResponse).getSuccess());
+                return true;
+            }
+        };
+        CompletableFuture<Boolean> response = send(message, handler);
+        if (response.isDone()) {
+            return response;
+        }
         try {
-            printInfo("Writing checkin to socket:\n" + message);
-            message.writeDelimitedTo(outputStream);
-            S3Message resp = null;
-            while (resp == null) {
-                resp = S3Message.parseDelimitedFrom(inputStream, registry);
+            int sequence = 0;
+            boolean readable = true;
+            try (InputStream fileStream = new FileInputStream(file)) {
+                byte[] buffer = new byte[CHUNK_SIZE];
+                for (int len; (len = fileStream.read(buffer)) != -1; sequence++) {
+                    FileChunk chunk = FileChunk.newBuilder()
+                            .setSequence(sequence)
+                            .setData(ByteString.copyFrom(buffer, 0, len))
+                            .build();
+                    write(S3Message.newBuilder()
+                            .setType(S3Message.MessageType.FileChunk)
+                            .setRequestId(handler.requestID)
+                            .setExtension(FileChunk.chunk, chunk));
+                }
+            } catch (FileNotFoundException fnfe) {
+                printError("Could not read file at " + file.getAbsolutePath());
+                readable = false;
             }
-            printInfo("" + resp);
-            return resp.getType() == S3Message.MessageType.CheckinResponse && resp.getExtension(CheckinResponse.ciResponse).getSuccess();
+            TransferEnd end = TransferEnd.newBuilder().setChunkCount(sequence).setSuccess(readable).build();
+            write(S3Message.newBuilder()
+                    .setType(S3Message.MessageType.TransferEnd)
+                    .setRequestId(handler.requestID)
+                    .setExtension(TransferEnd.transferEnd, end));
         } catch (IOException ioe) {
             printError("Socket I/O failed");
-            ioe.printStackTrace();
-            return false;
+            pending.remove(handler.requestID);
+            handler.fail(ioe);
         }
-//        return true;
+        return response;
     }
 
     public boolean delegate(String filename, String clientID, int timeInterval, boolean propagate) {
-        DelegationRequest request = DelegationRequest.newBuilder()
+        return this.delegate(filename, null, clientID, timeInterval, propagate);
+    }
+
+    /**
+     * Delegates access to a file.  When the owner is another user, the file must have been delegated to this
+     * client with propagation allowed.
+     */
+    public boolean delegate(String filename, String owner, String clientID, int timeInterval, boolean propagate) {
+        return await(delegateAsync(filename, owner, clientID, timeInterval, propagate), false);
+    }
+
+    public CompletableFuture<Boolean> delegateAsync(String filename, String clientID, int timeInterval, boolean propagate) {
+        return this.delegateAsync(filename, null, clientID, timeInterval, propagate);
+    }
+
+    /**
+     * @return a future of whether the server accepted the delegation
+     */
+    public CompletableFuture<Boolean> delegateAsync(String filename, String owner, String clientID, int timeInterval, boolean propagate) {
+        DelegationRequest.Builder builder = DelegationRequest.newBuilder()
                 .setDocumentId(filename)
                 .setClientUser(clientID)
                 .setDuration(timeInterval)
-                .setPropagate(propagate)
-                .build();
-        S3Message msg = S3Message.newBuilder()
-                .setType(S3Message.MessageType.DelegationRequest)
-                .setExtension(DelegationRequest.dRequest, request)
-                .build();
-        try {
-            msg.writeDelimitedTo(outputStream);
-        } catch (IOException ioe) {
-            printError("Could not deliver delegation to server.");
-            ioe.printStackTrace();
-            return false;
+                .setPropagate(propagate);
+        if (owner != null && !owner.equals("")) {
+            builder.setDocumentOwner(owner);
         }
-        return true;
+        DelegationRequest request = builder.build();
+        S3Message.Builder msg = S3Message.newBuilder()
+                .setType(S3Message.MessageType.DelegationRequest)
+                .setExtension(DelegationRequest.dRequest, request);
+        return request(msg, resp -> resp.getType() == S3Message.MessageType.DelegationResponse
+                && resp.getExtension(DelegationResponse.dResponse).getSuccess());
     }
 
     public boolean delete(String filename) {
+        return await(deleteAsync(filename), false);
+    }
+
+    /**
+     * Deletes the document, and the local copy of it.
+     *
+     * @return a future of whether the server deleted the document
+     */
+    public CompletableFuture<Boolean> deleteAsync(String filename) {
         DeleteRequest request = DeleteRequest.newBuilder()
                 .setDocumentId(filename)
                 .build();
-        S3Message msg = S3Message.newBuilder()
+        S3Message.Builder msg = S3Message.newBuilder()
                 .setType(S3Message.MessageType.DeleteRequest)
-                .setExtension(DeleteRequest.delRequest, request)
-                .build();
+                .setExtension(DeleteRequest.delRequest, request);
 
         File file = new File(filename);
         if (file.exists()) {
@@ -253,41 +626,65 @@ public class S3Client {
             openFiles.remove(new S3FileInfo(file, null));
         }
 
-        try {
-            msg.writeDelimitedTo(outputStream);
-            S3Message resp = null;
-            while (resp == null) {
-                resp = S3Message.parseDelimitedFrom(inputStream, registry);
+        return request(msg, resp -> resp.getType() == S3Message.MessageType.DeleteResponse
+                && resp.getExtension(DeleteResponse.delResponse).getSuccess());
+    }
+
+    /**
+     * Deletes many documents, and the local copies of them, in one batch request.
+     *
+     * @return whether the server deleted each document, by document ID
+     */
+    public Map<String, Boolean> deleteBatch(Collection<String> filenames) {
+        return await(deleteBatchAsync(filenames), Collections.<String, Boolean>emptyMap());
+    }
+
+    public CompletableFuture<Map<String, Boolean>> deleteBatchAsync(Collection<String> filenames) {
+        List<String> documents = new ArrayList<>(new LinkedHashSet<>(filenames));
+        BatchDeleteRequest.Builder batch = BatchDeleteRequest.newBuilder();
+        for (String filename : documents) {
+            batch.addItems(DeleteRequest.newBuilder().setDocumentId(filename));
+            File file = new File(filename);
+            if (file.exists()) {
+                file.delete();
+                openFiles.remove(new S3FileInfo(file, null));
             }
-            printInfo("" + resp);
-            return resp.getType() == S3Message.MessageType.DeleteResponse && resp.getExtension(DeleteResponse.delResponse).getSuccess();
-        } catch (IOException ioe) {
-            printError("Could not send delete request");
-            ioe.printStackTrace();
-            return false;
         }
+        S3Message.Builder msg = S3Message.newBuilder()
+                .setType(S3Message.MessageType.BatchDeleteRequest)
+                .setExtension(BatchDeleteRequest.batchDelRequest, batch.build());
+        return send(msg, new PendingBatch<>(documents, (filename, item) -> item.getDelete().getSuccess()));
     }
 
-    public void close() {
+    public synchronized void close() {
         if (closed) {
             return;
         }
-        for (S3FileInfo file : openFiles) {
-            checkin(file.file, file.file.getName(), file.security);
+        List<CompletableFuture<Boolean>> checkins = new ArrayList<>();
+        for (S3FileInfo file : new ArrayList<>(openFiles)) {
+            checkins.add(checkinAsync(file.file, file.file.getName(), file.security));
+        }
+        for (CompletableFuture<Boolean> checkin : checkins) {
+            await(checkin, false);
         }
         openFiles.clear();
         // Then close the connection.
         try {
-            S3Message msg = S3Message.newBuilder()
-                    .setType(S3Message.MessageType.CloseRequest)
-                    .build();
-            msg.writeDelimitedTo(outputStream);
-            this.socket.close();
+            if (connected) {
+                write(S3Message.newBuilder()
+                        .setType(S3Message.MessageType.CloseRequest));
+            }
             closed = true;
+            this.socket.close();
         } catch (IOException ioe) {
             printError("Could not close socket.");
             ioe.printStackTrace();
         }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ise) {
+            // Already shutting down; this may be the hook.
+        }
     }
 
     // Called before JVM cleans it up; make absolutely sure connection is closed.
@@ -305,22 +702,9 @@ public class S3Client {
         }
         String username = args[0];
         printInfo("S3 client started.");
-        Certificate certificate = null;
-        PrivateKey privateKey = null;
-        try {
-            certificate = S3Security.getCertificate(username, "cs6238", username);
-            privateKey = S3Security.getKeyPair(username, "cs6238", username).getPrivate();
-            if (certificate == null || privateKey == null) {
-                printError("Could not open own certificate");
-                return;
-            }
-        } catch (IOException ioe) {
-            printError("Could not open client certificate.");
-            return;
-        }
         Instant i0 = Instant.now();
         S3Client client = new S3Client();
-        client.connect(username, certificate);
+        client.connect(username);
         if (username.equals("client1")) {
             client.checkin(new File("Cryptography for Elections.pdf"), "file.pdf", Security.NONE);
             client.delete("file.pdf");
@@ -338,6 +722,227 @@ public class S3Client {
         printInfo("Request took " + duration.toString());
     }
 
+    private interface ResponseParser<T> {
+        T parse(S3Message response);
+    }
+
+    private interface FileTask {
+        void run() throws IOException;
+    }
+
+    private interface BatchItemParser<T> {
+        /**
+         * @return the result for the document, or null to leave it out
+         */
+        T parse(String filename, BatchItemResponse item);
+    }
+
+    /**
+     * Receives the response messages of one request on the reader thread, and completes the request's future
+     * on a worker thread.
+     */
+    private abstract class ResponseHandler<T> {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        volatile long requestID;
+
+        /**
+         * Takes the next message of the response.
+         *
+         * @return whether the response is complete
+         */
+        abstract boolean accept(S3Message msg) throws IOException;
+
+        void complete(T value) {
+            post(() -> future.complete(value));
+        }
+
+        void fail(Throwable t) {
+            post(() -> future.completeExceptionally(t));
+        }
+    }
+
+    /**
+     * One checkout: its CheckoutResponse, then FileChunk messages written to a part file, then the
+     * TransferEnd message.  The reader thread only checks the messages; the part file is written by the
+     * workers, one task after another, so a slow disk does not hold up the responses of other requests.
+     */
+    private class PendingCheckout extends ResponseHandler<File> {
+        private final String filename;
+        private Security security;
+        private int sequence;
+        // The file tasks so far, run in order.
+        private volatile CompletableFuture<Void> writes = CompletableFuture.completedFuture(null);
+        // Touched by the file tasks only.
+        private File partFile;
+        private OutputStream out;
+        private boolean writeFailed;
+
+        PendingCheckout(String filename) {
+            this.filename = filename;
+        }
+
+        @Override
+        boolean accept(S3Message msg) throws IOException {
+            if (msg.getType() == S3Message.MessageType.CheckoutResponse) {
+                printInfo("Message:\n" + msg);
+                CheckoutResponse response = msg.getExtension(CheckoutResponse.coResponse);
+                if (!response.getSuccess()) {
+                    complete(null);
+                    return true;
+                }
+                security = response.getSecurity();
+                queue(() -> {
+                    // Named uniquely, so concurrent checkouts of the same document do not share it.
+                    File file = new File(filename).getAbsoluteFile();
+                    partFile = File.createTempFile(file.getName() + ".", ".part", file.getParentFile());
+                    out = new FileOutputStream(partFile);
+                });
+                return false;
+            }
+            if (security == null) {
+                return false;
+            }
+            if (msg.getType() == S3Message.MessageType.FileChunk) {
+                FileChunk chunk = msg.getExtension(FileChunk.chunk);
+                if (chunk.getSequence() == sequence) {
+                    ByteString data = chunk.getData();
+                    queue(() -> data.writeTo(out));
+                    sequence++;
+                } else {
+                    // Never matches the chunk count, so the transfer fails.
+                    sequence = -1;
+                }
+                return false;
+            }
+            if (msg.getType() == S3Message.MessageType.TransferEnd) {
+                TransferEnd end = msg.getExtension(TransferEnd.transferEnd);
+                if (!end.getSuccess()) {
+                    printError("Transfer failed: " + end.getReason());
+                }
+                boolean received = end.getSuccess() && end.getChunkCount() == sequence;
+                writes = writes.thenRunAsync(() -> future.complete(finish(received)), S3Client.this::post);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        void fail(Throwable t) {
+            writes = writes.thenRunAsync(() -> {
+                finish(false);
+                future.completeExceptionally(t);
+            }, S3Client.this::post);
+        }
+
+        private void queue(FileTask task) {
+            writes = writes.thenRunAsync(() -> {
+                if (writeFailed) {
+                    return;
+                }
+                try {
+                    task.run();
+                } catch (IOException ioe) {
+                    printError("Could not write " + filename);
+                    ioe.printStackTrace();
+                    writeFailed = true;
+                }
+            }, S3Client.this::post);
+        }
+
+        /**
+         * Moves the received file into place, or removes the part file.
+         *
+         * @return the file, or null if the checkout failed
+         */
+        private File finish(boolean received) {
+            File file = new File(filename);
+            try {
+                if (out != null) {
+                    out.close();
+                }
+                if (partFile == null) {
+                    return null;
+                }
+                if (!received || writeFailed) {
+                    Files.deleteIfExists(partFile.toPath());
+                    return null;
+                }
+                Files.move(partFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                openFiles.add(new S3FileInfo(file, security));
+                return file;
+            } catch (IOException ioe) {
+                printError("Could not write " + filename);
+                ioe.printStackTrace();
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Writes a document that was sent whole, through a part file like a chunked checkout.  Called on a
+     * worker thread.
+     *
+     * @return the file, or null if it could not be written
+     */
+    private File saveCheckout(String filename, CheckoutResponse response) {
+        File file = new File(filename);
+        File partFile = null;
+        try {
+            File absolute = file.getAbsoluteFile();
+            partFile = File.createTempFile(absolute.getName() + ".", ".part", absolute.getParentFile());
+            try (OutputStream out = new FileOutputStream(partFile)) {
+                response.getFileData().writeTo(out);
+            }
+            Files.move(partFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            openFiles.add(new S3FileInfo(file, response.getSecurity()));
+            return file;
+        } catch (IOException ioe) {
+            printError("Could not write " + filename);
+            if (partFile != null) {
+                partFile.delete();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * One batch request: a BatchItemResponse per document, in any order, then the TransferEnd message.
+     */
+    private class PendingBatch<T> extends ResponseHandler<Map<String, T>> {
+        private final List<String> filenames;
+        private final BatchItemParser<T> parser;
+        private final Map<String, T> results = new HashMap<>();
+
+        PendingBatch(List<String> filenames, BatchItemParser<T> parser) {
+            this.filenames = filenames;
+            this.parser = parser;
+        }
+
+        @Override
+        boolean accept(S3Message msg) {
+            if (msg.getType() == S3Message.MessageType.BatchItemResponse) {
+                BatchItemResponse item = msg.getExtension(BatchItemResponse.batchItem);
+                if (item.getIndex() >= 0 && item.getIndex() < filenames.size()) {
+                    String filename = filenames.get(item.getIndex());
+                    T result = parser.parse(filename, item);
+                    if (result != null) {
+                        results.put(filename, result);
+                    }
+                }
+                return false;
+            }
+            if (msg.getType() == S3Message.MessageType.TransferEnd) {
+                TransferEnd end = msg.getExtension(TransferEnd.transferEnd);
+                if (!end.getSuccess()) {
+                    printError("Batch failed after " + end.getChunkCount() + " of " + filenames.size() + " documents: " + end.getReason());
+                }
+                complete(results);
+                return true;
+            }
+            return false;
+        }
+    }
+
     private static class S3FileInfo {
         private File file;
         private Security security;
@@ -359,4 +964,4 @@ public class S3Client {
             return this.file.hashCode();
         }
     }
-}
\ No newline at end of file
+}
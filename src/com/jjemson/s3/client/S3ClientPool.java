@@ -0,0 +1,310 @@
+package com.jjemson.s3.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * S3ClientPool
+ *
+ * Keeps logged-in S3Clients per host, port and user, so callers do not pay for a keystore load, TLS handshake
+ * and login on every task.  A client pipelines requests from any number of threads, so a borrowed client is
+ * shared: each borrow goes to the session with the fewest borrowers, and a new session is only opened when
+ * every session is in use and there are fewer than {@code maxSessions}.  A session that has been idle for a
+ * while is pinged before it is handed out, and replaced if it does not answer.  Opening and pinging a
+ * session do not hold up the other borrows and releases of the same user.  Sessions without borrowers
+ * are closed once they have been idle for {@code idleMillis}.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+public class S3ClientPool implements Closeable {
+
+    private static final int DEFAULT_MAX_SESSIONS = 4;
+    private static final long DEFAULT_IDLE_MILLIS = 60_000;
+    // Sessions used more recently than this are handed out without a ping.
+    private static final long VALIDATE_AFTER_MILLIS = 5_000;
+    private static final long PING_TIMEOUT_MILLIS = 5_000;
+
+    private final int maxSessions;
+    private final long idleMillis;
+    private final Map<String, KeyedPool> pools = new ConcurrentHashMap<>();
+    // The session of each client with borrowers; S3Client has identity equality.
+    private final Map<S3Client, PooledSession> borrowed = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService reaper;
+    private volatile boolean closed;
+
+    private static void printInfo(String s) {
+        System.out.println("[Pool] " + s);
+    }
+    private static void printError(String s) {
+        System.err.println("[Pool] " + s);
+    }
+
+    public S3ClientPool() {
+        this(DEFAULT_MAX_SESSIONS, DEFAULT_IDLE_MILLIS);
+    }
+
+    public S3ClientPool(int maxSessions, long idleMillis) {
+        this.maxSessions = Math.max(1, maxSessions);
+        this.idleMillis = idleMillis;
+        this.reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "s3-client-pool-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, idleMillis / 2);
+        reaper.scheduleWithFixedDelay(this::closeIdleSessions, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns a logged-in client for the user, which may be shared with other borrowers.  Hand it back with
+     * {@link #release(S3Client)} rather than closing it.
+     *
+     * @throws IOException if no session could be opened
+     */
+    public S3Client borrow(String host, int port, String username) throws IOException {
+        if (closed) {
+            throw new IOException("Client pool is closed");
+        }
+        KeyedPool pool = pools.computeIfAbsent(host + ":" + port + "/" + username, k -> new KeyedPool(host, port, username));
+        return pool.borrow().client;
+    }
+
+    /**
+     * Hands back a client from {@link #borrow(String, int, String)}.
+     */
+    public void release(S3Client client) {
+        PooledSession session = borrowed.get(client);
+        if (session == null) {
+            printError("Released a client that was not borrowed from this pool.");
+            return;
+        }
+        session.pool.release(session);
+    }
+
+    private void closeIdleSessions() {
+        long now = System.nanoTime();
+        List<S3Client> idle = new ArrayList<>();
+        for (KeyedPool pool : pools.values()) {
+            pool.removeIdle(now, idle);
+        }
+        for (S3Client client : idle) {
+            client.close();
+        }
+    }
+
+    /**
+     * Closes every session, including those still borrowed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        reaper.shutdown();
+        List<S3Client> all = new ArrayList<>();
+        for (KeyedPool pool : pools.values()) {
+            pool.removeAll(all);
+        }
+        pools.clear();
+        borrowed.clear();
+        for (S3Client client : all) {
+            client.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        int sessions = 0;
+        int borrowers = 0;
+        for (KeyedPool pool : pools.values()) {
+            synchronized (pool) {
+                sessions += pool.sessions.size();
+                for (PooledSession session : pool.sessions) {
+                    borrowers += session.borrowers;
+                }
+            }
+        }
+        return "Client pool: " + pools.size() + " users, " + sessions + " sessions, " + borrowers + " borrowers";
+    }
+
+    /**
+     * The sessions of one host, port and user.  Its lock is only held to choose a session or reserve room for
+     * a new one; sessions are opened, pinged and closed outside it, so a slow connection holds up only the
+     * borrow that is waiting for it.
+     */
+    private class KeyedPool {
+        private final String host;
+        private final int port;
+        private final String username;
+        private final List<PooledSession> sessions = new ArrayList<>();
+        // Sessions being opened, which count towards maxSessions.
+        private int opening;
+
+        KeyedPool(String host, int port, String username) {
+            this.host = host;
+            this.port = port;
+            this.username = username;
+        }
+
+        PooledSession borrow() throws IOException {
+            List<PooledSession> dead = new ArrayList<>();
+            try {
+                while (true) {
+                    PooledSession best = null;
+                    boolean open = false;
+                    synchronized (this) {
+                        for (Iterator<PooledSession> it = sessions.iterator(); it.hasNext(); ) {
+                            PooledSession session = it.next();
+                            if (!session.client.isConnected()) {
+                                it.remove();
+                                dead.add(session);
+                            } else if (!session.validating && (best == null || session.borrowers < best.borrowers)) {
+                                best = session;
+                            }
+                        }
+                        // Spread borrowers over new sessions while there is room for them.
+                        if ((best == null || best.borrowers > 0) && sessions.size() + opening < maxSessions) {
+                            opening++;
+                            open = true;
+                        } else if (best == null) {
+                            // Every session is being opened or validated for another borrower.
+                            awaitChange();
+                            continue;
+                        } else {
+                            best.borrowers++;
+                            if (System.nanoTime() - best.lastUsed <= TimeUnit.MILLISECONDS.toNanos(VALIDATE_AFTER_MILLIS)) {
+                                best.lastUsed = System.nanoTime();
+                                borrowed.put(best.client, best);
+                                return best;
+                            }
+                            best.validating = true;
+                        }
+                    }
+                    if (open) {
+                        return openReserved();
+                    }
+                    boolean alive = isAlive(best.client);
+                    synchronized (this) {
+                        best.validating = false;
+                        notifyAll();
+                        if (alive) {
+                            best.lastUsed = System.nanoTime();
+                            borrowed.put(best.client, best);
+                            return best;
+                        }
+                        if (--best.borrowers == 0) {
+                            borrowed.remove(best.client);
+                        }
+                        sessions.remove(best);
+                        dead.add(best);
+                    }
+                }
+            } finally {
+                for (PooledSession session : dead) {
+                    discard(session);
+                }
+            }
+        }
+
+        /**
+         * Opens a session in the room reserved for it, and lends it to the caller.
+         */
+        private PooledSession openReserved() throws IOException {
+            PooledSession session = null;
+            try {
+                session = open();
+            } finally {
+                synchronized (this) {
+                    opening--;
+                    notifyAll();
+                    if (session != null && !closed) {
+                        sessions.add(session);
+                        session.borrowers++;
+                        borrowed.put(session.client, session);
+                        printInfo("Opened session " + sessions.size() + " for " + username + " at " + host + ":" + port + ".");
+                    }
+                }
+            }
+            if (closed) {
+                session.client.close();
+                throw new IOException("Client pool is closed");
+            }
+            return session;
+        }
+
+        private void awaitChange() throws InterruptedIOException {
+            try {
+                wait();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+
+        synchronized void release(PooledSession session) {
+            if (session.borrowers > 0 && --session.borrowers == 0) {
+                borrowed.remove(session.client);
+            }
+            session.lastUsed = System.nanoTime();
+        }
+
+        synchronized void removeIdle(long now, List<S3Client> idle) {
+            for (Iterator<PooledSession> it = sessions.iterator(); it.hasNext(); ) {
+                PooledSession session = it.next();
+                if (session.borrowers == 0 && now - session.lastUsed > TimeUnit.MILLISECONDS.toNanos(idleMillis)) {
+                    it.remove();
+                    idle.add(session.client);
+                }
+            }
+        }
+
+        synchronized void removeAll(List<S3Client> all) {
+            for (PooledSession session : sessions) {
+                all.add(session.client);
+            }
+            sessions.clear();
+        }
+
+        private PooledSession open() throws IOException {
+            S3Client client = new S3Client(host, port);
+            if (!client.tryConnect(username)) {
+                throw new IOException("Could not log in to " + host + ":" + port + " as " + username);
+            }
+            return new PooledSession(this, client);
+        }
+
+        private void discard(PooledSession session) {
+            // Its borrowers keep it until they release it.
+            printInfo("Replacing a dead session for " + username + ".");
+            session.client.close();
+        }
+
+        private boolean isAlive(S3Client client) {
+            try {
+                return client.pingAsync().get(PING_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException | TimeoutException e) {
+                return false;
+            }
+        }
+    }
+
+    private static class PooledSession {
+        private final KeyedPool pool;
+        private final S3Client client;
+        // Guarded by the pool.
+        private int borrowers;
+        private long lastUsed = System.nanoTime();
+        // Being pinged before it is lent out; other borrows pass it over meanwhile.
+        private boolean validating;
+
+        PooledSession(KeyedPool pool, S3Client client) {
+            this.pool = pool;
+            this.client = client;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.jjemson.s3.server;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3BlobStore
+ *
+ * Content-addressed storage for the data of documents kept unencrypted (NONE and INTEGRITY).  Each distinct
+ * content is stored once, as {@code blobs/<first two hex digits>/<SHA-256>}, and every generation holding
+ * it is a hard link to that file, so the file system's link count is the blob's reference count: a blob is
+ * removed once the store holds the only link.  Where hard links are not supported, generations get copies.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3BlobStore {
+
+    private static final String BLOB_DIR = "blobs";
+    private static final int LOCK_STRIPES = 64;
+
+    private static final S3BlobStore instance = new S3BlobStore(new File(BLOB_DIR));
+
+    private final File root;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final AtomicLong stored = new AtomicLong();
+    private final AtomicLong shared = new AtomicLong();
+    private final AtomicLong removed = new AtomicLong();
+
+    static S3BlobStore sharedInstance() {
+        return instance;
+    }
+
+    S3BlobStore(File root) {
+        this.root = root;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    private Object lockFor(String hash) {
+        return locks[(hash.hashCode() & 0x7FFFFFFF) % locks.length];
+    }
+
+    private Path blobPath(String hash) {
+        return new File(new File(root, hash.substring(0, 2)), hash).toPath();
+    }
+
+    /**
+     * Moves the staged file into the store under its hash, or drops it if the store already has that content,
+     * and leaves a link to the blob in its place.  An existing blob is compared byte for byte with the staged
+     * file before it is reused, so a damaged blob is replaced rather than linked into another generation.
+     */
+    void store(String hash, Path staged) throws IOException {
+        Path blob = blobPath(hash);
+        synchronized (lockFor(hash)) {
+            // A blob whose bytes differ from content of the same hash has been damaged; later generations get the
+            // staged copy instead of a link to it.
+            if (Files.exists(blob) && sameContent(blob, staged)) {
+                Files.delete(staged);
+                shared.incrementAndGet();
+            } else {
+                Files.createDirectories(blob.getParent());
+                Files.move(staged, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                stored.incrementAndGet();
+            }
+            try {
+                Files.createLink(staged, blob);
+            } catch (UnsupportedOperationException uoe) {
+                Files.copy(blob, staged);
+            }
+        }
+    }
+
+    private static boolean sameContent(Path a, Path b) throws IOException {
+        if (Files.size(a) != Files.size(b)) {
+            return false;
+        }
+        try (InputStream in1 = new BufferedInputStream(Files.newInputStream(a));
+             InputStream in2 = new BufferedInputStream(Files.newInputStream(b))) {
+            int c;
+            while ((c = in1.read()) != -1) {
+                if (c != in2.read()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Removes the blob if no generation links to it any more.  Called after a generation holding it has been
+     * deleted.
+     */
+    void release(String hash) {
+        Path blob = blobPath(hash);
+        synchronized (lockFor(hash)) {
+            try {
+                if ((Integer) Files.getAttribute(blob, "unix:nlink") <= 1 && Files.deleteIfExists(blob)) {
+                    removed.incrementAndGet();
+                }
+            } catch (UnsupportedOperationException | IllegalArgumentException | IOException e) {
+                // Without link counts every generation has its own copy, and the blob is never removed.
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Blob store: " + stored.get() + " blobs stored, " + shared.get() + " checkins shared existing content, " +
+                removed.get() + " blobs removed";
+    }
+}
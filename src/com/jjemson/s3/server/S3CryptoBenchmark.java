@@ -0,0 +1,151 @@
+package com.jjemson.s3.server;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.Random;
+
+/**
+ * S3CryptoBenchmark
+ *
+ * Compares the throughput of the two ways S3File can store an ALL document: AES/CBC with a SHA256withRSA
+ * signature, and segmented AES-GCM.  Data is processed in memory through the same 64 KiB buffers S3File
+ * uses, so the numbers show the cost of the cryptography alone.
+ *
+ * Usage: S3CryptoBenchmark [megabytes] [rounds]
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+public class S3CryptoBenchmark {
+
+    private static final int BUFFER_SIZE = S3SegmentCipher.SEGMENT_SIZE;
+
+    public static void main(String... args) throws IOException, GeneralSecurityException {
+        int megabytes = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        byte[] data = new byte[megabytes << 20];
+        new Random(0).nextBytes(data);
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(128);
+        SecretKey key = keyGenerator.generateKey();
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        System.out.println("Processing " + megabytes + " MB, " + rounds + " rounds after one warm-up round.");
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            ByteBuffer cbc = cbcWrite(data, key, keyPair);
+            long written = System.nanoTime();
+            cbcRead(cbc, key, keyPair, data.length);
+            long cbcDone = System.nanoTime();
+
+            ByteBuffer gcm = gcmWrite(data, key);
+            long gcmWritten = System.nanoTime();
+            gcmRead(gcm, key, data.length);
+            long gcmDone = System.nanoTime();
+
+            if (round > 0) {
+                System.out.println(String.format("Round %d: CBC+RSA write %.1f MB/s, read %.1f MB/s; GCM write %.1f MB/s, read %.1f MB/s",
+                        round, rate(megabytes, start, written), rate(megabytes, written, cbcDone),
+                        rate(megabytes, cbcDone, gcmWritten), rate(megabytes, gcmWritten, gcmDone)));
+            }
+        }
+    }
+
+    private static double rate(int megabytes, long start, long end) {
+        return megabytes / ((end - start) / 1e9);
+    }
+
+    private static ByteBuffer cbcWrite(byte[] data, SecretKey key, KeyPair keyPair) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, S3File.ivspec);
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        ByteBuffer out = ByteBuffer.allocate(cipher.getOutputSize(data.length) + 256);
+        for (int off = 0; off < data.length; off += BUFFER_SIZE) {
+            int len = Math.min(BUFFER_SIZE, data.length - off);
+            signature.update(data, off, len);
+            cipher.update(ByteBuffer.wrap(data, off, len), out);
+        }
+        cipher.doFinal(ByteBuffer.allocate(0), out);
+        out.put(signature.sign());
+        out.flip();
+        return out;
+    }
+
+    private static void cbcRead(ByteBuffer stored, SecretKey key, KeyPair keyPair, int length) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, key, S3File.ivspec);
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initVerify(keyPair.getPublic());
+        ByteBuffer plain = ByteBuffer.allocate(BUFFER_SIZE + 32);
+        ByteBuffer ciphertext = stored.duplicate();
+        ciphertext.limit(stored.limit() - 256);
+        byte[] expected = new byte[256];
+        stored.position(stored.limit() - 256);
+        stored.get(expected);
+        long total = 0;
+        while (ciphertext.hasRemaining()) {
+            ByteBuffer block = ciphertext.slice();
+            block.limit(Math.min(BUFFER_SIZE, block.remaining()));
+            ciphertext.position(ciphertext.position() + block.limit());
+            plain.clear();
+            if (ciphertext.hasRemaining()) {
+                cipher.update(block, plain);
+            } else {
+                cipher.doFinal(block, plain);
+            }
+            plain.flip();
+            total += plain.remaining();
+            signature.update(plain);
+        }
+        if (total != length || !signature.verify(expected)) {
+            throw new IllegalStateException("CBC round trip failed");
+        }
+    }
+
+    private static ByteBuffer gcmWrite(byte[] data, SecretKey key) throws GeneralSecurityException {
+        S3SegmentCipher segments = S3SegmentCipher.forEncryption(key);
+        int count = data.length / BUFFER_SIZE + 1;
+        ByteBuffer out = ByteBuffer.allocate(S3SegmentCipher.HEADER_SIZE + data.length + count * S3SegmentCipher.TAG_SIZE);
+        out.put(segments.getHeader());
+        for (int off = 0; ; off += BUFFER_SIZE) {
+            int len = Math.min(BUFFER_SIZE, data.length - off);
+            boolean last = off + len == data.length && len < BUFFER_SIZE;
+            segments.seal(ByteBuffer.wrap(data, off, len), out, last);
+            if (last) {
+                break;
+            }
+        }
+        out.flip();
+        return out;
+    }
+
+    private static void gcmRead(ByteBuffer stored, SecretKey key, int length) throws IOException, GeneralSecurityException {
+        byte[] header = new byte[S3SegmentCipher.HEADER_SIZE];
+        stored.get(header);
+        S3SegmentCipher segments = S3SegmentCipher.forHeader(key, header);
+        ByteBuffer plain = ByteBuffer.allocate(BUFFER_SIZE);
+        long total = 0;
+        while (stored.hasRemaining()) {
+            ByteBuffer segment = stored.slice();
+            segment.limit(Math.min(BUFFER_SIZE + S3SegmentCipher.TAG_SIZE, segment.remaining()));
+            stored.position(stored.position() + segment.limit());
+            plain.clear();
+            segments.open(segment, plain, !stored.hasRemaining());
+            total += plain.position();
+        }
+        if (total != length) {
+            throw new IllegalStateException("GCM round trip failed");
+        }
+    }
+}
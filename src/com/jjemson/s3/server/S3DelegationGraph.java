@@ -0,0 +1,158 @@
+package com.jjemson.s3.server;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * S3DelegationGraph
+ *
+ * The delegations of one document, as edges from the user who granted each one to its recipient.  An edge
+ * only counts while its grantor is the owner or still holds a delegation that may be propagated, so when an
+ * edge expires or the document is deleted, everything delegated through it goes with it.
+ *
+ * The effective permissions of all users are resolved together, as the widest path from the owner where
+ * an edge's width is the time it has left, and kept until an edge of this document changes.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3DelegationGraph {
+
+    private final String owner;
+    // Grantor -> recipient -> delegation.
+    private final Map<String, Map<String, S3FileDelegate>> edges = new HashMap<>();
+    private int size;
+    // Null until resolved, and again whenever an edge changes.
+    private Map<String, Permission> resolved;
+
+    S3DelegationGraph(String owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Adds the edge, replacing an earlier delegation between the same two users.
+     */
+    synchronized void put(S3FileDelegate delegate) {
+        if (edges.computeIfAbsent(delegate.grantor, g -> new HashMap<>()).put(delegate.recipient, delegate) == null) {
+            size++;
+        }
+        resolved = null;
+    }
+
+    /**
+     * Removes the edge if it is still the current one between its two users.
+     */
+    synchronized boolean remove(S3FileDelegate delegate) {
+        Map<String, S3FileDelegate> granted = edges.get(delegate.grantor);
+        if (granted == null || !granted.remove(delegate.recipient, delegate)) {
+            return false;
+        }
+        if (granted.isEmpty()) {
+            edges.remove(delegate.grantor);
+        }
+        size--;
+        resolved = null;
+        return true;
+    }
+
+    synchronized S3FileDelegate get(String grantor, String recipient) {
+        Map<String, S3FileDelegate> granted = edges.get(grantor);
+        return granted == null ? null : granted.get(recipient);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    synchronized List<S3FileDelegate> delegates() {
+        List<S3FileDelegate> delegates = new ArrayList<>(size);
+        for (Map<String, S3FileDelegate> granted : edges.values()) {
+            delegates.addAll(granted.values());
+        }
+        return delegates;
+    }
+
+    /**
+     * Returns the user's effective permission on the document, or null if the user has none.  The owner's
+     * permission is not modelled here.
+     */
+    synchronized Permission permission(String user) {
+        Permission permission = resolve().get(user);
+        if (permission != null && !permission.canAccess()) {
+            // Every path has run out since the graph was resolved; the reaper will remove the edges.
+            return null;
+        }
+        return permission;
+    }
+
+    private Map<String, Permission> resolve() {
+        if (resolved != null) {
+            return resolved;
+        }
+        long now = System.nanoTime();
+        // Time left on the best path that reaches each user, and on the best one that may be propagated.
+        Map<String, Long> access = new HashMap<>();
+        Map<String, Long> propagate = new HashMap<>();
+        PriorityQueue<Map.Entry<String, Long>> queue = new PriorityQueue<>((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        propagate.put(owner, Long.MAX_VALUE);
+        queue.add(new AbstractMap.SimpleImmutableEntry<>(owner, Long.MAX_VALUE));
+        while (!queue.isEmpty()) {
+            Map.Entry<String, Long> next = queue.poll();
+            long width = next.getValue();
+            if (width < propagate.get(next.getKey())) {
+                continue;
+            }
+            Map<String, S3FileDelegate> granted = edges.get(next.getKey());
+            if (granted == null) {
+                continue;
+            }
+            for (S3FileDelegate delegate : granted.values()) {
+                long left = Math.min(width, delegate.expiry - now);
+                if (left <= 0 || delegate.recipient.equals(owner)) {
+                    continue;
+                }
+                access.merge(delegate.recipient, left, Math::max);
+                if (delegate.propagate && left > propagate.getOrDefault(delegate.recipient, 0L)) {
+                    propagate.put(delegate.recipient, left);
+                    queue.add(new AbstractMap.SimpleImmutableEntry<>(delegate.recipient, left));
+                }
+            }
+        }
+        Map<String, Permission> permissions = new HashMap<>();
+        access.forEach((user, left) -> {
+            Long propagateLeft = propagate.get(user);
+            permissions.put(user, new Permission(now + left, propagateLeft == null ? now : now + propagateLeft));
+        });
+        resolved = permissions;
+        return permissions;
+    }
+
+    /**
+     * What a user may do with the document, and until when, on the System.nanoTime() clock.
+     */
+    static class Permission {
+        private final long accessUntil;
+        private final long propagateUntil;
+
+        Permission(long accessUntil, long propagateUntil) {
+            this.accessUntil = accessUntil;
+            this.propagateUntil = propagateUntil;
+        }
+
+        boolean canAccess() {
+            return accessUntil - System.nanoTime() > 0;
+        }
+
+        boolean canPropagate() {
+            return propagateUntil - System.nanoTime() > 0;
+        }
+    }
+}
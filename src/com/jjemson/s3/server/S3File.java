@@ -1,6 +1,5 @@
 package com.jjemson.s3.server;
 
-import com.jjemson.s3.S3Protocol.CheckinRequest;
 import com.jjemson.s3.S3Protocol.Security;
 import com.jjemson.s3.S3Security;
 
@@ -8,132 +7,261 @@ import javax.crypto.*;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.*;
+import java.util.Arrays;
 import java.util.EnumSet;
 
 /**
  * S3File
  *
+ * CONFIDENTIALITY and ALL documents are stored with segmented AES-GCM (see S3SegmentCipher), which also
+ * authenticates them.  Other INTEGRITY documents, and ALL documents stored with {@code s3.storage.cipher=cbc},
+ * keep a signed hash tree of their plaintext (see S3MerkleTree).  Documents written by earlier versions, with
+ * AES/CBC and a signature over the whole file, can still be read.
+ *
+ * Each checkin is stored as a new generation: a directory {@code owner/.versions/filename/<generation>}
+ * holding the data, the wrapped key and the hash tree, staged elsewhere and renamed into place whole.  The
+ * metadata entry of a document is the pointer to its current generation, so a checkin becomes visible when
+ * S3FileManager swaps the entry.  Generations are never modified, so checkouts read them without locking
+ * and keep streaming an old one after it has been replaced; the last {@code s3.versions.retain} replaced
+ * generations are kept.  Generation 0 is the layout of earlier versions, with the data at
+ * {@code owner/filename} and the key, tree or signature under {@code owner/keys}.
+ *
+ * The data of unencrypted (NONE and INTEGRITY) generations is a link into S3BlobStore, named in the
+ * generation's {@code blob} file by its SHA-256, so identical content is stored once.  Encrypted generations
+ * instead keep a {@code digest} file, an HMAC of the plaintext's SHA-256 under the document key, so a
+ * client's fingerprint can be matched without the plaintext hash being kept on disk.
+ *
  * @author Jonathan Jemson
  * @version 1.0
  */
 class S3File implements Serializable {
 
+    // Only used to read metadata written with Java serialization by earlier versions.
+    private static final long serialVersionUID = 7764171903240809058L;
+
     static byte[] iv = { 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 };
     static IvParameterSpec ivspec = new IvParameterSpec(iv);
 
+    // Key material for GCM files starts with this byte; CBC key files hold just the key.
+    private static final byte FORMAT_GCM = 2;
+    private static final int KEY_SIZE = 16;
+    private static final boolean storeWithGcm = !"cbc".equalsIgnoreCase(System.getProperty("s3.storage.cipher"));
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Room for the extra blocks a block cipher may emit beyond its input.
+    private static final int CIPHER_SLACK = 32;
+
+    private static final String VERSIONS_DIR = ".versions";
+
     private String owner;
     private String filename;
     private Security fileSec;
 
     private File file;
+    // Absent from the serialized form of earlier versions, so their files read as generation 0.
+    private long generation;
+    // Set once a later checkin or a delete has replaced this generation of the document.
+    private transient volatile boolean superseded;
+    // Read from the generation's blob file when first needed.
+    private transient volatile String contentHash;
+
+    protected S3File(String owner, String filename, Security fileSec) {
+        this(owner, filename, fileSec, 0);
+    }
 
-    protected S3File(String owner, String filename, Security fileSec, byte[] fileData) {
+    protected S3File(String owner, String filename, Security fileSec, long generation) {
         this.owner = owner;
         this.filename = filename;
         this.fileSec = fileSec;
+        this.generation = generation;
         this.file = new File(this.getDocumentID());
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Marks this generation as replaced.  Called with the document's write lock held.
+     */
+    void supersede() {
+        superseded = true;
+    }
+
+    boolean isSuperseded() {
+        return superseded;
+    }
+
+    private File versionsDir() {
+        return new File(file.getParentFile(), VERSIONS_DIR + File.separator + filename);
+    }
+
+    private File generationDir(long generation) {
+        return new File(versionsDir(), Long.toString(generation));
+    }
+
+    private File dataFile() {
+        return generation == 0 ? file : new File(generationDir(generation), "data");
+    }
+
+    private File keyFile() {
+        return generation == 0 ? new File(file.getParentFile(), "keys/" + filename + ".key") : new File(generationDir(generation), "key");
+    }
+
+    private File treeFile() {
+        return generation == 0 ? new File(file.getParentFile(), "keys/" + filename + ".tree") : new File(generationDir(generation), "tree");
+    }
+
+    /**
+     * Returns the SHA-256 of this generation's data, in hex, or null if it is not stored in the blob store.
+     */
+    String getContentHash() {
+        if (contentHash == null && generation > 0) {
+            contentHash = readBlobHash(generationDir(generation));
+        }
+        return contentHash;
+    }
+
+    private static String readBlobHash(File dir) {
+        File blobFile = new File(dir, "blob");
+        if (!blobFile.exists()) {
+            return null;
+        }
         try {
-            if (this.file.exists()) {
-                this.file.delete();
-            }
-            boolean dirCreated = this.file.getParentFile().mkdirs();
-            boolean fileCreated = this.file.createNewFile();
-            FileOutputStream fos = new FileOutputStream(this.file);
-            SecretKey key = null;
-            if (fileSec == Security.ALL || fileSec == Security.INTEGRITY || fileSec == Security.CONFIDENTIALITY) {
-                try {
-                    KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
-                    keyGenerator.init(128);
-                    key = keyGenerator.generateKey();
-                } catch (NoSuchAlgorithmException nsae) {
-                    nsae.printStackTrace();
-                }
-            }
-            EnumSet<Security> securities = EnumSet.of(fileSec);
-            if (fileSec == Security.NONE || fileSec == Security.INTEGRITY) {
-                fos.write(fileData);
-                fos.close();
+            return new String(Files.readAllBytes(blobFile.toPath()), StandardCharsets.US_ASCII).trim();
+        } catch (IOException ioe) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether this generation has the given security and the plaintext with the given SHA-256.
+     * Generations written by earlier versions never match.
+     */
+    boolean hasContent(Security security, byte[] sha256) {
+        if (security != fileSec || generation == 0) {
+            return false;
+        }
+        String hash = getContentHash();
+        if (hash != null) {
+            return hash.equals(toHex(sha256));
+        }
+        File digestFile = new File(generationDir(generation), "digest");
+        if (!digestFile.exists()) {
+            return false;
+        }
+        try {
+            byte[] keyData = keyData();
+            try {
+                byte[] digest = contentDigest(keyData, keyData.length - KEY_SIZE, sha256);
+                return MessageDigest.isEqual(digest, Files.readAllBytes(digestFile.toPath()));
+            } finally {
+                Arrays.fill(keyData, (byte) 0);
             }
-            if (securities.contains(Security.CONFIDENTIALITY) || securities.contains(Security.ALL)) {
-                try {
-                    Cipher c = Cipher.getInstance("AES/CBC/PKCS5Padding");
-                    c.init(Cipher.ENCRYPT_MODE, key, ivspec);
+        } catch (IOException | GeneralSecurityException e) {
+            // Pruned since it was looked up, or unreadable; the client uploads instead.
+            return false;
+        }
+    }
 
-                    CipherOutputStream cipherOutputStream = new CipherOutputStream(fos, c);
-                    cipherOutputStream.write(fileData);
-                    cipherOutputStream.close();
-                    fos.close();
+    private static byte[] contentDigest(byte[] key, int offset, byte[] sha256) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, offset, KEY_SIZE, "HmacSHA256"));
+        return mac.doFinal(sha256);
+    }
 
-                    KeyPair serverKeys = S3Security.getKeyPair("server", "cs6238", "S3 Server");
-                    PublicKey key1 = serverKeys.getPublic();
-                    Cipher pkCipher = Cipher.getInstance("RSA");
-                    pkCipher.init(Cipher.ENCRYPT_MODE, key1);
+    /**
+     * Identifies this generation in the key and hash tree caches.
+     */
+    private String storageID() {
+        return storageID(generation);
+    }
 
-                    File keyFile = new File(this.file.getParentFile(), "keys/" + this.filename + ".key");
-                    if (keyFile.exists()) {
-                        keyFile.delete();
-                    }
-                    keyFile.getParentFile().mkdirs();
-                    keyFile.createNewFile();
-                    FileOutputStream keyOS = new FileOutputStream(keyFile);
-                    CipherOutputStream cipherOutputStream1 = new CipherOutputStream(keyOS, pkCipher);
-                    cipherOutputStream1.write(key.getEncoded());
-                    cipherOutputStream1.close();
-                    keyOS.close();
-                } catch (GeneralSecurityException nsae) {
-                    System.err.println("No AES key could be generated");
-                    nsae.printStackTrace();
-                }
+    private String storageID(long generation) {
+        return generation == 0 ? getDocumentID() : getDocumentID() + "@" + generation;
+    }
 
-            }
-            if (securities.contains(Security.INTEGRITY) || securities.contains(Security.ALL)) {
-                try {
-                    KeyPair serverKeys = S3Security.getKeyPair("server", "cs6238", "localhost");
-                    Signature signature = Signature.getInstance("SHA256withRSA");
-                    signature.initSign(serverKeys.getPrivate());
-                    signature.update(fileData);
-                    byte[] signed = signature.sign();
-                    File sigFile = new File(this.file.getParentFile(), "keys/" + this.filename + ".sig");
-                    if (sigFile.exists()) {
-                        boolean sigFileDeleted = sigFile.delete();
-                    }
-                    if (!sigFile.getParentFile().exists()) {
-                        sigFile.getParentFile().mkdirs();
-                    }
-                    sigFile.createNewFile();
-                    FileOutputStream fileOutputStream = new FileOutputStream(sigFile);
-                    fileOutputStream.write(signed);
-                    fileOutputStream.close();
-                } catch (GeneralSecurityException gse) {
-                    System.err.println("Signature error.");
-                    gse.printStackTrace();
+    /**
+     * Removes every stored generation.  Called with the document's write lock held.  Checkins still being
+     * staged are left to their uploads, and so is the versions directory holding them.
+     */
+    public void delete() {
+        deleteLegacyFiles();
+        File[] generations = versionsDir().listFiles();
+        if (generations != null) {
+            for (File dir : generations) {
+                if (parseGeneration(dir) > 0) {
+                    deleteGeneration(dir);
                 }
             }
+        }
+        // Only removed once empty, so an upload in progress can still commit into it.
+        versionsDir().delete();
+    }
 
-        } catch (IOException ioe) {
-            ioe.printStackTrace();
+    /**
+     * Removes the generations older than the last {@code retain} before this one.  Called with the document's
+     * write lock held, once this generation is current.
+     */
+    void prune(int retain) {
+        long oldest = generation - retain;
+        if (oldest > 0) {
+            deleteLegacyFiles();
+        }
+        File[] generations = versionsDir().listFiles();
+        if (generations == null) {
+            return;
+        }
+        for (File dir : generations) {
+            long number = parseGeneration(dir);
+            if (number > 0 && number < oldest) {
+                deleteGeneration(dir);
+            }
         }
     }
 
-    protected S3File(String owner, CheckinRequest checkIn) {
-        this(owner, checkIn.getDocumentId(), checkIn.getSecurity(), checkIn.getFileData().toByteArray());
+    private static long parseGeneration(File dir) {
+        try {
+            return Long.parseLong(dir.getName());
+        } catch (NumberFormatException nfe) {
+            // A checkin still being staged.
+            return -1;
+        }
     }
 
-    public void delete() {
+    private void deleteLegacyFiles() {
+        S3KeyCache.sharedInstance().invalidate(getDocumentID());
+        S3MerkleTree.forget(getDocumentID());
+        File keysDir = new File(file.getParentFile(), "keys");
+        new File(keysDir, filename + ".key").delete();
+        new File(keysDir, filename + ".sig").delete();
+        new File(keysDir, filename + ".tree").delete();
+        file.delete();
+    }
 
-        File keyFile = new File(this.file.getParentFile(), "keys/" + this.filename + ".key");
-        if (keyFile.exists()) {
-            boolean keyFileRemoved = keyFile.delete();
+    private void deleteGeneration(File dir) {
+        long number = parseGeneration(dir);
+        if (number > 0) {
+            S3KeyCache.sharedInstance().invalidate(storageID(number));
+            S3MerkleTree.forget(storageID(number));
         }
-        File sigFile = new File(keyFile.getParentFile(), this.filename + ".sig");
-        if (sigFile.exists()) {
-            boolean sigFileRemoved = sigFile.delete();
+        String hash = readBlobHash(dir);
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File stored : files) {
+                stored.delete();
+            }
         }
-        boolean fileDeleted = this.file.delete();
-        if (fileDeleted) {
-            return;
+        dir.delete();
+        if (hash != null) {
+            S3BlobStore.sharedInstance().release(hash);
         }
     }
 
@@ -145,50 +273,101 @@ class S3File implements Serializable {
         return owner + File.separator + filename;
     }
 
-    public byte[] getFileData() {
+    /**
+     * Opens a stream that encrypts and signs the plaintext written to it according to the file's security.
+     * Data is staged in a directory of its own, which becomes a generation of the document when S3FileManager
+     * commits it.  Call {@link S3FileOutputStream#abort()} instead to discard it.
+     */
+    public S3FileOutputStream openOutputStream() throws IOException {
+        return new S3FileOutputStream();
+    }
+
+    /**
+     * Opens a stream over the file's plaintext.  Integrity is checked as the data is read, and a failed check
+     * is reported as an IOException.  Files with a hash tree are checked a chunk at a time before any of the
+     * chunk is returned, and can be skipped through without reading the chunks in between.
+     *
+     * If this generation has been replaced and pruned before it could be opened, an IOException is thrown and
+     * {@link #isSuperseded()} is true; look the document up again.
+     */
+    public InputStream openInputStream() throws IOException {
         try {
             EnumSet<Security> securities = EnumSet.of(fileSec);
-            byte[] fileData = Files.readAllBytes(file.toPath());
-            File keyFile = new File(this.file.getParentFile(), "keys/" + this.filename + ".key");
             File sigFile = new File(this.file.getParentFile(), "keys/" + this.filename + ".sig");
+            File treeFile = treeFile();
+            Cipher cipher = null;
+            S3MerkleTree.Verifier verifier = null;
+            SecretKeySpec segmentKey = null;
+            Signature signature = null;
+            byte[] sigBytes = null;
             if (securities.contains(Security.CONFIDENTIALITY) || securities.contains(Security.ALL)) {
-                ByteArrayInputStream dataStream = new ByteArrayInputStream(fileData);
-                FileInputStream keyStream = new FileInputStream(keyFile);
-
-                KeyPair serverKeys = S3Security.getKeyPair("server", "cs6238", "S3 Server");
-                PrivateKey key1 = serverKeys.getPrivate();
-                Cipher pkCipher = Cipher.getInstance("RSA");
-                pkCipher.init(Cipher.DECRYPT_MODE, key1);
-                CipherInputStream keyCipher = new CipherInputStream(keyStream, pkCipher);
-                byte[] keyData = getBytesFromInputStream(keyCipher);
-                keyCipher.close();
-                keyStream.close();
-
-                Cipher c = Cipher.getInstance("AES/CBC/PKCS5Padding");
-                c.init(Cipher.DECRYPT_MODE, new SecretKeySpec(keyData, "AES"), ivspec);
-                CipherInputStream dataInput = new CipherInputStream(dataStream, c);
-
-                byte[] deciphered = getBytesFromInputStream(dataInput);
-                fileData = deciphered;
-            }
-            if (securities.contains(Security.INTEGRITY) || securities.contains(Security.ALL)) {
-                FileInputStream sigStream = new FileInputStream(sigFile);
+                byte[] keyData = keyData();
+                try {
+                    if (keyData.length == KEY_SIZE + 1 && keyData[0] == FORMAT_GCM) {
+                        segmentKey = new SecretKeySpec(keyData, 1, KEY_SIZE, "AES");
+                    } else {
+                        cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+                        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(keyData, "AES"), ivspec);
+                    }
+                } finally {
+                    Arrays.fill(keyData, (byte) 0);
+                }
+            }
+            // GCM files are authenticated by their tags and carry no signature.
+            if ((securities.contains(Security.INTEGRITY) || securities.contains(Security.ALL)) && segmentKey == null) {
                 KeyPair serverKeys = S3Security.getKeyPair("server", "cs6238", "S3 Server");
                 PublicKey publicKey = serverKeys.getPublic();
-                byte[] sigBytes = getBytesFromInputStream(sigStream);
-                Signature signature = Signature.getInstance("SHA256withRSA");
-                signature.initVerify(publicKey);
-                signature.update(fileData);
-                boolean verified = signature.verify(sigBytes);
-                if (!verified) {
-                    System.err.println("Verification of file failed.");
-                    return null;
+                if (treeFile.exists()) {
+                    S3MerkleTree tree = S3MerkleTree.read(treeFile);
+                    if (!tree.verifyRoot(storageID(), treeFile, publicKey)) {
+                        throw new IOException("Verification of file failed.");
+                    }
+                    verifier = tree.new Verifier();
+                } else {
+                    sigBytes = Files.readAllBytes(sigFile.toPath());
+                    signature = Signature.getInstance("SHA256withRSA");
+                    signature.initVerify(publicKey);
                 }
             }
-            return fileData;
+            FileChannel channel = FileChannel.open(dataFile().toPath(), StandardOpenOption.READ);
+            try {
+                S3SegmentCipher segments = segmentKey != null ? S3SegmentCipher.forDecryption(segmentKey, channel) : null;
+                return new S3FileInputStream(channel, cipher, segments, verifier, signature, sigBytes);
+            } catch (IOException | GeneralSecurityException e) {
+                channel.close();
+                throw e;
+            }
         } catch (GeneralSecurityException e) {
-            System.err.println("Encountered a security exception");
-            e.printStackTrace();
+            throw new IOException("Could not initialize file decryption", e);
+        }
+    }
+
+    private byte[] keyData() throws IOException, GeneralSecurityException {
+        byte[] keyData = S3KeyCache.sharedInstance().get(storageID());
+        return keyData != null ? keyData : unwrapKey(keyFile());
+    }
+
+    /**
+     * Decrypts the key file with the server's private key and caches the result.  The returned key material
+     * is either a bare CBC key or {@link #FORMAT_GCM} followed by a GCM key.
+     */
+    private byte[] unwrapKey(File keyFile) throws IOException, GeneralSecurityException {
+        KeyPair serverKeys = S3Security.getKeyPair("server", "cs6238", "S3 Server");
+        PrivateKey key1 = serverKeys.getPrivate();
+        Cipher pkCipher = Cipher.getInstance("RSA");
+        pkCipher.init(Cipher.DECRYPT_MODE, key1);
+        byte[] keyData;
+        try (FileInputStream keyStream = new FileInputStream(keyFile);
+             CipherInputStream keyCipher = new CipherInputStream(keyStream, pkCipher)) {
+            keyData = getBytesFromInputStream(keyCipher);
+        }
+        S3KeyCache.sharedInstance().put(storageID(), keyData);
+        return keyData;
+    }
+
+    public byte[] getFileData() {
+        try (InputStream inputStream = this.openInputStream()) {
+            return getBytesFromInputStream(inputStream);
         } catch (IOException ioe) {
             System.err.println("Encountered an IO Exception");
             ioe.printStackTrace();
@@ -250,4 +429,420 @@ class S3File implements Serializable {
         result = 31 * result + fileSec.hashCode();
         return result;
     }
+
+    class S3FileOutputStream extends OutputStream {
+        private final SecretKey key;
+        private final Cipher cipher;
+        private final S3SegmentCipher segments;
+        private final S3MerkleTree.Builder tree;
+        // Hashes the plaintext, to find unchanged checkins and to name unencrypted data in the blob store.
+        private final MessageDigest content;
+        private final File stagingDir;
+        private final FileChannel channel;
+        private byte[] digest;
+        private String hash;
+        private boolean dataFinished;
+        private boolean finished;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE + CIPHER_SLACK);
+        private ByteBuffer segment;
+        private boolean closed;
+
+        S3FileOutputStream() throws IOException {
+            EnumSet<Security> securities = EnumSet.of(fileSec);
+            versionsDir().mkdirs();
+            // Concurrent checkins of the same document each stage into their own directory.
+            this.stagingDir = Files.createTempDirectory(versionsDir().toPath(), "staging-").toFile();
+            this.channel = FileChannel.open(new File(stagingDir, "data").toPath(),
+                    StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW);
+            try {
+                if (securities.contains(Security.CONFIDENTIALITY) || securities.contains(Security.ALL)) {
+                    KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+                    keyGenerator.init(KEY_SIZE * 8);
+                    this.key = keyGenerator.generateKey();
+                } else {
+                    this.key = null;
+                }
+                if (key != null && storeWithGcm) {
+                    this.segments = S3SegmentCipher.forEncryption(key);
+                    this.segment = ByteBuffer.allocate(S3SegmentCipher.SEGMENT_SIZE);
+                    this.buffer.put(segments.getHeader());
+                    this.cipher = null;
+                } else if (key != null) {
+                    this.segments = null;
+                    this.cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+                    this.cipher.init(Cipher.ENCRYPT_MODE, key, ivspec);
+                } else {
+                    this.segments = null;
+                    this.cipher = null;
+                }
+                if ((securities.contains(Security.INTEGRITY) || securities.contains(Security.ALL)) && segments == null) {
+                    this.tree = new S3MerkleTree.Builder();
+                } else {
+                    this.tree = null;
+                }
+                this.content = MessageDigest.getInstance("SHA-256");
+            } catch (GeneralSecurityException gse) {
+                this.channel.close();
+                deleteGeneration(stagingDir);
+                throw new IOException("Could not initialize file encryption", gse);
+            }
+        }
+
+        public void abort() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+            deleteGeneration(stagingDir);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                if (tree != null) {
+                    tree.update(b, off, len);
+                }
+                content.update(b, off, len);
+                while (len > 0) {
+                    int n;
+                    if (segments != null) {
+                        // A full segment is only sealed once more data arrives, so the last one is always
+                        // sealed by close().
+                        if (!segment.hasRemaining()) {
+                            sealSegment(false);
+                        }
+                        n = Math.min(len, segment.remaining());
+                        segment.put(b, off, n);
+                    } else {
+                        n = Math.min(len, BUFFER_SIZE);
+                        if (buffer.remaining() < n + CIPHER_SLACK) {
+                            drain();
+                        }
+                        if (cipher != null) {
+                            cipher.update(ByteBuffer.wrap(b, off, n), buffer);
+                        } else {
+                            buffer.put(b, off, n);
+                        }
+                    }
+                    off += n;
+                    len -= n;
+                }
+            } catch (GeneralSecurityException gse) {
+                throw new IOException("Could not encrypt file", gse);
+            }
+        }
+
+        private void sealSegment(boolean last) throws IOException, GeneralSecurityException {
+            if (buffer.remaining() < S3SegmentCipher.SEGMENT_SIZE + S3SegmentCipher.TAG_SIZE) {
+                drain();
+            }
+            segment.flip();
+            segments.seal(segment, buffer, last);
+            segment.clear();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Writes out the last of the data.  After this, {@link #hasContentOf(S3File)} can tell whether the
+         * upload is the same as a stored generation.
+         */
+        void finishData() throws IOException {
+            if (dataFinished || closed) {
+                return;
+            }
+            dataFinished = true;
+            try {
+                if (segments != null) {
+                    sealSegment(true);
+                } else if (cipher != null) {
+                    if (buffer.remaining() < CIPHER_SLACK) {
+                        drain();
+                    }
+                    cipher.doFinal(ByteBuffer.allocate(0), buffer);
+                }
+                drain();
+                channel.close();
+                digest = content.digest();
+                if (key == null) {
+                    hash = toHex(digest);
+                }
+            } catch (GeneralSecurityException gse) {
+                abort();
+                throw new IOException("Could not encrypt file", gse);
+            } catch (IOException ioe) {
+                abort();
+                throw ioe;
+            }
+        }
+
+        /**
+         * Returns whether the upload has the same security and content as the given generation, in which case
+         * storing it would change nothing.
+         */
+        boolean hasContentOf(S3File stored) {
+            return digest != null && stored.hasContent(fileSec, digest);
+        }
+
+        /**
+         * Writes out the last of the data and stages the wrapped key and signed hash tree, all without
+         * touching the stored document.  Unencrypted data is moved into the blob store.
+         */
+        void finish() throws IOException {
+            finishData();
+            if (finished || closed) {
+                return;
+            }
+            finished = true;
+            try {
+                if (hash != null) {
+                    // Named first, so that discarding the staging directory releases the blob.
+                    Files.write(new File(stagingDir, "blob").toPath(), hash.getBytes(StandardCharsets.US_ASCII));
+                    S3BlobStore.sharedInstance().store(hash, new File(stagingDir, "data").toPath());
+                    S3File.this.contentHash = hash;
+                }
+                if (key != null) {
+                    KeyPair serverKeys = S3Security.getKeyPair("server", "cs6238", "S3 Server");
+                    PublicKey key1 = serverKeys.getPublic();
+                    Cipher pkCipher = Cipher.getInstance("RSA");
+                    pkCipher.init(Cipher.ENCRYPT_MODE, key1);
+
+                    File keyFile = new File(stagingDir, "key");
+                    try (CipherOutputStream cipherOutputStream1 = new CipherOutputStream(new FileOutputStream(keyFile), pkCipher)) {
+                        if (segments != null) {
+                            cipherOutputStream1.write(FORMAT_GCM);
+                        }
+                        cipherOutputStream1.write(key.getEncoded());
+                    }
+                    Files.write(new File(stagingDir, "digest").toPath(), contentDigest(key.getEncoded(), 0, digest));
+                }
+                if (tree != null) {
+                    KeyPair serverKeys = S3Security.getKeyPair("server", "cs6238", "localhost");
+                    tree.build().write(new File(stagingDir, "tree"), serverKeys.getPrivate());
+                }
+            } catch (GeneralSecurityException gse) {
+                abort();
+                throw new IOException("Could not write file key or signature", gse);
+            } catch (IOException ioe) {
+                abort();
+                throw ioe;
+            }
+        }
+
+        /**
+         * Renames the staged directory into place as the given generation.  Must be called after
+         * {@link #finish()} with the document's write lock held, before the file is made current.
+         */
+        void commit(long generation) throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            File target = generationDir(generation);
+            if (target.exists()) {
+                // Left by a checkin that crashed before it was recorded in the journal.
+                deleteGeneration(target);
+            }
+            Files.move(stagingDir.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            S3File.this.generation = generation;
+        }
+
+        /**
+         * Finishes the staged files without making them a generation of the document.
+         */
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Reads a stored file through a fixed pair of buffers: ciphertext is read from the channel into one and
+     * decrypted into the other, which read calls are served from.  GCM files are read a segment at a time.
+     * Plaintext is checked against the hash tree as it is produced; files from earlier versions instead update a
+     * signature that is checked at the end of the file.
+     */
+    private static class S3FileInputStream extends InputStream {
+        private final FileChannel channel;
+        private final long size;
+        private final Cipher cipher;
+        private final S3SegmentCipher segments;
+        private final S3MerkleTree.Verifier verifier;
+        private final Signature signature;
+        private final byte[] expected;
+        private final ByteBuffer encrypted;
+        private final ByteBuffer plain;
+        // Decrypted plaintext of the chunk being verified, when a CBC file has integrity data.
+        private final ByteBuffer pending;
+        private boolean eof;
+
+        S3FileInputStream(FileChannel channel, Cipher cipher, S3SegmentCipher segments,
+                          S3MerkleTree.Verifier verifier, Signature signature, byte[] expected) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.cipher = cipher;
+            this.segments = segments;
+            this.verifier = verifier;
+            this.signature = signature;
+            this.expected = expected;
+            if (segments != null) {
+                this.encrypted = ByteBuffer.allocate(S3SegmentCipher.SEGMENT_SIZE + S3SegmentCipher.TAG_SIZE);
+            } else {
+                this.encrypted = cipher != null ? ByteBuffer.allocate(BUFFER_SIZE) : null;
+            }
+            this.plain = ByteBuffer.allocate(BUFFER_SIZE + CIPHER_SLACK);
+            this.plain.flip();
+            this.pending = cipher != null && verifier != null
+                    ? ByteBuffer.allocate(S3MerkleTree.CHUNK_SIZE + BUFFER_SIZE + CIPHER_SLACK) : null;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int len = read(b, 0, 1);
+            return len == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int n = Math.min(len, plain.remaining());
+            plain.get(b, off, n);
+            return n;
+        }
+
+        private boolean fill() throws IOException {
+            while (!plain.hasRemaining()) {
+                if (eof && (pending == null || pending.position() == 0)) {
+                    return false;
+                }
+                plain.clear();
+                try {
+                    if (segments != null) {
+                        encrypted.clear();
+                        while (encrypted.hasRemaining() && channel.read(encrypted) != -1) {
+                        }
+                        eof = channel.position() >= size;
+                        encrypted.flip();
+                        segments.open(encrypted, plain, eof);
+                    } else if (cipher == null) {
+                        // Read whole chunks, so each one is verified before any of it is returned.
+                        plain.limit(S3MerkleTree.CHUNK_SIZE);
+                        while (plain.hasRemaining() && !eof) {
+                            eof = channel.read(plain) == -1;
+                        }
+                    } else if (pending != null) {
+                        // Decrypt to the end of the chunk, so it is verified before any of it is returned.
+                        while (pending.position() < S3MerkleTree.CHUNK_SIZE && !eof) {
+                            decrypt(pending);
+                        }
+                        pending.flip();
+                        ByteBuffer chunk = pending.duplicate();
+                        chunk.limit(chunk.position() + Math.min(chunk.remaining(), S3MerkleTree.CHUNK_SIZE));
+                        plain.put(chunk);
+                        pending.position(chunk.limit());
+                        pending.compact();
+                    } else {
+                        decrypt(plain);
+                    }
+                    plain.flip();
+                    if (verifier != null) {
+                        verifier.update(plain.duplicate());
+                        if (eof && (pending == null || pending.position() == 0)) {
+                            verifier.finish();
+                        }
+                    }
+                    if (signature != null) {
+                        signature.update(plain.duplicate());
+                        if (eof && !signature.verify(expected)) {
+                            throw new IOException("Verification of file failed.");
+                        }
+                    }
+                } catch (SignatureException se) {
+                    throw new IOException("Verification of file failed.", se);
+                } catch (GeneralSecurityException gse) {
+                    throw new IOException("Could not decrypt file.", gse);
+                }
+            }
+            return true;
+        }
+
+        private void decrypt(ByteBuffer output) throws IOException, GeneralSecurityException {
+            encrypted.clear();
+            eof = channel.read(encrypted) == -1;
+            encrypted.flip();
+            if (eof) {
+                cipher.doFinal(encrypted, output);
+            } else {
+                cipher.update(encrypted, output);
+            }
+        }
+
+        /**
+         * Skips by moving the channel when the file is stored unencrypted, verifying only the chunk that is
+         * skipped into.  Other files are read through.
+         */
+        @Override
+        public long skip(long n) throws IOException {
+            if (n <= 0 || cipher != null || segments != null || signature != null) {
+                return super.skip(n);
+            }
+            long position = channel.position() - plain.remaining();
+            long target = Math.min(position + n, size);
+            if (target - position <= plain.remaining()) {
+                plain.position(plain.position() + (int) (target - position));
+                return target - position;
+            }
+            long chunkStart = target - target % S3MerkleTree.CHUNK_SIZE;
+            channel.position(chunkStart);
+            plain.clear();
+            plain.flip();
+            eof = false;
+            if (verifier != null) {
+                verifier.seek((int) (chunkStart / S3MerkleTree.CHUNK_SIZE));
+            }
+            if (fill()) {
+                plain.position(plain.position() + (int) Math.min(target - chunkStart, plain.remaining()));
+            }
+            return target - position;
+        }
+
+        @Override
+        public int available() {
+            return plain.remaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package com.jjemson.s3.server;
+
+import java.io.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3FileDelegate
+ *
+ * A delegation of rights on a document from its grantor to a recipient, lasting until its expiry.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3FileDelegate implements Serializable {
+    private static final long serialVersionUID = 8341903994879746815L;
+
+    // Earlier versions serialized the expiry as a LocalDateTime; keep that form for reading their snapshots.
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("file", S3File.class),
+            new ObjectStreamField("expiry", LocalDateTime.class),
+            new ObjectStreamField("propagate", boolean.class)
+    };
+
+    S3File file;
+    // Not part of the serialized form; set when a legacy snapshot is loaded.
+    String grantor;
+    String recipient;
+    // Deadline on the System.nanoTime() clock, so changes to the wall clock do not move it.
+    long expiry;
+    boolean propagate;
+
+
+    public S3FileDelegate(S3File file, String grantor, String recipient, long expiry, boolean propagate) {
+        this.file = file;
+        this.grantor = grantor;
+        this.recipient = recipient;
+        this.expiry = expiry;
+        this.propagate = propagate;
+    }
+
+    static long expiryFromEpochMillis(long expiryMillis) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(expiryMillis - System.currentTimeMillis());
+    }
+
+    long getExpiryMillis() {
+        return System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(expiry - System.nanoTime());
+    }
+
+    public boolean expired() {
+        return System.nanoTime() - expiry >= 0;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        file = (S3File) fields.get("file", null);
+        LocalDateTime expiryTime = (LocalDateTime) fields.get("expiry", null);
+        expiry = expiryFromEpochMillis(expiryTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        propagate = fields.get("propagate", false);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("file", file);
+        fields.put("expiry", LocalDateTime.ofInstant(Instant.ofEpochMilli(getExpiryMillis()), ZoneId.systemDefault()));
+        fields.put("propagate", propagate);
+        out.writeFields();
+    }
+
+    @Override
+    public String toString() {
+        return "File: " + file.toString() + "\n" +
+                "Delegated by " + grantor + " to " + recipient + "\n" +
+                "Expires: " + Instant.ofEpochMilli(getExpiryMillis()) + "\n" +
+                "Propagates? " + propagate;
+    }
+}
@@ -1,55 +1,306 @@
 package com.jjemson.s3.server;
 
 import com.jjemson.s3.S3Protocol;
+import com.jjemson.s3.S3Protocol.Security;
 
 import java.io.*;
-import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * S3FileManager
  *
+ * Metadata is persisted as a snapshot in {@code .s3meta} (see S3MetadataSnapshot) plus a journal of the
+ * changes made since, in {@code .s3journal}.  Every change is appended to the journal as it happens; once the
+ * journal holds {@code s3.journal.compact} records a fresh snapshot is written in the background and the
+ * journal emptied.
+ * Set {@code s3.journal.sync} to force each record to disk before the request completes.
+ *
+ * Checkins and deletes of a document hold its write lock from {@link #documentLock(String)} while they
+ * change its files and metadata.  A checkin stores a new generation of the document (see S3File) and makes
+ * it current by replacing the metadata entry; the {@code s3.versions.retain} generations before it are
+ * kept, so checkouts already under way can finish reading them.
+ *
+ * Delegations form a graph per document (see S3DelegationGraph), so a delegation made by a recipient lasts
+ * only as long as the delegation it was made under.  They are removed in the background once they expire,
+ * by a timing wheel that turns every {@code s3.delegation.tick} milliseconds.  Expiry is not journalled, as
+ * replay already skips delegations whose deadline has passed.
+ *
  * @author Jonathan Jemson
  * @version 1.0
  */
 class S3FileManager implements Serializable {
 
+    // Only used to read snapshots written with Java serialization by earlier versions.
+    private static final long serialVersionUID = -6369413503059688818L;
+
+    private static final String SNAPSHOT_FILE = ".s3meta";
+    private static final String LEGACY_SNAPSHOT_FILE = ".s3meta.legacy";
+    private static final String JOURNAL_FILE = ".s3journal";
+    private static final int DEFAULT_COMPACT_RECORDS = 1000;
+    private static final long DEFAULT_REAPER_TICK_MILLIS = 1000;
+    private static final int REAPER_SLOTS = 512;
+
+    private static final int DEFAULT_LOCK_STRIPES = 64;
+    private static final int DEFAULT_RETAINED_VERSIONS = 2;
+    private static final int retainedVersions = Integer.getInteger("s3.versions.retain", DEFAULT_RETAINED_VERSIONS);
+
     private static S3FileManager instance;
+    private static final ReadWriteLock[] documentLocks = createLocks(Integer.getInteger("s3.lock.stripes", DEFAULT_LOCK_STRIPES));
 
     private ConcurrentHashMap<String, S3File> metadata;
+    // Only set in metadata read from a legacy snapshot; moved into delegations on load.
     private ConcurrentHashMap<String, Set<S3FileDelegate>> delegateLookup;
+    // Document ID -> delegations of that document.
+    private transient ConcurrentHashMap<String, S3DelegationGraph> delegations;
+    private transient long journalSequence;
+
+    private transient S3MetadataJournal journal;
+    private transient ReentrantReadWriteLock snapshotLock;
+    private transient ExecutorService snapshotExecutor;
+    private transient AtomicBoolean snapshotPending;
+    private transient int compactRecords;
+    private transient S3TimingWheel<S3FileDelegate> reaper;
+    private transient AtomicLong expiredDelegations;
+    private transient AtomicLong reapedDelegations;
+
+    private static void printInfo(String s) {
+        System.out.println("[Metadata] " + s);
+    }
+    private static void printError(String s) {
+        System.err.println("[Metadata] " + s);
+    }
 
     private S3FileManager() {
         metadata = new ConcurrentHashMap<>(50);
-        delegateLookup = new ConcurrentHashMap<>(10);
+        delegations = new ConcurrentHashMap<>(10);
     }
 
-    public static S3FileManager sharedInstance() {
+    private static ReadWriteLock[] createLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        ReadWriteLock[] locks = new ReadWriteLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+        return locks;
+    }
+
+    public static synchronized S3FileManager sharedInstance() {
         if (instance == null) {
-            File file = new File(".s3meta");
-            if (!file.exists()) {
-                instance = new S3FileManager();
-            } else {
-                try {
-                    FileInputStream fileInputStream = new FileInputStream(file);
-                    ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
-                    instance = (S3FileManager) objectInputStream.readObject();
-                } catch (IOException ioe) {
-                    instance = new S3FileManager();
-                    ioe.printStackTrace();
-                } catch (ClassNotFoundException cnfe) {
-                    cnfe.printStackTrace();
+            S3FileManager manager = null;
+            boolean migrated = false;
+            File file = new File(SNAPSHOT_FILE);
+            try {
+                if (file.exists() && S3MetadataSnapshot.isSnapshot(file)) {
+                    manager = new S3FileManager();
+                    manager.journalSequence = S3MetadataSnapshot.read(file, manager.new Replay());
+                } else if (file.exists()) {
+                    manager = readLegacySnapshot(file);
+                    migrated = manager != null;
                 }
+            } catch (IOException ioe) {
+                printError("Could not read metadata snapshot.");
+                ioe.printStackTrace();
+                manager = null;
+            }
+            if (manager == null) {
+                manager = new S3FileManager();
             }
+            manager.openJournal();
+            if (migrated) {
+                manager.writeSnapshot();
+                printInfo("Migrated serialized metadata; the old file was kept as " + LEGACY_SNAPSHOT_FILE + ".");
+            }
+            instance = manager;
         }
         return instance;
     }
 
-    public void checkInFile(String owner, S3Protocol.CheckinRequest request) {
-        S3File file = new S3File(owner, request);
-        metadata.put(file.getDocumentID(), file);
+    private static S3FileManager readLegacySnapshot(File file) {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            S3FileManager manager = (S3FileManager) objectInputStream.readObject();
+            manager.delegations = new ConcurrentHashMap<>(10);
+            if (manager.delegateLookup != null) {
+                manager.delegateLookup.forEach((recipient, delegates) -> {
+                    for (S3FileDelegate delegate : delegates) {
+                        // Earlier versions copied each delegation to its recipient, so they all hang off the owner.
+                        delegate.grantor = delegate.file.getOwner();
+                        delegate.recipient = recipient;
+                        manager.putDelegation(delegate);
+                    }
+                });
+                manager.delegateLookup = null;
+            }
+            Files.copy(file.toPath(), new File(LEGACY_SNAPSHOT_FILE).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return manager;
+        } catch (IOException ioe) {
+            ioe.printStackTrace();
+        } catch (ClassNotFoundException cnfe) {
+            cnfe.printStackTrace();
+        }
+        return null;
+    }
+
+    private void openJournal() {
+        startReaper();
+        snapshotLock = new ReentrantReadWriteLock();
+        snapshotPending = new AtomicBoolean();
+        snapshotExecutor = Executors.newSingleThreadExecutor(new S3ThreadFactory("s3-metadata-snapshot-"));
+        compactRecords = Integer.getInteger("s3.journal.compact", DEFAULT_COMPACT_RECORDS);
+        journal = new S3MetadataJournal(new File(JOURNAL_FILE), Boolean.getBoolean("s3.journal.sync"));
+        try {
+            int replayed = journal.open(journalSequence, new Replay());
+            if (replayed > 0) {
+                printInfo("Replayed " + replayed + " journal records.");
+            }
+        } catch (IOException ioe) {
+            printError("Could not open metadata journal; changes will not survive a crash.");
+            ioe.printStackTrace();
+            journal = null;
+        }
+    }
+
+    private void startReaper() {
+        expiredDelegations = new AtomicLong();
+        reapedDelegations = new AtomicLong();
+        reaper = new S3TimingWheel<>(Long.getLong("s3.delegation.tick", DEFAULT_REAPER_TICK_MILLIS), REAPER_SLOTS,
+                "s3-delegation-reaper-", this::reap);
+        for (S3DelegationGraph graph : delegations.values()) {
+            for (S3FileDelegate delegate : graph.delegates()) {
+                reaper.schedule(delegate, delegate.expiry);
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot of all metadata and empties the journal.
+     */
+    public void writeSnapshot() {
+        snapshotLock.writeLock().lock();
+        try {
+            if (journal != null) {
+                journalSequence = journal.getSequence();
+            }
+            File snapshot = new File(SNAPSHOT_FILE);
+            File temp = new File(SNAPSHOT_FILE + ".tmp");
+            S3MetadataSnapshot.write(temp, journalSequence, metadata.values(), delegations.values());
+            Files.move(temp.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (journal != null) {
+                journal.truncate();
+            }
+        } catch (IOException ioe) {
+            printError("Error serializing data.");
+            ioe.printStackTrace();
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (journal == null || journal.getRecords() < compactRecords || !snapshotPending.compareAndSet(false, true)) {
+            return;
+        }
+        snapshotExecutor.execute(() -> {
+            snapshotPending.set(false);
+            writeSnapshot();
+        });
+    }
+
+    private void journalError(IOException ioe) {
+        printError("Could not append to metadata journal.");
+        ioe.printStackTrace();
+    }
+
+    /**
+     * Returns the lock guarding the stored files of a document.  Locks are striped, so documents share a
+     * fixed set of {@code s3.lock.stripes} locks.  Checkouts need no lock, as generations are never changed
+     * once written.
+     */
+    static ReadWriteLock documentLock(String documentID) {
+        int hash = documentID.hashCode();
+        return documentLocks[(hash ^ (hash >>> 16)) & (documentLocks.length - 1)];
+    }
+
+    public boolean checkInFile(String owner, S3Protocol.CheckinRequest request) {
+        S3File file = new S3File(owner, request.getDocumentId(), request.getSecurity());
+        S3File.S3FileOutputStream outputStream = null;
+        try {
+            outputStream = file.openOutputStream();
+            request.getFileData().writeTo(outputStream);
+            checkInFile(file, outputStream);
+            return true;
+        } catch (IOException ioe) {
+            if (outputStream != null) {
+                outputStream.abort();
+            }
+            printError("Could not store " + file.getDocumentID() + ".");
+            ioe.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Stores the data written to the stream as the document's next generation and makes it current.  Readers
+     * that looked the document up before see the previous generation, which stays on disk.  An upload with
+     * the same security and content as the current generation only costs the hash.
+     */
+    public void checkInFile(S3File file, S3File.S3FileOutputStream outputStream) throws IOException {
+        outputStream.finishData();
+        S3File current = metadata.get(file.getDocumentID());
+        if (current != null && outputStream.hasContentOf(current)) {
+            outputStream.abort();
+            printInfo("Checkin of " + file.getDocumentID() + " is unchanged; keeping generation " + current.getGeneration() + ".");
+            return;
+        }
+        outputStream.finish();
+        Lock lock = documentLock(file.getDocumentID()).writeLock();
+        lock.lock();
+        try {
+            S3File previous = metadata.get(file.getDocumentID());
+            outputStream.commit(previous == null ? 1 : previous.getGeneration() + 1);
+            metadata.put(file.getDocumentID(), file);
+            if (previous != null) {
+                previous.supersede();
+            }
+            appendCheckin(file);
+            file.prune(retainedVersions);
+        } finally {
+            lock.unlock();
+        }
+        compactIfNeeded();
+    }
+
+    private void appendCheckin(S3File file) {
+        snapshotLock.readLock().lock();
+        try {
+            if (journal != null) {
+                journal.checkedIn(file.getOwner(), file.getFilename(), file.getFileSec(), file.getGeneration());
+            }
+        } catch (IOException ioe) {
+            journalError(ioe);
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether the owner's current generation of the document already has the probed security and
+     * content, so the client need not upload it.
+     */
+    public boolean isUnchanged(String owner, S3Protocol.CheckinProbe probe) {
+        S3File current = metadata.get(S3File.documentID(owner, probe.getDocumentId()));
+        return current != null && current.hasContent(probe.getSecurity(), probe.getSha256().toByteArray());
     }
 
     public S3File checkoutFile(String owner, S3Protocol.CheckoutRequest request) {
@@ -60,97 +311,180 @@ class S3FileManager implements Serializable {
 
     public boolean deleteFile(String owner, String filename) {
         String fileID = S3File.documentID(owner, filename);
-        S3File file = metadata.get(fileID);
-        if (file == null) {
-            return false;
+        Lock lock = documentLock(fileID).writeLock();
+        lock.lock();
+        snapshotLock.readLock().lock();
+        try {
+            S3File file = metadata.remove(fileID);
+            if (file == null) {
+                return false;
+            }
+            file.supersede();
+            file.delete();
+            // Every delegation of the document goes with it; the reaper ignores the ones it still holds.
+            delegations.remove(fileID);
+            if (journal != null) {
+                journal.deleted(owner, filename);
+            }
+        } catch (IOException ioe) {
+            journalError(ioe);
+        } finally {
+            snapshotLock.readLock().unlock();
+            lock.unlock();
         }
-        file.delete();
-        metadata.remove(fileID);
+        compactIfNeeded();
         return true;
     }
 
+    private void putDelegation(S3FileDelegate delegate) {
+        delegations.compute(delegate.file.getDocumentID(), (id, graph) -> {
+            if (graph == null) {
+                graph = new S3DelegationGraph(delegate.file.getOwner());
+            }
+            graph.put(delegate);
+            return graph;
+        });
+        if (reaper != null) {
+            reaper.schedule(delegate, delegate.expiry);
+        }
+    }
+
+    /**
+     * Removes the delegation if it is still the current one between its grantor and recipient, dropping the
+     * document's graph once it is empty.  Both happen under the document's entry lock, so a concurrent put
+     * cannot land in a graph that has just been dropped.
+     */
+    private boolean removeDelegation(S3FileDelegate delegate) {
+        boolean[] removed = new boolean[1];
+        delegations.computeIfPresent(delegate.file.getDocumentID(), (id, graph) -> {
+            removed[0] = graph.remove(delegate);
+            return graph.isEmpty() ? null : graph;
+        });
+        return removed[0];
+    }
+
+    private void reap(S3FileDelegate delegate) {
+        if (delegate.expired() && removeDelegation(delegate)) {
+            expiredDelegations.incrementAndGet();
+            reapedDelegations.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the user's effective permission on the document, or null if no unexpired chain of delegations
+     * from the owner reaches the user.
+     */
+    private S3DelegationGraph.Permission findPermission(String user, String documentID) {
+        S3DelegationGraph graph = delegations.get(documentID);
+        return graph == null ? null : graph.permission(user);
+    }
+
     public S3File checkoutDelegatedFile(String me, S3Protocol.CheckoutRequest request) {
         if (request.getOwner().equals(me)) {
             return checkoutFile(me, request);
         }
-        Set<S3FileDelegate> delegateSet = delegateLookup.get(me);
-        if (delegateSet == null) {
-            return null;
-        }
-        S3FileDelegate delegate = null;
-        for (S3FileDelegate s3FileDelegate : delegateSet) {
-            if (s3FileDelegate.file.getFilename().equals(request.getDocumentId())) {
-                delegate = s3FileDelegate;
-                break;
-            }
-        }
-        if (delegate == null) {
-            return null;
-        }
-        if (delegate.expired()) {
-            delegateSet.remove(delegate);
-            delegateLookup.put(me, delegateSet);
+        String fileID = S3File.documentID(request.getOwner(), request.getDocumentId());
+        if (findPermission(me, fileID) == null) {
             return null;
         }
-        return delegate.file;
+        return metadata.get(fileID);
     }
 
-    public boolean addDelegation(String filename, String owner, String recipient, int duration, boolean propagation) {
-        String fileID = S3File.documentID(owner, filename);
-        LocalDateTime expiration = LocalDateTime.now().plusSeconds(duration);
-        S3File file = metadata.get(fileID);
-
-        Set<S3FileDelegate> delegateSet = delegateLookup.getOrDefault(owner, new HashSet<>());
-        if (file == null) {
-            S3FileDelegate del = null;
-            for (S3FileDelegate delegate : delegateSet) {
-                if (delegate.file.getFilename().equals(filename)) {
-                    del = delegate;
-                    break;
-                }
-            }
-            if (del == null) {
+    /**
+     * Delegates a document to the recipient.  If the owner is null the delegator's own document is meant,
+     * or, failing that, a document of the same name the delegator may propagate, as older clients cannot
+     * name the owner.
+     */
+    public boolean addDelegation(String filename, String owner, String delegator, String recipient, int duration, boolean propagation) {
+        if (owner == null) {
+            owner = findOwner(filename, delegator);
+            if (owner == null) {
                 return false;
             }
-            if (del.expired()) {
-                delegateSet.remove(del);
-                return false;
-            }
-            if (!del.propagate) {
+        }
+        String fileID = S3File.documentID(owner, filename);
+        if (!owner.equals(delegator)) {
+            S3DelegationGraph.Permission permission = findPermission(delegator, fileID);
+            if (permission == null || !permission.canPropagate()) {
                 return false;
             }
-            if (expiration.isAfter(del.expiry)) {
-                expiration = del.expiry;
+        }
+        S3File file = metadata.get(fileID);
+        if (file == null) {
+            return false;
+        }
+        long expiration = System.nanoTime() + TimeUnit.SECONDS.toNanos(duration);
+        snapshotLock.readLock().lock();
+        try {
+            S3FileDelegate delegate = new S3FileDelegate(file, delegator, recipient, expiration, propagation);
+            putDelegation(delegate);
+            if (journal != null) {
+                journal.delegated(delegator, recipient, owner, filename, delegate.getExpiryMillis(), propagation);
             }
-            delegateSet.add(new S3FileDelegate(del.file, expiration, propagation));
-            delegateLookup.put(recipient, delegateSet);
-        } else {
-            delegateSet.add(new S3FileDelegate(file, expiration, propagation));
-            delegateLookup.put(recipient, delegateSet);
+        } catch (IOException ioe) {
+            journalError(ioe);
+        } finally {
+            snapshotLock.readLock().unlock();
         }
+        compactIfNeeded();
         return true;
     }
-}
-class S3FileDelegate implements Serializable {
-    S3File file;
-    LocalDateTime expiry;
-    boolean propagate;
-
 
-    public S3FileDelegate(S3File file, LocalDateTime expiry, boolean propagate) {
-        this.file = file;
-        this.expiry = expiry;
-        this.propagate = propagate;
-    }
-
-    public boolean expired() {
-        return LocalDateTime.now().isAfter(expiry);
+    private String findOwner(String filename, String delegator) {
+        if (metadata.containsKey(S3File.documentID(delegator, filename))) {
+            return delegator;
+        }
+        for (Map.Entry<String, S3DelegationGraph> entry : delegations.entrySet()) {
+            S3File file = metadata.get(entry.getKey());
+            if (file != null && file.getFilename().equals(filename)) {
+                S3DelegationGraph.Permission permission = entry.getValue().permission(delegator);
+                if (permission != null && permission.canPropagate()) {
+                    return file.getOwner();
+                }
+            }
+        }
+        return null;
     }
 
     @Override
     public String toString() {
-        return "File: " + file.toString() + "\n" +
-                "Expires: " + expiry.toString() + "\n" +
-                "Propagates? " + propagate;
+        int live = 0;
+        for (S3DelegationGraph graph : delegations.values()) {
+            live += graph.size();
+        }
+        return "Delegations: " + live + " live, " + expiredDelegations.get() + " expired (" +
+                reapedDelegations.get() + " reaped in the background)";
+    }
+
+    /**
+     * Applies journal records to the metadata loaded from the snapshot.
+     */
+    private class Replay implements S3MetadataJournal.Listener {
+        @Override
+        public void checkedIn(String owner, String filename, Security security, long generation) {
+            S3File file = new S3File(owner, filename, security, generation);
+            metadata.put(file.getDocumentID(), file);
+        }
+
+        @Override
+        public void deleted(String owner, String filename) {
+            String fileID = S3File.documentID(owner, filename);
+            metadata.remove(fileID);
+            delegations.remove(fileID);
+        }
+
+        @Override
+        public void delegated(String grantor, String recipient, String owner, String filename, long expiryMillis,
+                              boolean propagate) {
+            S3File file = metadata.get(S3File.documentID(owner, filename));
+            if (file == null) {
+                return;
+            }
+            S3FileDelegate delegate = new S3FileDelegate(file, grantor, recipient,
+                    S3FileDelegate.expiryFromEpochMillis(expiryMillis), propagate);
+            if (!delegate.expired()) {
+                putDelegation(delegate);
+            }
+        }
     }
 }
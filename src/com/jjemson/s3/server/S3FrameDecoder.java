@@ -0,0 +1,117 @@
+package com.jjemson.s3.server;
+
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.jjemson.s3.S3Protocol.S3Message;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * S3FrameDecoder
+ *
+ * Incrementally decodes varint-delimited S3Messages, the framing written by {@code writeDelimitedTo},
+ * from bytes that arrive in arbitrary pieces.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3FrameDecoder {
+
+    private static final int INITIAL_SIZE = 4096;
+    private static final int MAX_FRAME_SIZE = 64 << 20;
+
+    private final ExtensionRegistry registry;
+
+    private byte[] buffer = new byte[INITIAL_SIZE];
+    private int start;
+    private int end;
+
+    S3FrameDecoder(ExtensionRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Consumes all remaining bytes of the input and returns every message that is now complete.
+     */
+    List<S3Message> decode(ByteBuffer input) throws InvalidProtocolBufferException {
+        List<S3Message> messages = new ArrayList<>(1);
+        while (input.hasRemaining()) {
+            ensureCapacity(input.remaining());
+            int len = Math.min(input.remaining(), buffer.length - end);
+            input.get(buffer, end, len);
+            end += len;
+            S3Message message;
+            while ((message = next()) != null) {
+                messages.add(message);
+            }
+        }
+        if (start == end && buffer.length > INITIAL_SIZE) {
+            // Don't hold on to a large buffer for an idle connection.
+            buffer = new byte[INITIAL_SIZE];
+        }
+        return messages;
+    }
+
+    /**
+     * Returns the number of bytes buffered for a message that is not yet complete.
+     */
+    int buffered() {
+        return end - start;
+    }
+
+    private S3Message next() throws InvalidProtocolBufferException {
+        int position = start;
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (position == end) {
+                return null;
+            }
+            if (shift > 28) {
+                throw new InvalidProtocolBufferException("Malformed frame length.");
+            }
+            byte b = buffer[position++];
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        if (length < 0 || length > MAX_FRAME_SIZE) {
+            throw new InvalidProtocolBufferException("Frame of " + length + " bytes exceeds the size limit.");
+        }
+        if (end - position < length) {
+            // Make sure the whole frame will fit once the rest of it arrives.
+            ensureCapacity(position - start + length - (end - start));
+            return null;
+        }
+        S3Message message = S3Message.parser().parseFrom(buffer, position, length, registry);
+        start = position + length;
+        if (start == end) {
+            start = 0;
+            end = 0;
+        }
+        return message;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (buffer.length - end >= additional) {
+            return;
+        }
+        int used = end - start;
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, used);
+            start = 0;
+            end = used;
+        }
+        if (buffer.length - end < additional) {
+            int size = buffer.length;
+            while (size - used < additional) {
+                size *= 2;
+            }
+            byte[] grown = new byte[size];
+            System.arraycopy(buffer, 0, grown, 0, used);
+            buffer = grown;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.jjemson.s3.server;
+
+import com.jjemson.s3.S3Security;
+
+import javax.net.ssl.*;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+
+/**
+ * S3HandshakeBenchmark
+ *
+ * Compares the rate of full TLS handshakes, made with a freshly built SSLContext per connection as clients
+ * used to do, against handshakes made through the shared context from {@link S3Security#getSSLContext},
+ * which resume the session of the previous connection.  Both sides run in this process over loopback with
+ * client authentication, using the server and client1 key stores.
+ *
+ * Usage: S3HandshakeBenchmark [handshakes] [rounds]
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+public class S3HandshakeBenchmark {
+
+    private static final String PASSWORD = "cs6238";
+    private static final String CLIENT = "client1";
+
+    public static void main(String... args) throws IOException, GeneralSecurityException {
+        int handshakes = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        SSLServerSocket serverSocket = (SSLServerSocket) S3Security.getSSLContext("server", PASSWORD)
+                .getServerSocketFactory().createServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        serverSocket.setNeedClientAuth(true);
+        Thread acceptor = new Thread(() -> accept(serverSocket), "s3-benchmark-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        int port = serverSocket.getLocalPort();
+
+        System.out.println("Timing " + handshakes + " handshakes, " + rounds + " rounds after one warm-up round.");
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            int fullResumed = 0;
+            for (int i = 0; i < handshakes; i++) {
+                fullResumed += connect(newContext(), port);
+            }
+            long full = System.nanoTime();
+            SSLContext shared = S3Security.getSSLContext(CLIENT, PASSWORD);
+            int sharedResumed = 0;
+            for (int i = 0; i < handshakes; i++) {
+                sharedResumed += connect(shared, port);
+            }
+            long done = System.nanoTime();
+
+            if (round > 0) {
+                System.out.println(String.format("Round %d: new context %.0f handshakes/s (%d resumed); shared context %.0f handshakes/s (%d resumed)",
+                        round, rate(handshakes, start, full), fullResumed, rate(handshakes, full, done), sharedResumed));
+            }
+        }
+        serverSocket.close();
+    }
+
+    private static double rate(int handshakes, long start, long end) {
+        return handshakes / ((end - start) / 1e9);
+    }
+
+    /**
+     * Builds a client context the way S3Client did before contexts were shared.  The key store itself comes
+     * from the cache, so only the context and handshake are measured.
+     */
+    private static SSLContext newContext() throws IOException, GeneralSecurityException {
+        KeyStore keyStore = S3Security.loadKeyStore(CLIENT, PASSWORD);
+        KeyManagerFactory kmf = KeyManagerFactory.getInstance("SunX509");
+        kmf.init(keyStore, PASSWORD.toCharArray());
+        TrustManagerFactory tmf = TrustManagerFactory.getInstance("SunX509");
+        tmf.init(keyStore);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(kmf.getKeyManagers(), tmf.getTrustManagers(), null);
+        return sslContext;
+    }
+
+    /**
+     * Connects, exchanges one byte each way and returns 1 if the session was resumed.  Reading the server's
+     * byte also consumes any session ticket it sent, which the next connection resumes with.
+     */
+    private static int connect(SSLContext sslContext, int port) throws IOException {
+        long startMillis = System.currentTimeMillis();
+        try (SSLSocket socket = (SSLSocket) sslContext.getSocketFactory().createSocket(InetAddress.getLoopbackAddress(), port)) {
+            socket.startHandshake();
+            socket.getOutputStream().write(1);
+            if (socket.getInputStream().read() < 0) {
+                throw new IOException("Server closed the connection");
+            }
+            return socket.getSession().getCreationTime() < startMillis ? 1 : 0;
+        }
+    }
+
+    private static void accept(SSLServerSocket serverSocket) {
+        while (!serverSocket.isClosed()) {
+            try (SSLSocket socket = (SSLSocket) serverSocket.accept()) {
+                if (socket.getInputStream().read() >= 0) {
+                    socket.getOutputStream().write(1);
+                }
+            } catch (SocketException se) {
+                // Closed at the end of the run.
+            } catch (IOException ioe) {
+                System.err.println("[Benchmark] " + ioe.getMessage());
+            }
+        }
+    }
+}
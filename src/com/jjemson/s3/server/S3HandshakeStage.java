@@ -0,0 +1,171 @@
+package com.jjemson.s3.server;
+
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3HandshakeStage
+ *
+ * Performs the TLS handshake for accepted sockets on its own pool, so the accept thread never blocks on a
+ * client.  A handshake that has not finished within {@code s3.handshake.timeout} milliseconds is aborted by
+ * closing the socket.  Completed handshakes are handed to the session executor.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3HandshakeStage {
+
+    private static final int DEFAULT_TIMEOUT = 10000;
+    private static final int DEFAULT_QUEUE = 256;
+
+    private final SSLSocketFactory socketFactory;
+    private final S3SessionExecutor sessionExecutor;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService deadlines;
+    private final long timeoutMillis;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong resumed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private static void printInfo(String s) {
+        System.out.println("[Handshake] " + s);
+    }
+    private static void printError(String s) {
+        System.err.println("[Handshake] " + s);
+    }
+
+    S3HandshakeStage(SSLSocketFactory socketFactory, S3SessionExecutor sessionExecutor, int threads, int queueSize, long timeoutMillis) {
+        this.socketFactory = socketFactory;
+        this.sessionExecutor = sessionExecutor;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)), new S3ThreadFactory("s3-handshake-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.deadlines = Executors.newSingleThreadScheduledExecutor(new S3ThreadFactory("s3-handshake-timer-"));
+    }
+
+    static S3HandshakeStage fromSystemProperties(SSLSocketFactory socketFactory, S3SessionExecutor sessionExecutor) {
+        return new S3HandshakeStage(socketFactory, sessionExecutor,
+                Integer.getInteger("s3.handshake.threads", Runtime.getRuntime().availableProcessors() * 2),
+                Integer.getInteger("s3.handshake.queue", DEFAULT_QUEUE),
+                Long.getLong("s3.handshake.timeout", DEFAULT_TIMEOUT));
+    }
+
+    /**
+     * Queues the handshake for a freshly accepted socket.  Returns immediately.
+     */
+    void submit(Socket socket) {
+        try {
+            executor.execute(() -> handshake(socket));
+        } catch (RejectedExecutionException ree) {
+            rejected.incrementAndGet();
+            printError("Too many pending handshakes; dropping " + socket.getInetAddress() + ".");
+            closeQuietly(socket);
+        }
+    }
+
+    private void handshake(Socket socket) {
+        long start = System.nanoTime();
+        long startMillis = System.currentTimeMillis();
+        AtomicInteger state = new AtomicInteger();
+        ScheduledFuture<?> deadline = deadlines.schedule(() -> {
+            if (state.compareAndSet(0, 2)) {
+                closeQuietly(socket);
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        try {
+            // The numeric address avoids a reverse DNS lookup; the server side does not check host names.
+            SSLSocket sslSocket = (SSLSocket) socketFactory.createSocket(socket, socket.getInetAddress().getHostAddress(), socket.getPort(), true);
+            sslSocket.setUseClientMode(false);
+            sslSocket.setNeedClientAuth(true);
+            sslSocket.startHandshake();
+            if (!state.compareAndSet(0, 1)) {
+                throw new IOException("Handshake timed out");
+            }
+            deadline.cancel(false);
+            record(System.nanoTime() - start);
+            // A resumed session keeps the creation time of the handshake that established it.
+            if (sslSocket.getSession().getCreationTime() < startMillis) {
+                resumed.incrementAndGet();
+            }
+            printInfo("Connected to client: " + sslSocket.getInetAddress());
+            sessionExecutor.submit(sslSocket, new S3Session(sslSocket));
+        } catch (IOException ioe) {
+            deadline.cancel(false);
+            if (state.get() == 2) {
+                timedOut.incrementAndGet();
+                printError("Handshake with " + socket.getInetAddress() + " timed out after " + timeoutMillis + " ms.");
+            } else {
+                failed.incrementAndGet();
+                printError("Handshake with " + socket.getInetAddress() + " failed: " + ioe.getMessage());
+            }
+            closeQuietly(socket);
+        }
+    }
+
+    private void record(long nanos) {
+        completed.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        long max;
+        while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos)) {
+        }
+    }
+
+    long getCompleted() {
+        return completed.get();
+    }
+
+    long getResumed() {
+        return resumed.get();
+    }
+
+    long getFailed() {
+        return failed.get();
+    }
+
+    long getTimedOut() {
+        return timedOut.get();
+    }
+
+    long getRejected() {
+        return rejected.get();
+    }
+
+    double getAverageLatencyMillis() {
+        long count = completed.get();
+        return count == 0 ? 0 : totalNanos.get() / 1e6 / count;
+    }
+
+    double getMaxLatencyMillis() {
+        return maxNanos.get() / 1e6;
+    }
+
+    void shutdown() {
+        executor.shutdown();
+        deadlines.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Handshakes: %d completed (%d resumed, avg %.1f ms, max %.1f ms), %d failed, %d timed out, %d rejected",
+                getCompleted(), getResumed(), getAverageLatencyMillis(), getMaxLatencyMillis(), getFailed(), getTimedOut(), getRejected());
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.jjemson.s3.server;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3KeyCache
+ *
+ * Keeps the unwrapped key material of recently read documents, so repeated checkouts skip the RSA decryption of
+ * the key file.  Entries are keyed by the storage ID of a generation, whose key file never changes once the
+ * generation is stored, so a hit does not look at the file.  At most {@code s3.keycache.size} keys
+ * are kept, each for at most {@code s3.keycache.ttl} milliseconds; a size of 0 disables the cache.  Key
+ * bytes are overwritten with zeros when an entry is evicted, expires or is invalidated.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3KeyCache {
+
+    private static final int DEFAULT_SIZE = 1024;
+    private static final long DEFAULT_TTL_MILLIS = 5 * 60 * 1000;
+
+    private static final S3KeyCache instance = new S3KeyCache(
+            Integer.getInteger("s3.keycache.size", DEFAULT_SIZE),
+            Long.getLong("s3.keycache.ttl", DEFAULT_TTL_MILLIS));
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Entry> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    static S3KeyCache sharedInstance() {
+        return instance;
+    }
+
+    S3KeyCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= S3KeyCache.this.maxEntries) {
+                    return false;
+                }
+                eldest.getValue().destroy();
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of the cached key material for the generation, or null if there is none.  The caller
+     * should zero the copy once it is done with it.
+     */
+    synchronized byte[] get(String storageID) {
+        Entry entry = entries.get(storageID);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (System.nanoTime() - entry.created > ttlNanos) {
+            entries.remove(storageID).destroy();
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.key.clone();
+    }
+
+    /**
+     * Caches a copy of the key unwrapped from the generation's key file.
+     */
+    synchronized void put(String storageID, byte[] key) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        purgeExpired();
+        Entry previous = entries.put(storageID, new Entry(key.clone()));
+        if (previous != null) {
+            previous.destroy();
+        }
+    }
+
+    /**
+     * Forgets the key for the generation.  Called when its key file is removed.
+     */
+    synchronized void invalidate(String storageID) {
+        Entry entry = entries.remove(storageID);
+        if (entry != null) {
+            entry.destroy();
+        }
+    }
+
+    /**
+     * Drops the expired entries at the least recently used end, stopping at the first live one, so a put
+     * removes each entry at most once instead of scanning the whole cache.  An expired entry further in is
+     * dropped when it is looked up or once it reaches that end.
+     */
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (now - entry.created <= ttlNanos) {
+                return;
+            }
+            entry.destroy();
+            iterator.remove();
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "Key cache: " + entries.size() + " keys, " + hits + " hits, " + misses + " misses, " +
+                evictions + " evictions";
+    }
+
+    private static class Entry {
+        private final byte[] key;
+        private final long created = System.nanoTime();
+
+        Entry(byte[] key) {
+            this.key = key;
+        }
+
+        void destroy() {
+            Arrays.fill(key, (byte) 0);
+        }
+    }
+}
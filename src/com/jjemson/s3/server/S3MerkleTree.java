@@ -0,0 +1,291 @@
+package com.jjemson.s3.server;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.security.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * S3MerkleTree
+ *
+ * Integrity data for a stored file: the SHA-256 hash of every {@link #CHUNK_SIZE} byte chunk of plaintext,
+ * and an RSA signature over the root of the hash tree built on them.  Each chunk can be checked on its own
+ * as it is read, so verification no longer has to wait for the end of the file, and only the root needs the
+ * RSA key.  Roots whose signature has been verified are remembered, keyed by document and by the tree
+ * file's modification time and length, so unchanged files skip the RSA check.
+ *
+ * Tree files hold a magic number, the chunk size, the file length, the leaf hashes and the signature.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3MerkleTree {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final int MAGIC = 0x53334d54; // "S3MT"
+    private static final int HASH_SIZE = 32;
+    private static final int MAX_VERIFIED_ROOTS = 4096;
+
+    private static final Map<String, VerifiedRoot> verifiedRoots =
+            new LinkedHashMap<String, VerifiedRoot>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VerifiedRoot> eldest) {
+                    return size() > MAX_VERIFIED_ROOTS;
+                }
+            };
+
+    private final long length;
+    private final byte[][] leaves;
+    private final byte[] root;
+    private byte[] signature;
+
+    private S3MerkleTree(long length, byte[][] leaves) {
+        this.length = length;
+        this.leaves = leaves;
+        this.root = computeRoot(leaves);
+    }
+
+    long getLength() {
+        return length;
+    }
+
+    int getChunkCount() {
+        return leaves.length;
+    }
+
+    /**
+     * Reads a tree file written by {@link #write(File, PrivateKey)}.
+     */
+    static S3MerkleTree read(File treeFile) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(treeFile)))) {
+            if (input.readInt() != MAGIC || input.readInt() != CHUNK_SIZE) {
+                throw new IOException("Integrity data has an unknown format.");
+            }
+            long length = input.readLong();
+            int count = input.readInt();
+            if (length < 0 || count != chunkCount(length)) {
+                throw new IOException("Integrity data is corrupt.");
+            }
+            byte[][] leaves = new byte[count][HASH_SIZE];
+            for (byte[] leaf : leaves) {
+                input.readFully(leaf);
+            }
+            int signatureLength = input.readUnsignedShort();
+            S3MerkleTree tree = new S3MerkleTree(length, leaves);
+            tree.signature = new byte[signatureLength];
+            input.readFully(tree.signature);
+            return tree;
+        } catch (EOFException eofe) {
+            throw new IOException("Integrity data is truncated.", eofe);
+        }
+    }
+
+    /**
+     * Signs the root and writes the tree to the given file.
+     */
+    void write(File treeFile, PrivateKey key) throws IOException, GeneralSecurityException {
+        Signature signer = Signature.getInstance("SHA256withRSA");
+        signer.initSign(key);
+        signer.update(signedContent());
+        signature = signer.sign();
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(treeFile)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(CHUNK_SIZE);
+            output.writeLong(length);
+            output.writeInt(leaves.length);
+            for (byte[] leaf : leaves) {
+                output.write(leaf);
+            }
+            output.writeShort(signature.length);
+            output.write(signature);
+        }
+    }
+
+    /**
+     * Checks the signature over the root, unless the same root was already verified for this document and
+     * tree file.
+     */
+    boolean verifyRoot(String documentID, File treeFile, PublicKey key) throws GeneralSecurityException {
+        long lastModified = treeFile.lastModified();
+        long fileLength = treeFile.length();
+        synchronized (verifiedRoots) {
+            VerifiedRoot verified = verifiedRoots.get(documentID);
+            if (verified != null && verified.lastModified == lastModified && verified.length == fileLength
+                    && Arrays.equals(verified.root, root)) {
+                return true;
+            }
+        }
+        Signature verifier = Signature.getInstance("SHA256withRSA");
+        verifier.initVerify(key);
+        verifier.update(signedContent());
+        if (!verifier.verify(signature)) {
+            return false;
+        }
+        synchronized (verifiedRoots) {
+            verifiedRoots.put(documentID, new VerifiedRoot(lastModified, fileLength, root));
+        }
+        return true;
+    }
+
+    static void forget(String documentID) {
+        synchronized (verifiedRoots) {
+            verifiedRoots.remove(documentID);
+        }
+    }
+
+    private byte[] signedContent() {
+        return ByteBuffer.allocate(4 + 8 + HASH_SIZE).putInt(CHUNK_SIZE).putLong(length).put(root).array();
+    }
+
+    private static int chunkCount(long length) {
+        // An empty file still has one (empty) chunk, so every tree has a root.
+        return (int) Math.max(1, (length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    private static byte[] computeRoot(byte[][] leaves) {
+        MessageDigest digest = sha256();
+        byte[][] level = leaves;
+        while (level.length > 1) {
+            byte[][] next = new byte[(level.length + 1) / 2][];
+            for (int i = 0; i < next.length; i++) {
+                if (2 * i + 1 == level.length) {
+                    next[i] = level[2 * i];
+                    continue;
+                }
+                digest.update((byte) 1);
+                digest.update(level[2 * i]);
+                digest.update(level[2 * i + 1]);
+                next[i] = digest.digest();
+            }
+            level = next;
+        }
+        return level[0];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException(nsae);
+        }
+    }
+
+    /**
+     * Hashes plaintext into chunks as it is written.
+     */
+    static class Builder {
+        private final MessageDigest digest = sha256();
+        private final List<byte[]> leaves = new ArrayList<>();
+        private long length;
+        private int filled;
+
+        Builder() {
+            digest.update((byte) 0);
+        }
+
+        void update(byte[] b, int off, int len) {
+            while (len > 0) {
+                int n = Math.min(len, CHUNK_SIZE - filled);
+                digest.update(b, off, n);
+                filled += n;
+                length += n;
+                off += n;
+                len -= n;
+                if (filled == CHUNK_SIZE) {
+                    leaves.add(digest.digest());
+                    digest.update((byte) 0);
+                    filled = 0;
+                }
+            }
+        }
+
+        S3MerkleTree build() {
+            if (filled > 0 || leaves.isEmpty()) {
+                leaves.add(digest.digest());
+            }
+            return new S3MerkleTree(length, leaves.toArray(new byte[0][]));
+        }
+    }
+
+    /**
+     * Checks plaintext against the leaf hashes as it is read.  A chunk that does not match is reported as soon
+     * as its last byte has been seen.
+     */
+    class Verifier {
+        private final MessageDigest digest = sha256();
+        private long position;
+        private int chunk;
+        private int filled;
+
+        Verifier() {
+            digest.update((byte) 0);
+        }
+
+        /**
+         * Restarts verification at the beginning of the given chunk.
+         */
+        void seek(int index) {
+            digest.reset();
+            digest.update((byte) 0);
+            chunk = index;
+            filled = 0;
+            position = (long) index * CHUNK_SIZE;
+        }
+
+        void update(ByteBuffer data) throws IOException {
+            while (data.hasRemaining()) {
+                int n = Math.min(data.remaining(), CHUNK_SIZE - filled);
+                if (position + n > length) {
+                    throw new IOException("Verification of file failed.");
+                }
+                ByteBuffer slice = data.slice();
+                slice.limit(n);
+                digest.update(slice);
+                data.position(data.position() + n);
+                filled += n;
+                position += n;
+                if (filled == CHUNK_SIZE) {
+                    checkChunk();
+                }
+            }
+        }
+
+        /**
+         * Checks the final chunk and that the file has the recorded length.
+         */
+        void finish() throws IOException {
+            if (position != length) {
+                throw new IOException("Verification of file failed.");
+            }
+            if (filled > 0 || length == 0) {
+                checkChunk();
+            }
+        }
+
+        private void checkChunk() throws IOException {
+            if (chunk >= leaves.length || !MessageDigest.isEqual(digest.digest(), leaves[chunk])) {
+                throw new IOException("Verification of file failed.");
+            }
+            digest.update((byte) 0);
+            chunk++;
+            filled = 0;
+        }
+    }
+
+    private static class VerifiedRoot {
+        private final long lastModified;
+        private final long length;
+        private final byte[] root;
+
+        VerifiedRoot(long lastModified, long length, byte[] root) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.root = root;
+        }
+    }
+}
@@ -0,0 +1,3730 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: s3meta.proto
+
+package com.jjemson.s3.server;
+
+public final class S3Metadata {
+  private S3Metadata() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface SnapshotHeaderOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.server.SnapshotHeader)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required uint32 version = 1;</code>
+     */
+    boolean hasVersion();
+    /**
+     * <code>required uint32 version = 1;</code>
+     */
+    int getVersion();
+
+    /**
+     * <code>required int64 journal_sequence = 2;</code>
+     */
+    boolean hasJournalSequence();
+    /**
+     * <code>required int64 journal_sequence = 2;</code>
+     */
+    long getJournalSequence();
+  }
+  /**
+   * <pre>
+   * A metadata snapshot is the magic bytes "S3MD", a delimited SnapshotHeader,
+   * then delimited SnapshotRecords until the end of the file.
+   * </pre>
+   *
+   * Protobuf type {@code com.jjemson.s3.server.SnapshotHeader}
+   */
+  public  static final class SnapshotHeader extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.server.SnapshotHeader)
+      SnapshotHeaderOrBuilder {
+    // Use SnapshotHeader.newBuilder() to construct.
+    private SnapshotHeader(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SnapshotHeader() {
+      version_ = 0;
+      journalSequence_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SnapshotHeader(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              version_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              journalSequence_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_SnapshotHeader_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_SnapshotHeader_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.server.S3Metadata.SnapshotHeader.class, com.jjemson.s3.server.S3Metadata.SnapshotHeader.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int VERSION_FIELD_NUMBER = 1;
+    private int version_;
+    /**
+     * <code>required uint32 version = 1;</code>
+     */
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 version = 1;</code>
+     */
+    public int getVersion() {
+      return version_;
+    }
+
+    public static final int JOURNAL_SEQUENCE_FIELD_NUMBER = 2;
+    private long journalSequence_;
+    /**
+     * <code>required int64 journal_sequence = 2;</code>
+     */
+    public boolean hasJournalSequence() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required int64 journal_sequence = 2;</code>
+     */
+    public long getJournalSequence() {
+      return journalSequence_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasJournalSequence()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, version_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, journalSequence_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, version_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, journalSequence_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.server.S3Metadata.SnapshotHeader)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.server.S3Metadata.SnapshotHeader other = (com.jjemson.s3.server.S3Metadata.SnapshotHeader) obj;
+
+      boolean result = true;
+      result = result && (hasVersion() == other.hasVersion());
+      if (hasVersion()) {
+        result = result && (getVersion()
+            == other.getVersion());
+      }
+      result = result && (hasJournalSequence() == other.hasJournalSequence());
+      if (hasJournalSequence()) {
+        result = result && (getJournalSequence()
+            == other.getJournalSequence());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + getVersion();
+      }
+      if (hasJournalSequence()) {
+        hash = (37 * hash) + JOURNAL_SEQUENCE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getJournalSequence());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.server.S3Metadata.SnapshotHeader parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotHeader parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotHeader parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotHeader parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotHeader parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotHeader parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotHeader parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotHeader parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotHeader parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotHeader parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.server.S3Metadata.SnapshotHeader prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A metadata snapshot is the magic bytes "S3MD", a delimited SnapshotHeader,
+     * then delimited SnapshotRecords until the end of the file.
+     * </pre>
+     *
+     * Protobuf type {@code com.jjemson.s3.server.SnapshotHeader}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.server.SnapshotHeader)
+        com.jjemson.s3.server.S3Metadata.SnapshotHeaderOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_SnapshotHeader_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_SnapshotHeader_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.server.S3Metadata.SnapshotHeader.class, com.jjemson.s3.server.S3Metadata.SnapshotHeader.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.server.S3Metadata.SnapshotHeader.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        version_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        journalSequence_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_SnapshotHeader_descriptor;
+      }
+
+      public com.jjemson.s3.server.S3Metadata.SnapshotHeader getDefaultInstanceForType() {
+        return com.jjemson.s3.server.S3Metadata.SnapshotHeader.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.server.S3Metadata.SnapshotHeader build() {
+        com.jjemson.s3.server.S3Metadata.SnapshotHeader result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.server.S3Metadata.SnapshotHeader buildPartial() {
+        com.jjemson.s3.server.S3Metadata.SnapshotHeader result = new com.jjemson.s3.server.S3Metadata.SnapshotHeader(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.version_ = version_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.journalSequence_ = journalSequence_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.server.S3Metadata.SnapshotHeader) {
+          return mergeFrom((com.jjemson.s3.server.S3Metadata.SnapshotHeader)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.server.S3Metadata.SnapshotHeader other) {
+        if (other == com.jjemson.s3.server.S3Metadata.SnapshotHeader.getDefaultInstance()) return this;
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        if (other.hasJournalSequence()) {
+          setJournalSequence(other.getJournalSequence());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVersion()) {
+          return false;
+        }
+        if (!hasJournalSequence()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.server.S3Metadata.SnapshotHeader parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.server.S3Metadata.SnapshotHeader) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int version_ ;
+      /**
+       * <code>required uint32 version = 1;</code>
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 version = 1;</code>
+       */
+      public int getVersion() {
+        return version_;
+      }
+      /**
+       * <code>required uint32 version = 1;</code>
+       */
+      public Builder setVersion(int value) {
+        bitField0_ |= 0x00000001;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 version = 1;</code>
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        version_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long journalSequence_ ;
+      /**
+       * <code>required int64 journal_sequence = 2;</code>
+       */
+      public boolean hasJournalSequence() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required int64 journal_sequence = 2;</code>
+       */
+      public long getJournalSequence() {
+        return journalSequence_;
+      }
+      /**
+       * <code>required int64 journal_sequence = 2;</code>
+       */
+      public Builder setJournalSequence(long value) {
+        bitField0_ |= 0x00000002;
+        journalSequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 journal_sequence = 2;</code>
+       */
+      public Builder clearJournalSequence() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        journalSequence_ = 0L;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.server.SnapshotHeader)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.server.SnapshotHeader)
+    private static final com.jjemson.s3.server.S3Metadata.SnapshotHeader DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.server.S3Metadata.SnapshotHeader();
+    }
+
+    public static com.jjemson.s3.server.S3Metadata.SnapshotHeader getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<SnapshotHeader>
+        PARSER = new com.google.protobuf.AbstractParser<SnapshotHeader>() {
+      public SnapshotHeader parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new SnapshotHeader(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SnapshotHeader> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SnapshotHeader> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.server.S3Metadata.SnapshotHeader getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnapshotRecordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.server.SnapshotRecord)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+     */
+    boolean hasFile();
+    /**
+     * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+     */
+    com.jjemson.s3.server.S3Metadata.FileRecord getFile();
+    /**
+     * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+     */
+    com.jjemson.s3.server.S3Metadata.FileRecordOrBuilder getFileOrBuilder();
+
+    /**
+     * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+     */
+    boolean hasDelegate();
+    /**
+     * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+     */
+    com.jjemson.s3.server.S3Metadata.DelegateRecord getDelegate();
+    /**
+     * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+     */
+    com.jjemson.s3.server.S3Metadata.DelegateRecordOrBuilder getDelegateOrBuilder();
+  }
+  /**
+   * Protobuf type {@code com.jjemson.s3.server.SnapshotRecord}
+   */
+  public  static final class SnapshotRecord extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.server.SnapshotRecord)
+      SnapshotRecordOrBuilder {
+    // Use SnapshotRecord.newBuilder() to construct.
+    private SnapshotRecord(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SnapshotRecord() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SnapshotRecord(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.jjemson.s3.server.S3Metadata.FileRecord.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = file_.toBuilder();
+              }
+              file_ = input.readMessage(com.jjemson.s3.server.S3Metadata.FileRecord.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(file_);
+                file_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              com.jjemson.s3.server.S3Metadata.DelegateRecord.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = delegate_.toBuilder();
+              }
+              delegate_ = input.readMessage(com.jjemson.s3.server.S3Metadata.DelegateRecord.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(delegate_);
+                delegate_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_SnapshotRecord_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_SnapshotRecord_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.server.S3Metadata.SnapshotRecord.class, com.jjemson.s3.server.S3Metadata.SnapshotRecord.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int FILE_FIELD_NUMBER = 1;
+    private com.jjemson.s3.server.S3Metadata.FileRecord file_;
+    /**
+     * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+     */
+    public boolean hasFile() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+     */
+    public com.jjemson.s3.server.S3Metadata.FileRecord getFile() {
+      return file_ == null ? com.jjemson.s3.server.S3Metadata.FileRecord.getDefaultInstance() : file_;
+    }
+    /**
+     * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+     */
+    public com.jjemson.s3.server.S3Metadata.FileRecordOrBuilder getFileOrBuilder() {
+      return file_ == null ? com.jjemson.s3.server.S3Metadata.FileRecord.getDefaultInstance() : file_;
+    }
+
+    public static final int DELEGATE_FIELD_NUMBER = 2;
+    private com.jjemson.s3.server.S3Metadata.DelegateRecord delegate_;
+    /**
+     * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+     */
+    public boolean hasDelegate() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+     */
+    public com.jjemson.s3.server.S3Metadata.DelegateRecord getDelegate() {
+      return delegate_ == null ? com.jjemson.s3.server.S3Metadata.DelegateRecord.getDefaultInstance() : delegate_;
+    }
+    /**
+     * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+     */
+    public com.jjemson.s3.server.S3Metadata.DelegateRecordOrBuilder getDelegateOrBuilder() {
+      return delegate_ == null ? com.jjemson.s3.server.S3Metadata.DelegateRecord.getDefaultInstance() : delegate_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (hasFile()) {
+        if (!getFile().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasDelegate()) {
+        if (!getDelegate().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, getFile());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, getDelegate());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getFile());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getDelegate());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.server.S3Metadata.SnapshotRecord)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.server.S3Metadata.SnapshotRecord other = (com.jjemson.s3.server.S3Metadata.SnapshotRecord) obj;
+
+      boolean result = true;
+      result = result && (hasFile() == other.hasFile());
+      if (hasFile()) {
+        result = result && getFile()
+            .equals(other.getFile());
+      }
+      result = result && (hasDelegate() == other.hasDelegate());
+      if (hasDelegate()) {
+        result = result && getDelegate()
+            .equals(other.getDelegate());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasFile()) {
+        hash = (37 * hash) + FILE_FIELD_NUMBER;
+        hash = (53 * hash) + getFile().hashCode();
+      }
+      if (hasDelegate()) {
+        hash = (37 * hash) + DELEGATE_FIELD_NUMBER;
+        hash = (53 * hash) + getDelegate().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.server.S3Metadata.SnapshotRecord parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotRecord parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotRecord parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotRecord parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotRecord parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotRecord parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotRecord parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotRecord parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotRecord parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.SnapshotRecord parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.server.S3Metadata.SnapshotRecord prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.jjemson.s3.server.SnapshotRecord}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.server.SnapshotRecord)
+        com.jjemson.s3.server.S3Metadata.SnapshotRecordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_SnapshotRecord_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_SnapshotRecord_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.server.S3Metadata.SnapshotRecord.class, com.jjemson.s3.server.S3Metadata.SnapshotRecord.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.server.S3Metadata.SnapshotRecord.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getFileFieldBuilder();
+          getDelegateFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (fileBuilder_ == null) {
+          file_ = null;
+        } else {
+          fileBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (delegateBuilder_ == null) {
+          delegate_ = null;
+        } else {
+          delegateBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_SnapshotRecord_descriptor;
+      }
+
+      public com.jjemson.s3.server.S3Metadata.SnapshotRecord getDefaultInstanceForType() {
+        return com.jjemson.s3.server.S3Metadata.SnapshotRecord.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.server.S3Metadata.SnapshotRecord build() {
+        com.jjemson.s3.server.S3Metadata.SnapshotRecord result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.server.S3Metadata.SnapshotRecord buildPartial() {
+        com.jjemson.s3.server.S3Metadata.SnapshotRecord result = new com.jjemson.s3.server.S3Metadata.SnapshotRecord(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (fileBuilder_ == null) {
+          result.file_ = file_;
+        } else {
+          result.file_ = fileBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (delegateBuilder_ == null) {
+          result.delegate_ = delegate_;
+        } else {
+          result.delegate_ = delegateBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.server.S3Metadata.SnapshotRecord) {
+          return mergeFrom((com.jjemson.s3.server.S3Metadata.SnapshotRecord)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.server.S3Metadata.SnapshotRecord other) {
+        if (other == com.jjemson.s3.server.S3Metadata.SnapshotRecord.getDefaultInstance()) return this;
+        if (other.hasFile()) {
+          mergeFile(other.getFile());
+        }
+        if (other.hasDelegate()) {
+          mergeDelegate(other.getDelegate());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (hasFile()) {
+          if (!getFile().isInitialized()) {
+            return false;
+          }
+        }
+        if (hasDelegate()) {
+          if (!getDelegate().isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.server.S3Metadata.SnapshotRecord parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.server.S3Metadata.SnapshotRecord) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.jjemson.s3.server.S3Metadata.FileRecord file_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jjemson.s3.server.S3Metadata.FileRecord, com.jjemson.s3.server.S3Metadata.FileRecord.Builder, com.jjemson.s3.server.S3Metadata.FileRecordOrBuilder> fileBuilder_;
+      /**
+       * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+       */
+      public boolean hasFile() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+       */
+      public com.jjemson.s3.server.S3Metadata.FileRecord getFile() {
+        if (fileBuilder_ == null) {
+          return file_ == null ? com.jjemson.s3.server.S3Metadata.FileRecord.getDefaultInstance() : file_;
+        } else {
+          return fileBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+       */
+      public Builder setFile(com.jjemson.s3.server.S3Metadata.FileRecord value) {
+        if (fileBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          file_ = value;
+          onChanged();
+        } else {
+          fileBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+       */
+      public Builder setFile(
+          com.jjemson.s3.server.S3Metadata.FileRecord.Builder builderForValue) {
+        if (fileBuilder_ == null) {
+          file_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+       */
+      public Builder mergeFile(com.jjemson.s3.server.S3Metadata.FileRecord value) {
+        if (fileBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              file_ != null &&
+              file_ != com.jjemson.s3.server.S3Metadata.FileRecord.getDefaultInstance()) {
+            file_ =
+              com.jjemson.s3.server.S3Metadata.FileRecord.newBuilder(file_).mergeFrom(value).buildPartial();
+          } else {
+            file_ = value;
+          }
+          onChanged();
+        } else {
+          fileBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+       */
+      public Builder clearFile() {
+        if (fileBuilder_ == null) {
+          file_ = null;
+          onChanged();
+        } else {
+          fileBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+       */
+      public com.jjemson.s3.server.S3Metadata.FileRecord.Builder getFileBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getFileFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+       */
+      public com.jjemson.s3.server.S3Metadata.FileRecordOrBuilder getFileOrBuilder() {
+        if (fileBuilder_ != null) {
+          return fileBuilder_.getMessageOrBuilder();
+        } else {
+          return file_ == null ?
+              com.jjemson.s3.server.S3Metadata.FileRecord.getDefaultInstance() : file_;
+        }
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.FileRecord file = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jjemson.s3.server.S3Metadata.FileRecord, com.jjemson.s3.server.S3Metadata.FileRecord.Builder, com.jjemson.s3.server.S3Metadata.FileRecordOrBuilder> 
+          getFileFieldBuilder() {
+        if (fileBuilder_ == null) {
+          fileBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.jjemson.s3.server.S3Metadata.FileRecord, com.jjemson.s3.server.S3Metadata.FileRecord.Builder, com.jjemson.s3.server.S3Metadata.FileRecordOrBuilder>(
+                  getFile(),
+                  getParentForChildren(),
+                  isClean());
+          file_ = null;
+        }
+        return fileBuilder_;
+      }
+
+      private com.jjemson.s3.server.S3Metadata.DelegateRecord delegate_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jjemson.s3.server.S3Metadata.DelegateRecord, com.jjemson.s3.server.S3Metadata.DelegateRecord.Builder, com.jjemson.s3.server.S3Metadata.DelegateRecordOrBuilder> delegateBuilder_;
+      /**
+       * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+       */
+      public boolean hasDelegate() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+       */
+      public com.jjemson.s3.server.S3Metadata.DelegateRecord getDelegate() {
+        if (delegateBuilder_ == null) {
+          return delegate_ == null ? com.jjemson.s3.server.S3Metadata.DelegateRecord.getDefaultInstance() : delegate_;
+        } else {
+          return delegateBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+       */
+      public Builder setDelegate(com.jjemson.s3.server.S3Metadata.DelegateRecord value) {
+        if (delegateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          delegate_ = value;
+          onChanged();
+        } else {
+          delegateBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+       */
+      public Builder setDelegate(
+          com.jjemson.s3.server.S3Metadata.DelegateRecord.Builder builderForValue) {
+        if (delegateBuilder_ == null) {
+          delegate_ = builderForValue.build();
+          onChanged();
+        } else {
+          delegateBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+       */
+      public Builder mergeDelegate(com.jjemson.s3.server.S3Metadata.DelegateRecord value) {
+        if (delegateBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              delegate_ != null &&
+              delegate_ != com.jjemson.s3.server.S3Metadata.DelegateRecord.getDefaultInstance()) {
+            delegate_ =
+              com.jjemson.s3.server.S3Metadata.DelegateRecord.newBuilder(delegate_).mergeFrom(value).buildPartial();
+          } else {
+            delegate_ = value;
+          }
+          onChanged();
+        } else {
+          delegateBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+       */
+      public Builder clearDelegate() {
+        if (delegateBuilder_ == null) {
+          delegate_ = null;
+          onChanged();
+        } else {
+          delegateBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+       */
+      public com.jjemson.s3.server.S3Metadata.DelegateRecord.Builder getDelegateBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDelegateFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+       */
+      public com.jjemson.s3.server.S3Metadata.DelegateRecordOrBuilder getDelegateOrBuilder() {
+        if (delegateBuilder_ != null) {
+          return delegateBuilder_.getMessageOrBuilder();
+        } else {
+          return delegate_ == null ?
+              com.jjemson.s3.server.S3Metadata.DelegateRecord.getDefaultInstance() : delegate_;
+        }
+      }
+      /**
+       * <code>optional .com.jjemson.s3.server.DelegateRecord delegate = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.jjemson.s3.server.S3Metadata.DelegateRecord, com.jjemson.s3.server.S3Metadata.DelegateRecord.Builder, com.jjemson.s3.server.S3Metadata.DelegateRecordOrBuilder> 
+          getDelegateFieldBuilder() {
+        if (delegateBuilder_ == null) {
+          delegateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.jjemson.s3.server.S3Metadata.DelegateRecord, com.jjemson.s3.server.S3Metadata.DelegateRecord.Builder, com.jjemson.s3.server.S3Metadata.DelegateRecordOrBuilder>(
+                  getDelegate(),
+                  getParentForChildren(),
+                  isClean());
+          delegate_ = null;
+        }
+        return delegateBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.server.SnapshotRecord)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.server.SnapshotRecord)
+    private static final com.jjemson.s3.server.S3Metadata.SnapshotRecord DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.server.S3Metadata.SnapshotRecord();
+    }
+
+    public static com.jjemson.s3.server.S3Metadata.SnapshotRecord getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<SnapshotRecord>
+        PARSER = new com.google.protobuf.AbstractParser<SnapshotRecord>() {
+      public SnapshotRecord parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new SnapshotRecord(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SnapshotRecord> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SnapshotRecord> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.server.S3Metadata.SnapshotRecord getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FileRecordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.server.FileRecord)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string owner = 1;</code>
+     */
+    boolean hasOwner();
+    /**
+     * <code>required string owner = 1;</code>
+     */
+    java.lang.String getOwner();
+    /**
+     * <code>required string owner = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getOwnerBytes();
+
+    /**
+     * <code>required string filename = 2;</code>
+     */
+    boolean hasFilename();
+    /**
+     * <code>required string filename = 2;</code>
+     */
+    java.lang.String getFilename();
+    /**
+     * <code>required string filename = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getFilenameBytes();
+
+    /**
+     * <code>required .com.jjemson.s3.Security security = 3;</code>
+     */
+    boolean hasSecurity();
+    /**
+     * <code>required .com.jjemson.s3.Security security = 3;</code>
+     */
+    com.jjemson.s3.S3Protocol.Security getSecurity();
+
+    /**
+     * <pre>
+     * The stored generation; 0, the default, is the layout of earlier versions.
+     * </pre>
+     *
+     * <code>optional int64 generation = 4;</code>
+     */
+    boolean hasGeneration();
+    /**
+     * <pre>
+     * The stored generation; 0, the default, is the layout of earlier versions.
+     * </pre>
+     *
+     * <code>optional int64 generation = 4;</code>
+     */
+    long getGeneration();
+  }
+  /**
+   * Protobuf type {@code com.jjemson.s3.server.FileRecord}
+   */
+  public  static final class FileRecord extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.server.FileRecord)
+      FileRecordOrBuilder {
+    // Use FileRecord.newBuilder() to construct.
+    private FileRecord(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private FileRecord() {
+      owner_ = "";
+      filename_ = "";
+      security_ = 0;
+      generation_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private FileRecord(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              owner_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              filename_ = bs;
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+              com.jjemson.s3.S3Protocol.Security value = com.jjemson.s3.S3Protocol.Security.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(3, rawValue);
+              } else {
+                bitField0_ |= 0x00000004;
+                security_ = rawValue;
+              }
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              generation_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_FileRecord_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_FileRecord_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.server.S3Metadata.FileRecord.class, com.jjemson.s3.server.S3Metadata.FileRecord.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int OWNER_FIELD_NUMBER = 1;
+    private volatile java.lang.Object owner_;
+    /**
+     * <code>required string owner = 1;</code>
+     */
+    public boolean hasOwner() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string owner = 1;</code>
+     */
+    public java.lang.String getOwner() {
+      java.lang.Object ref = owner_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          owner_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string owner = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOwnerBytes() {
+      java.lang.Object ref = owner_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        owner_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object filename_;
+    /**
+     * <code>required string filename = 2;</code>
+     */
+    public boolean hasFilename() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string filename = 2;</code>
+     */
+    public java.lang.String getFilename() {
+      java.lang.Object ref = filename_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          filename_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string filename = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFilenameBytes() {
+      java.lang.Object ref = filename_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        filename_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SECURITY_FIELD_NUMBER = 3;
+    private int security_;
+    /**
+     * <code>required .com.jjemson.s3.Security security = 3;</code>
+     */
+    public boolean hasSecurity() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required .com.jjemson.s3.Security security = 3;</code>
+     */
+    public com.jjemson.s3.S3Protocol.Security getSecurity() {
+      com.jjemson.s3.S3Protocol.Security result = com.jjemson.s3.S3Protocol.Security.valueOf(security_);
+      return result == null ? com.jjemson.s3.S3Protocol.Security.NONE : result;
+    }
+
+    public static final int GENERATION_FIELD_NUMBER = 4;
+    private long generation_;
+    /**
+     * <pre>
+     * The stored generation; 0, the default, is the layout of earlier versions.
+     * </pre>
+     *
+     * <code>optional int64 generation = 4;</code>
+     */
+    public boolean hasGeneration() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <pre>
+     * The stored generation; 0, the default, is the layout of earlier versions.
+     * </pre>
+     *
+     * <code>optional int64 generation = 4;</code>
+     */
+    public long getGeneration() {
+      return generation_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasOwner()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFilename()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSecurity()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, owner_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, filename_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeEnum(3, security_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, generation_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, owner_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, filename_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, security_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, generation_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.server.S3Metadata.FileRecord)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.server.S3Metadata.FileRecord other = (com.jjemson.s3.server.S3Metadata.FileRecord) obj;
+
+      boolean result = true;
+      result = result && (hasOwner() == other.hasOwner());
+      if (hasOwner()) {
+        result = result && getOwner()
+            .equals(other.getOwner());
+      }
+      result = result && (hasFilename() == other.hasFilename());
+      if (hasFilename()) {
+        result = result && getFilename()
+            .equals(other.getFilename());
+      }
+      result = result && (hasSecurity() == other.hasSecurity());
+      if (hasSecurity()) {
+        result = result && security_ == other.security_;
+      }
+      result = result && (hasGeneration() == other.hasGeneration());
+      if (hasGeneration()) {
+        result = result && (getGeneration()
+            == other.getGeneration());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasOwner()) {
+        hash = (37 * hash) + OWNER_FIELD_NUMBER;
+        hash = (53 * hash) + getOwner().hashCode();
+      }
+      if (hasFilename()) {
+        hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+        hash = (53 * hash) + getFilename().hashCode();
+      }
+      if (hasSecurity()) {
+        hash = (37 * hash) + SECURITY_FIELD_NUMBER;
+        hash = (53 * hash) + security_;
+      }
+      if (hasGeneration()) {
+        hash = (37 * hash) + GENERATION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getGeneration());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.server.S3Metadata.FileRecord parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.server.S3Metadata.FileRecord parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.FileRecord parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.server.S3Metadata.FileRecord parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.FileRecord parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.FileRecord parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.FileRecord parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.FileRecord parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.FileRecord parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.FileRecord parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.server.S3Metadata.FileRecord prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.jjemson.s3.server.FileRecord}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.server.FileRecord)
+        com.jjemson.s3.server.S3Metadata.FileRecordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_FileRecord_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_FileRecord_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.server.S3Metadata.FileRecord.class, com.jjemson.s3.server.S3Metadata.FileRecord.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.server.S3Metadata.FileRecord.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        owner_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        filename_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        security_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        generation_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_FileRecord_descriptor;
+      }
+
+      public com.jjemson.s3.server.S3Metadata.FileRecord getDefaultInstanceForType() {
+        return com.jjemson.s3.server.S3Metadata.FileRecord.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.server.S3Metadata.FileRecord build() {
+        com.jjemson.s3.server.S3Metadata.FileRecord result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.server.S3Metadata.FileRecord buildPartial() {
+        com.jjemson.s3.server.S3Metadata.FileRecord result = new com.jjemson.s3.server.S3Metadata.FileRecord(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.owner_ = owner_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.filename_ = filename_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.security_ = security_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.generation_ = generation_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.server.S3Metadata.FileRecord) {
+          return mergeFrom((com.jjemson.s3.server.S3Metadata.FileRecord)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.server.S3Metadata.FileRecord other) {
+        if (other == com.jjemson.s3.server.S3Metadata.FileRecord.getDefaultInstance()) return this;
+        if (other.hasOwner()) {
+          bitField0_ |= 0x00000001;
+          owner_ = other.owner_;
+          onChanged();
+        }
+        if (other.hasFilename()) {
+          bitField0_ |= 0x00000002;
+          filename_ = other.filename_;
+          onChanged();
+        }
+        if (other.hasSecurity()) {
+          setSecurity(other.getSecurity());
+        }
+        if (other.hasGeneration()) {
+          setGeneration(other.getGeneration());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasOwner()) {
+          return false;
+        }
+        if (!hasFilename()) {
+          return false;
+        }
+        if (!hasSecurity()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.server.S3Metadata.FileRecord parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.server.S3Metadata.FileRecord) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object owner_ = "";
+      /**
+       * <code>required string owner = 1;</code>
+       */
+      public boolean hasOwner() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string owner = 1;</code>
+       */
+      public java.lang.String getOwner() {
+        java.lang.Object ref = owner_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            owner_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string owner = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getOwnerBytes() {
+        java.lang.Object ref = owner_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          owner_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string owner = 1;</code>
+       */
+      public Builder setOwner(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        owner_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string owner = 1;</code>
+       */
+      public Builder clearOwner() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        owner_ = getDefaultInstance().getOwner();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string owner = 1;</code>
+       */
+      public Builder setOwnerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        owner_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object filename_ = "";
+      /**
+       * <code>required string filename = 2;</code>
+       */
+      public boolean hasFilename() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string filename = 2;</code>
+       */
+      public java.lang.String getFilename() {
+        java.lang.Object ref = filename_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            filename_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string filename = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFilenameBytes() {
+        java.lang.Object ref = filename_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          filename_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string filename = 2;</code>
+       */
+      public Builder setFilename(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        filename_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string filename = 2;</code>
+       */
+      public Builder clearFilename() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        filename_ = getDefaultInstance().getFilename();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string filename = 2;</code>
+       */
+      public Builder setFilenameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        filename_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int security_ = 0;
+      /**
+       * <code>required .com.jjemson.s3.Security security = 3;</code>
+       */
+      public boolean hasSecurity() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required .com.jjemson.s3.Security security = 3;</code>
+       */
+      public com.jjemson.s3.S3Protocol.Security getSecurity() {
+        com.jjemson.s3.S3Protocol.Security result = com.jjemson.s3.S3Protocol.Security.valueOf(security_);
+        return result == null ? com.jjemson.s3.S3Protocol.Security.NONE : result;
+      }
+      /**
+       * <code>required .com.jjemson.s3.Security security = 3;</code>
+       */
+      public Builder setSecurity(com.jjemson.s3.S3Protocol.Security value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000004;
+        security_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .com.jjemson.s3.Security security = 3;</code>
+       */
+      public Builder clearSecurity() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        security_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long generation_ ;
+      /**
+       * <pre>
+       * The stored generation; 0, the default, is the layout of earlier versions.
+       * </pre>
+       *
+       * <code>optional int64 generation = 4;</code>
+       */
+      public boolean hasGeneration() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <pre>
+       * The stored generation; 0, the default, is the layout of earlier versions.
+       * </pre>
+       *
+       * <code>optional int64 generation = 4;</code>
+       */
+      public long getGeneration() {
+        return generation_;
+      }
+      /**
+       * <pre>
+       * The stored generation; 0, the default, is the layout of earlier versions.
+       * </pre>
+       *
+       * <code>optional int64 generation = 4;</code>
+       */
+      public Builder setGeneration(long value) {
+        bitField0_ |= 0x00000008;
+        generation_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The stored generation; 0, the default, is the layout of earlier versions.
+       * </pre>
+       *
+       * <code>optional int64 generation = 4;</code>
+       */
+      public Builder clearGeneration() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        generation_ = 0L;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.server.FileRecord)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.server.FileRecord)
+    private static final com.jjemson.s3.server.S3Metadata.FileRecord DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.server.S3Metadata.FileRecord();
+    }
+
+    public static com.jjemson.s3.server.S3Metadata.FileRecord getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<FileRecord>
+        PARSER = new com.google.protobuf.AbstractParser<FileRecord>() {
+      public FileRecord parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new FileRecord(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<FileRecord> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FileRecord> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.server.S3Metadata.FileRecord getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DelegateRecordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.jjemson.s3.server.DelegateRecord)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string recipient = 1;</code>
+     */
+    boolean hasRecipient();
+    /**
+     * <code>required string recipient = 1;</code>
+     */
+    java.lang.String getRecipient();
+    /**
+     * <code>required string recipient = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getRecipientBytes();
+
+    /**
+     * <code>required string owner = 2;</code>
+     */
+    boolean hasOwner();
+    /**
+     * <code>required string owner = 2;</code>
+     */
+    java.lang.String getOwner();
+    /**
+     * <code>required string owner = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getOwnerBytes();
+
+    /**
+     * <code>required string filename = 3;</code>
+     */
+    boolean hasFilename();
+    /**
+     * <code>required string filename = 3;</code>
+     */
+    java.lang.String getFilename();
+    /**
+     * <code>required string filename = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getFilenameBytes();
+
+    /**
+     * <code>required int64 expiry_millis = 4;</code>
+     */
+    boolean hasExpiryMillis();
+    /**
+     * <code>required int64 expiry_millis = 4;</code>
+     */
+    long getExpiryMillis();
+
+    /**
+     * <code>required bool propagate = 5;</code>
+     */
+    boolean hasPropagate();
+    /**
+     * <code>required bool propagate = 5;</code>
+     */
+    boolean getPropagate();
+
+    /**
+     * <pre>
+     * The user who granted the delegation.
+     * </pre>
+     *
+     * <code>required string grantor = 6;</code>
+     */
+    boolean hasGrantor();
+    /**
+     * <pre>
+     * The user who granted the delegation.
+     * </pre>
+     *
+     * <code>required string grantor = 6;</code>
+     */
+    java.lang.String getGrantor();
+    /**
+     * <pre>
+     * The user who granted the delegation.
+     * </pre>
+     *
+     * <code>required string grantor = 6;</code>
+     */
+    com.google.protobuf.ByteString
+        getGrantorBytes();
+  }
+  /**
+   * Protobuf type {@code com.jjemson.s3.server.DelegateRecord}
+   */
+  public  static final class DelegateRecord extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:com.jjemson.s3.server.DelegateRecord)
+      DelegateRecordOrBuilder {
+    // Use DelegateRecord.newBuilder() to construct.
+    private DelegateRecord(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DelegateRecord() {
+      recipient_ = "";
+      owner_ = "";
+      filename_ = "";
+      expiryMillis_ = 0L;
+      propagate_ = false;
+      grantor_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DelegateRecord(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              recipient_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              owner_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              filename_ = bs;
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              expiryMillis_ = input.readInt64();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              propagate_ = input.readBool();
+              break;
+            }
+            case 50: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000020;
+              grantor_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_DelegateRecord_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_DelegateRecord_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.jjemson.s3.server.S3Metadata.DelegateRecord.class, com.jjemson.s3.server.S3Metadata.DelegateRecord.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int RECIPIENT_FIELD_NUMBER = 1;
+    private volatile java.lang.Object recipient_;
+    /**
+     * <code>required string recipient = 1;</code>
+     */
+    public boolean hasRecipient() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string recipient = 1;</code>
+     */
+    public java.lang.String getRecipient() {
+      java.lang.Object ref = recipient_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          recipient_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string recipient = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRecipientBytes() {
+      java.lang.Object ref = recipient_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        recipient_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OWNER_FIELD_NUMBER = 2;
+    private volatile java.lang.Object owner_;
+    /**
+     * <code>required string owner = 2;</code>
+     */
+    public boolean hasOwner() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string owner = 2;</code>
+     */
+    public java.lang.String getOwner() {
+      java.lang.Object ref = owner_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          owner_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string owner = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOwnerBytes() {
+      java.lang.Object ref = owner_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        owner_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 3;
+    private volatile java.lang.Object filename_;
+    /**
+     * <code>required string filename = 3;</code>
+     */
+    public boolean hasFilename() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required string filename = 3;</code>
+     */
+    public java.lang.String getFilename() {
+      java.lang.Object ref = filename_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          filename_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string filename = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFilenameBytes() {
+      java.lang.Object ref = filename_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        filename_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int EXPIRY_MILLIS_FIELD_NUMBER = 4;
+    private long expiryMillis_;
+    /**
+     * <code>required int64 expiry_millis = 4;</code>
+     */
+    public boolean hasExpiryMillis() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required int64 expiry_millis = 4;</code>
+     */
+    public long getExpiryMillis() {
+      return expiryMillis_;
+    }
+
+    public static final int PROPAGATE_FIELD_NUMBER = 5;
+    private boolean propagate_;
+    /**
+     * <code>required bool propagate = 5;</code>
+     */
+    public boolean hasPropagate() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>required bool propagate = 5;</code>
+     */
+    public boolean getPropagate() {
+      return propagate_;
+    }
+
+    public static final int GRANTOR_FIELD_NUMBER = 6;
+    private volatile java.lang.Object grantor_;
+    /**
+     * <pre>
+     * The user who granted the delegation.
+     * </pre>
+     *
+     * <code>required string grantor = 6;</code>
+     */
+    public boolean hasGrantor() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <pre>
+     * The user who granted the delegation.
+     * </pre>
+     *
+     * <code>required string grantor = 6;</code>
+     */
+    public java.lang.String getGrantor() {
+      java.lang.Object ref = grantor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          grantor_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * The user who granted the delegation.
+     * </pre>
+     *
+     * <code>required string grantor = 6;</code>
+     */
+    public com.google.protobuf.ByteString
+        getGrantorBytes() {
+      java.lang.Object ref = grantor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        grantor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasRecipient()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasOwner()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFilename()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasExpiryMillis()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPropagate()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasGrantor()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, recipient_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, owner_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, filename_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, expiryMillis_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBool(5, propagate_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, grantor_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, recipient_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, owner_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, filename_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, expiryMillis_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, propagate_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, grantor_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.jjemson.s3.server.S3Metadata.DelegateRecord)) {
+        return super.equals(obj);
+      }
+      com.jjemson.s3.server.S3Metadata.DelegateRecord other = (com.jjemson.s3.server.S3Metadata.DelegateRecord) obj;
+
+      boolean result = true;
+      result = result && (hasRecipient() == other.hasRecipient());
+      if (hasRecipient()) {
+        result = result && getRecipient()
+            .equals(other.getRecipient());
+      }
+      result = result && (hasOwner() == other.hasOwner());
+      if (hasOwner()) {
+        result = result && getOwner()
+            .equals(other.getOwner());
+      }
+      result = result && (hasFilename() == other.hasFilename());
+      if (hasFilename()) {
+        result = result && getFilename()
+            .equals(other.getFilename());
+      }
+      result = result && (hasExpiryMillis() == other.hasExpiryMillis());
+      if (hasExpiryMillis()) {
+        result = result && (getExpiryMillis()
+            == other.getExpiryMillis());
+      }
+      result = result && (hasPropagate() == other.hasPropagate());
+      if (hasPropagate()) {
+        result = result && (getPropagate()
+            == other.getPropagate());
+      }
+      result = result && (hasGrantor() == other.hasGrantor());
+      if (hasGrantor()) {
+        result = result && getGrantor()
+            .equals(other.getGrantor());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasRecipient()) {
+        hash = (37 * hash) + RECIPIENT_FIELD_NUMBER;
+        hash = (53 * hash) + getRecipient().hashCode();
+      }
+      if (hasOwner()) {
+        hash = (37 * hash) + OWNER_FIELD_NUMBER;
+        hash = (53 * hash) + getOwner().hashCode();
+      }
+      if (hasFilename()) {
+        hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+        hash = (53 * hash) + getFilename().hashCode();
+      }
+      if (hasExpiryMillis()) {
+        hash = (37 * hash) + EXPIRY_MILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getExpiryMillis());
+      }
+      if (hasPropagate()) {
+        hash = (37 * hash) + PROPAGATE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getPropagate());
+      }
+      if (hasGrantor()) {
+        hash = (37 * hash) + GRANTOR_FIELD_NUMBER;
+        hash = (53 * hash) + getGrantor().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.jjemson.s3.server.S3Metadata.DelegateRecord parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.server.S3Metadata.DelegateRecord parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.DelegateRecord parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.jjemson.s3.server.S3Metadata.DelegateRecord parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.DelegateRecord parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.DelegateRecord parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.DelegateRecord parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.DelegateRecord parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.jjemson.s3.server.S3Metadata.DelegateRecord parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.jjemson.s3.server.S3Metadata.DelegateRecord parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.jjemson.s3.server.S3Metadata.DelegateRecord prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.jjemson.s3.server.DelegateRecord}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.jjemson.s3.server.DelegateRecord)
+        com.jjemson.s3.server.S3Metadata.DelegateRecordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_DelegateRecord_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_DelegateRecord_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.jjemson.s3.server.S3Metadata.DelegateRecord.class, com.jjemson.s3.server.S3Metadata.DelegateRecord.Builder.class);
+      }
+
+      // Construct using com.jjemson.s3.server.S3Metadata.DelegateRecord.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        recipient_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        owner_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        filename_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        expiryMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        propagate_ = false;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        grantor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.jjemson.s3.server.S3Metadata.internal_static_com_jjemson_s3_server_DelegateRecord_descriptor;
+      }
+
+      public com.jjemson.s3.server.S3Metadata.DelegateRecord getDefaultInstanceForType() {
+        return com.jjemson.s3.server.S3Metadata.DelegateRecord.getDefaultInstance();
+      }
+
+      public com.jjemson.s3.server.S3Metadata.DelegateRecord build() {
+        com.jjemson.s3.server.S3Metadata.DelegateRecord result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.jjemson.s3.server.S3Metadata.DelegateRecord buildPartial() {
+        com.jjemson.s3.server.S3Metadata.DelegateRecord result = new com.jjemson.s3.server.S3Metadata.DelegateRecord(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.recipient_ = recipient_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.owner_ = owner_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.filename_ = filename_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.expiryMillis_ = expiryMillis_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.propagate_ = propagate_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.grantor_ = grantor_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.jjemson.s3.server.S3Metadata.DelegateRecord) {
+          return mergeFrom((com.jjemson.s3.server.S3Metadata.DelegateRecord)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.jjemson.s3.server.S3Metadata.DelegateRecord other) {
+        if (other == com.jjemson.s3.server.S3Metadata.DelegateRecord.getDefaultInstance()) return this;
+        if (other.hasRecipient()) {
+          bitField0_ |= 0x00000001;
+          recipient_ = other.recipient_;
+          onChanged();
+        }
+        if (other.hasOwner()) {
+          bitField0_ |= 0x00000002;
+          owner_ = other.owner_;
+          onChanged();
+        }
+        if (other.hasFilename()) {
+          bitField0_ |= 0x00000004;
+          filename_ = other.filename_;
+          onChanged();
+        }
+        if (other.hasExpiryMillis()) {
+          setExpiryMillis(other.getExpiryMillis());
+        }
+        if (other.hasPropagate()) {
+          setPropagate(other.getPropagate());
+        }
+        if (other.hasGrantor()) {
+          bitField0_ |= 0x00000020;
+          grantor_ = other.grantor_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasRecipient()) {
+          return false;
+        }
+        if (!hasOwner()) {
+          return false;
+        }
+        if (!hasFilename()) {
+          return false;
+        }
+        if (!hasExpiryMillis()) {
+          return false;
+        }
+        if (!hasPropagate()) {
+          return false;
+        }
+        if (!hasGrantor()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.jjemson.s3.server.S3Metadata.DelegateRecord parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.jjemson.s3.server.S3Metadata.DelegateRecord) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object recipient_ = "";
+      /**
+       * <code>required string recipient = 1;</code>
+       */
+      public boolean hasRecipient() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string recipient = 1;</code>
+       */
+      public java.lang.String getRecipient() {
+        java.lang.Object ref = recipient_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            recipient_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string recipient = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRecipientBytes() {
+        java.lang.Object ref = recipient_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          recipient_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string recipient = 1;</code>
+       */
+      public Builder setRecipient(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        recipient_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string recipient = 1;</code>
+       */
+      public Builder clearRecipient() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        recipient_ = getDefaultInstance().getRecipient();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string recipient = 1;</code>
+       */
+      public Builder setRecipientBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        recipient_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object owner_ = "";
+      /**
+       * <code>required string owner = 2;</code>
+       */
+      public boolean hasOwner() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string owner = 2;</code>
+       */
+      public java.lang.String getOwner() {
+        java.lang.Object ref = owner_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            owner_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string owner = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getOwnerBytes() {
+        java.lang.Object ref = owner_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          owner_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string owner = 2;</code>
+       */
+      public Builder setOwner(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        owner_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string owner = 2;</code>
+       */
+      public Builder clearOwner() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        owner_ = getDefaultInstance().getOwner();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string owner = 2;</code>
+       */
+      public Builder setOwnerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        owner_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object filename_ = "";
+      /**
+       * <code>required string filename = 3;</code>
+       */
+      public boolean hasFilename() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required string filename = 3;</code>
+       */
+      public java.lang.String getFilename() {
+        java.lang.Object ref = filename_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            filename_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string filename = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFilenameBytes() {
+        java.lang.Object ref = filename_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          filename_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string filename = 3;</code>
+       */
+      public Builder setFilename(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        filename_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string filename = 3;</code>
+       */
+      public Builder clearFilename() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        filename_ = getDefaultInstance().getFilename();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string filename = 3;</code>
+       */
+      public Builder setFilenameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        filename_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long expiryMillis_ ;
+      /**
+       * <code>required int64 expiry_millis = 4;</code>
+       */
+      public boolean hasExpiryMillis() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required int64 expiry_millis = 4;</code>
+       */
+      public long getExpiryMillis() {
+        return expiryMillis_;
+      }
+      /**
+       * <code>required int64 expiry_millis = 4;</code>
+       */
+      public Builder setExpiryMillis(long value) {
+        bitField0_ |= 0x00000008;
+        expiryMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 expiry_millis = 4;</code>
+       */
+      public Builder clearExpiryMillis() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        expiryMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean propagate_ ;
+      /**
+       * <code>required bool propagate = 5;</code>
+       */
+      public boolean hasPropagate() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>required bool propagate = 5;</code>
+       */
+      public boolean getPropagate() {
+        return propagate_;
+      }
+      /**
+       * <code>required bool propagate = 5;</code>
+       */
+      public Builder setPropagate(boolean value) {
+        bitField0_ |= 0x00000010;
+        propagate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool propagate = 5;</code>
+       */
+      public Builder clearPropagate() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        propagate_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object grantor_ = "";
+      /**
+       * <pre>
+       * The user who granted the delegation.
+       * </pre>
+       *
+       * <code>required string grantor = 6;</code>
+       */
+      public boolean hasGrantor() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <pre>
+       * The user who granted the delegation.
+       * </pre>
+       *
+       * <code>required string grantor = 6;</code>
+       */
+      public java.lang.String getGrantor() {
+        java.lang.Object ref = grantor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            grantor_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The user who granted the delegation.
+       * </pre>
+       *
+       * <code>required string grantor = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getGrantorBytes() {
+        java.lang.Object ref = grantor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          grantor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * The user who granted the delegation.
+       * </pre>
+       *
+       * <code>required string grantor = 6;</code>
+       */
+      public Builder setGrantor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        grantor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The user who granted the delegation.
+       * </pre>
+       *
+       * <code>required string grantor = 6;</code>
+       */
+      public Builder clearGrantor() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        grantor_ = getDefaultInstance().getGrantor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The user who granted the delegation.
+       * </pre>
+       *
+       * <code>required string grantor = 6;</code>
+       */
+      public Builder setGrantorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        grantor_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:com.jjemson.s3.server.DelegateRecord)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.jjemson.s3.server.DelegateRecord)
+    private static final com.jjemson.s3.server.S3Metadata.DelegateRecord DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.jjemson.s3.server.S3Metadata.DelegateRecord();
+    }
+
+    public static com.jjemson.s3.server.S3Metadata.DelegateRecord getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<DelegateRecord>
+        PARSER = new com.google.protobuf.AbstractParser<DelegateRecord>() {
+      public DelegateRecord parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new DelegateRecord(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DelegateRecord> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DelegateRecord> getParserForType() {
+      return PARSER;
+    }
+
+    public com.jjemson.s3.server.S3Metadata.DelegateRecord getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_server_SnapshotHeader_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_server_SnapshotHeader_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_server_SnapshotRecord_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_server_SnapshotRecord_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_server_FileRecord_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_server_FileRecord_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_jjemson_s3_server_DelegateRecord_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_jjemson_s3_server_DelegateRecord_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\014s3meta.proto\022\025com.jjemson.s3.server\032\010s" +
+      "3.proto\";\n\016SnapshotHeader\022\017\n\007version\030\001 \002" +
+      "(\r\022\030\n\020journal_sequence\030\002 \002(\003\"z\n\016Snapshot" +
+      "Record\022/\n\004file\030\001 \001(\0132!.com.jjemson.s3.se" +
+      "rver.FileRecord\0227\n\010delegate\030\002 \001(\0132%.com." +
+      "jjemson.s3.server.DelegateRecord\"m\n\nFile" +
+      "Record\022\r\n\005owner\030\001 \002(\t\022\020\n\010filename\030\002 \002(\t\022" +
+      "*\n\010security\030\003 \002(\0162\030.com.jjemson.s3.Secur" +
+      "ity\022\022\n\ngeneration\030\004 \001(\003\"\177\n\016DelegateRecor" +
+      "d\022\021\n\trecipient\030\001 \002(\t\022\r\n\005owner\030\002 \002(\t\022\020\n\010f",
+      "ilename\030\003 \002(\t\022\025\n\rexpiry_millis\030\004 \002(\003\022\021\n\t" +
+      "propagate\030\005 \002(\010\022\017\n\007grantor\030\006 \002(\tB#\n\025com." +
+      "jjemson.s3.serverB\nS3Metadata"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.jjemson.s3.S3Protocol.getDescriptor(),
+        }, assigner);
+    internal_static_com_jjemson_s3_server_SnapshotHeader_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_com_jjemson_s3_server_SnapshotHeader_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_server_SnapshotHeader_descriptor,
+        new java.lang.String[] { "Version", "JournalSequence", });
+    internal_static_com_jjemson_s3_server_SnapshotRecord_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_com_jjemson_s3_server_SnapshotRecord_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_server_SnapshotRecord_descriptor,
+        new java.lang.String[] { "File", "Delegate", });
+    internal_static_com_jjemson_s3_server_FileRecord_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_com_jjemson_s3_server_FileRecord_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_server_FileRecord_descriptor,
+        new java.lang.String[] { "Owner", "Filename", "Security", "Generation", });
+    internal_static_com_jjemson_s3_server_DelegateRecord_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_com_jjemson_s3_server_DelegateRecord_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_jjemson_s3_server_DelegateRecord_descriptor,
+        new java.lang.String[] { "Recipient", "Owner", "Filename", "ExpiryMillis", "Propagate", "Grantor", });
+    com.jjemson.s3.S3Protocol.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
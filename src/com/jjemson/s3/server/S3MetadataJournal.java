@@ -0,0 +1,228 @@
+package com.jjemson.s3.server;
+
+import com.jjemson.s3.S3Protocol.Security;
+
+import java.io.*;
+import java.util.zip.CRC32;
+
+/**
+ * S3MetadataJournal
+ *
+ * Append-only log of metadata changes made since the last snapshot.  Each record is written as its length,
+ * a CRC32 of its body, and the body: a sequence number, a record type and the record's fields.  Replay
+ * stops at the first incomplete or corrupt record, which is what a crash in the middle of an append leaves
+ * behind, and the journal is truncated there before new records are appended.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3MetadataJournal implements Closeable {
+
+    private static final byte CHECKIN = 1;
+    private static final byte DELETE = 2;
+    private static final byte DELEGATE = 3;
+
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+
+    private final File file;
+    private final boolean sync;
+    private FileOutputStream fileStream;
+    private DataOutputStream output;
+    private long sequence;
+    private int records;
+
+    /**
+     * Receives the records of the journal during replay.
+     */
+    interface Listener {
+        void checkedIn(String owner, String filename, Security security, long generation);
+
+        void deleted(String owner, String filename);
+
+        void delegated(String grantor, String recipient, String owner, String filename, long expiryMillis,
+                       boolean propagate);
+    }
+
+    private static void printError(String s) {
+        System.err.println("[Journal] " + s);
+    }
+
+    S3MetadataJournal(File file, boolean sync) {
+        this.file = file;
+        this.sync = sync;
+    }
+
+    /**
+     * Replays every record with a sequence number after the given one, then opens the journal for appending.
+     *
+     * @return the number of records replayed
+     */
+    int open(long afterSequence, Listener listener) throws IOException {
+        this.sequence = afterSequence;
+        int replayed = 0;
+        int valid = 0;
+        long validLength = 0;
+        if (file.exists()) {
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                while (true) {
+                    byte[] body = readRecord(input);
+                    if (body == null) {
+                        break;
+                    }
+                    DataInputStream record = new DataInputStream(new ByteArrayInputStream(body));
+                    long recordSequence = record.readLong();
+                    if (recordSequence > afterSequence) {
+                        try {
+                            apply(record, listener);
+                        } catch (IOException ioe) {
+                            printError("Corrupt journal record " + recordSequence + ": " + ioe.getMessage());
+                            break;
+                        }
+                        sequence = recordSequence;
+                        replayed++;
+                    }
+                    validLength += 8 + body.length;
+                    valid++;
+                }
+            }
+            if (validLength < file.length()) {
+                printError("Discarding " + (file.length() - validLength) + " bytes of incomplete journal records.");
+            }
+        }
+        this.fileStream = new FileOutputStream(file, true);
+        this.fileStream.getChannel().truncate(validLength);
+        this.output = new DataOutputStream(new BufferedOutputStream(fileStream));
+        this.records = valid;
+        return replayed;
+    }
+
+    private static byte[] readRecord(DataInputStream input) throws IOException {
+        try {
+            int length = input.readInt();
+            int crc = input.readInt();
+            if (length < 9 || length > MAX_RECORD_SIZE) {
+                return null;
+            }
+            byte[] body = new byte[length];
+            input.readFully(body);
+            CRC32 checksum = new CRC32();
+            checksum.update(body, 0, body.length);
+            return (int) checksum.getValue() == crc ? body : null;
+        } catch (EOFException eofe) {
+            return null;
+        }
+    }
+
+    private static void apply(DataInputStream record, Listener listener) throws IOException {
+        byte type = record.readByte();
+        switch (type) {
+            case CHECKIN: {
+                String owner = record.readUTF();
+                String filename = record.readUTF();
+                Security security = Security.forNumber(record.readInt());
+                if (security == null) {
+                    throw new IOException("Unknown security level");
+                }
+                listener.checkedIn(owner, filename, security, record.readLong());
+                break;
+            }
+            case DELETE:
+                listener.deleted(record.readUTF(), record.readUTF());
+                break;
+            case DELEGATE:
+                listener.delegated(record.readUTF(), record.readUTF(), record.readUTF(), record.readUTF(), record.readLong(),
+                        record.readBoolean());
+                break;
+            default:
+                throw new IOException("Unknown journal record type " + type);
+        }
+    }
+
+    void checkedIn(String owner, String filename, Security security, long generation) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream record = new DataOutputStream(bytes);
+        record.writeByte(CHECKIN);
+        record.writeUTF(owner);
+        record.writeUTF(filename);
+        record.writeInt(security.getNumber());
+        record.writeLong(generation);
+        append(bytes.toByteArray());
+    }
+
+    void deleted(String owner, String filename) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream record = new DataOutputStream(bytes);
+        record.writeByte(DELETE);
+        record.writeUTF(owner);
+        record.writeUTF(filename);
+        append(bytes.toByteArray());
+    }
+
+    void delegated(String grantor, String recipient, String owner, String filename, long expiryMillis,
+                   boolean propagate) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream record = new DataOutputStream(bytes);
+        record.writeByte(DELEGATE);
+        record.writeUTF(grantor);
+        record.writeUTF(recipient);
+        record.writeUTF(owner);
+        record.writeUTF(filename);
+        record.writeLong(expiryMillis);
+        record.writeBoolean(propagate);
+        append(bytes.toByteArray());
+    }
+
+    private synchronized void append(byte[] payload) throws IOException {
+        long recordSequence = sequence + 1;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8 + payload.length);
+        DataOutputStream body = new DataOutputStream(bytes);
+        body.writeLong(recordSequence);
+        body.write(payload);
+        byte[] record = bytes.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(record, 0, record.length);
+        output.writeInt(record.length);
+        output.writeInt((int) checksum.getValue());
+        output.write(record);
+        output.flush();
+        if (sync) {
+            fileStream.getChannel().force(false);
+        }
+        sequence = recordSequence;
+        records++;
+    }
+
+    /**
+     * Returns the sequence number of the last record appended or replayed.
+     */
+    synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the number of records in the journal file.
+     */
+    synchronized int getRecords() {
+        return records;
+    }
+
+    /**
+     * Empties the journal once a snapshot covering all of its records has been written.  Sequence numbers
+     * keep counting up.
+     */
+    synchronized void truncate() throws IOException {
+        output.flush();
+        fileStream.getChannel().truncate(0);
+        if (sync) {
+            fileStream.getChannel().force(false);
+        }
+        records = 0;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (output != null) {
+            output.close();
+        }
+    }
+}
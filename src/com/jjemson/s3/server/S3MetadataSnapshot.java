@@ -0,0 +1,118 @@
+package com.jjemson.s3.server;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.jjemson.s3.server.S3Metadata.*;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * S3MetadataSnapshot
+ *
+ * Reads and writes metadata snapshots in the versioned format described in {@code s3meta.proto}.  Snapshots
+ * are read in a single buffered pass, each record decoded straight from the stream and handed to the same
+ * listener that replays the journal.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3MetadataSnapshot {
+
+    static final int VERSION = 1;
+
+    private static final byte[] MAGIC = { 'S', '3', 'M', 'D' };
+
+    /**
+     * Returns whether the file starts with the snapshot magic bytes, as opposed to a legacy serialized
+     * S3FileManager.
+     */
+    static boolean isSnapshot(File file) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+            input.readFully(magic);
+        } catch (EOFException eofe) {
+            return false;
+        }
+        return Arrays.equals(magic, MAGIC);
+    }
+
+    static void write(File file, long journalSequence, Collection<S3File> files,
+                      Collection<S3DelegationGraph> graphs) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file), 0xFFFF)) {
+            CodedOutputStream output = CodedOutputStream.newInstance(outputStream);
+            output.writeRawBytes(MAGIC);
+            SnapshotHeader header = SnapshotHeader.newBuilder()
+                    .setVersion(VERSION)
+                    .setJournalSequence(journalSequence)
+                    .build();
+            output.writeUInt32NoTag(header.getSerializedSize());
+            header.writeTo(output);
+            for (S3File s3File : files) {
+                FileRecord fileRecord = FileRecord.newBuilder()
+                        .setOwner(s3File.getOwner())
+                        .setFilename(s3File.getFilename())
+                        .setSecurity(s3File.getFileSec())
+                        .setGeneration(s3File.getGeneration())
+                        .build();
+                SnapshotRecord record = SnapshotRecord.newBuilder().setFile(fileRecord).build();
+                output.writeUInt32NoTag(record.getSerializedSize());
+                record.writeTo(output);
+            }
+            for (S3DelegationGraph graph : graphs) {
+                for (S3FileDelegate delegate : graph.delegates()) {
+                    DelegateRecord delegateRecord = DelegateRecord.newBuilder()
+                            .setRecipient(delegate.recipient)
+                            .setOwner(delegate.file.getOwner())
+                            .setGrantor(delegate.grantor)
+                            .setFilename(delegate.file.getFilename())
+                            .setExpiryMillis(delegate.getExpiryMillis())
+                            .setPropagate(delegate.propagate)
+                            .build();
+                    SnapshotRecord record = SnapshotRecord.newBuilder().setDelegate(delegateRecord).build();
+                    output.writeUInt32NoTag(record.getSerializedSize());
+                    record.writeTo(output);
+                }
+            }
+            output.flush();
+        }
+    }
+
+    /**
+     * Passes every file and delegation in the snapshot to the listener.
+     *
+     * @return the journal sequence number the snapshot includes
+     */
+    static long read(File file, S3MetadataJournal.Listener listener) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file), 0xFFFF)) {
+            CodedInputStream input = CodedInputStream.newInstance(inputStream);
+            // Snapshots hold every document, so they can outgrow protobuf's default 64 MB limit.
+            input.setSizeLimit(Integer.MAX_VALUE);
+            if (!Arrays.equals(input.readRawBytes(MAGIC.length), MAGIC)) {
+                throw new InvalidProtocolBufferException("Not a metadata snapshot.");
+            }
+            ExtensionRegistryLite registry = ExtensionRegistryLite.getEmptyRegistry();
+            SnapshotHeader header = input.readMessage(SnapshotHeader.parser(), registry);
+            if (header.getVersion() > VERSION) {
+                throw new IOException("Metadata snapshot version " + header.getVersion() + " is newer than " + VERSION + ".");
+            }
+            while (!input.isAtEnd()) {
+                SnapshotRecord record = input.readMessage(SnapshotRecord.parser(), registry);
+                if (record.hasFile()) {
+                    FileRecord fileRecord = record.getFile();
+                    listener.checkedIn(fileRecord.getOwner(), fileRecord.getFilename(), fileRecord.getSecurity(),
+                            fileRecord.getGeneration());
+                }
+                if (record.hasDelegate()) {
+                    DelegateRecord delegate = record.getDelegate();
+                    listener.delegated(delegate.getGrantor(), delegate.getRecipient(), delegate.getOwner(),
+                            delegate.getFilename(), delegate.getExpiryMillis(), delegate.getPropagate());
+                }
+            }
+            return header.getJournalSequence();
+        }
+    }
+}
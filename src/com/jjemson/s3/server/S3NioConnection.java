@@ -0,0 +1,453 @@
+package com.jjemson.s3.server;
+
+import com.jjemson.s3.S3Protocol.S3Message;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3NioConnection
+ *
+ * One client connection of the non-blocking transport.  All TLS and socket work happens on the connection's
+ * I/O thread; decoded messages are handed, one at a time and in order, to the connection's S3Session on the
+ * worker executor.  Responses the session writes are queued and wrapped by the I/O thread.  Both directions
+ * are bounded: a session writing faster than the client reads blocks, and the connection stops reading while
+ * too much decoded input is waiting for the session.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3NioConnection implements Closeable {
+
+    private static final int MAX_PENDING_OUTPUT = 1 << 20;
+    private static final int MAX_PENDING_INPUT = 1 << 20;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final SocketChannel channel;
+    private final SSLEngine engine;
+    private final Executor ioThread;
+    private final Executor workers;
+    private final Runnable onClose;
+
+    private SelectionKey key;
+    private ByteBuffer netIn;
+    private ByteBuffer appIn;
+    private ByteBuffer netOut;
+    private final S3FrameDecoder decoder = new S3FrameDecoder(S3Session.registry);
+
+    private S3Session session;
+    private boolean tasksRunning;
+    private volatile boolean readPaused;
+    private volatile boolean closed;
+
+    private final ConcurrentLinkedQueue<S3Message> inbound = new ConcurrentLinkedQueue<>();
+    private final AtomicLong inboundBytes = new AtomicLong();
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    private final ConcurrentLinkedQueue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicLong outboundBytes = new AtomicLong();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Object outboundLock = new Object();
+
+    private static void printError(String s) {
+        System.err.println("[NIO] " + s);
+    }
+
+    S3NioConnection(SocketChannel channel, SSLEngine engine, Executor ioThread, Executor workers, Runnable onClose) {
+        this.channel = channel;
+        this.engine = engine;
+        this.ioThread = ioThread;
+        this.workers = workers;
+        this.onClose = onClose;
+        int packetSize = engine.getSession().getPacketBufferSize();
+        this.netIn = ByteBuffer.allocate(packetSize);
+        this.appIn = ByteBuffer.allocate(engine.getSession().getApplicationBufferSize());
+        this.netOut = ByteBuffer.allocate(packetSize);
+        this.netOut.flip();
+    }
+
+    /**
+     * Registers the connection with the selector.  Must be called on the I/O thread that owns the selector.
+     */
+    void register(Selector selector) throws IOException {
+        this.key = channel.register(selector, SelectionKey.OP_READ, this);
+        engine.beginHandshake();
+    }
+
+    /**
+     * Called by the I/O thread when the channel is ready.
+     */
+    void onReady() {
+        try {
+            if (key.isValid() && key.isWritable()) {
+                process();
+            }
+            if (key.isValid() && key.isReadable()) {
+                int read = channel.read(netIn);
+                if (read < 0) {
+                    closeNow();
+                    return;
+                }
+                process();
+            }
+        } catch (IOException ioe) {
+            printError("Closing connection to " + remoteAddress() + ": " + ioe.getMessage());
+            closeNow();
+        }
+    }
+
+    /**
+     * Drives the TLS engine as far as the available input and socket buffer allow.
+     */
+    private void process() throws IOException {
+        if (closed || tasksRunning) {
+            return;
+        }
+        boolean progress = true;
+        while (progress && !closed) {
+            progress = false;
+            HandshakeStatus status = engine.getHandshakeStatus();
+            if (status == HandshakeStatus.NEED_TASK) {
+                runDelegatedTasks();
+                return;
+            }
+            if (status == HandshakeStatus.NEED_WRAP) {
+                if (!writeNetOut()) {
+                    return;
+                }
+                netOut.clear();
+                SSLEngineResult result = engine.wrap(EMPTY, netOut);
+                netOut.flip();
+                checkHandshakeFinished(result);
+                if (result.getStatus() == SSLEngineResult.Status.CLOSED) {
+                    writeNetOut();
+                    closeNow();
+                    return;
+                }
+                progress = true;
+                continue;
+            }
+            if (readPaused) {
+                break;
+            }
+            netIn.flip();
+            SSLEngineResult result;
+            try {
+                result = engine.unwrap(netIn, appIn);
+            } finally {
+                netIn.compact();
+            }
+            checkHandshakeFinished(result);
+            switch (result.getStatus()) {
+                case BUFFER_UNDERFLOW:
+                    if (netIn.position() == netIn.capacity()) {
+                        netIn = enlarge(netIn, engine.getSession().getPacketBufferSize());
+                    }
+                    break;
+                case BUFFER_OVERFLOW:
+                    if (appIn.position() == 0) {
+                        appIn = enlarge(appIn, engine.getSession().getApplicationBufferSize());
+                    }
+                    progress = true;
+                    break;
+                case CLOSED:
+                    closeNow();
+                    return;
+                default:
+                    progress = result.bytesConsumed() > 0 || result.bytesProduced() > 0;
+                    break;
+            }
+            deliverApplicationData();
+        }
+        flushApplicationData();
+    }
+
+    private void checkHandshakeFinished(SSLEngineResult result) {
+        if (result.getHandshakeStatus() == HandshakeStatus.FINISHED && session == null) {
+            session = new S3Session(new ConnectionOutputStream(), this, engine.getSession());
+        }
+    }
+
+    private void runDelegatedTasks() {
+        tasksRunning = true;
+        List<Runnable> tasks = new ArrayList<>();
+        Runnable task;
+        while ((task = engine.getDelegatedTask()) != null) {
+            tasks.add(task);
+        }
+        workers.execute(() -> {
+            for (Runnable t : tasks) {
+                t.run();
+            }
+            ioThread.execute(() -> {
+                tasksRunning = false;
+                try {
+                    process();
+                } catch (IOException ioe) {
+                    printError("Handshake with " + remoteAddress() + " failed: " + ioe.getMessage());
+                    closeNow();
+                }
+            });
+        });
+    }
+
+    private void deliverApplicationData() throws IOException {
+        if (appIn.position() == 0) {
+            return;
+        }
+        appIn.flip();
+        List<S3Message> messages = decoder.decode(appIn);
+        appIn.clear();
+        for (S3Message message : messages) {
+            inboundBytes.addAndGet(message.getSerializedSize());
+            inbound.add(message);
+        }
+        if (inboundBytes.get() > MAX_PENDING_INPUT) {
+            readPaused = true;
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        }
+        if (!messages.isEmpty()) {
+            dispatch();
+        }
+    }
+
+    private void dispatch() {
+        if (dispatching.compareAndSet(false, true)) {
+            workers.execute(this::drainInbound);
+        }
+    }
+
+    /**
+     * Runs on a worker thread; hands queued messages to the session in order.
+     */
+    private void drainInbound() {
+        while (true) {
+            S3Message message;
+            while (!closed && (message = inbound.poll()) != null) {
+                long remaining = inboundBytes.addAndGet(-message.getSerializedSize());
+                if (readPaused && remaining <= MAX_PENDING_INPUT) {
+                    ioThread.execute(this::resumeReading);
+                }
+                try {
+                    if (!session.handleMessage(message)) {
+                        inbound.clear();
+                        return;
+                    }
+                } catch (IOException ioe) {
+                    printError("Session with " + remoteAddress() + " failed: " + ioe.getMessage());
+                    close();
+                    return;
+                }
+            }
+            dispatching.set(false);
+            if (closed || inbound.isEmpty() || !dispatching.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void resumeReading() {
+        if (!readPaused || closed || inboundBytes.get() > MAX_PENDING_INPUT) {
+            return;
+        }
+        readPaused = false;
+        key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+        try {
+            process();
+        } catch (IOException ioe) {
+            printError("Closing connection to " + remoteAddress() + ": " + ioe.getMessage());
+            closeNow();
+        }
+    }
+
+    /**
+     * Writes whatever is left of the last TLS record.
+     *
+     * @return whether the network buffer is now empty
+     */
+    private boolean writeNetOut() throws IOException {
+        if (netOut.hasRemaining()) {
+            channel.write(netOut);
+        }
+        if (netOut.hasRemaining()) {
+            key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            return false;
+        }
+        if ((key.interestOps() & SelectionKey.OP_WRITE) != 0) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        }
+        return true;
+    }
+
+    private void flushApplicationData() throws IOException {
+        if (session == null || engine.getHandshakeStatus() != HandshakeStatus.NOT_HANDSHAKING) {
+            writeNetOut();
+            return;
+        }
+        ByteBuffer head;
+        while (writeNetOut() && (head = outbound.peek()) != null) {
+            netOut.clear();
+            SSLEngineResult result = engine.wrap(head, netOut);
+            netOut.flip();
+            if (!head.hasRemaining()) {
+                outbound.poll();
+            }
+            outboundBytes.addAndGet(-result.bytesConsumed());
+            if (result.getStatus() == SSLEngineResult.Status.CLOSED) {
+                closeNow();
+                return;
+            }
+        }
+        if (outboundBytes.get() < MAX_PENDING_OUTPUT) {
+            synchronized (outboundLock) {
+                outboundLock.notifyAll();
+            }
+        }
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            ioThread.execute(() -> {
+                flushScheduled.set(false);
+                try {
+                    process();
+                } catch (IOException ioe) {
+                    printError("Closing connection to " + remoteAddress() + ": " + ioe.getMessage());
+                    closeNow();
+                }
+            });
+        }
+    }
+
+    /**
+     * Closes the connection once queued responses have been written.  Safe to call from any thread.
+     */
+    @Override
+    public void close() {
+        ioThread.execute(() -> {
+            try {
+                process();
+            } catch (IOException ignored) {
+            }
+            closeNow();
+        });
+    }
+
+    private void closeNow() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            engine.closeOutbound();
+            netOut.clear();
+            engine.wrap(EMPTY, netOut);
+            netOut.flip();
+            channel.write(netOut);
+        } catch (IOException ignored) {
+        }
+        try {
+            engine.closeInbound();
+        } catch (SSLException ignored) {
+        }
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+        inbound.clear();
+        outbound.clear();
+        synchronized (outboundLock) {
+            outboundLock.notifyAll();
+        }
+        if (session != null) {
+            workers.execute(session::connectionClosed);
+        }
+        onClose.run();
+    }
+
+    private String remoteAddress() {
+        return String.valueOf(channel.socket().getRemoteSocketAddress());
+    }
+
+    private static ByteBuffer enlarge(ByteBuffer buffer, int size) {
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(size, buffer.capacity() * 2));
+        buffer.flip();
+        grown.put(buffer);
+        return grown;
+    }
+
+    /**
+     * The session's view of the connection.  Writes are copied onto the outbound queue, blocking while too
+     * much output is already waiting for the client.
+     */
+    private class ConnectionOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            if (!isReleasable()) {
+                // Writes run on the worker pool, which is told to make up for the blocked worker.
+                try {
+                    ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                        @Override
+                        public boolean block() throws InterruptedException {
+                            synchronized (outboundLock) {
+                                while (!isReleasable()) {
+                                    outboundLock.wait();
+                                }
+                            }
+                            return true;
+                        }
+
+                        @Override
+                        public boolean isReleasable() {
+                            return ConnectionOutputStream.this.isReleasable();
+                        }
+                    });
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            if (closed) {
+                throw new IOException("Connection closed");
+            }
+            byte[] copy = new byte[len];
+            System.arraycopy(b, off, copy, 0, len);
+            outboundBytes.addAndGet(len);
+            outbound.add(ByteBuffer.wrap(copy));
+            scheduleFlush();
+        }
+
+        private boolean isReleasable() {
+            return closed || outboundBytes.get() <= MAX_PENDING_OUTPUT;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.jjemson.s3.server;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3NioServer
+ *
+ * Non-blocking transport for the S3 server, selected with {@code -Ds3.transport=nio}.  Connections are spread
+ * over {@code s3.nio.threads} selector threads that do all socket and TLS work, so idle sessions cost no
+ * thread.  Requests are handled by the usual S3Session logic on a pool of {@code s3.nio.workers} threads.
+ * At most {@code s3.nio.connections} connections are open at once.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3NioServer {
+
+    private static final int DEFAULT_WORKERS = 32;
+    private static final int DEFAULT_CONNECTIONS = 10000;
+
+    private final ServerSocketChannel serverChannel;
+    private final SSLContext sslContext;
+    private final IoThread[] ioThreads;
+    private final ExecutorService workers;
+    private final int maxConnections;
+
+    private final AtomicInteger open = new AtomicInteger();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private int next;
+
+    private static void printInfo(String s) {
+        System.out.println("[NIO] " + s);
+    }
+    private static void printError(String s) {
+        System.err.println("[NIO] " + s);
+    }
+
+    S3NioServer(int port, SSLContext sslContext, int ioThreads, int workers, int maxConnections) throws IOException {
+        this.sslContext = sslContext;
+        this.maxConnections = maxConnections;
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(new InetSocketAddress(port));
+        this.workers = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new S3ThreadFactory("s3-nio-worker-"));
+        this.ioThreads = new IoThread[ioThreads];
+        for (int i = 0; i < ioThreads; i++) {
+            this.ioThreads[i] = new IoThread(Selector.open());
+            Thread thread = new S3ThreadFactory("s3-nio-io-" + i + "-").newThread(this.ioThreads[i]);
+            thread.start();
+        }
+        printInfo("Using " + ioThreads + " I/O threads and " + workers + " workers.");
+    }
+
+    static S3NioServer fromSystemProperties(int port, SSLContext sslContext) throws IOException {
+        return new S3NioServer(port, sslContext,
+                Integer.getInteger("s3.nio.threads", Runtime.getRuntime().availableProcessors()),
+                Integer.getInteger("s3.nio.workers", DEFAULT_WORKERS),
+                Integer.getInteger("s3.nio.connections", DEFAULT_CONNECTIONS));
+    }
+
+    int getLocalPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Accepts connections until the server channel is closed.
+     */
+    void acceptLoop() {
+        while (serverChannel.isOpen()) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException ioe) {
+                printError("Failed to accept socket connection.");
+                continue;
+            }
+            if (open.get() >= maxConnections) {
+                rejected.incrementAndGet();
+                printError("Connection limit reached; rejecting " + channel.socket().getInetAddress() + ".");
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+                continue;
+            }
+            try {
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                SSLEngine engine = sslContext.createSSLEngine();
+                engine.setUseClientMode(false);
+                engine.setNeedClientAuth(true);
+                IoThread ioThread = ioThreads[next++ % ioThreads.length];
+                S3NioConnection connection = new S3NioConnection(channel, engine, ioThread, workers, open::decrementAndGet);
+                open.incrementAndGet();
+                accepted.incrementAndGet();
+                ioThread.execute(() -> {
+                    try {
+                        connection.register(ioThread.selector);
+                    } catch (IOException ioe) {
+                        printError("Could not register connection: " + ioe.getMessage());
+                        connection.close();
+                    }
+                });
+            } catch (IOException ioe) {
+                printError("Could not set up connection: " + ioe.getMessage());
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Connections: " + open.get() + " open, " + accepted.get() + " accepted, " + rejected.get() + " rejected";
+    }
+
+    private static class IoThread implements Runnable, Executor {
+        private final Selector selector;
+        private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        IoThread(Selector selector) {
+            this.selector = selector;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (selector.isOpen()) {
+                try {
+                    selector.select();
+                } catch (IOException ioe) {
+                    printError("Selector failed: " + ioe.getMessage());
+                    return;
+                }
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException re) {
+                        re.printStackTrace();
+                    }
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        ((S3NioConnection) key.attachment()).onReady();
+                    } catch (RuntimeException re) {
+                        re.printStackTrace();
+                    }
+                }
+            }
+        }
+    }
+}
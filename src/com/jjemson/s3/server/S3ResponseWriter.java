@@ -0,0 +1,178 @@
+package com.jjemson.s3.server;
+
+import com.google.protobuf.CodedOutputStream;
+import com.jjemson.s3.S3Protocol.S3Message;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * S3ResponseWriter
+ *
+ * Writes the response messages of one session in the order they are queued.  Messages are encoded by the
+ * thread that queues them, and a single drain task at a time writes them out, so request workers hand a
+ * message over and carry on with the next piece of work instead of taking turns on the socket.  Small
+ * messages queued together leave in one write.  At most {@code s3.session.writeBuffer} bytes wait to be
+ * written; beyond that, queueing blocks until the client catches up.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3ResponseWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final long MAX_QUEUED_BYTES = Long.getLong("s3.session.writeBuffer", 1024 * 1024);
+
+    private final OutputStream out;
+    private final Executor executor;
+
+    // Guarded by this.
+    private final ArrayDeque<byte[]> queue = new ArrayDeque<>();
+    private long queuedBytes;
+    private boolean draining;
+    private IOException failure;
+
+    /**
+     * @param executor runs the drain task; a direct executor makes the queueing thread write
+     */
+    S3ResponseWriter(OutputStream out, Executor executor) {
+        this.out = new BufferedOutputStream(out, BUFFER_SIZE);
+        this.executor = executor;
+    }
+
+    /**
+     * Queues a length-delimited message, as {@link S3Message#writeDelimitedTo(OutputStream)} writes it.
+     *
+     * @throws IOException if the connection has failed or been closed
+     */
+    void write(S3Message message) throws IOException {
+        int size = message.getSerializedSize();
+        byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+        CodedOutputStream coded = CodedOutputStream.newInstance(bytes);
+        coded.writeUInt32NoTag(size);
+        message.writeTo(coded);
+        coded.checkNoSpaceLeft();
+
+        awaitRoom(bytes.length);
+        synchronized (this) {
+            if (failure != null) {
+                throw new IOException("Connection closed", failure);
+            }
+            queue.add(bytes);
+            queuedBytes += bytes.length;
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException ree) {
+            fail(new IOException("Writer stopped"));
+            throw new IOException("Writer stopped", ree);
+        }
+    }
+
+    /**
+     * Waits until everything queued so far has been written.
+     */
+    void flush() throws IOException {
+        block(() -> failure != null || (!draining && queue.isEmpty()));
+        synchronized (this) {
+            if (failure != null) {
+                throw new IOException("Connection closed", failure);
+            }
+        }
+    }
+
+    /**
+     * Drops whatever is still queued and fails later writes, waking any thread waiting for room.
+     */
+    void close() {
+        fail(new IOException("Connection closed"));
+    }
+
+    private void awaitRoom(int length) throws IOException {
+        // A message larger than the buffer goes out on its own.
+        block(() -> failure != null || queuedBytes == 0 || queuedBytes + length <= MAX_QUEUED_BYTES);
+    }
+
+    /**
+     * Waits for the condition, which is checked while holding this writer's lock.  On a fork-join worker the
+     * pool adds a thread while this one waits.
+     */
+    private void block(Condition condition) throws IOException {
+        try {
+            ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                @Override
+                public boolean block() throws InterruptedException {
+                    synchronized (S3ResponseWriter.this) {
+                        while (!condition.holds()) {
+                            S3ResponseWriter.this.wait();
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                public boolean isReleasable() {
+                    synchronized (S3ResponseWriter.this) {
+                        return condition.holds();
+                    }
+                }
+            });
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                byte[] next;
+                synchronized (this) {
+                    next = failure == null ? queue.poll() : null;
+                }
+                if (next == null) {
+                    out.flush();
+                    synchronized (this) {
+                        if (failure != null || queue.isEmpty()) {
+                            draining = false;
+                            notifyAll();
+                            return;
+                        }
+                    }
+                    continue;
+                }
+                out.write(next);
+                synchronized (this) {
+                    queuedBytes -= next.length;
+                    notifyAll();
+                }
+            }
+        } catch (IOException ioe) {
+            fail(ioe);
+        }
+    }
+
+    private synchronized void fail(IOException ioe) {
+        if (failure == null) {
+            failure = ioe;
+        }
+        queue.clear();
+        queuedBytes = 0;
+        draining = false;
+        notifyAll();
+    }
+
+    private interface Condition {
+        boolean holds();
+    }
+}
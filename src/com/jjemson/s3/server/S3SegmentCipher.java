@@ -0,0 +1,113 @@
+package com.jjemson.s3.server;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+/**
+ * S3SegmentCipher
+ *
+ * AES-GCM for stored files.  A file starts with a header holding a magic number, the segment size and a
+ * random nonce prefix, followed by the plaintext in segments of {@link #SEGMENT_SIZE} bytes, each sealed
+ * separately so that files can be streamed without buffering them whole.  A segment's nonce is the prefix
+ * followed by its index, and its additional data is the header and a flag marking the last segment, so
+ * segments cannot be reordered, moved between files or dropped from the end without failing the tag check.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3SegmentCipher {
+
+    static final int SEGMENT_SIZE = 64 * 1024;
+    static final int TAG_SIZE = 16;
+    static final int HEADER_SIZE = 16;
+
+    private static final int MAGIC = 0x53334743; // "S3GC"
+    private static final SecureRandom random = new SecureRandom();
+
+    private final SecretKey key;
+    private final byte[] header;
+    private final byte[] nonce = new byte[12];
+    private final Cipher cipher;
+    private int segment;
+
+    private S3SegmentCipher(SecretKey key, byte[] header) throws GeneralSecurityException {
+        this.key = key;
+        this.header = header;
+        this.cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        System.arraycopy(header, 8, nonce, 0, 8);
+    }
+
+    /**
+     * Creates a cipher for a new file with a fresh nonce prefix.  Its header must be written first.
+     */
+    static S3SegmentCipher forEncryption(SecretKey key) throws GeneralSecurityException {
+        byte[] prefix = new byte[8];
+        random.nextBytes(prefix);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(SEGMENT_SIZE).put(prefix);
+        return new S3SegmentCipher(key, header.array());
+    }
+
+    /**
+     * Reads the header from the start of the channel and creates a cipher for the segments that follow.
+     */
+    static S3SegmentCipher forDecryption(SecretKey key, FileChannel channel) throws IOException, GeneralSecurityException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header) == -1) {
+                throw new IOException("Encrypted file is truncated.");
+            }
+        }
+        return forHeader(key, header.array());
+    }
+
+    static S3SegmentCipher forHeader(SecretKey key, byte[] header) throws IOException, GeneralSecurityException {
+        ByteBuffer fields = ByteBuffer.wrap(header);
+        if (header.length != HEADER_SIZE || fields.getInt() != MAGIC || fields.getInt() != SEGMENT_SIZE) {
+            throw new IOException("Encrypted file has an unknown format.");
+        }
+        return new S3SegmentCipher(key, header.clone());
+    }
+
+    byte[] getHeader() {
+        return header.clone();
+    }
+
+    /**
+     * Encrypts the remaining plaintext, at most one segment, into the output buffer.
+     */
+    void seal(ByteBuffer plain, ByteBuffer out, boolean last) throws GeneralSecurityException {
+        init(Cipher.ENCRYPT_MODE, last);
+        cipher.doFinal(plain, out);
+    }
+
+    /**
+     * Decrypts and authenticates the next segment.  A failed check is reported as an IOException.
+     */
+    void open(ByteBuffer sealed, ByteBuffer out, boolean last) throws IOException, GeneralSecurityException {
+        init(Cipher.DECRYPT_MODE, last);
+        try {
+            cipher.doFinal(sealed, out);
+        } catch (AEADBadTagException bte) {
+            throw new IOException("Verification of file failed.", bte);
+        }
+    }
+
+    private void init(int mode, boolean last) throws GeneralSecurityException {
+        int index = segment++;
+        nonce[8] = (byte) (index >>> 24);
+        nonce[9] = (byte) (index >>> 16);
+        nonce[10] = (byte) (index >>> 8);
+        nonce[11] = (byte) index;
+        cipher.init(mode, key, new GCMParameterSpec(TAG_SIZE * 8, nonce));
+        cipher.updateAAD(header);
+        cipher.updateAAD(new byte[] { (byte) (last ? 1 : 0) });
+    }
+}
@@ -3,15 +3,10 @@ package com.jjemson.s3.server;
 import com.jjemson.s3.S3Security;
 
 import javax.net.ssl.*;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
-import java.net.InetSocketAddress;
 import java.net.ServerSocket;
-import java.net.Socket;
 import java.security.GeneralSecurityException;
 import java.security.KeyPair;
-import java.security.KeyStore;
 
 /**
  * S3Server
@@ -24,6 +19,9 @@ public class S3Server {
     private ServerSocket socket;
     private KeyPair serverKeys;
     private SSLSocketFactory socketFactory;
+    private S3SessionExecutor sessionExecutor;
+    private S3HandshakeStage handshakeStage;
+    private S3NioServer nioServer;
 
     public S3Server() {
         this(8088);
@@ -39,16 +37,23 @@ public class S3Server {
     public S3Server(int port) {
         try {
 //            this.socketFactory = (SSLSocketFactory) SSLSocketFactory.getDefault();
-            KeyStore keyStore = S3Security.loadKeyStore("server", "cs6238");
-            KeyManagerFactory kmf = KeyManagerFactory.getInstance("SunX509");
-            kmf.init(keyStore, "cs6238".toCharArray());
-            TrustManagerFactory tmf = TrustManagerFactory.getInstance("SunX509");
-            tmf.init(keyStore);
-            SSLContext sslContext = SSLContext.getInstance("TLS");
-            sslContext.init(kmf.getKeyManagers(), tmf.getTrustManagers(), null);
+            SSLContext sslContext = S3Security.getSSLContext("server", "cs6238");
             this.socketFactory = sslContext.getSocketFactory();
             this.serverKeys = S3Security.getKeyPair("server", "cs6238", "localhost");
-            this.socket = new ServerSocket(port);
+            if ("nio".equals(System.getProperty("s3.transport"))) {
+                this.nioServer = S3NioServer.fromSystemProperties(port, sslContext);
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> printInfo(nioServer.toString())));
+            } else {
+                this.socket = new ServerSocket(port);
+                this.sessionExecutor = S3SessionExecutor.fromSystemProperties();
+                this.handshakeStage = S3HandshakeStage.fromSystemProperties(socketFactory, sessionExecutor);
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    printInfo(handshakeStage.toString());
+                    printInfo(sessionExecutor.toString());
+                }));
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> printInfo(S3KeyCache.sharedInstance().toString())));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> printInfo(S3BlobStore.sharedInstance().toString())));
             Runtime.getRuntime().addShutdownHook(new Thread(this::writeMetadata));
             if (this.serverKeys == null) {
                 printError("Could not access server keys");
@@ -63,32 +68,20 @@ public class S3Server {
     }
 
     public void writeMetadata() {
-        try {
-            FileOutputStream fileOutputStream = new FileOutputStream(".s3meta");
-            ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream);
-            objectOutputStream.writeObject(S3FileManager.sharedInstance());
-            objectOutputStream.close();
-            fileOutputStream.close();
-        } catch (IOException ioe) {
-            printError("Error serializing data.");
-            ioe.printStackTrace();
-        }
+        S3FileManager.sharedInstance().writeSnapshot();
+        printInfo(S3FileManager.sharedInstance().toString());
     }
 
     public void startServer() {
+        if (nioServer != null) {
+            System.out.println("[Server] Started non-blocking server on port " + nioServer.getLocalPort());
+            nioServer.acceptLoop();
+            return;
+        }
         System.out.println("[Server] Started server on port " + this.socket.getLocalPort());
-        Socket s;
         while (true) {
             try {
-                s = socket.accept();
-                InetSocketAddress remoteAddress = (InetSocketAddress) s.getRemoteSocketAddress();
-                SSLSocket sslSocket = (SSLSocket) (socketFactory.createSocket(s, remoteAddress.getHostName(), s.getPort(), true));
-                sslSocket.setUseClientMode(false);
-                sslSocket.setNeedClientAuth(true);
-                sslSocket.startHandshake();
-                s = sslSocket;
-                printInfo("Connected to client: " + s.getInetAddress());
-                new Thread(new S3Session(s)).start();
+                handshakeStage.submit(socket.accept());
             } catch (IOException ioe) {
                 printError("Failed to accept socket connection.");
             }
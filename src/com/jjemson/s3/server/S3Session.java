@@ -3,27 +3,96 @@ package com.jjemson.s3.server;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.UnsafeByteOperations;
 import com.jjemson.s3.S3Protocol.*;
 import com.jjemson.s3.S3Security;
 
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.Socket;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateEncodingException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * S3Session
  *
+ * The reading thread only decodes messages.  Requests that carry a request ID are pipelined: each is handed
+ * to a fork-join pool of workers shared by all sessions as soon as it is read, so a slow checkout does not
+ * hold up the requests behind it.  The messages of one request are handled in order, and every response
+ * message is tagged with the request's ID, so responses to different requests may interleave.  Requests
+ * without an ID are handled on the same workers one after another, and their responses keep their order.  At
+ * most {@code s3.session.pipeline} messages of a session are waiting or running at once; beyond that the
+ * session stops reading.  Logins and the close request are handled on the reading thread.
+ *
+ * A chunked checkin keeps a staging file open from its CheckinBegin to its TransferEnd, after its messages
+ * have left the pipeline, so open uploads are counted separately: at most {@code s3.session.uploads}, by
+ * default the pipeline depth, are open at once.  A checkin begun beyond that is refused when its transfer
+ * ends, and uploads still open when the session ends are discarded.
+ *
+ * Responses are queued on the session's {@link S3ResponseWriter}, which writes them out in turn, so a worker
+ * goes on decrypting the next chunk of a checkout while the last one is sent.  The items of a batch request
+ * are spread over the workers, one task per document, and each item's response is written as soon as it is
+ * ready.
+ *
  * @author Jonathan Jemson
  * @version 1.0
  */
 class S3Session implements Runnable {
 
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int OPEN_ATTEMPTS = 3;
+    private static final int PIPELINE_DEPTH = Integer.getInteger("s3.session.pipeline", 64);
+    private static final int MAX_UPLOADS = Integer.getInteger("s3.session.uploads", PIPELINE_DEPTH);
+
+    // The pipeline step of the requests without an ID.
+    private static final long NO_REQUEST_ID = Long.MIN_VALUE;
+
+    private static final ForkJoinPool workers;
+
+    static {
+        int threads = Integer.getInteger("s3.session.requestThreads", Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+        // Workers waiting for batch items or for room in a response writer are made up for by the pool.
+        workers = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("s3-request-" + thread.getPoolIndex());
+            return thread;
+        }, null, true);
+    }
+
+    // Drain tasks of the sessions on blocking sockets; NIO connections queue their output themselves.
+    private static final ExecutorService responseWriters = Executors.newCachedThreadPool(new S3ThreadFactory("s3-writer-"));
+
     private Socket socket;
-    private String user;
+    private Closeable connection;
+    private SSLSession tlsSession;
+    private S3ResponseWriter writer;
+    private volatile String user;
+
+    // Chunked checkins in progress, by request ID.
+    private final Map<Long, Upload> uploads = new ConcurrentHashMap<>();
+    private final Semaphore uploadSlots = new Semaphore(MAX_UPLOADS);
+    // Chunked checkins refused because too many were open; their chunks are dropped.
+    private final Set<Long> refusedUploads = ConcurrentHashMap.newKeySet();
+    // The last step queued for each pipelined request that is still in flight.
+    private final Map<Long, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final Semaphore pipeline = new Semaphore(PIPELINE_DEPTH);
 
-    private static ExtensionRegistry registry = ExtensionRegistry.newInstance();
+    static ExtensionRegistry registry = ExtensionRegistry.newInstance();
 
     static {
         registry.add(CheckinRequest.ciRequest);
@@ -33,12 +102,22 @@ class S3Session implements Runnable {
         registry.add(LoginRequest.login);
         registry.add(LoginResponse.login);
         registry.add(DelegationRequest.dRequest);
+        registry.add(DelegationResponse.dResponse);
         registry.add(DeleteRequest.delRequest);
         registry.add(DeleteResponse.delResponse);
+        registry.add(CheckinBegin.ciBegin);
+        registry.add(FileChunk.chunk);
+        registry.add(TransferEnd.transferEnd);
+        registry.add(CheckinProbe.ciProbe);
+        registry.add(CheckinProbeResponse.ciProbeResponse);
+        registry.add(BatchCheckoutRequest.batchCoRequest);
+        registry.add(BatchCheckinRequest.batchCiRequest);
+        registry.add(BatchDeleteRequest.batchDelRequest);
+        registry.add(BatchItemResponse.batchItem);
     }
 
     private void printInfo(String s) {
-        ie
+        System.out.println("[Session] " + s);
     }
     private void printError(String s) {
         System.err.println("[Session] " + s);
@@ -46,119 +125,536 @@ class S3Session implements Runnable {
 
     public S3Session(Socket socket) {
         this.socket = socket;
+        this.connection = socket;
+        if (socket instanceof SSLSocket) {
+            this.tlsSession = ((SSLSocket) socket).getSession();
+        }
+    }
+
+    /**
+     * Creates a session that is driven by another transport, which passes each decoded message to
+     * {@link #handleMessage(S3Message)} in order.
+     */
+    S3Session(OutputStream outputStream, Closeable connection, SSLSession tlsSession) {
+        this.writer = new S3ResponseWriter(outputStream, Runnable::run);
+        this.connection = connection;
+        this.tlsSession = tlsSession;
     }
 
     @Override
     public void run() {
         try {
+            this.writer = new S3ResponseWriter(this.socket.getOutputStream(), responseWriters);
+            InputStream ios = this.socket.getInputStream();
             while (true) {
-                InputStream ios = this.socket.getInputStream();
                 S3Message msg = S3Message.parseDelimitedFrom(ios, registry);
 
-                // If there is no message, just wait for a new message.
-                if (msg == null) continue;
-
-                if (msg.getType() == S3Message.MessageType.LoginRequest) {
-                    LoginRequest login = msg.getExtension(LoginRequest.login);
-                    this.user = login.getUser();
-                    Certificate other = S3Security.reconstructEncodedCertificate(login.getClientCert().toByteArray());
-                    if (other == null) {
-                        printError("Could not reconstruct client's public key.");
-                        return;
-                    }
-                    if (!S3Security.verifyCertificate("server", "cs6238", other)) {
-                        printError("Could not verify certificate as coming from CA.");
-                        return;
-                    }
-                    Certificate serverCert = S3Security.getCertificate("server", "cs6238", "localhost");
-                    try {
-                        LoginResponse response = LoginResponse.newBuilder()
-                                .setServerCert(ByteString.copyFrom(serverCert.getEncoded()))
-                                .build();
-                        S3Message respMsg = S3Message.newBuilder()
-                                .setType(S3Message.MessageType.LoginResponse)
-                                .setExtension(LoginResponse.login, response)
-                                .build();
-                        respMsg.writeDelimitedTo(this.socket.getOutputStream());
-                    } catch (CertificateEncodingException cee) {
-                        printError("Could not encode certificate.");
-                        this.socket.close();
-                        return;
-                    }
+                // The client closed the connection without a CloseRequest.
+                if (msg == null) {
+                    printInfo("Connection closed by " + user + ".");
+                    connectionClosed();
+                    this.socket.close();
+                    return;
+                }
+                if (!handleMessage(msg)) {
+                    return;
+                }
+            }
+        } catch (IOException ioe) {
+            printError("Error - Terminating session for user " + user + ".");
+            ioe.printStackTrace();
+            connectionClosed();
+        }
+    }
 
+    /**
+     * Takes one message from the client, in the order they were received.  Requests are queued behind the
+     * earlier messages of the same request, or of all requests without an ID; logins and the close request are
+     * handled before returning.
+     *
+     * @return false once the session has ended and the connection is closed
+     */
+    boolean handleMessage(S3Message msg) throws IOException {
+        S3Message.MessageType type = msg.getType();
+        if (type == S3Message.MessageType.LoginRequest || type == S3Message.MessageType.CloseRequest) {
+            if (type == S3Message.MessageType.CloseRequest) {
+                awaitRequests();
+            }
+            return process(msg);
+        }
+        try {
+            pipeline.acquire();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        long requestID = msg.hasRequestId() ? msg.getRequestId() : NO_REQUEST_ID;
+        Runnable step = () -> {
+            try {
+                process(msg);
+            } catch (IOException ioe) {
+                printError("Request " + requestID + " for " + user + " failed: " + ioe.getMessage());
+                try {
+                    connection.close();
+                } catch (IOException ignored) {
                 }
-                if (msg.getType() == S3Message.MessageType.CheckinRequest) {
-                    CheckinRequest cir = msg.getExtension(CheckinRequest.ciRequest);
-                    printInfo("CheckIn:\n" + cir);
-                    S3FileManager.sharedInstance().checkInFile(this.user, cir);
-                    CheckinResponse response = CheckinResponse.newBuilder().setSuccess(true).build();
-                    S3Message respMsg = S3Message.newBuilder()
-                            .setType(S3Message.MessageType.CheckinResponse)
-                            .setExtension(CheckinResponse.ciResponse, response)
-                            .build();
-                    respMsg.writeDelimitedTo(this.socket.getOutputStream());
+            } catch (RuntimeException re) {
+                printError("Request " + requestID + " for " + user + " failed.");
+                re.printStackTrace();
+            } finally {
+                pipeline.release();
+            }
+        };
+        CompletableFuture<Void> last = inFlight.compute(requestID, (id, previous) ->
+                previous == null ? CompletableFuture.runAsync(step, workers) : previous.thenRunAsync(step, workers));
+        last.whenComplete((v, t) -> inFlight.remove(requestID, last));
+        return true;
+    }
+
+    /**
+     * Returns the certificate the client authenticated the connection with, or null if it did not.
+     */
+    private Certificate peerCertificate() {
+        if (tlsSession == null) {
+            return null;
+        }
+        try {
+            return tlsSession.getPeerCertificates()[0];
+        } catch (SSLPeerUnverifiedException spue) {
+            return null;
+        }
+    }
+
+    /**
+     * Waits for the pipelined requests that have been read so far to finish.
+     */
+    private void awaitRequests() {
+        CompletableFuture<?>[] pending = new ArrayList<>(inFlight.values()).toArray(new CompletableFuture<?>[0]);
+        try {
+            CompletableFuture.allOf(pending).join();
+        } catch (CompletionException | CancellationException ignored) {
+            // Every step reports its own failures.
+        }
+    }
+
+    /**
+     * Handles one message.  Runs on the reading thread, or on a request worker for pipelined requests.
+     *
+     * @return false once the session has ended and the connection is closed
+     */
+    private boolean process(S3Message msg) throws IOException {
+        long requestID = msg.getRequestId();
+        if (msg.getType() == S3Message.MessageType.LoginRequest) {
+            LoginRequest login = msg.getExtension(LoginRequest.login);
+            // The TLS handshake has already verified the client's certificate against the CA.
+            Certificate peer = peerCertificate();
+            if (peer == null) {
+                printError("Client did not authenticate with a certificate.");
+                this.connection.close();
+                return false;
+            }
+            String name = S3Security.registeredUser(peer);
+            if (name == null) {
+                printError("Client certificate is not registered to a user.");
+                this.connection.close();
+                return false;
+            }
+            if (login.hasUser() && !login.getUser().equals(name)) {
+                printError("Login as " + login.getUser() + " refused; the connection was authenticated as " + name + ".");
+                this.connection.close();
+                return false;
+            }
+            if (login.hasClientCert()
+                    && !peer.equals(S3Security.reconstructEncodedCertificate(login.getClientCert().toByteArray()))) {
+                printError("Login certificate of " + name + " is not the one the connection was authenticated with.");
+                this.connection.close();
+                return false;
+            }
+            this.user = name;
+            LoginResponse.Builder response = LoginResponse.newBuilder();
+            try {
+                // Clients that sent their certificate verify ours from the response.
+                if (login.hasClientCert()) {
+                    response.setServerCert(ByteString.copyFrom(tlsSession.getLocalCertificates()[0].getEncoded()));
                 }
-                if (msg.getType() == S3Message.MessageType.CheckoutRequest) {
-                    CheckoutRequest cor = msg.getExtension(CheckoutRequest.coRequest);
-                    printInfo("Checkout:\n" + cor);
-                    S3File file;
-                    if (cor.hasOwner()) {
-                        file = S3FileManager.sharedInstance().checkoutDelegatedFile(user, cor);
-                    } else {
-                        file = S3FileManager.sharedInstance().checkoutFile(user, cor);
-                    }
-                    boolean successful = (file != null);
-                    byte[] fileData = null;
-                    if (successful) {
-                        fileData = file.getFileData();
-                    }
-                    if (fileData == null) {
-                        successful = false;
-                    }
-                    CheckoutResponse.Builder responseBuilder = CheckoutResponse.newBuilder().setSuccess(successful);
-                    if (successful) {
-                        responseBuilder.setFileData(ByteString.copyFrom(fileData)).setSecurity(file.getFileSec());
-                    }
-                    CheckoutResponse response = responseBuilder.build();
-                    printInfo("Response:\n" + response);
-                    S3Message msg2 = S3Message.newBuilder()
-                            .setType(S3Message.MessageType.CheckoutResponse)
-                            .setExtension(CheckoutResponse.coResponse, response)
-                            .build();
-                    msg2.writeDelimitedTo(this.socket.getOutputStream());
+            } catch (CertificateEncodingException cee) {
+                printError("Could not encode certificate.");
+                this.connection.close();
+                return false;
+            }
+            send(msg, S3Message.newBuilder()
+                    .setType(S3Message.MessageType.LoginResponse)
+                    .setExtension(LoginResponse.login, response.build()));
+        }
+        if (msg.getType() == S3Message.MessageType.CheckinRequest) {
+            CheckinRequest cir = msg.getExtension(CheckinRequest.ciRequest);
+            printInfo("CheckIn:\n" + cir);
+            send(msg, S3Message.newBuilder()
+                    .setType(S3Message.MessageType.CheckinResponse)
+                    .setExtension(CheckinResponse.ciResponse, checkin(cir)));
+        }
+        if (msg.getType() == S3Message.MessageType.CheckoutRequest) {
+            CheckoutRequest cor = msg.getExtension(CheckoutRequest.coRequest);
+            printInfo("Checkout:\n" + cor);
+            Checkout checkout = openCheckout(cor);
+            if (cor.getChunked()) {
+                streamCheckout(msg, checkout.file, checkout.stream);
+                return true;
+            }
+            CheckoutResponse response = readCheckout(checkout);
+            printInfo("Response:\n" + response);
+            send(msg, S3Message.newBuilder()
+                    .setType(S3Message.MessageType.CheckoutResponse)
+                    .setExtension(CheckoutResponse.coResponse, response));
+        }
+        if (msg.getType() == S3Message.MessageType.DelegationRequest) {
+            DelegationRequest delegationRequest = msg.getExtension(DelegationRequest.dRequest);
+            printInfo("Delegation request:\n" + delegationRequest);
+            String owner = delegationRequest.hasDocumentOwner() ? delegationRequest.getDocumentOwner() : null;
+            boolean success = S3FileManager.sharedInstance().addDelegation(delegationRequest.getDocumentId(), owner, user, delegationRequest.getClientUser(), delegationRequest.getDuration(), delegationRequest.getPropagate());
+            DelegationResponse.Builder responseBuilder = DelegationResponse.newBuilder().setSuccess(success);
+            if (!success) {
+                responseBuilder.setReason("Delegation not permitted");
+            }
+            send(msg, S3Message.newBuilder()
+                    .setType(S3Message.MessageType.DelegationResponse)
+                    .setExtension(DelegationResponse.dResponse, responseBuilder.build()));
+        }
+        if (msg.getType() == S3Message.MessageType.DeleteRequest) {
+            DeleteRequest deleteRequest = msg.getExtension(DeleteRequest.delRequest);
+            send(msg, S3Message.newBuilder()
+                    .setType(S3Message.MessageType.DeleteResponse)
+                    .setExtension(DeleteResponse.delResponse, delete(deleteRequest)));
+        }
+        if (msg.getType() == S3Message.MessageType.BatchCheckoutRequest) {
+            List<CheckoutRequest> items = msg.getExtension(BatchCheckoutRequest.batchCoRequest).getItemsList();
+            printInfo("Batch checkout of " + items.size() + " documents.");
+            processBatch(msg, items, item -> S3File.documentID(item.hasOwner() ? item.getOwner() : user, item.getDocumentId()),
+                    item -> BatchItemResponse.newBuilder().setCheckout(readCheckout(openCheckout(item))));
+        }
+        if (msg.getType() == S3Message.MessageType.BatchCheckinRequest) {
+            List<CheckinRequest> items = msg.getExtension(BatchCheckinRequest.batchCiRequest).getItemsList();
+            printInfo("Batch checkin of " + items.size() + " documents.");
+            processBatch(msg, items, CheckinRequest::getDocumentId,
+                    item -> BatchItemResponse.newBuilder().setCheckin(checkin(item)));
+        }
+        if (msg.getType() == S3Message.MessageType.BatchDeleteRequest) {
+            List<DeleteRequest> items = msg.getExtension(BatchDeleteRequest.batchDelRequest).getItemsList();
+            printInfo("Batch delete of " + items.size() + " documents.");
+            processBatch(msg, items, item -> S3File.documentID(item.hasDocumentOwner() ? item.getDocumentOwner() : user, item.getDocumentId()),
+                    item -> BatchItemResponse.newBuilder().setDelete(delete(item)));
+        }
+        if (msg.getType() == S3Message.MessageType.CheckinProbe) {
+            CheckinProbe probe = msg.getExtension(CheckinProbe.ciProbe);
+            boolean unchanged = S3FileManager.sharedInstance().isUnchanged(this.user, probe);
+            if (unchanged) {
+                printInfo("Checkin of " + S3File.documentID(this.user, probe.getDocumentId()) + " is unchanged; skipping upload.");
+            }
+            CheckinProbeResponse response = CheckinProbeResponse.newBuilder().setUnchanged(unchanged).build();
+            send(msg, S3Message.newBuilder()
+                    .setType(S3Message.MessageType.CheckinProbeResponse)
+                    .setExtension(CheckinProbeResponse.ciProbeResponse, response));
+        }
+        if (msg.getType() == S3Message.MessageType.CheckinBegin) {
+            CheckinBegin begin = msg.getExtension(CheckinBegin.ciBegin);
+            printInfo("Chunked checkin:\n" + begin);
+            abortUpload(requestID);
+            if (!uploadSlots.tryAcquire()) {
+                printError("Refusing checkin of " + S3File.documentID(this.user, begin.getDocumentId()) + "; " +
+                        MAX_UPLOADS + " uploads are already open.");
+                refusedUploads.add(requestID);
+                return true;
+            }
+            S3File file = new S3File(this.user, begin.getDocumentId(), begin.getSecurity());
+            try {
+                uploads.put(requestID, new Upload(file, file.openOutputStream()));
+            } catch (IOException | RuntimeException e) {
+                uploadSlots.release();
+                throw e;
+            }
+        }
+        if (msg.getType() == S3Message.MessageType.FileChunk) {
+            FileChunk chunk = msg.getExtension(FileChunk.chunk);
+            Upload upload = uploads.get(requestID);
+            if (upload == null) {
+                if (!refusedUploads.contains(requestID)) {
+                    printError("Received a chunk with no transfer in progress.");
                 }
-                if (msg.getType() == S3Message.MessageType.DelegationRequest) {
-                    DelegationRequest delegationRequest = msg.getExtension(DelegationRequest.dRequest);
-                    printInfo("Delegation request:\n" + delegationRequest);
-                    S3FileManager.sharedInstance().addDelegation(delegationRequest.getDocumentId(), user, delegationRequest.getClientUser(), delegationRequest.getDuration(), delegationRequest.getPropagate());
+                return true;
+            }
+            if (chunk.getSequence() != upload.sequence) {
+                printError("Chunk " + chunk.getSequence() + " arrived out of order; expected " + upload.sequence + ".");
+                abortUpload(requestID);
+                return true;
+            }
+            chunk.getData().writeTo(upload.stream);
+            upload.sequence++;
+        }
+        if (msg.getType() == S3Message.MessageType.TransferEnd) {
+            TransferEnd end = msg.getExtension(TransferEnd.transferEnd);
+            boolean refused = refusedUploads.remove(requestID);
+            Upload upload = uploads.get(requestID);
+            boolean success = upload != null && end.getSuccess() && end.getChunkCount() == upload.sequence;
+            if (success) {
+                uploads.remove(requestID);
+                uploadSlots.release();
+                try {
+                    S3FileManager.sharedInstance().checkInFile(upload.file, upload.stream);
+                } catch (IOException ioe) {
+                    printError("Could not store " + upload.file.getDocumentID() + ": " + ioe.getMessage());
+                    success = false;
                 }
-                if (msg.getType() == S3Message.MessageType.DeleteRequest) {
-                    DeleteRequest deleteRequest = msg.getExtension(DeleteRequest.delRequest);
-                    boolean success;
-                    if (deleteRequest.hasDocumentOwner()) {
-                        success = S3FileManager.sharedInstance().deleteFile(deleteRequest.getDocumentOwner(), deleteRequest.getDocumentId());
-                    } else {
-                        success = S3FileManager.sharedInstance().deleteFile(user, deleteRequest.getDocumentId());
-                    }
-                    DeleteResponse response = DeleteResponse.newBuilder()
-                            .setSuccess(success)
-                            .build();
-                    S3Message msg2 = S3Message.newBuilder()
-                            .setType(S3Message.MessageType.DeleteResponse)
-                            .setExtension(DeleteResponse.delResponse, response)
-                            .build();
-                    msg2.writeDelimitedTo(this.socket.getOutputStream());
+            } else {
+                abortUpload(requestID);
+            }
+            CheckinResponse.Builder responseBuilder = CheckinResponse.newBuilder().setSuccess(success);
+            if (refused) {
+                responseBuilder.setReason("Too many uploads in progress");
+            } else if (!success) {
+                responseBuilder.setReason("Transfer incomplete");
+            }
+            send(msg, S3Message.newBuilder()
+                    .setType(S3Message.MessageType.CheckinResponse)
+                    .setExtension(CheckinResponse.ciResponse, responseBuilder.build()));
+        }
+        if (msg.getType() == S3Message.MessageType.Ping) {
+            send(msg, S3Message.newBuilder().setType(S3Message.MessageType.Pong));
+        }
+        if (msg.getType() == S3Message.MessageType.CloseRequest) {
+            printInfo("Closing socket...");
+            abortUploads();
+            try {
+                // Responses still queued go out before the connection closes.
+                writer.flush();
+            } catch (IOException ignored) {
+            }
+            this.connection.close();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Queues a response to the given request, tagged with its request ID.  The message is encoded before this
+     * returns, and written whole, so responses to pipelined requests do not corrupt one another.
+     */
+    private void send(S3Message request, S3Message.Builder response) throws IOException {
+        if (request.hasRequestId()) {
+            response.setRequestId(request.getRequestId());
+        }
+        writer.write(response.build());
+    }
+
+    private CheckinResponse checkin(CheckinRequest cir) {
+        boolean stored = S3FileManager.sharedInstance().checkInFile(this.user, cir);
+        return CheckinResponse.newBuilder().setSuccess(stored).build();
+    }
 
+    /**
+     * Deletes one of the user's own documents.  Delegations only grant checkout, so naming another owner is
+     * refused.
+     */
+    private DeleteResponse delete(DeleteRequest deleteRequest) {
+        if (deleteRequest.hasDocumentOwner() && !deleteRequest.getDocumentOwner().equals(user)) {
+            printError(user + " may not delete " + S3File.documentID(deleteRequest.getDocumentOwner(), deleteRequest.getDocumentId()) + ".");
+            return DeleteResponse.newBuilder().setSuccess(false).setReason("Only the owner may delete a document").build();
+        }
+        boolean success = S3FileManager.sharedInstance().deleteFile(user, deleteRequest.getDocumentId());
+        return DeleteResponse.newBuilder().setSuccess(success).build();
+    }
+
+    /**
+     * Looks up the document to check out and opens it.  The stream is null if the user may not check it out
+     * or it could not be opened.
+     */
+    private Checkout openCheckout(CheckoutRequest cor) {
+        S3File file = null;
+        InputStream fileStream = null;
+        // A checkin may replace and prune the generation that was looked up before it is opened; look again.
+        for (int attempt = 0; attempt < OPEN_ATTEMPTS && fileStream == null; attempt++) {
+            if (cor.hasOwner()) {
+                file = S3FileManager.sharedInstance().checkoutDelegatedFile(user, cor);
+            } else {
+                file = S3FileManager.sharedInstance().checkoutFile(user, cor);
+            }
+            if (file == null) {
+                break;
+            }
+            try {
+                fileStream = file.openInputStream();
+            } catch (IOException ioe) {
+                if (!file.isSuperseded()) {
+                    printError("Could not open " + file.getDocumentID() + " for checkout.");
+                    ioe.printStackTrace();
+                    break;
                 }
-                if (msg.getType() == S3Message.MessageType.CloseRequest) {
-                    printInfo("Closing socket...");
-                    socket.close();
-                    return;
+            }
+        }
+        return new Checkout(file, fileStream);
+    }
+
+    /**
+     * Reads a whole opened document into a response.
+     */
+    private CheckoutResponse readCheckout(Checkout checkout) {
+        ByteString fileData = null;
+        if (checkout.stream != null) {
+            try (InputStream in = checkout.stream) {
+                fileData = ByteString.readFrom(in, CHUNK_SIZE);
+            } catch (IOException ioe) {
+                printError("Checkout of " + checkout.file.getDocumentID() + " failed: " + ioe.getMessage());
+            }
+        }
+        CheckoutResponse.Builder responseBuilder = CheckoutResponse.newBuilder().setSuccess(fileData != null);
+        if (fileData != null) {
+            responseBuilder.setFileData(fileData).setSecurity(checkout.file.getFileSec());
+        }
+        return responseBuilder.build();
+    }
+
+    /**
+     * Handles the items of a batch on the batch workers and writes each item's response as it finishes, then
+     * the TransferEnd that ends the batch.  Items on the same document run in order, on one worker.
+     */
+    private <T> void processBatch(S3Message request, List<T> items, Function<T, String> document,
+                                  Function<T, BatchItemResponse.Builder> handler) throws IOException {
+        Map<String, List<Integer>> byDocument = new LinkedHashMap<>();
+        for (int index = 0; index < items.size(); index++) {
+            byDocument.computeIfAbsent(document.apply(items.get(index)), d -> new ArrayList<>()).add(index);
+        }
+        AtomicInteger answered = new AtomicInteger();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (List<Integer> indexes : byDocument.values()) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for (int index : indexes) {
+                    BatchItemResponse response = handler.apply(items.get(index)).setIndex(index).build();
+                    try {
+                        send(request, S3Message.newBuilder()
+                                .setType(S3Message.MessageType.BatchItemResponse)
+                                .setExtension(BatchItemResponse.batchItem, response));
+                    } catch (IOException ioe) {
+                        throw new UncheckedIOException(ioe);
+                    }
+                    answered.incrementAndGet();
                 }
+            }, workers));
+        }
+        TransferEnd.Builder endBuilder = TransferEnd.newBuilder();
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) ce.getCause()).getCause();
+            }
+            printError("Batch for " + user + " failed: " + ce.getCause());
+            endBuilder.setSuccess(false).setReason("Batch failed");
+        }
+        send(request, S3Message.newBuilder()
+                .setType(S3Message.MessageType.TransferEnd)
+                .setExtension(TransferEnd.transferEnd, endBuilder.setChunkCount(answered.get()).build()));
+    }
+
+    private void streamCheckout(S3Message request, S3File file, InputStream fileStream) throws IOException {
+        CheckoutResponse.Builder responseBuilder = CheckoutResponse.newBuilder().setSuccess(fileStream != null);
+        if (fileStream != null) {
+            responseBuilder.setSecurity(file.getFileSec());
+        }
+        send(request, S3Message.newBuilder()
+                .setType(S3Message.MessageType.CheckoutResponse)
+                .setExtension(CheckoutResponse.coResponse, responseBuilder.build()));
+        if (fileStream == null) {
+            return;
+        }
+
+        TransferEnd.Builder endBuilder = TransferEnd.newBuilder();
+        int sequence = 0;
+        byte[] buffer = new byte[CHUNK_SIZE];
+        try (InputStream in = fileStream) {
+            for (int len; (len = readFully(in, buffer)) > 0; sequence++) {
+                // The chunk is encoded before the buffer is refilled, so it can be wrapped rather than copied.
+                FileChunk chunk = FileChunk.newBuilder()
+                        .setSequence(sequence)
+                        .setData(UnsafeByteOperations.unsafeWrap(buffer, 0, len))
+                        .build();
+                send(request, S3Message.newBuilder()
+                        .setType(S3Message.MessageType.FileChunk)
+                        .setExtension(FileChunk.chunk, chunk));
             }
         } catch (IOException ioe) {
-            printError("Error - Terminating session for user " + user + ".");
-            ioe.printStackTrace();
+            // Socket failures surface again on the next write; anything else is a file error.
+            printError("Checkout of " + file.getDocumentID() + " failed: " + ioe.getMessage());
+            endBuilder.setSuccess(false).setReason(ioe.getMessage() == null ? "Read failed" : ioe.getMessage());
+        }
+        send(request, S3Message.newBuilder()
+                .setType(S3Message.MessageType.TransferEnd)
+                .setExtension(TransferEnd.transferEnd, endBuilder.setChunkCount(sequence).build()));
+    }
+
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int len = in.read(buffer, total, buffer.length - total);
+            if (len == -1) {
+                break;
+            }
+            total += len;
+        }
+        return total;
+    }
+
+    /**
+     * Called when the connection has gone away, to drop queued responses and discard any unfinished uploads
+     * once the requests already read have run.
+     */
+    void connectionClosed() {
+        // Requests waiting to write fail rather than wait for a client that has gone.
+        if (writer != null) {
+            writer.close();
+        }
+        awaitRequests();
+        abortUploads();
+    }
+
+    private void abortUploads() {
+        for (Long requestID : new ArrayList<>(uploads.keySet())) {
+            abortUpload(requestID);
+        }
+    }
+
+    private void abortUpload(long requestID) {
+        refusedUploads.remove(requestID);
+        Upload upload = uploads.remove(requestID);
+        if (upload != null) {
+            uploadSlots.release();
+            upload.stream.abort();
+            printError("Discarding incomplete upload of " + upload.file.getDocumentID() + ".");
+        }
+    }
+
+    /**
+     * A document opened for checkout.
+     */
+    private static class Checkout {
+        private final S3File file;
+        private final InputStream stream;
+
+        Checkout(S3File file, InputStream stream) {
+            this.file = file;
+            this.stream = stream;
+        }
+    }
+
+    /**
+     * A chunked checkin in progress.
+     */
+    private static class Upload {
+        private final S3File file;
+        private final S3File.S3FileOutputStream stream;
+        private int sequence;
+
+        Upload(S3File file, S3File.S3FileOutputStream stream) {
+            this.file = file;
+            this.stream = stream;
         }
     }
 }
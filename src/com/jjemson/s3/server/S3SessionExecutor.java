@@ -0,0 +1,141 @@
+package com.jjemson.s3.server;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.Socket;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3SessionExecutor
+ *
+ * Runs sessions on a bounded worker pool, or on virtual threads when the JVM supports them and
+ * {@code s3.session.virtual} is set.  Either way at most {@code s3.session.threads} sessions run at once
+ * and at most {@code s3.session.queue} more wait for a worker; connections beyond that are closed and
+ * counted as rejected.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3SessionExecutor {
+
+    private static final int DEFAULT_THREADS = 64;
+    private static final int DEFAULT_QUEUE = 128;
+
+    private final ExecutorService executor;
+    private final Semaphore admission;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicInteger active = new AtomicInteger();
+
+    private static void printInfo(String s) {
+        System.out.println("[Executor] " + s);
+    }
+    private static void printError(String s) {
+        System.err.println("[Executor] " + s);
+    }
+
+    S3SessionExecutor(int threads, int queueSize, boolean virtualThreads) {
+        ExecutorService virtual = virtualThreads ? newVirtualThreadExecutor() : null;
+        if (virtual != null) {
+            this.executor = virtual;
+            this.admission = new Semaphore(threads + queueSize);
+            printInfo("Running sessions on virtual threads, limit " + (threads + queueSize) + ".");
+        } else {
+            BlockingQueue<Runnable> queue = queueSize > 0 ? new ArrayBlockingQueue<>(queueSize) : new SynchronousQueue<>();
+            this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, queue,
+                    new S3ThreadFactory("s3-session-"), new ThreadPoolExecutor.AbortPolicy());
+            this.admission = null;
+            printInfo("Running sessions on " + threads + " threads, queue " + queueSize + ".");
+        }
+    }
+
+    static S3SessionExecutor fromSystemProperties() {
+        return new S3SessionExecutor(Integer.getInteger("s3.session.threads", DEFAULT_THREADS),
+                Integer.getInteger("s3.session.queue", DEFAULT_QUEUE),
+                Boolean.getBoolean("s3.session.virtual"));
+    }
+
+    /**
+     * Runs the session for the given socket, or closes the socket if the executor is saturated.
+     *
+     * @return whether the session was admitted
+     */
+    boolean submit(Socket socket, Runnable session) {
+        if (admission != null && !admission.tryAcquire()) {
+            reject(socket);
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                active.incrementAndGet();
+                try {
+                    session.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.incrementAndGet();
+                    if (admission != null) {
+                        admission.release();
+                    }
+                }
+            });
+            submitted.incrementAndGet();
+            return true;
+        } catch (RejectedExecutionException ree) {
+            if (admission != null) {
+                admission.release();
+            }
+            reject(socket);
+            return false;
+        }
+    }
+
+    private void reject(Socket socket) {
+        long count = rejected.incrementAndGet();
+        printError("Rejected connection from " + socket.getInetAddress() + "; " + count + " rejected so far.");
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    long getSubmitted() {
+        return submitted.get();
+    }
+
+    long getRejected() {
+        return rejected.get();
+    }
+
+    long getCompleted() {
+        return completed.get();
+    }
+
+    int getActive() {
+        return active.get();
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "Sessions: " + getActive() + " active, " + getSubmitted() + " admitted, " +
+                getCompleted() + " completed, " + getRejected() + " rejected";
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException roe) {
+            printError("Virtual threads are not available on this JVM; using a thread pool.");
+            return null;
+        }
+    }
+
+}
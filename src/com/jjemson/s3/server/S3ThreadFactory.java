@@ -0,0 +1,29 @@
+package com.jjemson.s3.server;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3ThreadFactory
+ *
+ * Creates numbered daemon threads, so server threads are recognizable in stack dumps.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3ThreadFactory implements ThreadFactory {
+
+    private final String prefix;
+    private final AtomicInteger count = new AtomicInteger();
+
+    S3ThreadFactory(String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, prefix + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
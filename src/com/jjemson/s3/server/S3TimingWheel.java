@@ -0,0 +1,96 @@
+package com.jjemson.s3.server;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * S3TimingWheel
+ *
+ * Hashed timing wheel that hands items to a handler once their deadline, a {@link System#nanoTime()} value,
+ * has passed.  Scheduling only appends to a queue; a single background thread moves new items into their
+ * slots and fires the items of each slot as the wheel turns, so the slots need no locking.  Items fire at
+ * most one tick late.  Items cannot be cancelled; the handler is expected to ignore ones that are stale.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+class S3TimingWheel<T> {
+
+    private final long tickNanos;
+    private final List<List<Entry<T>>> slots;
+    private final int mask;
+    private final long start = System.nanoTime();
+    private final ConcurrentLinkedQueue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<T> handler;
+    private final ScheduledExecutorService executor;
+    private long processedTick;
+
+    /**
+     * @param slotCount rounded up to a power of two
+     */
+    S3TimingWheel(long tickMillis, int slotCount, String threadName, Consumer<T> handler) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        int size = Integer.highestOneBit(Math.max(1, slotCount - 1)) << 1;
+        this.mask = size - 1;
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.handler = handler;
+        this.executor = Executors.newSingleThreadScheduledExecutor(new S3ThreadFactory(threadName));
+        this.executor.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void schedule(T item, long deadlineNanos) {
+        pending.add(new Entry<>(item, deadlineNanos));
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void advance() {
+        long now = System.nanoTime();
+        long currentTick = (now - start) / tickNanos;
+        Entry<T> entry;
+        while ((entry = pending.poll()) != null) {
+            // Round up, so an item never fires before its deadline, and never into a slot already passed.
+            long tick = Math.max((entry.deadline - start + tickNanos - 1) / tickNanos, processedTick + 1);
+            entry.tick = tick;
+            slots.get((int) (tick & mask)).add(entry);
+        }
+        for (long tick = processedTick + 1; tick <= currentTick; tick++) {
+            Iterator<Entry<T>> iterator = slots.get((int) (tick & mask)).iterator();
+            while (iterator.hasNext()) {
+                Entry<T> due = iterator.next();
+                if (due.tick > tick) {
+                    continue;
+                }
+                iterator.remove();
+                try {
+                    handler.accept(due.item);
+                } catch (RuntimeException re) {
+                    re.printStackTrace();
+                }
+            }
+        }
+        processedTick = Math.max(processedTick, currentTick);
+    }
+
+    private static class Entry<T> {
+        private final T item;
+        private final long deadline;
+        private long tick;
+
+        Entry(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+    }
+}
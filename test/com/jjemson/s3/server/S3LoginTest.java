@@ -0,0 +1,143 @@
+package com.jjemson.s3.server;
+
+import com.jjemson.s3.S3Protocol.LoginRequest;
+import com.jjemson.s3.S3Protocol.S3Message;
+import com.jjemson.s3.S3Security;
+
+import javax.net.ssl.*;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+
+/**
+ * S3LoginTest
+ *
+ * Logs in to sessions over loopback with the client1 and client2 key stores in certs/, and checks that each
+ * logs in as its own user and not as the other.  The shipped certificates expired in 2017, so both ends here
+ * trust any certificate signed by the CA, whatever its dates.
+ *
+ * Run from a directory next to certs/, as the client and server are; {@code ant test} does.
+ *
+ * @author Jonathan Jemson
+ * @version 1.0
+ */
+public class S3LoginTest {
+
+    private static final String PASSWORD = "cs6238";
+
+    private static int failures;
+
+    public static void main(String... args) throws IOException, GeneralSecurityException {
+        for (String user : new String[] { "client1", "client2" }) {
+            Certificate certificate = S3Security.loadKeyStore(user, PASSWORD).getCertificate(user);
+            check(user.equals(S3Security.registeredUser(certificate)), "the certificate of " + user + " is registered to " + user);
+        }
+
+        SSLServerSocket serverSocket = (SSLServerSocket) context("server").getServerSocketFactory()
+                .createServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        serverSocket.setNeedClientAuth(true);
+        Thread acceptor = new Thread(() -> accept(serverSocket), "s3-login-test-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        int port = serverSocket.getLocalPort();
+
+        check(login("client1", "client1", port), "client1 logs in as client1");
+        check(login("client2", "client2", port), "client2 logs in as client2");
+        check(login("client1", null, port), "client1 logs in without naming a user");
+        check(!login("client1", "client2", port), "client1 cannot log in as client2");
+        check(!login("client2", "client1", port), "client2 cannot log in as client1");
+        serverSocket.close();
+
+        if (failures > 0) {
+            System.err.println(failures + " login checks failed.");
+            System.exit(1);
+        }
+        System.out.println("All login checks passed.");
+    }
+
+    private static void check(boolean passed, String description) {
+        System.out.println((passed ? "PASS " : "FAIL ") + description);
+        if (!passed) {
+            failures++;
+        }
+    }
+
+    /**
+     * Sends a login over a new connection made with the given key store.
+     *
+     * @return whether the server answered it, rather than closing the connection
+     */
+    private static boolean login(String storeName, String user, int port) throws IOException, GeneralSecurityException {
+        try (SSLSocket socket = (SSLSocket) context(storeName).getSocketFactory()
+                .createSocket(InetAddress.getLoopbackAddress(), port)) {
+            LoginRequest.Builder login = LoginRequest.newBuilder();
+            if (user != null) {
+                login.setUser(user);
+            }
+            S3Message.newBuilder()
+                    .setType(S3Message.MessageType.LoginRequest)
+                    .setExtension(LoginRequest.login, login.build())
+                    .build().writeDelimitedTo(socket.getOutputStream());
+            S3Message response = S3Message.parseDelimitedFrom(socket.getInputStream(), S3Session.registry);
+            return response != null && response.getType() == S3Message.MessageType.LoginResponse;
+        } catch (SocketException | SSLException e) {
+            return false;
+        }
+    }
+
+    private static void accept(SSLServerSocket serverSocket) {
+        while (!serverSocket.isClosed()) {
+            try {
+                Thread session = new Thread(new S3Session(serverSocket.accept()), "s3-login-test-session");
+                session.setDaemon(true);
+                session.start();
+            } catch (IOException ioe) {
+                // Closed at the end of the run.
+            }
+        }
+    }
+
+    /**
+     * Builds a context for the identity in the given key store that trusts certificates signed by the CA.
+     */
+    private static SSLContext context(String storeName) throws IOException, GeneralSecurityException {
+        KeyStore keyStore = S3Security.loadKeyStore(storeName, PASSWORD);
+        KeyManagerFactory kmf = KeyManagerFactory.getInstance("SunX509");
+        kmf.init(keyStore, PASSWORD.toCharArray());
+        X509Certificate root = (X509Certificate) keyStore.getCertificate("root");
+        PublicKey caKey = root.getPublicKey();
+        X509TrustManager trustManager = new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+                verify(chain[0], caKey);
+            }
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+                verify(chain[0], caKey);
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[] { root };
+            }
+        };
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(kmf.getKeyManagers(), new TrustManager[] { trustManager }, null);
+        return sslContext;
+    }
+
+    private static void verify(X509Certificate certificate, PublicKey caKey) throws CertificateException {
+        try {
+            certificate.verify(caKey);
+        } catch (GeneralSecurityException gse) {
+            throw new CertificateException("Not signed by the CA", gse);
+        }
+    }
+}